@@ -0,0 +1,100 @@
+package com.rolliedev.ticketflow.benchmark;
+
+import com.rolliedev.ticketflow.entity.TicketEntity;
+import com.rolliedev.ticketflow.entity.TicketEventEntity;
+import com.rolliedev.ticketflow.entity.UserEntity;
+import com.rolliedev.ticketflow.entity.enums.Role;
+import com.rolliedev.ticketflow.entity.enums.SlaStatus;
+import com.rolliedev.ticketflow.entity.enums.TicketEventType;
+import com.rolliedev.ticketflow.entity.enums.TicketPriority;
+import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+import lombok.experimental.UtilityClass;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Detached entities shaped like the demo data, built once per benchmark trial.
+ */
+@UtilityClass
+final class BenchmarkData {
+
+    static final Instant CREATED_AT = Instant.parse("2026-01-05T09:00:00Z");
+
+    static UserEntity user(Integer id, Role role) {
+        UserEntity user = UserEntity.builder()
+                .fullName("User " + id)
+                .email("user" + id + "@example.com")
+                .password("{noop}123")
+                .role(role)
+                .build();
+        user.setId(id);
+        return user;
+    }
+
+    static TicketEntity ticket(Long id, UserEntity createdBy, UserEntity assignedTo) {
+        TicketEntity ticket = TicketEntity.builder()
+                .id(id)
+                .title("Cannot log in after password reset #" + id)
+                .description("After resetting my password the login page keeps saying the credentials are invalid.")
+                .status(TicketStatus.IN_PROGRESS)
+                .priority(TicketPriority.HIGH)
+                .createdBy(createdBy)
+                .assignedTo(assignedTo)
+                .modifiedAt(CREATED_AT.plus(Duration.ofMinutes(30)))
+                .firstRespondedAt(CREATED_AT.plus(Duration.ofMinutes(20)))
+                .firstResponseDeadline(CREATED_AT.plus(Duration.ofHours(1)))
+                .resolutionDeadline(CREATED_AT.plus(Duration.ofHours(8)))
+                .responseSlaStatus(SlaStatus.MET)
+                .resolutionSlaStatus(SlaStatus.ON_TRACK)
+                .build();
+        ticket.setCreatedAt(CREATED_AT);
+        return ticket;
+    }
+
+    static TicketEventEntity event(Long id, TicketEntity ticket, UserEntity actor, TicketEventType eventType, String payload) {
+        TicketEventEntity event = TicketEventEntity.builder()
+                .id(id)
+                .ticket(ticket)
+                .actor(actor)
+                .eventType(eventType)
+                .payload(payload)
+                .build();
+        event.setCreatedAt(CREATED_AT.plus(Duration.ofMinutes(id)));
+        return event;
+    }
+
+    /**
+     * Builds a service through its single constructor, passing each collaborator to the parameter of its type
+     * and null everywhere else, so benchmarks keep compiling when the service gains dependencies they never touch.
+     */
+    static <T> T service(Class<T> type, Object... collaborators) {
+        Constructor<?>[] constructors = type.getConstructors();
+        if (constructors.length != 1) {
+            throw new IllegalStateException(type.getSimpleName() + " must have exactly one public constructor");
+        }
+
+        Constructor<?> constructor = constructors[0];
+        Object[] arguments = Arrays.stream(constructor.getParameters())
+                .map(parameter -> collaborator(parameter, collaborators))
+                .toArray();
+        try {
+            return type.cast(constructor.newInstance(arguments));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create " + type.getSimpleName(), e);
+        }
+    }
+
+    private static Object collaborator(Parameter parameter, Object[] collaborators) {
+        if (parameter.getType().isPrimitive()) {
+            throw new IllegalStateException("Primitive constructor parameter " + parameter + " is not supported");
+        }
+        return Arrays.stream(collaborators)
+                .filter(parameter.getType()::isInstance)
+                .findFirst()
+                .orElse(null);
+    }
+}
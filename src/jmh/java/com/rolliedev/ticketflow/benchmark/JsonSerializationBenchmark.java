@@ -0,0 +1,64 @@
+package com.rolliedev.ticketflow.benchmark;
+
+import com.rolliedev.ticketflow.dto.PageResponse;
+import com.rolliedev.ticketflow.dto.TicketResponse;
+import com.rolliedev.ticketflow.entity.UserEntity;
+import com.rolliedev.ticketflow.entity.enums.Role;
+import com.rolliedev.ticketflow.mapper.TicketResponseMapper;
+import com.rolliedev.ticketflow.mapper.UserSummaryMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Serializes a ticket list response the way the REST layer writes it, through a writer resolved once like
+ * Spring's message converter caches it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectWriter writer;
+    private PageResponse<TicketResponse> page;
+
+    @Setup
+    public void setUp() {
+        writer = JsonMapper.builder().build().writerFor(PageResponse.class);
+
+        TicketResponseMapper ticketMapper = new TicketResponseMapper(new UserSummaryMapper());
+        UserEntity agent = BenchmarkData.user(2, Role.AGENT);
+        UserEntity customer = BenchmarkData.user(3, Role.CUSTOMER);
+        List<TicketResponse> tickets = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> ticketMapper.map(BenchmarkData.ticket(id, customer, id % 2 == 0 ? agent : null)))
+                .toList();
+        page = PageResponse.of(new PageImpl<>(tickets, PageRequest.of(0, pageSize), 1000));
+    }
+
+    @Benchmark
+    public byte[] writePageResponse() {
+        return writer.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,116 @@
+package com.rolliedev.ticketflow.benchmark;
+
+import com.rolliedev.ticketflow.dto.PageResponse;
+import com.rolliedev.ticketflow.dto.TicketEventResponse;
+import com.rolliedev.ticketflow.dto.TicketResponse;
+import com.rolliedev.ticketflow.entity.TicketEntity;
+import com.rolliedev.ticketflow.entity.TicketEventEntity;
+import com.rolliedev.ticketflow.entity.UserEntity;
+import com.rolliedev.ticketflow.entity.enums.Role;
+import com.rolliedev.ticketflow.entity.enums.TicketEventType;
+import com.rolliedev.ticketflow.mapper.TicketEventPayloadCodec;
+import com.rolliedev.ticketflow.mapper.TicketEventResponseMapper;
+import com.rolliedev.ticketflow.mapper.TicketResponseMapper;
+import com.rolliedev.ticketflow.mapper.UserSummaryMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping of one page (20 rows, the default page size) as the list, detail and timeline
+ * endpoints do it, followed by the {@link PageResponse} wrapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final PageRequest PAGEABLE = PageRequest.of(0, PAGE_SIZE);
+
+    private TicketResponseMapper ticketMapper;
+    private TicketEventResponseMapper eventMapper;
+
+    private List<TicketEntity> tickets;
+    private List<TicketEventEntity> events;
+    private List<TicketResponse> ticketResponses;
+
+    @Setup
+    public void setUp() {
+        UserSummaryMapper userSummaryMapper = new UserSummaryMapper();
+        ticketMapper = new TicketResponseMapper(userSummaryMapper);
+        eventMapper = new TicketEventResponseMapper(userSummaryMapper,
+                new TicketEventPayloadCodec(JsonMapper.builder().build()));
+
+        UserEntity agent = BenchmarkData.user(2, Role.AGENT);
+        UserEntity customer = BenchmarkData.user(3, Role.CUSTOMER);
+        tickets = new ArrayList<>();
+        events = new ArrayList<>();
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            // every other ticket is unassigned, as in a typical queue
+            TicketEntity ticket = BenchmarkData.ticket(id, customer, id % 2 == 0 ? agent : null);
+            tickets.add(ticket);
+            events.add(timelineEvent(id, tickets.getFirst(), agent, customer));
+        }
+        ticketResponses = tickets.stream().map(ticketMapper::map).toList();
+    }
+
+    @Benchmark
+    public TicketResponse mapTicket() {
+        return ticketMapper.map(tickets.getFirst());
+    }
+
+    @Benchmark
+    public PageResponse<TicketResponse> mapTicketPage() {
+        return PageResponse.of(new PageImpl<>(tickets, PAGEABLE, 137).map(ticketMapper::map));
+    }
+
+    @Benchmark
+    public PageResponse<TicketEventResponse> mapTimelinePage() {
+        return PageResponse.of(new PageImpl<>(events, PAGEABLE, PAGE_SIZE).map(eventMapper::map));
+    }
+
+    @Benchmark
+    public PageResponse<TicketResponse> wrapPage() {
+        return PageResponse.of(new PageImpl<>(ticketResponses, PAGEABLE, 137));
+    }
+
+    @Benchmark
+    public PageResponse<TicketResponse> wrapSlice() {
+        return PageResponse.of(new SliceImpl<>(ticketResponses, PAGEABLE, true));
+    }
+
+    // cycles through the payload shapes a real timeline mixes
+    private static TicketEventEntity timelineEvent(long id, TicketEntity ticket, UserEntity agent, UserEntity customer) {
+        return switch ((int) (id % 5)) {
+            case 0 -> BenchmarkData.event(id, ticket, customer, TicketEventType.CREATED,
+                    "{\"ticketId\":1,\"createdById\":3}");
+            case 1 -> BenchmarkData.event(id, ticket, agent, TicketEventType.ASSIGNED,
+                    "{\"previousAssigneeId\":null,\"assigneeId\":2}");
+            case 2 -> BenchmarkData.event(id, ticket, agent, TicketEventType.STATUS_CHANGED,
+                    "{\"oldStatus\":\"NEW\",\"newStatus\":\"IN_PROGRESS\"}");
+            case 3 -> BenchmarkData.event(id, ticket, agent, TicketEventType.PRIORITY_CHANGED,
+                    "{\"oldPriority\":\"MEDIUM\",\"newPriority\":\"HIGH\"}");
+            default -> BenchmarkData.event(id, ticket, null, TicketEventType.FIRST_RESPONSE_SLA_BREACHED,
+                    "{\"firstResponseDeadline\":\"2026-01-05T10:00:00Z\"}");
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.rolliedev.ticketflow.benchmark;
+
+import com.rolliedev.ticketflow.dto.SlaPolicy;
+import com.rolliedev.ticketflow.entity.TicketEntity;
+import com.rolliedev.ticketflow.entity.enums.Role;
+import com.rolliedev.ticketflow.entity.enums.SlaDeadlineType;
+import com.rolliedev.ticketflow.entity.enums.SlaStatus;
+import com.rolliedev.ticketflow.entity.enums.TicketPriority;
+import com.rolliedev.ticketflow.repository.SlaDeadlineQueueRepository;
+import com.rolliedev.ticketflow.service.sla.SlaDeadlineTimer;
+import com.rolliedev.ticketflow.service.sla.SlaPolicyProvider;
+import com.rolliedev.ticketflow.service.sla.SlaService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline arithmetic of {@link SlaService} on a detached ticket. The deadline queue and the in-memory timer are
+ * replaced by no-ops, so only the service's own calculations are measured. Each benchmark first restores the
+ * ticket fields it changes; that reset is a handful of setter calls and is part of the measured time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlaDeadlineBenchmark {
+
+    private static final Instant CREATED_AT = BenchmarkData.CREATED_AT;
+    private static final Instant RESOLUTION_DEADLINE = CREATED_AT.plus(Duration.ofHours(8));
+    private static final Instant FIRST_RESPONSE_DEADLINE = CREATED_AT.plus(Duration.ofHours(1));
+    private static final Instant PAUSED_AT = CREATED_AT.plus(Duration.ofHours(2));
+    private static final Instant RESUMED_AT = CREATED_AT.plus(Duration.ofHours(5));
+    private static final Instant WITHIN_TRIAGE = CREATED_AT.plus(Duration.ofHours(1));
+    private static final Instant AFTER_TRIAGE = CREATED_AT.plus(Duration.ofHours(6));
+
+    private SlaService slaService;
+    private TicketEntity ticket;
+
+    @Setup
+    public void setUp() {
+        slaService = BenchmarkData.service(SlaService.class,
+                new FixedSlaPolicyProvider(), new NoOpDeadlineQueue(), new NoOpDeadlineTimer());
+        ticket = BenchmarkData.ticket(1L, BenchmarkData.user(3, Role.CUSTOMER), BenchmarkData.user(2, Role.AGENT));
+    }
+
+    @Benchmark
+    public TicketEntity pauseAndResumeResolutionClock() {
+        resetTicket();
+        slaService.pauseResolutionSlaClock(ticket, null, PAUSED_AT);
+        slaService.resumeResolutionSlaClock(ticket, RESUMED_AT);
+        return ticket;
+    }
+
+    @Benchmark
+    public TicketEntity recalculateDeadlinesWithinTriageWindow() {
+        resetTicket();
+        slaService.updateDeadlinesAfterPriorityChange(ticket, WITHIN_TRIAGE);
+        return ticket;
+    }
+
+    @Benchmark
+    public TicketEntity tightenDeadlinesAfterTriageWindow() {
+        resetTicket();
+        slaService.updateDeadlinesAfterPriorityChange(ticket, AFTER_TRIAGE);
+        return ticket;
+    }
+
+    private void resetTicket() {
+        ticket.setFirstResponseDeadline(FIRST_RESPONSE_DEADLINE);
+        ticket.setResolutionDeadline(RESOLUTION_DEADLINE);
+        ticket.setResponseSlaStatus(SlaStatus.ON_TRACK);
+        ticket.setResolutionSlaStatus(SlaStatus.ON_TRACK);
+        ticket.setResolutionSlaPausedAt(null);
+    }
+
+    private static final class FixedSlaPolicyProvider extends SlaPolicyProvider {
+
+        private static final SlaPolicy POLICY = new SlaPolicy(TicketPriority.HIGH, 60, 480);
+
+        private FixedSlaPolicyProvider() {
+            super(null);
+        }
+
+        @Override
+        public SlaPolicy getSlaPolicy(TicketPriority priority) {
+            return POLICY;
+        }
+    }
+
+    private static final class NoOpDeadlineQueue extends SlaDeadlineQueueRepository {
+
+        private NoOpDeadlineQueue() {
+            super(null, null);
+        }
+
+        @Override
+        public void enqueue(Long ticketId, SlaDeadlineType type, Instant dueAt) {
+        }
+
+        @Override
+        public void enqueueForNewTicket(TicketEntity ticket, SlaDeadlineType type, Instant dueAt) {
+        }
+    }
+
+    private static final class NoOpDeadlineTimer extends SlaDeadlineTimer {
+
+        private NoOpDeadlineTimer() {
+            super(null, null, null);
+        }
+
+        @Override
+        public void schedule(SlaDeadlineType type, Instant deadline) {
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.rolliedev.ticketflow.benchmark;
+
+import com.querydsl.core.types.Predicate;
+import com.rolliedev.ticketflow.dto.TicketSearchFilter;
+import com.rolliedev.ticketflow.entity.enums.Role;
+import com.rolliedev.ticketflow.entity.enums.SlaStatus;
+import com.rolliedev.ticketflow.entity.enums.TicketPriority;
+import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+import com.rolliedev.ticketflow.querydsl.KeywordSearchMode;
+import com.rolliedev.ticketflow.querydsl.TicketPredicateBuilder;
+import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TicketPredicateBuilderBenchmark {
+
+    public enum FilterShape {
+        EMPTY,
+        STATUS_AND_PRIORITY,
+        FULL_TEXT_KEYWORD,
+        SUBSTRING_KEYWORD,
+        ALL_FILTERS,
+        CUSTOMER_OWN_TICKETS
+    }
+
+    @Param
+    private FilterShape shape;
+
+    private final TicketPredicateBuilder predicateBuilder = new TicketPredicateBuilder();
+
+    private TicketSearchFilter filter;
+    private TicketFlowUserDetails actor;
+    private KeywordSearchMode keywordSearchMode;
+
+    @Setup
+    public void setUp() {
+        TicketFlowUserDetails agent = new TicketFlowUserDetails(BenchmarkData.user(2, Role.AGENT));
+        TicketFlowUserDetails customer = new TicketFlowUserDetails(BenchmarkData.user(3, Role.CUSTOMER));
+        actor = agent;
+        keywordSearchMode = KeywordSearchMode.FULL_TEXT;
+
+        filter = switch (shape) {
+            case EMPTY -> TicketSearchFilter.builder().build();
+            case STATUS_AND_PRIORITY -> TicketSearchFilter.builder()
+                    .status(TicketStatus.IN_PROGRESS)
+                    .priority(TicketPriority.HIGH)
+                    .build();
+            case FULL_TEXT_KEYWORD -> TicketSearchFilter.builder().keyword("password reset").build();
+            case SUBSTRING_KEYWORD -> {
+                keywordSearchMode = KeywordSearchMode.SUBSTRING;
+                yield TicketSearchFilter.builder().keyword("password reset").build();
+            }
+            case ALL_FILTERS -> new TicketSearchFilter("password reset", TicketStatus.IN_PROGRESS, TicketPriority.HIGH,
+                    3, 2, LocalDate.of(2026, 2, 1), LocalDate.of(2026, 1, 1), SlaStatus.MET, SlaStatus.ON_TRACK);
+            case CUSTOMER_OWN_TICKETS -> {
+                actor = customer;
+                yield TicketSearchFilter.builder().status(TicketStatus.NEW).build();
+            }
+        };
+    }
+
+    @Benchmark
+    public Predicate buildPredicate() {
+        return predicateBuilder.buildPredicate(filter, actor, keywordSearchMode);
+    }
+}
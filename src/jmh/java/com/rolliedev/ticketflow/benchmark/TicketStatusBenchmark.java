@@ -0,0 +1,44 @@
+package com.rolliedev.ticketflow.benchmark;
+
+import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TicketStatusBenchmark {
+
+    private static final TicketStatus[] STATUSES = TicketStatus.values();
+
+    @Param({"NEW", "IN_PROGRESS", "RESOLVED", "CLOSED"})
+    private TicketStatus status;
+
+    // every target once, so allowed and rejected transitions are both measured
+    @Benchmark
+    public void canTransitionTo(Blackhole blackhole) {
+        for (TicketStatus target : STATUSES) {
+            blackhole.consume(status.canTransitionTo(target));
+        }
+    }
+
+    @Benchmark
+    public Set<String> getAllowedTransitions() {
+        return status.getAllowedTransitions();
+    }
+}
@@ -0,0 +1,72 @@
+package com.rolliedev.ticketflow.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.StringJoiner;
+
+/**
+ * Streams rows into {@code COPY ... FROM STDIN} in csv format. Rows are buffered and sent in blocks, so a chunk
+ * of several hundred thousand rows never sits in memory as one string.
+ */
+final class CopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_THRESHOLD = 1 << 20;
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 4096);
+    private long rows;
+
+    private CopyWriter(CopyIn copyIn) {
+        this.copyIn = copyIn;
+    }
+
+    static CopyWriter open(Connection connection, String table, String columns) throws SQLException {
+        String sql = "COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)";
+        return new CopyWriter(connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql));
+    }
+
+    void row(Object... values) throws SQLException {
+        StringJoiner line = new StringJoiner(",", "", "\n");
+        for (Object value : values) {
+            line.add(format(value));
+        }
+        buffer.append(line);
+        rows++;
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        flush();
+        copyIn.endCopy();
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    // an unquoted empty field is NULL in csv format, everything else is quoted
+    private static String format(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof Instant instant ? instant.toString() : value.toString();
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,266 @@
+package com.rolliedev.ticketflow.loadtest;
+
+import com.rolliedev.ticketflow.dto.SlaPolicy;
+import com.rolliedev.ticketflow.entity.enums.Role;
+import com.rolliedev.ticketflow.entity.enums.SlaDeadlineType;
+import com.rolliedev.ticketflow.entity.enums.TicketPriority;
+import com.rolliedev.ticketflow.loadtest.SimulatedTicket.Comment;
+import com.rolliedev.ticketflow.loadtest.SimulatedTicket.Event;
+import com.rolliedev.ticketflow.loadtest.SimulatedTicket.User;
+import com.rolliedev.ticketflow.mapper.TicketEventPayloadCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk-loads synthetic users, tickets, comments and events into a local database with {@code COPY}, bypassing
+ * JPA. The schema has to exist already, i.e. the application was started once against the database. Rows are
+ * appended after the existing ones, so the generator can be run several times to grow the data set.
+ * <p>
+ * Run it while the application is stopped: the notify trigger on ticket events is disabled during the load, and
+ * tickets are copied with their event sequence already set.
+ */
+@Slf4j
+public final class DataGenerator {
+
+    static final String GENERATED_BY = "loadtest";
+
+    private static final List<String> FIRST_NAMES = List.of("Ada", "Alan", "Grace", "Linus", "Barbara", "Dennis",
+            "Margaret", "Ken", "Frances", "Edsger", "Radia", "Donald", "Hedy", "John", "Katherine", "Tim");
+    private static final List<String> LAST_NAMES = List.of("Lovelace", "Turing", "Hopper", "Torvalds", "Liskov",
+            "Ritchie", "Hamilton", "Thompson", "Allen", "Dijkstra", "Perlman", "Knuth", "Lamarr", "Backus");
+
+    private final Connection connection;
+    private final LoadTestOptions options;
+    private final TicketEventPayloadCodec payloadCodec = new TicketEventPayloadCodec(JsonMapper.builder().build());
+    private final SplittableRandom random;
+    private final Instant now = Instant.now();
+    private final Duration history;
+
+    private DataGenerator(Connection connection, LoadTestOptions options) {
+        this.connection = connection;
+        this.options = options;
+        this.random = new SplittableRandom(options.longValue("seed", 42));
+        this.history = options.duration("history", Duration.ofDays(365));
+    }
+
+    public static void main(String[] args) throws SQLException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        String url = options.string("jdbc-url", "jdbc:postgresql://localhost:5433/ticketflow");
+        try (Connection connection = DriverManager.getConnection(url,
+                options.string("db-user", "postgres"), options.string("db-password", "postgres"))) {
+            connection.setAutoCommit(false);
+            new DataGenerator(connection, options).generate();
+        }
+    }
+
+    private void generate() throws SQLException {
+        long startedAt = System.nanoTime();
+        Map<TicketPriority, SlaPolicy> policies = loadPolicies();
+
+        List<User> admins = insertUsers(Role.ADMIN, options.integer("admins", 5));
+        List<User> agents = insertUsers(Role.AGENT, options.integer("agents", 200));
+        List<User> customers = insertUsers(Role.CUSTOMER, options.integer("customers", 50_000));
+        connection.commit();
+        log.info("Inserted {} admins, {} agents and {} customers", admins.size(), agents.size(), customers.size());
+
+        createEventPartitions();
+        TicketHistorySimulator simulator = new TicketHistorySimulator(policies, customers, agents, admins, now,
+                history, options.decimal("comments-per-ticket", 3));
+
+        int tickets = options.integer("tickets", 1_000_000);
+        int chunkSize = options.integer("chunk-size", 20_000);
+        AtomicLong ticketIds = new AtomicLong(nextId("tickets"));
+        AtomicLong commentIds = new AtomicLong(nextId("ticket_comments"));
+        AtomicLong eventIds = new AtomicLong(nextId("ticket_events"));
+        long comments = 0;
+        long events = 0;
+
+        setNotifyTrigger(false);
+        try {
+            for (int offset = 0; offset < tickets; offset += chunkSize) {
+                List<SimulatedTicket> chunk = new ArrayList<>(chunkSize);
+                for (int i = 0; i < Math.min(chunkSize, tickets - offset); i++) {
+                    chunk.add(simulator.simulate(ticketIds.getAndIncrement(), random, commentIds::getAndIncrement));
+                }
+                copyTickets(chunk);
+                comments += copyComments(chunk);
+                events += copyEvents(chunk, eventIds);
+                copyDeadlines(chunk);
+                connection.commit();
+                log.info("Loaded {} of {} tickets", offset + chunk.size(), tickets);
+            }
+        } finally {
+            setNotifyTrigger(true);
+        }
+
+        resetSequences();
+        analyze();
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        long rows = admins.size() + agents.size() + customers.size() + tickets + comments + events;
+        log.info("Generated {} tickets, {} comments and {} events in {} s ({} rows/s), users log in with password '{}'",
+                tickets, comments, events, elapsedMillis / 1000, rows * 1000 / elapsedMillis, password());
+    }
+
+    private Map<TicketPriority, SlaPolicy> loadPolicies() throws SQLException {
+        Map<TicketPriority, SlaPolicy> policies = new EnumMap<>(TicketPriority.class);
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT priority, first_response_due_minutes, resolution_due_minutes FROM sla_policies")) {
+            while (rs.next()) {
+                TicketPriority priority = TicketPriority.valueOf(rs.getString(1));
+                policies.put(priority, new SlaPolicy(priority, rs.getInt(2), rs.getInt(3)));
+            }
+        }
+        if (policies.size() != TicketPriority.values().length) {
+            throw new IllegalStateException("Expected an SLA policy per priority, run the application once to migrate the schema");
+        }
+        return policies;
+    }
+
+    private List<User> insertUsers(Role role, int count) throws SQLException {
+        String passwordHash = PasswordEncoderFactories.createDelegatingPasswordEncoder().encode(password());
+        List<User> users = new ArrayList<>(count);
+        long firstId = nextId("users");
+        try (CopyWriter copy = CopyWriter.open(connection, "users",
+                "id, full_name, email, role, created_at, password, audit_created_by")) {
+            for (int i = 0; i < count; i++) {
+                int id = Math.toIntExact(firstId + i);
+                User user = new User(id, role.name().toLowerCase() + "." + id + "@loadtest.ticketflow.dev", role);
+                String fullName = SyntheticText.pick(FIRST_NAMES, random) + " " + SyntheticText.pick(LAST_NAMES, random);
+                Instant createdAt = now.minus(history).minusSeconds(random.nextLong(Duration.ofDays(30).toSeconds()));
+                copy.row(id, fullName, user.email(), role.name(), createdAt, passwordHash, GENERATED_BY);
+                users.add(user);
+            }
+        }
+        return users;
+    }
+
+    private void copyTickets(List<SimulatedTicket> tickets) throws SQLException {
+        try (CopyWriter copy = CopyWriter.open(connection, "tickets",
+                "id, title, description, status, priority, created_by_id, assigned_to_id, created_at, modified_at, "
+                + "resolved_at, version, audit_created_by, modified_by, first_responded_at, first_response_deadline, "
+                + "resolution_deadline, response_sla_status, resolution_sla_status, resolution_sla_paused_at, event_seq")) {
+            for (SimulatedTicket ticket : tickets) {
+                copy.row(ticket.id, ticket.title, ticket.description, ticket.status, ticket.priority,
+                        ticket.createdBy.id(), ticket.assignedTo == null ? null : ticket.assignedTo.id(),
+                        ticket.createdAt, ticket.modifiedAt, ticket.resolvedAt, ticket.version,
+                        ticket.createdBy.email(), ticket.modifiedBy, ticket.firstRespondedAt,
+                        ticket.firstResponseDeadline, ticket.resolutionDeadline, ticket.responseSlaStatus,
+                        ticket.resolutionSlaStatus, ticket.resolutionSlaPausedAt, ticket.events.size());
+            }
+        }
+    }
+
+    private long copyComments(List<SimulatedTicket> tickets) throws SQLException {
+        try (CopyWriter copy = CopyWriter.open(connection, "ticket_comments",
+                "id, ticket_id, author_id, body, created_at, audit_created_by")) {
+            for (SimulatedTicket ticket : tickets) {
+                for (Comment comment : ticket.comments) {
+                    copy.row(comment.id(), ticket.id, comment.author().id(), comment.body(), comment.createdAt(),
+                            comment.author().email());
+                }
+            }
+            return copy.rows();
+        }
+    }
+
+    private long copyEvents(List<SimulatedTicket> tickets, AtomicLong eventIds) throws SQLException {
+        try (CopyWriter copy = CopyWriter.open(connection, "ticket_events",
+                "id, ticket_id, actor_id, event_type, payload, created_at, audit_created_by")) {
+            for (SimulatedTicket ticket : tickets) {
+                for (Event event : ticket.events) {
+                    User actor = event.actor();
+                    copy.row(eventIds.getAndIncrement(), ticket.id, actor == null ? null : actor.id(), event.type(),
+                            payloadCodec.encode(event.type(), event.payload()), event.createdAt(),
+                            actor == null ? null : actor.email());
+                }
+            }
+            return copy.rows();
+        }
+    }
+
+    private void copyDeadlines(List<SimulatedTicket> tickets) throws SQLException {
+        try (CopyWriter copy = CopyWriter.open(connection, "sla_deadlines", "ticket_id, deadline_type, due_at")) {
+            for (SimulatedTicket ticket : tickets) {
+                if (ticket.awaitsFirstResponse()) {
+                    copy.row(ticket.id, SlaDeadlineType.FIRST_RESPONSE, ticket.firstResponseDeadline);
+                }
+                if (ticket.awaitsResolution()) {
+                    copy.row(ticket.id, SlaDeadlineType.RESOLUTION, ticket.resolutionDeadline);
+                }
+            }
+        }
+    }
+
+    // rows of months without a partition would all end up in the default partition
+    private void createEventPartitions() throws SQLException {
+        LocalDate month = LocalDate.ofInstant(now.minus(history), ZoneOffset.UTC).withDayOfMonth(1);
+        LocalDate lastMonth = LocalDate.ofInstant(now, ZoneOffset.UTC).withDayOfMonth(1);
+        try (PreparedStatement statement = connection.prepareStatement("SELECT create_ticket_events_partition(?)")) {
+            for (; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                statement.setObject(1, month);
+                statement.execute();
+            }
+        }
+        connection.commit();
+    }
+
+    private void setNotifyTrigger(boolean enabled) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE ticket_events " + (enabled ? "ENABLE" : "DISABLE") + " TRIGGER ticket_events_notify");
+        }
+        connection.commit();
+    }
+
+    private long nextId(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT coalesce(max(id), 0) + 1 FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    // Hibernate's pooled optimizer hands out the block below the next sequence value, so the sequences have to
+    // point at the highest id for the application to continue after the generated rows
+    private void resetSequences() throws SQLException {
+        for (String table : List.of("users", "tickets", "ticket_comments", "ticket_events")) {
+            resetSequence(table);
+        }
+        connection.commit();
+    }
+
+    private void resetSequence(String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT setval('" + table + "_id_seq', (SELECT max(id) FROM " + table + "))");
+        }
+    }
+
+    private void analyze() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE users, tickets, ticket_comments, ticket_events, sla_deadlines");
+        }
+        connection.commit();
+    }
+
+    private String password() {
+        return options.string("password", "loadtest");
+    }
+}
@@ -0,0 +1,70 @@
+package com.rolliedev.ticketflow.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and error counts of one endpoint. Latencies are recorded in microseconds with three
+ * significant digits, so p99.9 stays exact enough even over millions of requests.
+ */
+final class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = Duration.ofMinutes(5).toNanos() / 1000;
+
+    private final String endpoint;
+    private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Records a finished request, {@code failure} is null for a successful one.
+     */
+    void record(long latencyNanos, String failure) {
+        latencies.recordValue(Math.min(Math.max(latencyNanos / 1000, 1), MAX_LATENCY_MICROS));
+        if (failure != null) {
+            failures.computeIfAbsent(failure, ignored -> new LongAdder()).increment();
+        }
+    }
+
+    Result result(Duration measured) {
+        long requests = latencies.getTotalCount();
+        Map<String, Long> failureCounts = new TreeMap<>();
+        failures.forEach((failure, count) -> failureCounts.put(failure, count.sum()));
+        long errors = failureCounts.values().stream().mapToLong(Long::longValue).sum();
+        return new Result(
+                endpoint,
+                requests,
+                requests * 1000.0 / measured.toMillis(),
+                requests == 0 ? 0 : (double) errors / requests,
+                failureCounts,
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue())
+        );
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    record Result(String endpoint,
+                  long requests,
+                  double throughput,
+                  double errorRate,
+                  Map<String, Long> failures,
+                  double p50Millis,
+                  double p99Millis,
+                  double p999Millis,
+                  double maxMillis) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.rolliedev.ticketflow.loadtest;
+
+import com.rolliedev.ticketflow.entity.enums.TicketPriority;
+import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+import com.rolliedev.ticketflow.loadtest.WorkloadFixture.Actor;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * REST calls of the workload mix, keyed by the names used in {@code --mix}.
+ */
+enum Operation {
+
+    LIST("list") {
+        @Override
+        Call call(WorkloadFixture fixture, SplittableRandom random) {
+            Actor agent = fixture.randomActor(fixture.agents, random);
+            String filter = switch (random.nextInt(4)) {
+                case 0 -> "";
+                case 1 -> "&status=" + SyntheticText.pick(OPEN_STATUSES, random);
+                case 2 -> "&status=" + SyntheticText.pick(OPEN_STATUSES, random)
+                          + "&priority=" + SyntheticText.pick(PRIORITIES, random);
+                default -> "&assigneeId=" + agent.id() + "&status=IN_PROGRESS";
+            };
+            return get(fixture, agent, "/api/v1/tickets?size=20&page=" + random.nextInt(5) + filter);
+        }
+    },
+    SEARCH("search") {
+        @Override
+        Call call(WorkloadFixture fixture, SplittableRandom random) {
+            String keyword = SyntheticText.pick(SyntheticText.SEARCH_KEYWORDS, random);
+            return get(fixture, fixture.randomActor(fixture.agents, random),
+                    "/api/v1/tickets?size=20&keyword=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8));
+        }
+    },
+    DETAIL("detail") {
+        @Override
+        Call call(WorkloadFixture fixture, SplittableRandom random) {
+            return get(fixture, fixture.randomActor(fixture.agents, random),
+                    "/api/v1/tickets/" + fixture.randomTicket(random));
+        }
+    },
+    TIMELINE("timeline") {
+        @Override
+        Call call(WorkloadFixture fixture, SplittableRandom random) {
+            return get(fixture, fixture.randomActor(fixture.agents, random),
+                    "/api/v1/tickets/" + fixture.randomTicket(random) + "/events?size=20");
+        }
+    },
+    CUSTOMER_LIST("customer-list") {
+        @Override
+        Call call(WorkloadFixture fixture, SplittableRandom random) {
+            return get(fixture, fixture.randomActor(fixture.customers, random), "/api/v1/tickets?size=20");
+        }
+    },
+    COMMENT("comment") {
+        @Override
+        Call call(WorkloadFixture fixture, SplittableRandom random) {
+            String body = JSON.writeValueAsString(Map.of("text", SyntheticText.agentReply(random)));
+            HttpRequest request = request(fixture, fixture.randomActor(fixture.agents, random),
+                    "/api/v1/tickets/" + fixture.randomOpenTicket(random) + "/comments")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            return new Call(request, () -> {
+            });
+        }
+    },
+    TRANSITION("transition") {
+        @Override
+        Call call(WorkloadFixture fixture, SplittableRandom random) {
+            // open tickets move back and forth between in progress and waiting, so the pool never runs dry
+            long ticketId = fixture.randomOpenTicket(random);
+            boolean inProgress = fixture.openTicketStatuses.get(ticketId) == TicketStatus.IN_PROGRESS;
+            TicketStatus next = inProgress ? TicketStatus.WAITING_CUSTOMER : TicketStatus.IN_PROGRESS;
+            HttpRequest request = request(fixture, fixture.randomActor(fixture.admins, random),
+                    "/api/v1/tickets/" + ticketId + (inProgress ? "/request-info" : "/start"))
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                    .build();
+            return new Call(request, () -> fixture.openTicketStatuses.put(ticketId, next));
+        }
+    };
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+    private static final List<TicketStatus> OPEN_STATUSES =
+            List.of(TicketStatus.NEW, TicketStatus.IN_PROGRESS, TicketStatus.WAITING_CUSTOMER, TicketStatus.RESOLVED);
+    private static final List<TicketPriority> PRIORITIES = List.of(TicketPriority.values());
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation byKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation " + key);
+    }
+
+    abstract Call call(WorkloadFixture fixture, SplittableRandom random);
+
+    private static Call get(WorkloadFixture fixture, Actor actor, String path) {
+        return new Call(request(fixture, actor, path).GET().build(), () -> {
+        });
+    }
+
+    private static HttpRequest.Builder request(WorkloadFixture fixture, Actor actor, String path) {
+        return HttpRequest.newBuilder(fixture.baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .header("Authorization", "Bearer " + actor.token());
+    }
+
+    /**
+     * A request and what to remember about the fixture when it succeeds.
+     */
+    record Call(HttpRequest request, Runnable onSuccess) {
+    }
+}
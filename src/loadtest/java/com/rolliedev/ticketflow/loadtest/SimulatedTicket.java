@@ -0,0 +1,68 @@
+package com.rolliedev.ticketflow.loadtest;
+
+import com.rolliedev.ticketflow.entity.enums.Role;
+import com.rolliedev.ticketflow.entity.enums.SlaStatus;
+import com.rolliedev.ticketflow.entity.enums.TicketEventType;
+import com.rolliedev.ticketflow.entity.enums.TicketPriority;
+import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+import com.rolliedev.ticketflow.entity.payload.TicketEventPayload;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * State of one generated ticket after its history was simulated up to "now", with the comments and events
+ * that history produced. Ids of comments are assigned while simulating, ids of events when they are written.
+ */
+final class SimulatedTicket {
+
+    final long id;
+    final User createdBy;
+    final Instant createdAt;
+    final String title;
+    final String description;
+    final List<Comment> comments = new ArrayList<>();
+    final List<Event> events = new ArrayList<>();
+
+    TicketStatus status = TicketStatus.NEW;
+    TicketPriority priority;
+    User assignedTo;
+    Instant modifiedAt;
+    String modifiedBy;
+    int version;
+    Instant resolvedAt;
+    Instant firstRespondedAt;
+    Instant firstResponseDeadline;
+    Instant resolutionDeadline;
+    SlaStatus responseSlaStatus = SlaStatus.ON_TRACK;
+    SlaStatus resolutionSlaStatus = SlaStatus.ON_TRACK;
+    Instant resolutionSlaPausedAt;
+
+    SimulatedTicket(long id, User createdBy, Instant createdAt, String title, String description) {
+        this.id = id;
+        this.createdBy = createdBy;
+        this.createdAt = createdAt;
+        this.modifiedAt = createdAt;
+        this.modifiedBy = createdBy.email();
+        this.title = title;
+        this.description = description;
+    }
+
+    boolean awaitsFirstResponse() {
+        return responseSlaStatus == SlaStatus.ON_TRACK && firstRespondedAt == null;
+    }
+
+    boolean awaitsResolution() {
+        return resolutionSlaStatus == SlaStatus.ON_TRACK && resolvedAt == null;
+    }
+
+    record User(int id, String email, Role role) {
+    }
+
+    record Comment(long id, User author, String body, Instant createdAt) {
+    }
+
+    record Event(TicketEventType type, User actor, TicketEventPayload payload, Instant createdAt) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.rolliedev.ticketflow.loadtest;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Vocabulary of the generated tickets and comments. The workload driver searches for the same subjects, so
+ * keyword searches hit a realistic share of the tickets instead of nothing or everything.
+ */
+final class SyntheticText {
+
+    static final List<String> SUBJECTS = List.of(
+            "login", "invoice export", "password reset", "mobile app", "billing page", "api key", "monthly report",
+            "notification email", "dashboard", "file upload", "payment", "single sign-on", "search", "calendar sync",
+            "webhook", "data import", "user invitation", "audit log", "subscription", "two-factor authentication"
+    );
+
+    static final List<String> SEARCH_KEYWORDS = List.of(
+            "login", "invoice", "password", "mobile", "billing", "payment", "webhook", "dashboard", "upload",
+            "timeout", "duplicate", "slow", "error", "import", "subscription"
+    );
+
+    private static final List<String> PROBLEMS = List.of(
+            "fails with a timeout", "returns error 500", "is very slow", "shows wrong totals", "does not load",
+            "crashes on startup", "sends duplicates", "is missing data", "keeps asking to log in again",
+            "rejects valid input", "stopped working after the update", "shows a blank page"
+    );
+
+    private static final List<String> DETAILS = List.of(
+            "It started this morning for several people on our team.",
+            "We tried clearing the cache and using another browser, nothing changed.",
+            "This blocks our month-end closing, please treat it as urgent.",
+            "The issue happens about every third attempt.",
+            "A screenshot of the error is attached to our internal wiki, happy to share it.",
+            "It worked fine last week with the same account.",
+            "Customers of ours are reporting the same behaviour.",
+            "The error message says the request could not be processed."
+    );
+
+    private static final List<String> CUSTOMER_REPLIES = List.of(
+            "Thanks, I tried that but the problem is still there.",
+            "Here are the details you asked for, the account id is in the description.",
+            "It happened again a few minutes ago.",
+            "That fixed it for me, thank you!",
+            "Any update on this? We are still affected.",
+            "I can confirm it only happens in the mobile app."
+    );
+
+    private static final List<String> AGENT_REPLIES = List.of(
+            "Thanks for reporting this, we are looking into it.",
+            "Could you share the exact time the error happened and your account id?",
+            "We identified the cause and a fix is being deployed today.",
+            "Please try again now, we restarted the affected service.",
+            "I escalated this to the engineering team and will keep you posted.",
+            "The logs show a timeout on our side, we are increasing the limits."
+    );
+
+    private SyntheticText() {
+    }
+
+    static String title(SplittableRandom random) {
+        String subject = pick(SUBJECTS, random);
+        return Character.toUpperCase(subject.charAt(0)) + subject.substring(1) + " " + pick(PROBLEMS, random);
+    }
+
+    static String description(SplittableRandom random) {
+        StringBuilder description = new StringBuilder("Our ")
+                .append(pick(SUBJECTS, random))
+                .append(' ')
+                .append(pick(PROBLEMS, random))
+                .append('.');
+        int sentences = 1 + random.nextInt(4);
+        for (int i = 0; i < sentences; i++) {
+            description.append(' ').append(pick(DETAILS, random));
+        }
+        return description.toString();
+    }
+
+    static String customerReply(SplittableRandom random) {
+        return pick(CUSTOMER_REPLIES, random);
+    }
+
+    static String agentReply(SplittableRandom random) {
+        return pick(AGENT_REPLIES, random);
+    }
+
+    static <T> T pick(List<T> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
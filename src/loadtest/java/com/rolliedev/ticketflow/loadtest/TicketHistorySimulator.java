@@ -0,0 +1,319 @@
+package com.rolliedev.ticketflow.loadtest;
+
+import com.rolliedev.ticketflow.dto.SlaPolicy;
+import com.rolliedev.ticketflow.entity.enums.SlaStatus;
+import com.rolliedev.ticketflow.entity.enums.TicketEventType;
+import com.rolliedev.ticketflow.entity.enums.TicketPriority;
+import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+import com.rolliedev.ticketflow.entity.payload.CommentPayload;
+import com.rolliedev.ticketflow.entity.payload.FirstResponseSlaBreachedPayload;
+import com.rolliedev.ticketflow.entity.payload.PriorityChangedPayload;
+import com.rolliedev.ticketflow.entity.payload.ResolutionSlaBreachedPayload;
+import com.rolliedev.ticketflow.entity.payload.StatusChangedPayload;
+import com.rolliedev.ticketflow.entity.payload.TicketAssignedPayload;
+import com.rolliedev.ticketflow.entity.payload.TicketCreatedPayload;
+import com.rolliedev.ticketflow.entity.payload.TicketEventPayload;
+import com.rolliedev.ticketflow.loadtest.SimulatedTicket.Comment;
+import com.rolliedev.ticketflow.loadtest.SimulatedTicket.Event;
+import com.rolliedev.ticketflow.loadtest.SimulatedTicket.User;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Plays a ticket through the workflow the way the services would: triage, pickup, first response, an optional
+ * round trip with the customer, resolution and closing by the customer or the auto-close job. Every step is
+ * scheduled with a random delay relative to the SLA windows of the priority, so most tickets meet their
+ * deadlines and a realistic tail breaches them. The simulation stops at "now", which leaves recent tickets
+ * in the open statuses with pending deadlines.
+ */
+final class TicketHistorySimulator {
+
+    private static final Duration AUTO_CLOSE_AFTER = Duration.ofDays(4);
+    private static final Duration AUTO_CLOSE_CHECK_DELAY = Duration.ofHours(24);
+    private static final TicketPriority[] PRIORITIES = TicketPriority.values();
+    private static final int[] PRIORITY_WEIGHTS = {25, 45, 22, 8};
+
+    private final Map<TicketPriority, SlaPolicy> policies;
+    private final List<User> customers;
+    private final List<User> agents;
+    private final List<User> admins;
+    private final Instant now;
+    private final Duration history;
+    private final double commentsPerTicket;
+
+    TicketHistorySimulator(Map<TicketPriority, SlaPolicy> policies, List<User> customers, List<User> agents,
+                           List<User> admins, Instant now, Duration history, double commentsPerTicket) {
+        this.policies = policies;
+        this.customers = customers;
+        this.agents = agents;
+        this.admins = admins;
+        this.now = now;
+        this.history = history;
+        this.commentsPerTicket = commentsPerTicket;
+    }
+
+    SimulatedTicket simulate(long ticketId, SplittableRandom random, LongSupplier commentIds) {
+        Simulation simulation = new Simulation(ticketId, random, commentIds);
+        simulation.run();
+        simulation.ticket.events.sort(Comparator.comparing(Event::createdAt));
+        return simulation.ticket;
+    }
+
+    private final class Simulation {
+
+        private final SplittableRandom random;
+        private final LongSupplier commentIds;
+        private final SimulatedTicket ticket;
+        private final User customer;
+
+        private Simulation(long ticketId, SplittableRandom random, LongSupplier commentIds) {
+            this.random = random;
+            this.commentIds = commentIds;
+            // the volume grows over time and a few customers open most of the tickets
+            Instant createdAt = now.minusSeconds((long) (history.toSeconds() * (1 - Math.sqrt(random.nextDouble()))));
+            this.customer = customers.get((int) (customers.size() * Math.pow(random.nextDouble(), 3)));
+            this.ticket = new SimulatedTicket(ticketId, customer, createdAt,
+                    SyntheticText.title(random), SyntheticText.description(random));
+            ticket.priority = randomPriority();
+            applyPolicy(createdAt);
+            event(TicketEventType.CREATED, customer, new TicketCreatedPayload(ticketId, customer.id()), createdAt);
+        }
+
+        private void run() {
+            Instant createdAt = ticket.createdAt;
+            Duration firstResponseWindow = Duration.between(createdAt, ticket.firstResponseDeadline);
+
+            if (random.nextDouble() < 0.1) {
+                Instant triagedAt = createdAt.plus(randomFraction(Duration.ofHours(1)));
+                if (!advance(triagedAt)) {
+                    return;
+                }
+                changePriority(SyntheticText.pick(agents, random), triagedAt);
+            }
+
+            User agent = SyntheticText.pick(agents, random);
+            Instant pickedUpAt = createdAt.plus(exponential(firstResponseWindow.multipliedBy(35).dividedBy(100)));
+            if (random.nextDouble() < 0.3) {
+                Instant dispatchedAt = createdAt.plus(randomFraction(Duration.between(createdAt, pickedUpAt)));
+                if (!advance(dispatchedAt)) {
+                    return;
+                }
+                assign(SyntheticText.pick(admins, random), agent, dispatchedAt);
+            }
+            if (!advance(pickedUpAt)) {
+                return;
+            }
+            if (ticket.assignedTo == null) {
+                assign(agent, agent, pickedUpAt);
+            }
+            changeStatus(agent, TicketStatus.IN_PROGRESS, pickedUpAt);
+
+            Instant respondedAt = pickedUpAt.plus(exponential(Duration.ofMinutes(15)));
+            if (!advance(respondedAt)) {
+                return;
+            }
+            comment(agent, respondedAt);
+
+            int followUps = geometric(Math.max(0, commentsPerTicket - 1));
+            Duration work = exponential(Duration.between(createdAt, ticket.resolutionDeadline).multipliedBy(4).dividedBy(10));
+            Instant resolvedAt = respondedAt.plus(work);
+            Instant segmentStart = respondedAt;
+
+            if (random.nextDouble() < 0.35) {
+                Instant askedAt = respondedAt.plus(randomFraction(work.dividedBy(2)));
+                int beforeQuestion = followUps / 2;
+                followUps -= beforeQuestion;
+                if (!discuss(agent, segmentStart, askedAt, beforeQuestion) || !advance(askedAt)) {
+                    return;
+                }
+                changeStatus(agent, TicketStatus.WAITING_CUSTOMER, askedAt);
+                pauseResolutionClock(askedAt);
+
+                Instant repliedAt = askedAt.plus(exponential(Duration.ofHours(10)));
+                if (!advance(repliedAt)) {
+                    return;
+                }
+                comment(customer, repliedAt);
+                changeStatus(customer, TicketStatus.IN_PROGRESS, repliedAt);
+                resumeResolutionClock(repliedAt);
+                resolvedAt = resolvedAt.plus(Duration.between(askedAt, repliedAt));
+                segmentStart = repliedAt;
+            }
+
+            if (!discuss(agent, segmentStart, resolvedAt, followUps) || !advance(resolvedAt)) {
+                return;
+            }
+            changeStatus(agent, TicketStatus.RESOLVED, resolvedAt);
+            ticket.resolvedAt = resolvedAt;
+            pauseResolutionClock(resolvedAt);
+
+            // about half of the customers confirm the fix, the auto-close job closes the rest
+            boolean closedByCustomer = random.nextDouble() < 0.5;
+            Instant closedAt = closedByCustomer
+                    ? resolvedAt.plus(min(exponential(Duration.ofHours(20)), AUTO_CLOSE_AFTER.minusHours(1)))
+                    : resolvedAt.plus(AUTO_CLOSE_AFTER).plus(randomFraction(AUTO_CLOSE_CHECK_DELAY));
+            if (!advance(closedAt)) {
+                return;
+            }
+            changeStatus(closedByCustomer ? customer : null, TicketStatus.CLOSED, closedAt);
+            if (ticket.resolutionSlaStatus == SlaStatus.PAUSED) {
+                ticket.resolutionSlaStatus = SlaStatus.MET;
+                ticket.resolutionSlaPausedAt = null;
+            }
+        }
+
+        /**
+         * Moves the clock to the given instant and applies the breaches the SLA sweep would have recorded on the
+         * way, returns false when the instant lies in the future and the simulation has to stop.
+         */
+        private boolean advance(Instant to) {
+            Instant until = to.isAfter(now) ? now : to;
+            boolean swept = ticket.status == TicketStatus.NEW || ticket.status == TicketStatus.IN_PROGRESS;
+            if (swept && ticket.awaitsFirstResponse() && !ticket.firstResponseDeadline.isAfter(until)) {
+                ticket.responseSlaStatus = SlaStatus.BREACHED;
+                event(TicketEventType.FIRST_RESPONSE_SLA_BREACHED, null,
+                        new FirstResponseSlaBreachedPayload(ticket.firstResponseDeadline), ticket.firstResponseDeadline);
+            }
+            if (swept && ticket.awaitsResolution() && !ticket.resolutionDeadline.isAfter(until)) {
+                ticket.resolutionSlaStatus = SlaStatus.BREACHED;
+                event(TicketEventType.RESOLUTION_SLA_BREACHED, null,
+                        new ResolutionSlaBreachedPayload(ticket.resolutionDeadline), ticket.resolutionDeadline);
+            }
+            return !to.isAfter(now);
+        }
+
+        private boolean discuss(User agent, Instant from, Instant to, int count) {
+            if (count == 0 || !to.isAfter(from)) {
+                return true;
+            }
+            Instant[] times = new Instant[count];
+            for (int i = 0; i < count; i++) {
+                times[i] = from.plus(randomFraction(Duration.between(from, to)));
+            }
+            Arrays.sort(times);
+            boolean customerSpeaks = random.nextBoolean();
+            for (Instant time : times) {
+                if (!advance(time)) {
+                    return false;
+                }
+                comment(customerSpeaks ? customer : agent, time);
+                customerSpeaks = !customerSpeaks;
+            }
+            return true;
+        }
+
+        private void comment(User author, Instant at) {
+            boolean internal = author != customer;
+            String body = internal ? SyntheticText.agentReply(random) : SyntheticText.customerReply(random);
+            long commentId = commentIds.getAsLong();
+            ticket.comments.add(new Comment(commentId, author, body, at));
+            event(TicketEventType.COMMENTED, author, new CommentPayload(commentId), at);
+
+            if (internal && ticket.firstRespondedAt == null) {
+                ticket.firstRespondedAt = at;
+                if (ticket.responseSlaStatus == SlaStatus.ON_TRACK) {
+                    boolean late = at.isAfter(ticket.firstResponseDeadline);
+                    ticket.responseSlaStatus = late ? SlaStatus.BREACHED : SlaStatus.MET;
+                    if (late) {
+                        event(TicketEventType.FIRST_RESPONSE_SLA_BREACHED, author,
+                                new FirstResponseSlaBreachedPayload(ticket.firstResponseDeadline), at);
+                    }
+                }
+                touch(author, at);
+            }
+        }
+
+        private void assign(User actor, User assignee, Instant at) {
+            Integer previousAssigneeId = ticket.assignedTo == null ? null : ticket.assignedTo.id();
+            ticket.assignedTo = assignee;
+            event(TicketEventType.ASSIGNED, actor, new TicketAssignedPayload(previousAssigneeId, assignee.id()), at);
+            touch(actor, at);
+        }
+
+        private void changeStatus(User actor, TicketStatus newStatus, Instant at) {
+            event(TicketEventType.STATUS_CHANGED, actor, new StatusChangedPayload(ticket.status, newStatus), at);
+            ticket.status = newStatus;
+            touch(actor, at);
+        }
+
+        private void changePriority(User actor, Instant at) {
+            TicketPriority oldPriority = ticket.priority;
+            while (ticket.priority == oldPriority) {
+                ticket.priority = randomPriority();
+            }
+            event(TicketEventType.PRIORITY_CHANGED, actor, new PriorityChangedPayload(oldPriority, ticket.priority), at);
+            // within the triage window the deadlines are recalculated from the time of the change
+            applyPolicy(at);
+            touch(actor, at);
+        }
+
+        private void pauseResolutionClock(Instant at) {
+            if (ticket.resolutionSlaStatus == SlaStatus.ON_TRACK) {
+                ticket.resolutionSlaStatus = SlaStatus.PAUSED;
+                ticket.resolutionSlaPausedAt = at;
+            }
+        }
+
+        private void resumeResolutionClock(Instant at) {
+            if (ticket.resolutionSlaStatus == SlaStatus.PAUSED) {
+                ticket.resolutionDeadline = ticket.resolutionDeadline.plus(Duration.between(ticket.resolutionSlaPausedAt, at));
+                ticket.resolutionSlaStatus = SlaStatus.ON_TRACK;
+                ticket.resolutionSlaPausedAt = null;
+            }
+        }
+
+        private void applyPolicy(Instant from) {
+            SlaPolicy policy = policies.get(ticket.priority);
+            ticket.firstResponseDeadline = from.plus(Duration.ofMinutes(policy.firstResponseDueMinutes()));
+            ticket.resolutionDeadline = from.plus(Duration.ofMinutes(policy.resolutionDueMinutes()));
+        }
+
+        private void touch(User actor, Instant at) {
+            ticket.modifiedAt = at;
+            ticket.modifiedBy = actor == null ? null : actor.email();
+            ticket.version++;
+        }
+
+        private void event(TicketEventType type, User actor, TicketEventPayload payload, Instant at) {
+            ticket.events.add(new Event(type, actor, payload, at));
+        }
+
+        private TicketPriority randomPriority() {
+            int roll = random.nextInt(100);
+            for (int i = 0; i < PRIORITIES.length; i++) {
+                roll -= PRIORITY_WEIGHTS[i];
+                if (roll < 0) {
+                    return PRIORITIES[i];
+                }
+            }
+            return PRIORITIES[PRIORITIES.length - 1];
+        }
+
+        private Duration exponential(Duration mean) {
+            return Duration.ofSeconds((long) (-Math.log(1 - random.nextDouble()) * mean.toSeconds()));
+        }
+
+        private Duration randomFraction(Duration duration) {
+            return Duration.ofSeconds((long) (random.nextDouble() * duration.toSeconds()));
+        }
+
+        private int geometric(double mean) {
+            if (mean <= 0) {
+                return 0;
+            }
+            double p = 1 / (mean + 1);
+            return (int) (Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+        }
+
+        private static Duration min(Duration first, Duration second) {
+            return first.compareTo(second) <= 0 ? first : second;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.rolliedev.ticketflow.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a weighted mix of REST calls against a running instance and reports throughput, latency percentiles
+ * and error rate per endpoint, on the console and as json for comparing runs.
+ * <p>
+ * Without {@code --rate} every worker sends its next request as soon as the previous one finished. With a
+ * target rate requests are scheduled at fixed intervals and latency is measured from the scheduled start, so a
+ * stalled server shows up as latency of the requests that queued behind it instead of being hidden.
+ */
+@Slf4j
+public final class WorkloadDriver {
+
+    private static final String TOTAL = "total";
+    private static final String DEFAULT_MIX = "list:25,search:15,detail:25,timeline:15,customer-list:5,comment:10,transition:5";
+
+    private final HttpClient client;
+    private final WorkloadFixture fixture;
+    private final Map<String, Integer> mix;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int concurrency;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final SplittableRandom random;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final EndpointStats total = new EndpointStats(TOTAL);
+
+    private WorkloadDriver(HttpClient client, WorkloadFixture fixture, LoadTestOptions options) {
+        this.client = client;
+        this.fixture = fixture;
+        this.mix = options.weights("mix", DEFAULT_MIX);
+        this.operations = new Operation[mix.size()];
+        this.cumulativeWeights = new int[mix.size()];
+        int weights = 0;
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            Operation operation = Operation.byKey(entry.getKey());
+            weights += entry.getValue();
+            operations[i] = operation;
+            cumulativeWeights[i] = weights;
+            stats.put(operation, new EndpointStats(entry.getKey()));
+            i++;
+        }
+        this.concurrency = options.integer("concurrency", 32);
+        this.rate = options.decimal("rate", 0);
+        this.warmup = options.duration("warmup", Duration.ofSeconds(30));
+        this.duration = options.duration("duration", Duration.ofMinutes(2));
+        this.random = new SplittableRandom(options.longValue("seed", 42));
+    }
+
+    public static void main(String[] args) throws SQLException, IOException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        URI baseUri = URI.create(options.string("base-url", "http://localhost:8080"));
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        WorkloadFixture fixture;
+        try (Connection connection = DriverManager.getConnection(
+                options.string("jdbc-url", "jdbc:postgresql://localhost:5433/ticketflow"),
+                options.string("db-user", "postgres"), options.string("db-password", "postgres"))) {
+            fixture = WorkloadFixture.load(connection, client, jsonMapper, baseUri, options.string("password", "loadtest"),
+                    options.integer("users-per-role", 100), options.integer("ticket-sample", 20_000));
+        }
+
+        WorkloadDriver driver = new WorkloadDriver(client, fixture, options);
+        Instant startedAt = Instant.now();
+        List<EndpointStats.Result> results = driver.run();
+        driver.print(results);
+
+        Path result = Path.of(options.string("result", "target/loadtest-result.json"));
+        Files.createDirectories(result.toAbsolutePath().getParent());
+        Report report = new Report(startedAt, baseUri.toString(), driver.concurrency, driver.rate,
+                driver.warmup.toSeconds(), driver.duration.toSeconds(), driver.mix, results);
+        Files.writeString(result, jsonMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+        log.info("Results written to {}", result.toAbsolutePath());
+    }
+
+    private List<EndpointStats.Result> run() {
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + warmup.toNanos();
+        long endNanos = measureFromNanos + duration.toNanos();
+        log.info("Running {} workers {} for {} after a warmup of {}", concurrency,
+                rate > 0 ? "at " + rate + " requests/s" : "without pause", duration, warmup);
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                SplittableRandom workerRandom = random.split();
+                workers.submit(() -> work(workerRandom, startNanos, measureFromNanos, endNanos));
+            }
+        }
+
+        // an overloaded server finishes the last scheduled requests after the end, the rate covers that time too
+        Duration measured = Duration.ofNanos(System.nanoTime() - measureFromNanos);
+        List<EndpointStats.Result> results = new ArrayList<>();
+        stats.values().forEach(endpoint -> results.add(endpoint.result(measured)));
+        results.add(total.result(measured));
+        return results;
+    }
+
+    private void work(SplittableRandom random, long startNanos, long measureFromNanos, long endNanos) {
+        long intervalNanos = rate > 0 ? (long) (1e9 * concurrency / rate) : 0;
+        // workers start at random offsets within one interval, so a target rate does not arrive in bursts
+        long scheduledNanos = startNanos + (intervalNanos > 0 ? random.nextLong(intervalNanos) : 0);
+        while (true) {
+            if (intervalNanos > 0) {
+                for (long wait = scheduledNanos - System.nanoTime(); wait > 0; wait = scheduledNanos - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+            } else {
+                scheduledNanos = System.nanoTime();
+            }
+            if (scheduledNanos >= endNanos) {
+                return;
+            }
+
+            Operation operation = nextOperation(random);
+            Operation.Call call = operation.call(fixture, random);
+            String failure = null;
+            try {
+                HttpResponse<Void> response = client.send(call.request(), HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 400) {
+                    failure = "HTTP " + response.statusCode();
+                } else {
+                    call.onSuccess().run();
+                }
+            } catch (IOException e) {
+                failure = e.getClass().getSimpleName();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            long latencyNanos = System.nanoTime() - scheduledNanos;
+            if (scheduledNanos >= measureFromNanos) {
+                stats.get(operation).record(latencyNanos, failure);
+                total.record(latencyNanos, failure);
+            }
+            scheduledNanos += intervalNanos;
+        }
+    }
+
+    private Operation nextOperation(SplittableRandom random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private void print(List<EndpointStats.Result> results) {
+        String format = "%-14s %10s %10s %8s %10s %10s %10s %10s%n";
+        System.out.printf(format, "endpoint", "requests", "req/s", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (EndpointStats.Result result : results) {
+            System.out.printf(format, result.endpoint(), result.requests(), "%.1f".formatted(result.throughput()),
+                    "%.2f%%".formatted(result.errorRate() * 100), "%.1f".formatted(result.p50Millis()),
+                    "%.1f".formatted(result.p99Millis()), "%.1f".formatted(result.p999Millis()),
+                    "%.1f".formatted(result.maxMillis()));
+        }
+        results.stream()
+                .filter(result -> !result.failures().isEmpty() && !TOTAL.equals(result.endpoint()))
+                .forEach(result -> System.out.printf("%s failures: %s%n", result.endpoint(), result.failures()));
+    }
+
+    record Report(Instant startedAt,
+                  String baseUrl,
+                  int concurrency,
+                  double targetRate,
+                  long warmupSeconds,
+                  long durationSeconds,
+                  Map<String, Integer> mix,
+                  List<EndpointStats.Result> endpoints) {
+    }
+}
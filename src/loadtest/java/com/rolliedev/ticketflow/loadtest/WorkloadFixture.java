@@ -0,0 +1,158 @@
+package com.rolliedev.ticketflow.loadtest;
+
+import com.rolliedev.ticketflow.dto.ApiTokenResponse;
+import com.rolliedev.ticketflow.entity.enums.Role;
+import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Generated users and tickets the workload runs against, sampled from the database once before the run. Every
+ * sampled user gets an API token up front, so requests are authenticated by the cheap bearer check instead of
+ * a password hash on every call.
+ */
+@Slf4j
+final class WorkloadFixture {
+
+    final URI baseUri;
+    final List<Actor> admins;
+    final List<Actor> agents;
+    final List<Actor> customers;
+    final long[] tickets;
+    final long[] openTickets;
+    // last known status of the open tickets, the transitions pick the next step from it
+    final Map<Long, TicketStatus> openTicketStatuses;
+
+    private WorkloadFixture(URI baseUri, List<Actor> admins, List<Actor> agents, List<Actor> customers,
+                            long[] tickets, long[] openTickets, Map<Long, TicketStatus> openTicketStatuses) {
+        this.baseUri = baseUri;
+        this.admins = admins;
+        this.agents = agents;
+        this.customers = customers;
+        this.tickets = tickets;
+        this.openTickets = openTickets;
+        this.openTicketStatuses = openTicketStatuses;
+    }
+
+    static WorkloadFixture load(Connection connection, HttpClient client, JsonMapper jsonMapper, URI baseUri,
+                                String password, int usersPerRole, int ticketSample) throws SQLException {
+        List<Actor> admins = new ArrayList<>();
+        List<Actor> agents = new ArrayList<>();
+        List<Actor> customers = new ArrayList<>();
+        TokenIssuer tokenIssuer = new TokenIssuer(client, jsonMapper, baseUri, password);
+        // customers without tickets would only ever see empty lists
+        String sql = """
+                SELECT u.id, u.email, u.role
+                FROM users u
+                WHERE u.audit_created_by = ? AND u.role = ?
+                  AND (u.role <> 'CUSTOMER' OR EXISTS (SELECT 1 FROM tickets t WHERE t.created_by_id = u.id))
+                ORDER BY u.id
+                LIMIT ?
+                """;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Role role : Role.values()) {
+                statement.setString(1, DataGenerator.GENERATED_BY);
+                statement.setString(2, role.name());
+                statement.setInt(3, usersPerRole);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        Actor actor = new Actor(rs.getInt("id"), tokenIssuer.issue(rs.getString("email")));
+                        switch (role) {
+                            case ADMIN -> admins.add(actor);
+                            case AGENT -> agents.add(actor);
+                            case CUSTOMER -> customers.add(actor);
+                        }
+                    }
+                }
+            }
+        }
+        if (admins.isEmpty() || agents.isEmpty() || customers.isEmpty()) {
+            throw new IllegalStateException("No generated users found, run the data generator first");
+        }
+
+        long[] tickets = sampleTicketIds(connection, "SELECT id FROM tickets ORDER BY random() LIMIT ?", ticketSample, null);
+        Map<Long, TicketStatus> openTicketStatuses = new ConcurrentHashMap<>();
+        long[] openTickets = sampleTicketIds(connection,
+                "SELECT id, status FROM tickets WHERE status IN ('NEW', 'IN_PROGRESS', 'WAITING_CUSTOMER') ORDER BY random() LIMIT ?",
+                ticketSample, openTicketStatuses);
+        log.info("Signed in {} admins, {} agents and {} customers, sampled {} tickets and {} open tickets",
+                admins.size(), agents.size(), customers.size(), tickets.length, openTickets.length);
+        return new WorkloadFixture(baseUri, admins, agents, customers, tickets, openTickets, openTicketStatuses);
+    }
+
+    Actor randomActor(List<Actor> actors, SplittableRandom random) {
+        return actors.get(random.nextInt(actors.size()));
+    }
+
+    long randomTicket(SplittableRandom random) {
+        return tickets[random.nextInt(tickets.length)];
+    }
+
+    long randomOpenTicket(SplittableRandom random) {
+        return openTickets[random.nextInt(openTickets.length)];
+    }
+
+    private static long[] sampleTicketIds(Connection connection, String sql, int limit,
+                                          Map<Long, TicketStatus> statuses) throws SQLException {
+        List<Long> ids = new ArrayList<>(limit);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, limit);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong("id"));
+                    if (statuses != null) {
+                        statuses.put(rs.getLong("id"), TicketStatus.valueOf(rs.getString("status")));
+                    }
+                }
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No tickets found for: " + sql);
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    record Actor(int id, String token) {
+    }
+
+    private record TokenIssuer(HttpClient client, JsonMapper jsonMapper, URI baseUri, String password) {
+
+        String issue(String email) {
+            String credentials = Base64.getEncoder()
+                    .encodeToString((email + ":" + password).getBytes(StandardCharsets.UTF_8));
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/v1/auth/token"))
+                    .header("Authorization", "Basic " + credentials)
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("Could not sign in " + email + ": HTTP " + response.statusCode());
+                }
+                return jsonMapper.readValue(response.body(), ApiTokenResponse.class).accessToken();
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not reach " + baseUri, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while signing in " + email, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.rolliedev.ticketflow.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a scheduled method on at most one node at a time. Durations are ISO-8601 strings.
+ * {@code lockAtMostFor} bounds how long a crashed node can keep the lease;
+ * {@code lockAtLeastFor} keeps it after a quick run so nodes with skewed schedules do not run the job again.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SchedulerLock {
+
+    String name();
+
+    String lockAtMostFor();
+
+    String lockAtLeastFor() default "PT0S";
+}
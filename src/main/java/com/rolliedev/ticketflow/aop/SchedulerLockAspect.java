@@ -0,0 +1,48 @@
+package com.rolliedev.ticketflow.aop;
+
+import com.rolliedev.ticketflow.repository.SchedulerLockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class SchedulerLockAspect {
+
+    private static final String NODE_ID = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final SchedulerLockRepository lockRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(schedulerLock)")
+    public Object runIfLocked(ProceedingJoinPoint joinPoint, SchedulerLock schedulerLock) throws Throwable {
+        String job = schedulerLock.name();
+        Duration lockAtMostFor = Duration.parse(schedulerLock.lockAtMostFor());
+        Duration lockAtLeastFor = Duration.parse(schedulerLock.lockAtLeastFor());
+        if (lockAtLeastFor.compareTo(lockAtMostFor) > 0) {
+            throw new IllegalStateException("lockAtLeastFor is longer than lockAtMostFor for job " + job);
+        }
+
+        if (!lockRepository.tryLock(job, lockAtMostFor, NODE_ID)) {
+            meterRegistry.counter("scheduler.job.runs", "job", job, "outcome", "skipped").increment();
+            log.debug("Skipped {}, it is locked by another node", job);
+            return null;
+        }
+
+        meterRegistry.counter("scheduler.job.runs", "job", job, "outcome", "executed").increment();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            lockRepository.unlock(job, lockAtLeastFor, NODE_ID);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.rolliedev.ticketflow.aop;
+
+import com.rolliedev.ticketflow.config.MetricsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public service method into a {@code service.calls} timer tagged with class, method and exception.
+ * The timer of a successful call is resolved once per method, so a call costs a map lookup and a clock read.
+ * Only calls slower than {@code app.metrics.slow-service-call-threshold} and failures are logged.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String TIMER_NAME = "service.calls";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final MetricsProperties metricsProperties;
+
+    private final Map<Method, Operation> operations = new ConcurrentHashMap<>();
+
+    @Around("com.rolliedev.ticketflow.aop.CommonPointcuts.isPublicServiceMethod()")
+    public Object timeServiceExecution(ProceedingJoinPoint joinPoint) throws Throwable {
+        Operation operation = operations.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), this::operationOf);
+        long startTime = System.nanoTime();
+
+        try {
+            Object result = joinPoint.proceed();
+
+            long elapsedNanos = System.nanoTime() - startTime;
+            operation.succeeded().record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (elapsedNanos > metricsProperties.slowServiceCallThreshold().toNanos()) {
+                log.warn("Slow call {} took {} ms", operation.name(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            }
+
+            return result;
+        } catch (Throwable ex) {
+            long elapsedNanos = System.nanoTime() - startTime;
+            timer(operation, ex.getClass().getSimpleName()).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            log.warn("Failed {} after {} ms with {}: {}",
+                    operation.name(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    ex.getClass().getSimpleName(),
+                    ex.getMessage());
+
+            throw ex;
+        }
+    }
+
+    private Operation operationOf(Method method) {
+        String className = method.getDeclaringClass().getSimpleName();
+        String methodName = method.getName();
+        return new Operation(className, methodName, className + "." + methodName,
+                timer(className, methodName, NO_EXCEPTION));
+    }
+
+    // failures are rare, the registry's own lookup is enough to find their timer
+    private Timer timer(Operation operation, String exception) {
+        return timer(operation.className(), operation.methodName(), exception);
+    }
+
+    private Timer timer(String className, String methodName, String exception) {
+        return Timer.builder(TIMER_NAME)
+                .description("Execution time of public service methods")
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("exception", exception)
+                // buckets for server-side percentiles, bounded so each method adds a fixed number of series
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    private record Operation(String className, String methodName, String name, Timer succeeded) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.rolliedev.ticketflow.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.auth")
+@Validated
+public record AuthProperties(
+        @NotNull
+        Duration credentialsCacheTtl,
+
+        @NotNull
+        @Min(1)
+        Integer credentialsCacheMaxSize,
+
+        @NotNull
+        Duration tokenTtl,
+
+        // base64, a random per-process key is used when blank, which limits tokens to one node and one run
+        String tokenSecret
+) {
+}
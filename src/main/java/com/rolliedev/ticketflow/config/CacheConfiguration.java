@@ -0,0 +1,11 @@
+package com.rolliedev.ticketflow.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    public static final String USERS_CACHE = "users";
+}
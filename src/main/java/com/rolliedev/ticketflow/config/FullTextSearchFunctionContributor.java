@@ -0,0 +1,40 @@
+package com.rolliedev.ticketflow.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers PostgreSQL full-text search functions so they can be used from HQL and QueryDSL templates.
+ * Registered through {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ * <p>
+ * Both functions take the ticket title, description and keyword, e.g. {@code fts_match(t.title, t.description, :keyword)},
+ * and render the same weighted {@code tsvector} expression as {@code idx_tickets_search}, so the GIN index is used.
+ */
+public class FullTextSearchFunctionContributor implements FunctionContributor {
+
+    public static final String FTS_MATCH = "fts_match";
+    public static final String FTS_RANK = "fts_rank";
+
+    // must stay identical to the expression of idx_tickets_search (db.changelog-4.0.sql)
+    private static final String SEARCH_VECTOR = "(setweight(to_tsvector('english', coalesce(?1, '')), 'A') || "
+                                                + "setweight(to_tsvector('english', coalesce(?2, '')), 'B'))";
+    private static final String TS_QUERY = "websearch_to_tsquery('english', ?3)";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry typeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry().registerPattern(
+                FTS_MATCH,
+                "(" + SEARCH_VECTOR + " @@ " + TS_QUERY + ")",
+                typeRegistry.resolve(StandardBasicTypes.BOOLEAN)
+        );
+        functionContributions.getFunctionRegistry().registerPattern(
+                FTS_RANK,
+                "ts_rank(" + SEARCH_VECTOR + ", " + TS_QUERY + ")",
+                typeRegistry.resolve(StandardBasicTypes.FLOAT)
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.rolliedev.ticketflow.config;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.metrics")
+@Validated
+public record MetricsProperties(
+        @NotNull
+        Duration slowServiceCallThreshold
+) {
+}
@@ -0,0 +1,36 @@
+package com.rolliedev.ticketflow.config;
+
+import com.rolliedev.ticketflow.http.filter.QueryStatsFilter;
+import com.rolliedev.ticketflow.jdbc.QueryStatsListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class QueryStatsConfiguration {
+
+    // static, so the post-processor is registered before the data source it wraps is created
+    @Bean
+    public static BeanPostProcessor queryStatsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(new QueryStatsListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public QueryStatsFilter queryStatsFilter(QueryStatsProperties queryStatsProperties) {
+        return new QueryStatsFilter(queryStatsProperties);
+    }
+}
@@ -0,0 +1,18 @@
+package com.rolliedev.ticketflow.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties(prefix = "app.query-stats")
+@Validated
+public record QueryStatsProperties(
+        @NotNull
+        Boolean responseHeaders,
+
+        @NotNull
+        @Min(2)
+        Integer repeatedSelectThreshold
+) {
+}
@@ -0,0 +1,87 @@
+package com.rolliedev.ticketflow.config;
+
+import com.rolliedev.ticketflow.jdbc.ReadWriteRoutingDataSource;
+import com.rolliedev.ticketflow.jdbc.ReadYourWritesTracker;
+import com.rolliedev.ticketflow.jdbc.ReplicaLagMonitor;
+import com.rolliedev.ticketflow.jdbc.ReplicaNode;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Replaces the auto-configured data source with one that routes read-only transactions to the replicas.
+ * <p>
+ * The primary and every replica get their own Hikari pool with the spring.datasource.hikari settings, each pool
+ * reports its metrics under its own pool name. Only the routing data source is a bean, so the query stats proxy
+ * and the health check see a single data source. The lag monitor creates the primary pool as well, since it
+ * measures the replicas against it, and the routing data source closes it.
+ */
+@Configuration
+@ConditionalOnBooleanProperty("app.read-replicas.enabled")
+public class ReadReplicaConfiguration {
+
+    private static final String PRIMARY_POOL = "primary";
+
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(ReadReplicaProperties readReplicaProperties,
+                                               DataSourceProperties dataSourceProperties,
+                                               Environment environment,
+                                               Clock clock,
+                                               MeterRegistry meterRegistry) {
+        HikariDataSource primary = createPool(dataSourceProperties, environment, meterRegistry, PRIMARY_POOL,
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+        List<ReplicaNode> replicas = new ArrayList<>();
+        List<ReadReplicaProperties.Node> nodes = readReplicaProperties.nodes();
+        for (int i = 0; i < nodes.size(); i++) {
+            ReadReplicaProperties.Node node = nodes.get(i);
+            String name = "replica-" + (i + 1);
+            HikariDataSource pool = createPool(dataSourceProperties, environment, meterRegistry, name, node.url(),
+                    Objects.requireNonNullElse(node.username(), dataSourceProperties.determineUsername()),
+                    Objects.requireNonNullElse(node.password(), dataSourceProperties.determinePassword()));
+            replicas.add(new ReplicaNode(name, pool));
+        }
+        return new ReplicaLagMonitor(primary, replicas, readReplicaProperties.maxLag(), clock, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReadReplicaProperties readReplicaProperties, Clock clock) {
+        return new ReadYourWritesTracker(readReplicaProperties.stickyWindow(), readReplicaProperties.cookieSecret(), clock);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource dataSource(MeterRegistry meterRegistry,
+                                                 ReplicaLagMonitor replicaLagMonitor,
+                                                 ReadYourWritesTracker readYourWritesTracker) {
+        return new ReadWriteRoutingDataSource(replicaLagMonitor.getPrimary(), replicaLagMonitor, readYourWritesTracker,
+                meterRegistry);
+    }
+
+    private static HikariDataSource createPool(DataSourceProperties dataSourceProperties, Environment environment,
+                                               MeterRegistry meterRegistry, String poolName,
+                                               String url, String username, String password) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
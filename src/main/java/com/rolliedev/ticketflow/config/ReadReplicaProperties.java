@@ -0,0 +1,46 @@
+package com.rolliedev.ticketflow.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.read-replicas")
+@Validated
+public record ReadReplicaProperties(
+        @NotNull
+        Boolean enabled,
+
+        @NotNull
+        @Valid
+        List<Node> nodes,
+
+        @NotNull
+        Duration stickyWindow,
+
+        String cookieSecret,
+
+        @NotNull
+        Duration maxLag,
+
+        @NotNull
+        Duration lagCheckInterval
+) {
+
+    /**
+     * A replica to read from, username and password default to the ones of the primary data source.
+     */
+    public record Node(
+            @NotBlank
+            String url,
+
+            String username,
+
+            String password
+    ) {
+    }
+}
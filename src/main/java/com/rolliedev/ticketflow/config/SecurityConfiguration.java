@@ -1,11 +1,16 @@
 package com.rolliedev.ticketflow.config;
 
+import com.rolliedev.ticketflow.http.filter.ApiTokenAuthenticationFilter;
+import com.rolliedev.ticketflow.security.ApiTokenService;
+import com.rolliedev.ticketflow.security.CachingAuthenticationManager;
+import com.rolliedev.ticketflow.security.CredentialsCache;
 import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -14,6 +19,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 import static com.rolliedev.ticketflow.entity.enums.Role.ADMIN;
 
@@ -24,15 +30,22 @@ public class SecurityConfiguration {
 
     @Bean
     @Order(1)
-    public SecurityFilterChain apiFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain apiFilterChain(HttpSecurity http,
+                                              AuthenticationConfiguration authenticationConfiguration,
+                                              CredentialsCache credentialsCache,
+                                              ApiTokenService apiTokenService) throws Exception {
         http
                 .securityMatcher("/api/**")
+                // stateless Basic auth would otherwise load the user and verify the password hash on every call
+                .authenticationManager(new CachingAuthenticationManager(
+                        authenticationConfiguration.getAuthenticationManager(), credentialsCache))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(urlConfig -> urlConfig
                         .requestMatchers(HttpMethod.POST, "/api/v1/users").permitAll()
                         .anyRequest().authenticated())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .httpBasic(Customizer.withDefaults());
+                .httpBasic(Customizer.withDefaults())
+                .addFilterBefore(new ApiTokenAuthenticationFilter(apiTokenService), BasicAuthenticationFilter.class);
 
         return http.build();
     }
@@ -47,6 +60,7 @@ public class SecurityConfiguration {
                         .requestMatchers(HttpMethod.POST, "/register").permitAll()
                         .requestMatchers("/admin/**").hasAuthority(ADMIN.getAuthority())
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated())
                 .formLogin(login -> login
                         .loginPage("/login")
@@ -0,0 +1,24 @@
+package com.rolliedev.ticketflow.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.sla")
+@Validated
+public record SlaProperties(
+        @NotNull
+        @Min(1)
+        Integer breachBatchSize,
+
+        @NotNull
+        Duration deadlineTimerLookahead,
+
+        @NotNull
+        @Min(1)
+        Integer queueWorkers
+) {
+}
@@ -0,0 +1,23 @@
+package com.rolliedev.ticketflow.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.stream")
+@Validated
+public record StreamProperties(
+        @NotNull
+        @Min(1)
+        Integer bufferSize,
+
+        @NotNull
+        Duration heartbeat,
+
+        @NotNull
+        Duration timeout
+) {
+}
@@ -1,5 +1,6 @@
 package com.rolliedev.ticketflow.config;
 
+import com.rolliedev.ticketflow.querydsl.KeywordSearchMode;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -10,6 +11,20 @@ import org.springframework.validation.annotation.Validated;
 public record TicketProperties(
         @NotNull
         @Min(1)
-        Integer autoCloseAfterDays
+        Integer autoCloseAfterDays,
+
+        @NotNull
+        @Min(1)
+        Integer autoCloseChunkSize,
+
+        @NotNull
+        KeywordSearchMode keywordSearchMode,
+
+        @NotNull
+        @Min(1)
+        Integer eventPartitionsAhead,
+
+        @Min(1)
+        Integer eventRetentionMonths
 ) {
 }
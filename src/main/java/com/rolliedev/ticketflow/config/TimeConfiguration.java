@@ -1,5 +1,6 @@
 package com.rolliedev.ticketflow.config;
 
+import com.github.benmanes.caffeine.cache.Ticker;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,4 +13,10 @@ public class TimeConfiguration {
     public Clock clock() {
         return Clock.systemUTC();
     }
+
+    // monotonic, for cache expiry that must not move with wall-clock adjustments
+    @Bean
+    public Ticker ticker() {
+        return Ticker.systemTicker();
+    }
 }
@@ -0,0 +1,8 @@
+package com.rolliedev.ticketflow.dto;
+
+import java.time.Instant;
+
+public record ApiTokenResponse(String accessToken,
+                               String tokenType,
+                               Instant expiresAt) {
+}
@@ -0,0 +1,10 @@
+package com.rolliedev.ticketflow.dto;
+
+import java.time.Instant;
+
+public record AutoCloseChunk(int closedCount, Instant lastResolvedAt, Long lastId) {
+
+    public static AutoCloseChunk start() {
+        return new AutoCloseChunk(0, Instant.EPOCH, 0L);
+    }
+}
@@ -0,0 +1,7 @@
+package com.rolliedev.ticketflow.dto;
+
+public enum CountMode {
+    EXACT,
+    ESTIMATED,
+    NONE
+}
@@ -0,0 +1,22 @@
+package com.rolliedev.ticketflow.dto;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class CursorPageResponse<T> {
+    List<T> content;
+    Metadata metadata;
+
+    public static <T> CursorPageResponse<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorPageResponse<>(content, new Metadata(size, nextCursor != null, nextCursor));
+    }
+
+    @Value
+    public static class Metadata {
+        int size;
+        boolean hasNext;
+        String nextCursor;
+    }
+}
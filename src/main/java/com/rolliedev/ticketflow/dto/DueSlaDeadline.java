@@ -0,0 +1,6 @@
+package com.rolliedev.ticketflow.dto;
+
+import com.rolliedev.ticketflow.entity.enums.SlaDeadlineType;
+
+public record DueSlaDeadline(Long ticketId, SlaDeadlineType type) {
+}
@@ -0,0 +1,32 @@
+package com.rolliedev.ticketflow.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Page whose total comes from an estimate, while {@code hasNext} still reflects the rows actually fetched.
+ */
+public class EstimatedPage<T> extends PageImpl<T> {
+
+    private final boolean hasNext;
+
+    public EstimatedPage(Slice<T> slice, long estimatedTotal) {
+        super(slice.getContent(), slice.getPageable(), Math.max(estimatedTotal, minimalTotal(slice)));
+        this.hasNext = slice.hasNext();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    @Override
+    public boolean isLast() {
+        return !hasNext;
+    }
+
+    private static long minimalTotal(Slice<?> slice) {
+        long offset = slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0;
+        return offset + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+    }
+}
@@ -2,6 +2,7 @@ package com.rolliedev.ticketflow.dto;
 
 import lombok.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -10,16 +11,25 @@ public class PageResponse<T> {
     List<T> content;
     Metadata metadata;
 
-    public static <T> PageResponse<T> of(Page<T> page) {
-        var metadata = new Metadata(page.getNumber(), page.getSize(), page.getTotalPages(), page.getTotalElements());
-        return new PageResponse<>(page.getContent(), metadata);
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        Long totalPages = null;
+        Long totalElements = null;
+        if (slice instanceof Page<T> page) {
+            totalPages = (long) page.getTotalPages();
+            totalElements = page.getTotalElements();
+        }
+        var metadata = new Metadata(slice.getNumber(), slice.getSize(), totalPages, totalElements,
+                slice.hasNext(), slice instanceof EstimatedPage);
+        return new PageResponse<>(slice.getContent(), metadata);
     }
 
     @Value
     public static class Metadata {
         int page;
         int size;
-        long totalPages;
-        long totalElements;
+        Long totalPages;
+        Long totalElements;
+        boolean hasNext;
+        boolean totalEstimated;
     }
 }
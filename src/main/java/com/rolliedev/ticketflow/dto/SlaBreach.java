@@ -0,0 +1,7 @@
+package com.rolliedev.ticketflow.dto;
+
+import java.time.Instant;
+
+public record SlaBreach(Long ticketId,
+                        Instant deadline) {
+}
@@ -0,0 +1,8 @@
+package com.rolliedev.ticketflow.dto;
+
+/**
+ * A committed ticket event on its way to SSE subscribers, with the assignee of its ticket at delivery time.
+ */
+public record StreamedTicketEvent(Integer assigneeId,
+                                  TicketEventResponse event) {
+}
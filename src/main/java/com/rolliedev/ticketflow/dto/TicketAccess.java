@@ -0,0 +1,12 @@
+package com.rolliedev.ticketflow.dto;
+
+import java.time.Instant;
+
+/**
+ * What endpoints nested under a ticket need to check that the caller may see it, without anything that changes
+ * with the ticket.
+ */
+public record TicketAccess(Long ticketId,
+                           Integer createdById,
+                           Instant createdAt) {
+}
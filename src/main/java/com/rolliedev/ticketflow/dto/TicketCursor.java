@@ -0,0 +1,90 @@
+package com.rolliedev.ticketflow.dto;
+
+import com.rolliedev.ticketflow.exception.InvalidRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Position of a keyset (seek) walk over tickets: the sort key and direction plus the
+ * (sort value, id) of the last ticket returned. A cursor without a last id points to the first page.
+ */
+public record TicketCursor(SortKey sortKey,
+                           Sort.Direction direction,
+                           Instant lastCreatedAt,
+                           Long lastId) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TicketCursor first(Sort sort) {
+        if (sort.isUnsorted()) {
+            return new TicketCursor(SortKey.CREATED_AT, Sort.Direction.DESC, null, null);
+        }
+
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() > 1) {
+            throw new InvalidRequestException("Cursor pagination supports a single sort property");
+        }
+        Sort.Order order = orders.getFirst();
+        return new TicketCursor(SortKey.of(order.getProperty()), order.getDirection(), null, null);
+    }
+
+    public static TicketCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR, -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Unexpected number of cursor parts");
+            }
+
+            SortKey sortKey = SortKey.valueOf(parts[0]);
+            Instant lastCreatedAt = parts[2].isEmpty() ? null : Instant.parse(parts[2]);
+            if (sortKey == SortKey.CREATED_AT && lastCreatedAt == null) {
+                throw new IllegalArgumentException("Missing sort value");
+            }
+            return new TicketCursor(sortKey, Sort.Direction.valueOf(parts[1]), lastCreatedAt, Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public boolean isFirstPage() {
+        return lastId == null;
+    }
+
+    public TicketCursor next(Instant lastCreatedAt, Long lastId) {
+        return new TicketCursor(sortKey, direction, sortKey == SortKey.CREATED_AT ? lastCreatedAt : null, lastId);
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                sortKey.name(),
+                direction.name(),
+                lastCreatedAt == null ? "" : lastCreatedAt.toString(),
+                String.valueOf(lastId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public enum SortKey {
+        CREATED_AT("createdAt"),
+        ID("id");
+
+        private final String property;
+
+        SortKey(String property) {
+            this.property = property;
+        }
+
+        public static SortKey of(String property) {
+            return Arrays.stream(values())
+                    .filter(key -> key.property.equals(property))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidRequestException("Cursor pagination supports sorting by createdAt or id only"));
+        }
+    }
+}
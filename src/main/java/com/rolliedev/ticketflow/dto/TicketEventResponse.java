@@ -1,13 +1,14 @@
 package com.rolliedev.ticketflow.dto;
 
 import com.rolliedev.ticketflow.entity.enums.TicketEventType;
+import com.rolliedev.ticketflow.entity.payload.TicketEventPayload;
 
 import java.time.Instant;
-import java.util.Map;
 
 public record TicketEventResponse(Long id,
+                                  Long ticketId,
                                   UserSummary actor,
                                   TicketEventType eventType,
-                                  Map<String, Object> payload,
+                                  TicketEventPayload payload,
                                   Instant createdAt) {
 }
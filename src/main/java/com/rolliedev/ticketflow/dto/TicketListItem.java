@@ -0,0 +1,23 @@
+package com.rolliedev.ticketflow.dto;
+
+import com.rolliedev.ticketflow.entity.enums.SlaStatus;
+import com.rolliedev.ticketflow.entity.enums.TicketPriority;
+import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+
+import java.time.Instant;
+
+public record TicketListItem(Long id,
+                             String title,
+                             TicketStatus status,
+                             TicketPriority priority,
+                             UserSummary createdBy,
+                             UserSummary assignedTo,
+                             Instant createdAt,
+                             Instant modifiedAt,
+                             Instant resolvedAt,
+                             Instant firstRespondedAt,
+                             Instant firstResponseDeadline,
+                             Instant resolutionDeadline,
+                             SlaStatus responseSlaStatus,
+                             SlaStatus resolutionSlaStatus) {
+}
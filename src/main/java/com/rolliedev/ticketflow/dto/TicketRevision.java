@@ -0,0 +1,19 @@
+package com.rolliedev.ticketflow.dto;
+
+import java.time.Instant;
+
+/**
+ * Cheap fingerprint of a ticket and everything nested under it. Every change either bumps the ticket version
+ * or appends an event (comments and SLA breaches included), and every appended event bumps the ticket's event
+ * sequence in the inserting transaction, so both are read from the ticket row alone.
+ */
+public record TicketRevision(Long ticketId,
+                             Integer createdById,
+                             Instant createdAt,
+                             Integer version,
+                             Long eventSeq) {
+
+    public String eTag(String resource) {
+        return "\"" + resource + "-" + ticketId + "-" + version + "." + eventSeq + "\"";
+    }
+}
@@ -19,10 +19,14 @@ public record TicketSearchFilter(String keyword,
                                  SlaStatus responseSlaStatus,
                                  SlaStatus resolutionSlaStatus) {
 
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
+    }
+
     public String toQueryString() {
         UriComponentsBuilder builder = UriComponentsBuilder.newInstance();
 
-        if (keyword != null && !keyword.isBlank()) {
+        if (hasKeyword()) {
             builder.queryParam("keyword", keyword);
         }
         if (status != null) {
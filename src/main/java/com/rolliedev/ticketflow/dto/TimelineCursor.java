@@ -0,0 +1,44 @@
+package com.rolliedev.ticketflow.dto;
+
+import com.rolliedev.ticketflow.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position of a keyset walk over a ticket timeline, newest first: the (created at, id) of the last event
+ * returned. A cursor without a last id points to the first page.
+ */
+public record TimelineCursor(Instant lastCreatedAt,
+                             Long lastId) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TimelineCursor first() {
+        return new TimelineCursor(null, null);
+    }
+
+    public static TimelineCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR, -1);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Unexpected number of cursor parts");
+            }
+            return new TimelineCursor(Instant.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public boolean isFirstPage() {
+        return lastId == null;
+    }
+
+    public String encode() {
+        String raw = lastCreatedAt + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
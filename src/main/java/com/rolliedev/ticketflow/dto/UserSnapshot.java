@@ -0,0 +1,9 @@
+package com.rolliedev.ticketflow.dto;
+
+import com.rolliedev.ticketflow.entity.enums.Role;
+
+public record UserSnapshot(Integer id,
+                           String fullName,
+                           String email,
+                           Role role) {
+}
@@ -0,0 +1,67 @@
+package com.rolliedev.ticketflow.entity;
+
+import com.rolliedev.ticketflow.entity.enums.SlaDeadlineType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A row of the SLA deadline queue written through the persistence context, so the deadlines of a new ticket
+ * are inserted in the same flush as the ticket itself instead of forcing the ticket out first.
+ * Everything else about the queue goes through {@link com.rolliedev.ticketflow.repository.SlaDeadlineQueueRepository}.
+ */
+@Getter
+@Setter
+@ToString(exclude = "ticket")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "sla_deadlines")
+public class SlaDeadlineEntity implements BaseEntity<SlaDeadlineEntity.Key> {
+
+    @EmbeddedId
+    private Key id;
+
+    @MapsId("ticketId")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "ticket_id")
+    private TicketEntity ticket;
+
+    @Column(nullable = false)
+    private Instant dueAt;
+
+    @Getter
+    @Setter
+    @ToString
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Embeddable
+    public static class Key implements Serializable {
+
+        private Long ticketId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(length = 32)
+        private SlaDeadlineType deadlineType;
+    }
+}
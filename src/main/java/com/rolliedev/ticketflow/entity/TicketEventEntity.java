@@ -11,6 +11,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,8 +22,6 @@ import lombok.ToString;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
-import java.util.Map;
-
 @Getter
 @Setter
 @ToString(exclude = {"ticket", "actor"})
@@ -34,7 +33,8 @@ import java.util.Map;
 public class TicketEventEntity extends AuditingEntity<Long> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_events_id_seq")
+    @SequenceGenerator(name = "ticket_events_id_seq", sequenceName = "ticket_events_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -49,7 +49,8 @@ public class TicketEventEntity extends AuditingEntity<Long> {
     @Column(nullable = false, length = 32)
     private TicketEventType eventType;
 
+    // raw json, TicketEventPayloadCodec turns it into the payload record of the event type
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(nullable = false, columnDefinition = "jsonb")
-    private Map<String, Object> payload;
+    private String payload;
 }
@@ -0,0 +1,6 @@
+package com.rolliedev.ticketflow.entity.enums;
+
+public enum SlaDeadlineType {
+    FIRST_RESPONSE,
+    RESOLUTION
+}
@@ -0,0 +1,5 @@
+package com.rolliedev.ticketflow.entity.payload;
+
+// shared by COMMENTED and COMMENT_DELETED
+public record CommentPayload(Long commentId) implements TicketEventPayload {
+}
@@ -0,0 +1,6 @@
+package com.rolliedev.ticketflow.entity.payload;
+
+import java.time.Instant;
+
+public record FirstResponseSlaBreachedPayload(Instant firstResponseDeadline) implements TicketEventPayload {
+}
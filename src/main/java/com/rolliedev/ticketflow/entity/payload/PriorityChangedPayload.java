@@ -0,0 +1,7 @@
+package com.rolliedev.ticketflow.entity.payload;
+
+import com.rolliedev.ticketflow.entity.enums.TicketPriority;
+
+public record PriorityChangedPayload(TicketPriority oldPriority,
+                                     TicketPriority newPriority) implements TicketEventPayload {
+}
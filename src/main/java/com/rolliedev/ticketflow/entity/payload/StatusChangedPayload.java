@@ -0,0 +1,7 @@
+package com.rolliedev.ticketflow.entity.payload;
+
+import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+
+public record StatusChangedPayload(TicketStatus oldStatus,
+                                   TicketStatus newStatus) implements TicketEventPayload {
+}
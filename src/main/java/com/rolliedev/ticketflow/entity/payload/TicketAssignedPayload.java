@@ -0,0 +1,5 @@
+package com.rolliedev.ticketflow.entity.payload;
+
+public record TicketAssignedPayload(Integer previousAssigneeId,
+                                    Integer assigneeId) implements TicketEventPayload {
+}
@@ -0,0 +1,5 @@
+package com.rolliedev.ticketflow.entity.payload;
+
+public record TicketCreatedPayload(Long ticketId,
+                                   Integer createdById) implements TicketEventPayload {
+}
@@ -0,0 +1,10 @@
+package com.rolliedev.ticketflow.entity.payload;
+
+/**
+ * Typed jsonb payload of a ticket event. Every {@link com.rolliedev.ticketflow.entity.enums.TicketEventType}
+ * has exactly one payload record, registered in {@link com.rolliedev.ticketflow.mapper.TicketEventPayloadCodec}.
+ */
+public sealed interface TicketEventPayload permits TicketCreatedPayload, TicketAssignedPayload,
+        PriorityChangedPayload, StatusChangedPayload, CommentPayload,
+        FirstResponseSlaBreachedPayload, ResolutionSlaBreachedPayload {
+}
@@ -2,6 +2,7 @@ package com.rolliedev.ticketflow.http.controller;
 
 import com.rolliedev.ticketflow.dto.AssignTicketRequest;
 import com.rolliedev.ticketflow.dto.ChangePriorityRequest;
+import com.rolliedev.ticketflow.dto.CountMode;
 import com.rolliedev.ticketflow.dto.CreateTicketRequest;
 import com.rolliedev.ticketflow.dto.TicketSearchFilter;
 import com.rolliedev.ticketflow.entity.enums.Role;
@@ -28,6 +29,7 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 @Controller
@@ -44,14 +46,16 @@ public class TicketController {
     public String findAll(Model model,
                           @ModelAttribute TicketSearchFilter filter,
                           @PageableDefault Pageable pageable,
+                          @RequestParam(defaultValue = "EXACT") CountMode count,
                           @AuthenticationPrincipal TicketFlowUserDetails currentUser) {
-        model.addAttribute("page", ticketService.findAll(filter, pageable, currentUser));
+        model.addAttribute("page", ticketService.findAll(filter, pageable, count, currentUser));
+        model.addAttribute("countMode", count);
         model.addAttribute("filter", filter);
         model.addAttribute("filterQueryParams", filter.toQueryString());
         model.addAttribute("statuses", TicketStatus.values());
         model.addAttribute("priorities", TicketPriority.values());
         if (currentUser.hasAuthority(Role.ADMIN) || currentUser.hasAuthority(Role.AGENT)) {
-            model.addAttribute("assignees", userService.findAllByRoleIn(Role.ADMIN, Role.AGENT));
+            model.addAttribute("assignees", userService.findInternalUsers());
             model.addAttribute("responseSlaStatuses", SlaStatus.getResponseSlaStatuses());
             model.addAttribute("resolutionSlaStatuses", SlaStatus.getResolutionSlaStatuses());
         }
@@ -77,9 +81,9 @@ public class TicketController {
                     model.addAttribute("currentUserId", currentUser.getId());
 
                     if (isInternalUser) {
-                        model.addAttribute("internalUsers", userService.findAllByRoleIn(Role.ADMIN, Role.AGENT));
+                        model.addAttribute("internalUsers", userService.findInternalUsers());
                         model.addAttribute("timeline", eventService
-                                .getTimeline(ticket.id(), Pageable.unpaged(Sort.by(Sort.Direction.DESC, "createdAt", "id")))
+                                .getTimeline(ticket.id(), ticket.createdAt(), Pageable.unpaged(Sort.by(Sort.Direction.DESC, "createdAt", "id")))
                                 .getContent()
                         );
                     }
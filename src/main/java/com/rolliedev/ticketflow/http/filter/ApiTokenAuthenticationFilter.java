@@ -0,0 +1,72 @@
+package com.rolliedev.ticketflow.http.filter;
+
+import com.rolliedev.ticketflow.security.ApiTokenService;
+import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Authenticates {@code Authorization: Bearer} API tokens. Not a bean, it is added to the API security chain only.
+ */
+@RequiredArgsConstructor
+public class ApiTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String TOKEN_ENDPOINT = "/api/v1/auth/token";
+
+    private static final String BEARER_PREFIX = ApiTokenService.TOKEN_TYPE + " ";
+    private static final RequestMatcher TOKEN_REQUEST = PathPatternRequestMatcher.withDefaults()
+            .matcher(HttpMethod.POST, TOKEN_ENDPOINT);
+
+    private final ApiTokenService apiTokenService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String token = authorization.substring(BEARER_PREFIX.length()).trim();
+        Optional<TicketFlowUserDetails> user = apiTokenService.authenticate(token);
+        if (user.isEmpty()) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        // the token is kept as credentials so it can be revoked by the request that presents it
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                user.get(), token, user.get().getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+
+        filterChain.doFilter(request, response);
+    }
+
+    // a new token is only handed out for a password, so a leaked token cannot renew itself
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return TOKEN_REQUEST.matches(request);
+    }
+}
@@ -0,0 +1,134 @@
+package com.rolliedev.ticketflow.http.filter;
+
+import com.rolliedev.ticketflow.config.QueryStatsProperties;
+import com.rolliedev.ticketflow.jdbc.QueryStats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Counts the statements and JDBC time of each request. Runs right after {@link CorrelationIdFilter}, so the
+ * summary and the N+1 warnings carry the request id next to {@code queryCount} and {@code queryTimeMs}.
+ * Registered by {@code QueryStatsConfiguration} together with the data source proxy it depends on.
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    public static final String X_QUERY_COUNT = "X-Query-Count";
+    public static final String X_QUERY_TIME = "X-Query-Time";
+    private static final String MDC_QUERY_COUNT_KEY = "queryCount";
+    private static final String MDC_QUERY_TIME_KEY = "queryTimeMs";
+
+    private final QueryStatsProperties queryStatsProperties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        QueryStats stats = QueryStats.start();
+        QueryStatsResponse statsResponse = queryStatsProperties.responseHeaders()
+                ? new QueryStatsResponse(response, stats)
+                : null;
+
+        try {
+            filterChain.doFilter(request, statsResponse == null ? response : statsResponse);
+        } finally {
+            QueryStats.stop();
+            if (statsResponse != null) {
+                statsResponse.writeHeaders();
+            }
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryStats stats) {
+        try {
+            MDC.put(MDC_QUERY_COUNT_KEY, String.valueOf(stats.count()));
+            MDC.put(MDC_QUERY_TIME_KEY, String.valueOf(stats.elapsedMillis()));
+
+            log.debug("{} {} ran {} statements in {} ms",
+                    request.getMethod(), request.getRequestURI(), stats.count(), stats.elapsedMillis());
+            stats.repeatedSelects(queryStatsProperties.repeatedSelectThreshold()).forEach((sql, executions) ->
+                    log.warn("Probable N+1 in {} {}: {} executions of {}",
+                            request.getMethod(), request.getRequestURI(), executions, sql));
+        } finally {
+            MDC.remove(MDC_QUERY_COUNT_KEY);
+            MDC.remove(MDC_QUERY_TIME_KEY);
+        }
+    }
+
+    /**
+     * Sets the headers just before the body is first written, since the response is committed by then. With
+     * open-in-view disabled every statement of the request has run at that point.
+     */
+    private static final class QueryStatsResponse extends HttpServletResponseWrapper {
+
+        private final QueryStats stats;
+        private boolean headersWritten;
+
+        private QueryStatsResponse(HttpServletResponse response, QueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+
+        private void writeHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            setHeader(X_QUERY_COUNT, String.valueOf(stats.count()));
+            setHeader(X_QUERY_TIME, String.valueOf(stats.elapsedMillis()));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.rolliedev.ticketflow.http.rest;
+
+import com.rolliedev.ticketflow.dto.ApiTokenResponse;
+import com.rolliedev.ticketflow.exception.InvalidRequestException;
+import com.rolliedev.ticketflow.security.ApiTokenService;
+import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.rolliedev.ticketflow.http.filter.ApiTokenAuthenticationFilter.TOKEN_ENDPOINT;
+
+@RestController
+@RequestMapping(TOKEN_ENDPOINT)
+@RequiredArgsConstructor
+public class AuthRestController {
+
+    private final ApiTokenService apiTokenService;
+
+    @PostMapping
+    public ApiTokenResponse issueToken(@AuthenticationPrincipal TicketFlowUserDetails currentUser) {
+        return apiTokenService.issue(currentUser);
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> revokeToken(Authentication authentication) {
+        if (!(authentication.getCredentials() instanceof String token)) {
+            throw new InvalidRequestException("Only a bearer token can be revoked");
+        }
+        apiTokenService.revoke(token);
+        return ResponseEntity.noContent().build();
+    }
+}
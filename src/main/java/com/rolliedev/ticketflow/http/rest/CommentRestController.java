@@ -3,6 +3,7 @@ package com.rolliedev.ticketflow.http.rest;
 import com.rolliedev.ticketflow.dto.CommentResponse;
 import com.rolliedev.ticketflow.dto.CreateCommentRequest;
 import com.rolliedev.ticketflow.dto.PageResponse;
+import com.rolliedev.ticketflow.dto.TicketRevision;
 import com.rolliedev.ticketflow.exception.ResourceNotFoundException;
 import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
 import com.rolliedev.ticketflow.service.CommentService;
@@ -21,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/tickets/{ticketId}/comments")
@@ -33,9 +35,13 @@ public class CommentRestController {
     @GetMapping
     public PageResponse<CommentResponse> findAllBy(@PathVariable Long ticketId,
                                                    @AuthenticationPrincipal TicketFlowUserDetails currentUser,
-                                                   @PageableDefault Pageable pageable) {
-        ticketService.findById(ticketId, currentUser)
+                                                   @PageableDefault Pageable pageable,
+                                                   WebRequest request) {
+        TicketRevision revision = ticketService.findRevision(ticketId, currentUser)
                 .orElseThrow(() -> ResourceNotFoundException.ticket(ticketId));
+        if (request.checkNotModified(revision.eTag("comments"))) {
+            return null;
+        }
 
         return PageResponse.of(commentService.findAllBy(ticketId, pageable));
     }
@@ -2,19 +2,27 @@ package com.rolliedev.ticketflow.http.rest;
 
 import com.rolliedev.ticketflow.dto.AssignTicketRequest;
 import com.rolliedev.ticketflow.dto.ChangePriorityRequest;
+import com.rolliedev.ticketflow.dto.CountMode;
 import com.rolliedev.ticketflow.dto.CreateTicketRequest;
+import com.rolliedev.ticketflow.dto.CursorPageResponse;
 import com.rolliedev.ticketflow.dto.PageResponse;
+import com.rolliedev.ticketflow.dto.TicketCursor;
 import com.rolliedev.ticketflow.dto.TicketEventResponse;
+import com.rolliedev.ticketflow.dto.TicketListItem;
 import com.rolliedev.ticketflow.dto.TicketResponse;
+import com.rolliedev.ticketflow.dto.TicketRevision;
 import com.rolliedev.ticketflow.dto.TicketSearchFilter;
+import com.rolliedev.ticketflow.dto.TimelineCursor;
 import com.rolliedev.ticketflow.exception.ResourceNotFoundException;
 import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
 import com.rolliedev.ticketflow.service.TicketEventService;
 import com.rolliedev.ticketflow.service.TicketService;
+import com.rolliedev.ticketflow.service.stream.TicketEventStreamHub;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -24,7 +32,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
 
@@ -35,29 +46,84 @@ public class TicketRestController {
 
     private final TicketService ticketService;
     private final TicketEventService eventService;
+    private final TicketEventStreamHub streamHub;
 
     @GetMapping("/{id}")
     public TicketResponse findById(@PathVariable Long id,
-                                   @AuthenticationPrincipal TicketFlowUserDetails currentUser) {
+                                   @AuthenticationPrincipal TicketFlowUserDetails currentUser,
+                                   WebRequest request) {
+        if (request.checkNotModified(getRevision(id, currentUser).eTag("ticket"))) {
+            return null;
+        }
+
         return ticketService.findById(id, currentUser)
                 .orElseThrow(() -> ResourceNotFoundException.ticket(id));
     }
 
     @GetMapping
-    public PageResponse<TicketResponse> findAll(TicketSearchFilter filter,
+    public PageResponse<TicketListItem> findAll(TicketSearchFilter filter,
                                                 @PageableDefault Pageable pageable,
+                                                @RequestParam(defaultValue = "EXACT") CountMode count,
                                                 @AuthenticationPrincipal TicketFlowUserDetails currentUser) {
-        return PageResponse.of(ticketService.findAll(filter, pageable, currentUser));
+        return PageResponse.of(ticketService.findAll(filter, pageable, count, currentUser));
+    }
+
+    // an empty cursor starts a keyset walk, every response carries the cursor of the following page
+    @GetMapping(params = "cursor")
+    public CursorPageResponse<TicketListItem> findAllByCursor(TicketSearchFilter filter,
+                                                              @RequestParam String cursor,
+                                                              @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+                                                              @AuthenticationPrincipal TicketFlowUserDetails currentUser) {
+        TicketCursor ticketCursor = cursor.isBlank()
+                ? TicketCursor.first(pageable.getSort())
+                : TicketCursor.decode(cursor);
+        return ticketService.findAll(filter, ticketCursor, pageable.getPageSize(), currentUser);
     }
 
     @GetMapping("/{id}/events")
     public PageResponse<TicketEventResponse> getTimeline(@PathVariable Long id,
                                                          @PageableDefault(size = 20, sort = {"createdAt", "id"}, direction = Sort.Direction.DESC) Pageable pageable,
-                                                         @AuthenticationPrincipal TicketFlowUserDetails currentUser) {
-        ticketService.findById(id, currentUser)
+                                                         @AuthenticationPrincipal TicketFlowUserDetails currentUser,
+                                                         WebRequest request) {
+        TicketRevision revision = getRevision(id, currentUser);
+        if (request.checkNotModified(revision.eTag("events"))) {
+            return null;
+        }
+
+        return PageResponse.of(eventService.getTimeline(id, revision.createdAt(), pageable));
+    }
+
+    // newest first like the paged timeline, but a page deep into a long timeline costs the same as the first one
+    @GetMapping(value = "/{id}/events", params = "cursor")
+    public CursorPageResponse<TicketEventResponse> getTimelineByCursor(@PathVariable Long id,
+                                                                       @RequestParam String cursor,
+                                                                       @PageableDefault(size = 20) Pageable pageable,
+                                                                       @AuthenticationPrincipal TicketFlowUserDetails currentUser,
+                                                                       WebRequest request) {
+        TicketRevision revision = getRevision(id, currentUser);
+        if (request.checkNotModified(revision.eTag("events"))) {
+            return null;
+        }
+
+        TimelineCursor timelineCursor = cursor.isBlank()
+                ? TimelineCursor.first()
+                : TimelineCursor.decode(cursor);
+        return eventService.getTimeline(id, revision.createdAt(), timelineCursor, pageable.getPageSize());
+    }
+
+    // pushes the events of one ticket as they are committed, a reconnecting client catches up with the timeline cursor
+    @GetMapping(value = "/{id}/events/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTimeline(@PathVariable Long id,
+                                     @AuthenticationPrincipal TicketFlowUserDetails currentUser) {
+        ticketService.findAccess(id, currentUser)
                 .orElseThrow(() -> ResourceNotFoundException.ticket(id));
+        return streamHub.subscribeToTicket(id);
+    }
 
-        return PageResponse.of(eventService.getTimeline(id, pageable));
+    // events of every ticket currently assigned to the calling agent
+    @GetMapping(value = "/assigned/events/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAssignedQueue(@AuthenticationPrincipal TicketFlowUserDetails currentUser) {
+        return streamHub.subscribeToAssignedQueue(currentUser.getId());
     }
 
     @PostMapping
@@ -106,4 +172,9 @@ public class TicketRestController {
                                          @AuthenticationPrincipal TicketFlowUserDetails currentUser) {
         return ticketService.changePriority(id, currentUser.getId(), request.getNewPriority());
     }
+
+    private TicketRevision getRevision(Long id, TicketFlowUserDetails currentUser) {
+        return ticketService.findRevision(id, currentUser)
+                .orElseThrow(() -> ResourceNotFoundException.ticket(id));
+    }
 }
@@ -0,0 +1,67 @@
+package com.rolliedev.ticketflow.jdbc;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statements executed on the current thread while a request is being served. Statements run outside a
+ * started scope, e.g. by scheduled jobs or the event listener, are not recorded.
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    // the prepared statement text is the shape, parameters are bound separately and do not change it
+    private final Map<String, Integer> selectShapes = new HashMap<>();
+    private int count;
+    private long elapsedNanos;
+
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(String sql) {
+        count++;
+        if (sql.regionMatches(true, 0, "select", 0, 6)) {
+            selectShapes.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void recordElapsed(long nanos) {
+        elapsedNanos += nanos;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * Select shapes executed at least {@code threshold} times, the typical trace of a lazy association loaded
+     * row by row.
+     */
+    public Map<String, Integer> repeatedSelects(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        selectShapes.forEach((sql, executions) -> {
+            if (executions >= threshold) {
+                repeated.put(sql, executions);
+            }
+        });
+        return repeated;
+    }
+}
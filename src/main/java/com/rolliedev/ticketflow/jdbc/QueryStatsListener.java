@@ -0,0 +1,35 @@
+package com.rolliedev.ticketflow.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Feeds every statement executed through the proxied data source into the {@link QueryStats} of the current
+ * thread. A JDBC batch is one round trip and counts as one statement per distinct SQL text.
+ */
+public class QueryStatsListener implements QueryExecutionListener {
+
+    private static final String STARTED_AT = "queryStats.startedAt";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (QueryStats.current() != null) {
+            execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryStats stats = QueryStats.current();
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        if (stats == null || startedAt == null) {
+            return;
+        }
+
+        stats.recordElapsed(System.nanoTime() - startedAt);
+        queryInfoList.forEach(query -> stats.recordStatement(query.getQuery()));
+    }
+}
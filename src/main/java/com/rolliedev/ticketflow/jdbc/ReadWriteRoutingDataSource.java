@@ -0,0 +1,101 @@
+package com.rolliedev.ticketflow.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ * <p>
+ * The physical connection is fetched lazily on the first statement, by then the transaction manager has
+ * marked the connection read-only or not. Reads stay on the primary while the current user is within the
+ * read-your-writes window of an own write, while no replica is within the lag limit, and when the chosen
+ * replica cannot hand out a connection.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final String METRIC = "datasource.read.routing";
+
+    private final DataSource primary;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaLagMonitor lagMonitor,
+                                      ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        super(primary);
+        this.primary = primary;
+        setReadOnlyDataSource(new ReadOnlyRouter(lagMonitor, readYourWritesTracker, meterRegistry));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (primary instanceof Closeable pool) {
+            pool.close();
+        }
+    }
+
+    private class ReadOnlyRouter extends AbstractDataSource {
+
+        private final ReplicaLagMonitor lagMonitor;
+        private final ReadYourWritesTracker readYourWritesTracker;
+        private final MeterRegistry meterRegistry;
+        private final AtomicInteger next = new AtomicInteger();
+
+        ReadOnlyRouter(ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWritesTracker,
+                       MeterRegistry meterRegistry) {
+            this.lagMonitor = lagMonitor;
+            this.readYourWritesTracker = readYourWritesTracker;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return route(DataSource::getConnection);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return route(target -> target.getConnection(username, password));
+        }
+
+        private Connection route(ConnectionOpener opener) throws SQLException {
+            if (readYourWritesTracker.isSticky()) {
+                return primary(opener, "sticky");
+            }
+            List<ReplicaNode> replicas = lagMonitor.usableReplicas();
+            if (replicas.isEmpty()) {
+                return primary(opener, "no_replica");
+            }
+
+            ReplicaNode replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            try {
+                Connection connection = opener.open(replica.getDataSource());
+                meterRegistry.counter(METRIC, "target", replica.getName(), "reason", "read_only").increment();
+                return connection;
+            } catch (SQLException e) {
+                log.warn("Replica {} refused a connection, reading from the primary", replica.getName(), e);
+                return primary(opener, "replica_failure");
+            }
+        }
+
+        private Connection primary(ConnectionOpener opener, String reason) throws SQLException {
+            Connection connection = opener.open(primary);
+            meterRegistry.counter(METRIC, "target", "primary", "reason", reason).increment();
+            return connection;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
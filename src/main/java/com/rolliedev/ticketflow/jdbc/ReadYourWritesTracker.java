@@ -0,0 +1,147 @@
+package com.rolliedev.ticketflow.jdbc;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.WebUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Remembers users that just committed a write, so their reads go to the primary until the replicas have
+ * had time to catch up. Registered on the transaction manager as an execution listener.
+ * <p>
+ * The node that handled the write remembers the user itself. A write made while handling a request also sets a
+ * cookie of the form {@code expiresAtMillis.base64url(signature)} that lives as long as the window and is signed for
+ * the user with its own cookie secret, so the next request of a client that keeps cookies reads from the primary on
+ * whichever node it lands. Without a cookie secret every process signs with its own random key and the cookie is only
+ * honoured by the node that set it.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    public static final String COOKIE_NAME = "TF_READ_PRIMARY";
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Duration stickyWindow;
+    private final SecretKeySpec signingKey;
+    private final Clock clock;
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration stickyWindow, String signingSecret, Clock clock) {
+        this.stickyWindow = stickyWindow;
+        this.signingKey = new SecretKeySpec(signingKey(signingSecret), SIGNATURE_ALGORITHM);
+        this.clock = clock;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            currentUsername().ifPresent(username -> {
+                recentWriters.put(username, Boolean.TRUE);
+                setCookie(username);
+            });
+        }
+    }
+
+    public boolean isSticky() {
+        return currentUsername()
+                .map(username -> recentWriters.getIfPresent(username) != null || hasValidCookie(username))
+                .orElse(false);
+    }
+
+    // once per request, later writes of the same request fall into the same window anyway
+    private void setCookie(String username) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)
+                || attributes.getAttribute(COOKIE_NAME, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+
+        long expiresAt = clock.millis() + stickyWindow.toMillis();
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, expiresAt + "." + ENCODER.encodeToString(sign(username, expiresAt)))
+                .path("/")
+                .maxAge(stickyWindow)
+                .httpOnly(true)
+                .secure(attributes.getRequest().isSecure())
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        attributes.setAttribute(COOKIE_NAME, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    private boolean hasValidCookie(String username) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        Cookie cookie = WebUtils.getCookie(attributes.getRequest(), COOKIE_NAME);
+        if (cookie == null) {
+            return false;
+        }
+
+        String value = cookie.getValue();
+        int separator = value.indexOf('.');
+        if (separator <= 0) {
+            return false;
+        }
+        try {
+            long expiresAt = Long.parseLong(value.substring(0, separator));
+            return expiresAt > clock.millis()
+                   && MessageDigest.isEqual(DECODER.decode(value.substring(separator + 1)), sign(username, expiresAt));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private byte[] sign(String username, long expiresAt) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(signingKey);
+            return mac.doFinal((COOKIE_NAME + ":" + username + ":" + expiresAt).getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign read-your-writes cookie", e);
+        }
+    }
+
+    private static Optional<String> currentUsername() {
+        return Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
+                .filter(Authentication::isAuthenticated)
+                .map(Authentication::getName);
+    }
+
+    private static byte[] signingKey(String secret) {
+        if (secret != null && !secret.isBlank()) {
+            return Base64.getDecoder().decode(secret);
+        }
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+}
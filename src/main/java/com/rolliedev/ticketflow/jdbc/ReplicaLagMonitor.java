@@ -0,0 +1,176 @@
+package com.rolliedev.ticketflow.jdbc;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Measures the replication lag of every replica against the primary on a fixed delay. Every check first records
+ * the primary's current WAL position; a replica that has not replayed a recorded position yet is at least as far
+ * behind as that position is old, so the lag does not depend on the clocks of the database servers. A replica is
+ * usable for reads only while its last measured lag is within the limit, a replica that is not streaming from the
+ * primary, unreachable or unmeasured is never used.
+ * <p>
+ * The primary pool is only borrowed for the checks, it is closed with the routing data source.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements Closeable {
+
+    // a replica stuck for longer than this many checks reports the age of the oldest position kept
+    private static final int MAX_POSITIONS = 1000;
+
+    private static final String PRIMARY_POSITION_QUERY = "SELECT pg_current_wal_lsn() - '0/0'::pg_lsn";
+
+    // a server that is not in recovery is the primary itself; a standby without a WAL receiver has stopped streaming,
+    // its replay position no longer moves and says nothing about how much it misses
+    private static final String REPLICA_POSITION_QUERY = """
+            SELECT pg_is_in_recovery(),
+                   EXISTS (SELECT 1 FROM pg_stat_wal_receiver),
+                   pg_last_wal_replay_lsn() - '0/0'::pg_lsn
+            """;
+
+    private final DataSource primary;
+    private final List<ReplicaNode> replicas;
+    private final Duration maxLag;
+    private final Clock clock;
+    // primary positions of the recent checks, oldest first, until every replica has replayed them
+    private final Deque<WalPosition> primaryPositions = new ArrayDeque<>();
+
+    public ReplicaLagMonitor(DataSource primary, List<ReplicaNode> replicas, Duration maxLag, Clock clock,
+                             MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.clock = clock;
+        replicas.forEach(replica -> Gauge.builder("datasource.replica.lag", replica, ReplicaLagMonitor::lagSeconds)
+                .tag("replica", replica.getName())
+                .baseUnit("seconds")
+                .register(meterRegistry));
+    }
+
+    @Scheduled(fixedDelayString = "${app.read-replicas.lag-check-interval}")
+    public synchronized void checkLag() {
+        WalPosition primaryPosition = readPrimaryPosition();
+        if (primaryPosition == null) {
+            replicas.forEach(replica -> updateLag(replica, null));
+            return;
+        }
+
+        primaryPositions.addLast(primaryPosition);
+        long replayedByAll = Long.MAX_VALUE;
+        for (ReplicaNode replica : replicas) {
+            OptionalLong replayed = readReplayedPosition(replica);
+            updateLag(replica, replayed.isPresent() ? lagBehind(replayed.getAsLong()) : null);
+            replayedByAll = Math.min(replayedByAll, replayed.orElse(Long.MIN_VALUE));
+        }
+        while (!primaryPositions.isEmpty()
+                && (primaryPositions.getFirst().lsn() <= replayedByAll || primaryPositions.size() > MAX_POSITIONS)) {
+            primaryPositions.removeFirst();
+        }
+    }
+
+    public List<ReplicaNode> usableReplicas() {
+        return replicas.stream()
+                .filter(this::isUsable)
+                .toList();
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public List<ReplicaNode> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (ReplicaNode replica : replicas) {
+            if (replica.getDataSource() instanceof Closeable pool) {
+                pool.close();
+            }
+        }
+    }
+
+    private void updateLag(ReplicaNode replica, Duration lag) {
+        boolean wasUsable = isUsable(replica);
+        replica.setLag(lag);
+        boolean usable = isUsable(replica);
+        if (wasUsable && !usable) {
+            log.warn("Replica {} taken out of read routing, lag {} exceeds {}, replica not streaming or unreachable",
+                    replica.getName(), replica.getLag(), maxLag);
+        } else if (!wasUsable && usable) {
+            log.info("Replica {} used for reads, lag {}", replica.getName(), replica.getLag());
+        }
+    }
+
+    private WalPosition readPrimaryPosition() {
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(PRIMARY_POSITION_QUERY)) {
+            resultSet.next();
+            return new WalPosition(resultSet.getLong(1), clock.instant());
+        } catch (SQLException e) {
+            log.debug("Reading the WAL position of the primary failed, replicas are not used until it succeeds", e);
+            return null;
+        }
+    }
+
+    // empty when the replica cannot be reached or is not streaming, the primary itself has replayed everything
+    private OptionalLong readReplayedPosition(ReplicaNode replica) {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICA_POSITION_QUERY)) {
+            resultSet.next();
+            if (!resultSet.getBoolean(1)) {
+                return OptionalLong.of(Long.MAX_VALUE);
+            }
+            if (!resultSet.getBoolean(2)) {
+                log.debug("Replica {} has no WAL receiver", replica.getName());
+                return OptionalLong.empty();
+            }
+            return OptionalLong.of(resultSet.getLong(3));
+        } catch (SQLException e) {
+            log.debug("Lag check of replica {} failed", replica.getName(), e);
+            return OptionalLong.empty();
+        }
+    }
+
+    private Duration lagBehind(long replayed) {
+        Instant now = clock.instant();
+        return primaryPositions.stream()
+                .filter(position -> position.lsn() > replayed)
+                .findFirst()
+                .map(position -> Duration.between(position.readAt(), now))
+                .orElse(Duration.ZERO);
+    }
+
+    private boolean isUsable(ReplicaNode replica) {
+        Duration lag = replica.getLag();
+        return lag != null && lag.compareTo(maxLag) <= 0;
+    }
+
+    private static double lagSeconds(ReplicaNode replica) {
+        Duration lag = replica.getLag();
+        return lag == null ? Double.NaN : lag.toMillis() / 1000.0;
+    }
+
+    private record WalPosition(long lsn, Instant readAt) {
+    }
+}
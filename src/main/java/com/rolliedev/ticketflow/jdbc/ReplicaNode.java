@@ -0,0 +1,36 @@
+package com.rolliedev.ticketflow.jdbc;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * A replica connection pool together with the replication lag last measured on it.
+ */
+public class ReplicaNode {
+
+    private final String name;
+    private final DataSource dataSource;
+    // null until the first check and whenever the replica could not be reached
+    private volatile Duration lag;
+
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public Duration getLag() {
+        return lag;
+    }
+
+    public void setLag(Duration lag) {
+        this.lag = lag;
+    }
+}
@@ -1,6 +1,7 @@
 package com.rolliedev.ticketflow.mapper;
 
 import com.rolliedev.ticketflow.dto.CommentResponse;
+import com.rolliedev.ticketflow.dto.UserSnapshot;
 import com.rolliedev.ticketflow.entity.TicketCommentEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -20,4 +21,14 @@ public class CommentResponseMapper implements Mapper<TicketCommentEntity, Commen
                 object.getCreatedAt()
         );
     }
+
+    // a new comment's author is a reference, the snapshot the caller resolved it from is mapped instead
+    public CommentResponse map(TicketCommentEntity object, UserSnapshot author) {
+        return new CommentResponse(
+                object.getId(),
+                userSummaryMapper.map(author),
+                object.getBody(),
+                object.getCreatedAt()
+        );
+    }
 }
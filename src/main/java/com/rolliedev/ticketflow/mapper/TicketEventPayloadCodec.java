@@ -0,0 +1,60 @@
+package com.rolliedev.ticketflow.mapper;
+
+import com.rolliedev.ticketflow.entity.enums.TicketEventType;
+import com.rolliedev.ticketflow.entity.payload.CommentPayload;
+import com.rolliedev.ticketflow.entity.payload.FirstResponseSlaBreachedPayload;
+import com.rolliedev.ticketflow.entity.payload.PriorityChangedPayload;
+import com.rolliedev.ticketflow.entity.payload.ResolutionSlaBreachedPayload;
+import com.rolliedev.ticketflow.entity.payload.StatusChangedPayload;
+import com.rolliedev.ticketflow.entity.payload.TicketAssignedPayload;
+import com.rolliedev.ticketflow.entity.payload.TicketCreatedPayload;
+import com.rolliedev.ticketflow.entity.payload.TicketEventPayload;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Reads and writes ticket event payloads. The record type is chosen by the event type column, so the json
+ * carries no type discriminator, and the readers are resolved once instead of on every timeline row.
+ * Ids written as strings by older releases are still read, Jackson coerces them to numbers.
+ */
+@Component
+public class TicketEventPayloadCodec {
+
+    private final Map<TicketEventType, ObjectReader> readers = new EnumMap<>(TicketEventType.class);
+    private final ObjectWriter writer;
+
+    public TicketEventPayloadCodec(ObjectMapper objectMapper) {
+        for (TicketEventType eventType : TicketEventType.values()) {
+            readers.put(eventType, objectMapper.readerFor(payloadType(eventType)));
+        }
+        this.writer = objectMapper.writer();
+    }
+
+    public static Class<? extends TicketEventPayload> payloadType(TicketEventType eventType) {
+        return switch (eventType) {
+            case CREATED -> TicketCreatedPayload.class;
+            case ASSIGNED -> TicketAssignedPayload.class;
+            case PRIORITY_CHANGED -> PriorityChangedPayload.class;
+            case STATUS_CHANGED -> StatusChangedPayload.class;
+            case COMMENTED, COMMENT_DELETED -> CommentPayload.class;
+            case FIRST_RESPONSE_SLA_BREACHED -> FirstResponseSlaBreachedPayload.class;
+            case RESOLUTION_SLA_BREACHED -> ResolutionSlaBreachedPayload.class;
+        };
+    }
+
+    public String encode(TicketEventType eventType, TicketEventPayload payload) {
+        if (!payloadType(eventType).isInstance(payload)) {
+            throw new IllegalArgumentException(eventType + " event cannot carry " + payload.getClass().getSimpleName());
+        }
+        return writer.writeValueAsString(payload);
+    }
+
+    public TicketEventPayload decode(TicketEventType eventType, String json) {
+        return readers.get(eventType).readValue(json);
+    }
+}
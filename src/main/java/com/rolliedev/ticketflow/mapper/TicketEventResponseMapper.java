@@ -10,14 +10,16 @@ import org.springframework.stereotype.Component;
 public class TicketEventResponseMapper implements Mapper<TicketEventEntity, TicketEventResponse> {
 
     private final UserSummaryMapper userSummaryMapper;
+    private final TicketEventPayloadCodec payloadCodec;
 
     @Override
     public TicketEventResponse map(TicketEventEntity object) {
         return new TicketEventResponse(
                 object.getId(),
+                object.getTicket().getId(),
                 object.getActor() != null ? userSummaryMapper.map(object.getActor()) : null,
                 object.getEventType(),
-                object.getPayload(),
+                payloadCodec.decode(object.getEventType(), object.getPayload()),
                 object.getCreatedAt()
         );
     }
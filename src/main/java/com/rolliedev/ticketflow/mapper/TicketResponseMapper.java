@@ -1,7 +1,10 @@
 package com.rolliedev.ticketflow.mapper;
 
 import com.rolliedev.ticketflow.dto.TicketResponse;
+import com.rolliedev.ticketflow.dto.UserSnapshot;
+import com.rolliedev.ticketflow.dto.UserSummary;
 import com.rolliedev.ticketflow.entity.TicketEntity;
+import com.rolliedev.ticketflow.entity.UserEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -13,14 +16,19 @@ public class TicketResponseMapper implements Mapper<TicketEntity, TicketResponse
 
     @Override
     public TicketResponse map(TicketEntity object) {
+        return map(object, null);
+    }
+
+    // the creator or assignee the caller already holds as snapshot is mapped from it, so its reference is not loaded
+    public TicketResponse map(TicketEntity object, UserSnapshot knownUser) {
         return new TicketResponse(
                 object.getId(),
                 object.getTitle(),
                 object.getDescription(),
                 object.getStatus(),
                 object.getPriority(),
-                userSummaryMapper.map(object.getCreatedBy()),
-                object.getAssignedTo() != null ? userSummaryMapper.map(object.getAssignedTo()) : null,
+                mapUser(object.getCreatedBy(), knownUser),
+                object.getAssignedTo() != null ? mapUser(object.getAssignedTo(), knownUser) : null,
                 object.getCreatedAt(),
                 object.getModifiedAt(),
                 object.getResolvedAt(),
@@ -31,4 +39,10 @@ public class TicketResponseMapper implements Mapper<TicketEntity, TicketResponse
                 object.getResolutionSlaStatus()
         );
     }
+
+    private UserSummary mapUser(UserEntity user, UserSnapshot knownUser) {
+        return knownUser != null && knownUser.id().equals(user.getId())
+                ? userSummaryMapper.map(knownUser)
+                : userSummaryMapper.map(user);
+    }
 }
@@ -1,5 +1,6 @@
 package com.rolliedev.ticketflow.mapper;
 
+import com.rolliedev.ticketflow.dto.UserSnapshot;
 import com.rolliedev.ticketflow.dto.UserSummary;
 import com.rolliedev.ticketflow.entity.UserEntity;
 import org.springframework.stereotype.Component;
@@ -15,4 +16,12 @@ public class UserSummaryMapper implements Mapper<UserEntity, UserSummary> {
                 object.getEmail()
         );
     }
+
+    public UserSummary map(UserSnapshot object) {
+        return new UserSummary(
+                object.id(),
+                object.fullName(),
+                object.email()
+        );
+    }
 }
@@ -1,5 +1,6 @@
 package com.rolliedev.ticketflow.policy;
 
+import com.rolliedev.ticketflow.dto.UserSnapshot;
 import com.rolliedev.ticketflow.entity.TicketCommentEntity;
 import com.rolliedev.ticketflow.entity.TicketEntity;
 import com.rolliedev.ticketflow.entity.UserEntity;
@@ -10,44 +11,44 @@ import org.springframework.stereotype.Component;
 @Component
 public class AccessPolicy {
 
-    public void requireAgentOrAdmin(UserEntity actor, String message) {
-        if (actor.getRole() != Role.ADMIN && actor.getRole() != Role.AGENT) {
+    public void requireAgentOrAdmin(UserSnapshot actor, String message) {
+        if (actor.role() != Role.ADMIN && actor.role() != Role.AGENT) {
             throw new TicketFlowAccessDeniedException(message);
         }
     }
 
-    public void requireTicketAssigneeOrAdmin(TicketEntity ticket, UserEntity actor, String message) {
-        boolean isAdmin = actor.getRole() == Role.ADMIN;
-        boolean isAssignee = ticket.getAssignedTo() != null && ticket.getAssignedTo().getId().equals(actor.getId());
+    public void requireTicketAssigneeOrAdmin(TicketEntity ticket, UserSnapshot actor, String message) {
+        boolean isAdmin = actor.role() == Role.ADMIN;
+        boolean isAssignee = ticket.getAssignedTo() != null && ticket.getAssignedTo().getId().equals(actor.id());
 
         if (!isAdmin && !isAssignee) {
             throw new TicketFlowAccessDeniedException(message);
         }
     }
 
-    public void requireCustomer(UserEntity actor, String message) {
-        if (actor.getRole() != Role.CUSTOMER) {
+    public void requireCustomer(UserSnapshot actor, String message) {
+        if (actor.role() != Role.CUSTOMER) {
             throw new TicketFlowAccessDeniedException(message);
         }
     }
 
-    public void requireTicketOwner(TicketEntity ticket, UserEntity actor, String message) {
-        boolean isOwner = ticket.getCreatedBy().getId().equals(actor.getId());
+    public void requireTicketOwner(TicketEntity ticket, UserSnapshot actor, String message) {
+        boolean isOwner = ticket.getCreatedBy().getId().equals(actor.id());
         if (!isOwner) {
             throw new TicketFlowAccessDeniedException(message);
         }
     }
 
-    public void requireTicketOwnerIfCustomer(UserEntity actor, TicketEntity ticket, String message) {
+    public void requireTicketOwnerIfCustomer(UserSnapshot actor, TicketEntity ticket, String message) {
         UserEntity ticketOwner = ticket.getCreatedBy();
-        if (actor.getRole() == Role.CUSTOMER && !ticketOwner.getId().equals(actor.getId())) {
+        if (actor.role() == Role.CUSTOMER && !ticketOwner.getId().equals(actor.id())) {
             throw new TicketFlowAccessDeniedException(message);
         }
     }
 
-    public void requireAdminOrCommentAuthor(UserEntity actor, TicketCommentEntity comment, String message) {
-        boolean isAdmin = actor.getRole() == Role.ADMIN;
-        boolean isAuthor = comment.getAuthor().getId().equals(actor.getId());
+    public void requireAdminOrCommentAuthor(UserSnapshot actor, TicketCommentEntity comment, String message) {
+        boolean isAdmin = actor.role() == Role.ADMIN;
+        boolean isAuthor = comment.getAuthor().getId().equals(actor.id());
 
         if (!isAdmin && !isAuthor) {
             throw new TicketFlowAccessDeniedException(message);
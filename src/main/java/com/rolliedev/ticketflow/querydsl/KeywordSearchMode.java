@@ -0,0 +1,6 @@
+package com.rolliedev.ticketflow.querydsl;
+
+public enum KeywordSearchMode {
+    FULL_TEXT,
+    SUBSTRING
+}
@@ -14,12 +14,18 @@ import java.util.function.Function;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class QPredicates {
 
+    private static final Predicate ALWAYS_TRUE = Expressions.asBoolean(true).isTrue();
+
     private final List<Predicate> predicates = new ArrayList<>();
 
     public static QPredicates builder() {
         return new QPredicates();
     }
 
+    public static boolean isAlwaysTrue(Predicate predicate) {
+        return predicate == null || ALWAYS_TRUE.equals(predicate);
+    }
+
     public <T> QPredicates add(T object, Function<T, Predicate> function) {
         if (object != null) {
             predicates.add(function.apply(object));
@@ -29,11 +35,11 @@ public class QPredicates {
 
     public Predicate build() {
         return Optional.ofNullable(ExpressionUtils.allOf(predicates))
-                .orElseGet(() -> Expressions.asBoolean(true).isTrue());
+                .orElse(ALWAYS_TRUE);
     }
 
     public Predicate buildOr() {
         return Optional.ofNullable(ExpressionUtils.anyOf(predicates))
-                .orElseGet(() -> Expressions.asBoolean(true).isTrue());
+                .orElse(ALWAYS_TRUE);
     }
 }
@@ -1,6 +1,10 @@
 package com.rolliedev.ticketflow.querydsl;
 
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.rolliedev.ticketflow.dto.TicketCursor;
 import com.rolliedev.ticketflow.dto.TicketSearchFilter;
 import com.rolliedev.ticketflow.entity.enums.Role;
 import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
@@ -10,20 +14,28 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 
+import static com.rolliedev.ticketflow.config.FullTextSearchFunctionContributor.FTS_MATCH;
+import static com.rolliedev.ticketflow.config.FullTextSearchFunctionContributor.FTS_RANK;
 import static com.rolliedev.ticketflow.entity.QTicketEntity.ticketEntity;
 
 @Component
 public class TicketPredicateBuilder {
 
     public Predicate buildPredicate(TicketSearchFilter filter, TicketFlowUserDetails actor) {
+        return buildPredicate(filter, actor, KeywordSearchMode.FULL_TEXT);
+    }
+
+    public Predicate buildPredicate(TicketSearchFilter filter, TicketFlowUserDetails actor, KeywordSearchMode keywordSearchMode) {
         QPredicates builder = QPredicates.builder()
                 .add(filter.status(), ticketEntity.status::eq)
                 .add(filter.priority(), ticketEntity.priority::eq)
                 .add(startOfNextDay(filter.createdBefore()), ticketEntity.createdAt::before)
                 .add(startOfDay(filter.createdAfter()), ticketEntity.createdAt::after);
 
-        if (filter.keyword() != null && !filter.keyword().isBlank()) {
-            builder.add(filter.keyword(), this::keywordPredicate);
+        if (filter.hasKeyword()) {
+            builder.add(filter.keyword(), keywordSearchMode == KeywordSearchMode.FULL_TEXT
+                    ? this::fullTextPredicate
+                    : this::keywordPredicate);
         }
         if (actor.hasAuthority(Role.CUSTOMER)) {
             builder.add(actor.getId(), ticketEntity.createdBy.id::eq);
@@ -37,6 +49,44 @@ public class TicketPredicateBuilder {
         return builder.build();
     }
 
+    public Predicate buildSeekPredicate(TicketCursor cursor) {
+        if (cursor.isFirstPage()) {
+            return null;
+        }
+
+        boolean ascending = cursor.direction().isAscending();
+        return switch (cursor.sortKey()) {
+            // row value comparison lets Postgres turn the seek into a single (created_at, id) index range scan
+            case CREATED_AT -> Expressions.booleanTemplate(
+                    "({0}, {1}) " + (ascending ? ">" : "<") + " ({2}, {3})",
+                    ticketEntity.createdAt, ticketEntity.id, cursor.lastCreatedAt(), cursor.lastId()
+            );
+            case ID -> ascending ? ticketEntity.id.gt(cursor.lastId()) : ticketEntity.id.lt(cursor.lastId());
+        };
+    }
+
+    public OrderSpecifier<?>[] buildSeekOrder(TicketCursor cursor) {
+        boolean ascending = cursor.direction().isAscending();
+        OrderSpecifier<Long> idOrder = ascending ? ticketEntity.id.asc() : ticketEntity.id.desc();
+        return switch (cursor.sortKey()) {
+            case CREATED_AT -> new OrderSpecifier<?>[]{
+                    ascending ? ticketEntity.createdAt.asc() : ticketEntity.createdAt.desc(),
+                    idOrder
+            };
+            case ID -> new OrderSpecifier<?>[]{idOrder};
+        };
+    }
+
+    public NumberExpression<Float> fullTextRank(String keyword) {
+        return Expressions.numberTemplate(Float.class, FTS_RANK + "({0}, {1}, {2})",
+                ticketEntity.title, ticketEntity.description, keyword);
+    }
+
+    private Predicate fullTextPredicate(String keyword) {
+        return Expressions.booleanTemplate(FTS_MATCH + "({0}, {1}, {2})",
+                ticketEntity.title, ticketEntity.description, keyword);
+    }
+
     private Predicate keywordPredicate(String keyword) {
         return QPredicates.builder()
                 .add(keyword, ticketEntity.title::containsIgnoreCase)
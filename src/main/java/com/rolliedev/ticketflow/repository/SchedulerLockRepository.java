@@ -0,0 +1,55 @@
+package com.rolliedev.ticketflow.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/**
+ * Row-per-job lease table shared by all nodes. Every timestamp comes from the database clock,
+ * so clock skew between nodes cannot hand the same lease to two of them.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLockRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public boolean tryLock(String name, Duration lockAtMostFor, String lockedBy) {
+        int updated = jdbcTemplate.update("""
+                        INSERT INTO scheduler_locks (name, locked_until, locked_at, locked_by)
+                        VALUES (:name, now() + make_interval(secs => :lockAtMostFor), now(), :lockedBy)
+                        ON CONFLICT (name) DO UPDATE
+                            SET locked_until = EXCLUDED.locked_until,
+                                locked_at    = EXCLUDED.locked_at,
+                                locked_by    = EXCLUDED.locked_by
+                        WHERE scheduler_locks.locked_until <= now()
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("name", name)
+                        .addValue("lockAtMostFor", seconds(lockAtMostFor))
+                        .addValue("lockedBy", lockedBy)
+        );
+        return updated == 1;
+    }
+
+    public void unlock(String name, Duration lockAtLeastFor, String lockedBy) {
+        jdbcTemplate.update("""
+                        UPDATE scheduler_locks
+                        SET locked_until = GREATEST(now(), locked_at + make_interval(secs => :lockAtLeastFor))
+                        WHERE name = :name
+                          AND locked_by = :lockedBy
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("name", name)
+                        .addValue("lockAtLeastFor", seconds(lockAtLeastFor))
+                        .addValue("lockedBy", lockedBy)
+        );
+    }
+
+    private double seconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+}
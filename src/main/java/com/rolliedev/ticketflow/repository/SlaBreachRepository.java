@@ -0,0 +1,149 @@
+package com.rolliedev.ticketflow.repository;
+
+import com.rolliedev.ticketflow.dto.SlaBreach;
+import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Flips overdue SLAs to BREACHED with one statement per chunk instead of loading and dirty-checking entities.
+ * The version column is left untouched, so concurrent edits of the same tickets do not fail optimistic locking.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SlaBreachRepository {
+
+    private static final RowMapper<SlaBreach> FIRST_RESPONSE_BREACH = (rs, rowNum) -> new SlaBreach(
+            rs.getLong("id"),
+            rs.getObject("first_response_deadline", OffsetDateTime.class).toInstant()
+    );
+    private static final RowMapper<SlaBreach> RESOLUTION_BREACH = (rs, rowNum) -> new SlaBreach(
+            rs.getLong("id"),
+            rs.getObject("resolution_deadline", OffsetDateTime.class).toInstant()
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<SlaBreach> markOverdueFirstResponsesAsBreached(Instant now, Collection<TicketStatus> excludedStatuses, int limit) {
+        return jdbcTemplate.query("""
+                        UPDATE tickets t
+                        SET response_sla_status = 'BREACHED'
+                        FROM (SELECT id
+                              FROM tickets
+                              WHERE response_sla_status = 'ON_TRACK'
+                                AND first_response_deadline < :now
+                                AND first_responded_at IS NULL
+                                AND status NOT IN (:excludedStatuses)
+                              ORDER BY first_response_deadline
+                              LIMIT :limit
+                              FOR UPDATE SKIP LOCKED) overdue
+                        WHERE t.id = overdue.id
+                        RETURNING t.id, t.first_response_deadline
+                        """,
+                parameters(now, excludedStatuses).addValue("limit", limit),
+                FIRST_RESPONSE_BREACH
+        );
+    }
+
+    public List<SlaBreach> markOverdueResolutionsAsBreached(Instant now, Collection<TicketStatus> excludedStatuses, int limit) {
+        return jdbcTemplate.query("""
+                        UPDATE tickets t
+                        SET resolution_sla_status = 'BREACHED'
+                        FROM (SELECT id
+                              FROM tickets
+                              WHERE resolution_sla_status = 'ON_TRACK'
+                                AND resolution_deadline < :now
+                                AND resolved_at IS NULL
+                                AND status NOT IN (:excludedStatuses)
+                              ORDER BY resolution_deadline
+                              LIMIT :limit
+                              FOR UPDATE SKIP LOCKED) overdue
+                        WHERE t.id = overdue.id
+                        RETURNING t.id, t.resolution_deadline
+                        """,
+                parameters(now, excludedStatuses).addValue("limit", limit),
+                RESOLUTION_BREACH
+        );
+    }
+
+    public List<SlaBreach> markFirstResponsesAsBreached(Collection<Long> ticketIds, Instant now, Collection<TicketStatus> excludedStatuses) {
+        return jdbcTemplate.query("""
+                        UPDATE tickets
+                        SET response_sla_status = 'BREACHED'
+                        WHERE id IN (:ticketIds)
+                          AND response_sla_status = 'ON_TRACK'
+                          AND first_response_deadline < :now
+                          AND first_responded_at IS NULL
+                          AND status NOT IN (:excludedStatuses)
+                        RETURNING id, first_response_deadline
+                        """,
+                parameters(now, excludedStatuses).addValue("ticketIds", ticketIds),
+                FIRST_RESPONSE_BREACH
+        );
+    }
+
+    public List<SlaBreach> markResolutionsAsBreached(Collection<Long> ticketIds, Instant now, Collection<TicketStatus> excludedStatuses) {
+        return jdbcTemplate.query("""
+                        UPDATE tickets
+                        SET resolution_sla_status = 'BREACHED'
+                        WHERE id IN (:ticketIds)
+                          AND resolution_sla_status = 'ON_TRACK'
+                          AND resolution_deadline < :now
+                          AND resolved_at IS NULL
+                          AND status NOT IN (:excludedStatuses)
+                        RETURNING id, resolution_deadline
+                        """,
+                parameters(now, excludedStatuses).addValue("ticketIds", ticketIds),
+                RESOLUTION_BREACH
+        );
+    }
+
+    public List<Instant> findPendingFirstResponseDeadlines(Instant from, Instant until) {
+        return jdbcTemplate.query("""
+                        SELECT DISTINCT first_response_deadline
+                        FROM tickets
+                        WHERE response_sla_status = 'ON_TRACK'
+                          AND first_responded_at IS NULL
+                          AND first_response_deadline >= :from
+                          AND first_response_deadline < :until
+                        """,
+                window(from, until),
+                (rs, rowNum) -> rs.getObject("first_response_deadline", OffsetDateTime.class).toInstant()
+        );
+    }
+
+    public List<Instant> findPendingResolutionDeadlines(Instant from, Instant until) {
+        return jdbcTemplate.query("""
+                        SELECT DISTINCT resolution_deadline
+                        FROM tickets
+                        WHERE resolution_sla_status = 'ON_TRACK'
+                          AND resolved_at IS NULL
+                          AND resolution_deadline >= :from
+                          AND resolution_deadline < :until
+                        """,
+                window(from, until),
+                (rs, rowNum) -> rs.getObject("resolution_deadline", OffsetDateTime.class).toInstant()
+        );
+    }
+
+    private MapSqlParameterSource window(Instant from, Instant until) {
+        return new MapSqlParameterSource()
+                .addValue("from", Timestamp.from(from))
+                .addValue("until", Timestamp.from(until));
+    }
+
+    private MapSqlParameterSource parameters(Instant now, Collection<TicketStatus> excludedStatuses) {
+        return new MapSqlParameterSource()
+                .addValue("now", Timestamp.from(now))
+                .addValue("excludedStatuses", excludedStatuses.stream().map(Enum::name).toList());
+    }
+}
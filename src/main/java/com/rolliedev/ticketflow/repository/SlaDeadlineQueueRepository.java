@@ -0,0 +1,74 @@
+package com.rolliedev.ticketflow.repository;
+
+import com.rolliedev.ticketflow.dto.DueSlaDeadline;
+import com.rolliedev.ticketflow.entity.SlaDeadlineEntity;
+import com.rolliedev.ticketflow.entity.TicketEntity;
+import com.rolliedev.ticketflow.entity.enums.SlaDeadlineType;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Durable due-work queue of SLA deadlines, one row per ticket and deadline type.
+ * Rows are written in the same transaction that sets the deadline and claimed with SKIP LOCKED,
+ * so any number of workers on any node can drain it without picking the same row twice.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SlaDeadlineQueueRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    // a new ticket cannot have queued deadlines yet, so the row is persisted instead of upserted
+    // and goes out in the same insert batch as the ticket rather than forcing an early flush
+    public void enqueueForNewTicket(TicketEntity ticket, SlaDeadlineType type, Instant dueAt) {
+        entityManager.persist(SlaDeadlineEntity.builder()
+                .id(new SlaDeadlineEntity.Key(null, type))
+                .ticket(ticket)
+                .dueAt(dueAt)
+                .build());
+    }
+
+    public void enqueue(Long ticketId, SlaDeadlineType type, Instant dueAt) {
+        jdbcTemplate.update("""
+                        INSERT INTO sla_deadlines (ticket_id, deadline_type, due_at)
+                        VALUES (:ticketId, :type, :dueAt)
+                        ON CONFLICT (ticket_id, deadline_type) DO UPDATE SET due_at = EXCLUDED.due_at
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("ticketId", ticketId)
+                        .addValue("type", type.name())
+                        .addValue("dueAt", Timestamp.from(dueAt))
+        );
+    }
+
+    public List<DueSlaDeadline> claimDue(Instant now, int limit) {
+        return jdbcTemplate.query("""
+                        DELETE FROM sla_deadlines d
+                        USING (SELECT ticket_id, deadline_type
+                               FROM sla_deadlines
+                               WHERE due_at < :now
+                               ORDER BY due_at
+                               LIMIT :limit
+                               FOR UPDATE SKIP LOCKED) due
+                        WHERE d.ticket_id = due.ticket_id
+                          AND d.deadline_type = due.deadline_type
+                        RETURNING d.ticket_id, d.deadline_type
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("now", Timestamp.from(now))
+                        .addValue("limit", limit),
+                (rs, rowNum) -> new DueSlaDeadline(
+                        rs.getLong("ticket_id"),
+                        SlaDeadlineType.valueOf(rs.getString("deadline_type"))
+                )
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.rolliedev.ticketflow.repository;
+
+import com.rolliedev.ticketflow.entity.enums.TicketEventType;
+import com.rolliedev.ticketflow.entity.payload.TicketEventPayload;
+import com.rolliedev.ticketflow.mapper.TicketEventPayloadCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class TicketEventBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TicketEventPayloadCodec payloadCodec;
+
+    public void insertSystemEvents(TicketEventType eventType, Map<Long, TicketEventPayload> payloadsByTicketId, Instant createdAt) {
+        if (payloadsByTicketId.isEmpty()) {
+            return;
+        }
+
+        // each statement bumps the ticket's event_seq together with inserting its event
+        List<Map.Entry<Long, TicketEventPayload>> events = List.copyOf(payloadsByTicketId.entrySet());
+        jdbcTemplate.batchUpdate("""
+                        WITH ticket AS (
+                            UPDATE tickets SET event_seq = event_seq + 1 WHERE id = ? RETURNING id
+                        )
+                        INSERT INTO ticket_events (ticket_id, event_type, payload, created_at)
+                        SELECT id, ?, ?::jsonb, ? FROM ticket
+                        """,
+                events,
+                events.size(),
+                (ps, event) -> {
+                    ps.setLong(1, event.getKey());
+                    ps.setString(2, eventType.name());
+                    ps.setString(3, payloadCodec.encode(eventType, event.getValue()));
+                    ps.setTimestamp(4, Timestamp.from(createdAt));
+                }
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package com.rolliedev.ticketflow.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Monthly partitions of {@code ticket_events}, named {@code ticket_events_yyyy_MM} and bounded by UTC month.
+ * Partitions are created by the {@code create_ticket_events_partition} database function, which also moves
+ * rows of that month out of the default partition.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TicketEventPartitionRepository {
+
+    private static final String PREFIX = "ticket_events_";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PREFIX + "(\\d{4})_(\\d{2})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean createPartition(YearMonth month) {
+        String created = jdbcTemplate.queryForObject(
+                "SELECT create_ticket_events_partition(?)", String.class, month.atDay(1));
+        return created != null;
+    }
+
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList("""
+                                SELECT c.relname
+                                FROM pg_inherits i
+                                JOIN pg_class c ON c.oid = i.inhrelid
+                                WHERE i.inhparent = 'ticket_events'::regclass
+                                """, String.class)
+                .stream()
+                .map(PARTITION_NAME::matcher)
+                .filter(Matcher::matches)
+                .map(name -> YearMonth.of(Integer.parseInt(name.group(1)), Integer.parseInt(name.group(2))))
+                .sorted()
+                .toList();
+    }
+
+    // plain DETACH, CONCURRENTLY is not allowed while a default partition exists; it only touches the catalog
+    @Transactional
+    public void dropPartition(YearMonth month) {
+        String partition = PREFIX + month.format(SUFFIX);
+        jdbcTemplate.execute("ALTER TABLE ticket_events DETACH PARTITION " + partition);
+        jdbcTemplate.execute("DROP TABLE " + partition);
+    }
+}
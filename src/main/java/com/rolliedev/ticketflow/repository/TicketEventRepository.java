@@ -1,13 +1,51 @@
 package com.rolliedev.ticketflow.repository;
 
 import com.rolliedev.ticketflow.entity.TicketEventEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
 public interface TicketEventRepository extends JpaRepository<TicketEventEntity, Long> {
 
+    // the created_at bound lets Postgres prune ticket_events partitions, ticket_id alone would probe every partition
+    @EntityGraph(attributePaths = {"actor"})
+    Page<TicketEventEntity> findAllByTicketIdAndCreatedAtGreaterThanEqual(Long ticketId, Instant createdAt, Pageable pageable);
+
+    // the ticket is fetched for its assignee, so streamed events can be routed to assigned queues
+    @EntityGraph(attributePaths = {"actor", "ticket"})
+    List<TicketEventEntity> findAllByIdInOrderByCreatedAtAscIdAsc(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"actor"})
+    @Query("select e from TicketEventEntity e " +
+           "where e.ticket.id = :ticketId " +
+           "and e.createdAt >= :from " +
+           "order by e.createdAt desc, e.id desc")
+    List<TicketEventEntity> findTimeline(
+            @Param("ticketId") Long ticketId,
+            @Param("from") Instant from,
+            Limit limit
+    );
+
+    // a row comparison rather than or-ed conditions, so Postgres starts the index range scan right at the cursor
     @EntityGraph(attributePaths = {"actor"})
-    Page<TicketEventEntity> findAllByTicketId(Long ticketId, Pageable pageable);
+    @Query("select e from TicketEventEntity e " +
+           "where e.ticket.id = :ticketId " +
+           "and e.createdAt >= :from " +
+           "and (e.createdAt, e.id) < (:beforeCreatedAt, :beforeId) " +
+           "order by e.createdAt desc, e.id desc")
+    List<TicketEventEntity> findTimelineBefore(
+            @Param("ticketId") Long ticketId,
+            @Param("from") Instant from,
+            @Param("beforeCreatedAt") Instant beforeCreatedAt,
+            @Param("beforeId") Long beforeId,
+            Limit limit
+    );
 }
@@ -1,13 +1,15 @@
 package com.rolliedev.ticketflow.repository;
 
 import com.querydsl.core.types.Predicate;
+import com.rolliedev.ticketflow.dto.TicketAccess;
+import com.rolliedev.ticketflow.dto.TicketRevision;
 import com.rolliedev.ticketflow.entity.TicketEntity;
-import com.rolliedev.ticketflow.entity.enums.SlaStatus;
-import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.query.Param;
@@ -15,39 +17,56 @@ import org.springframework.data.repository.query.Param;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface TicketRepository extends
         JpaRepository<TicketEntity, Long>,
-        QuerydslPredicateExecutor<TicketEntity> {
+        QuerydslPredicateExecutor<TicketEntity>,
+        TicketSearchRepository {
 
     @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
     Page<TicketEntity> findAll(Predicate predicate, Pageable pageable);
 
+    // a row comparison, so Postgres starts the idx_tickets_resolved_resolved_at_id range scan right at the cursor
     @Query("select t from TicketEntity t " +
-           "where t.responseSlaStatus = :slaStatus " +
-           "and t.firstResponseDeadline < :now " +
-           "and t.firstRespondedAt is null " +
-           "and t.status not in :excludedStatuses")
-    List<TicketEntity> findTicketsWithOverdueFirstResponseSla(
-            @Param("slaStatus") SlaStatus slaStatus,
-            @Param("now") Instant now,
-            @Param("excludedStatuses") Collection<TicketStatus> excludedStatuses
+           "where t.status = com.rolliedev.ticketflow.entity.enums.TicketStatus.RESOLVED " +
+           "and t.resolvedAt is not null " +
+           "and t.resolvedAt <= :threshold " +
+           "and (t.resolvedAt, t.id) > (:afterResolvedAt, :afterId) " +
+           "order by t.resolvedAt, t.id")
+    List<TicketEntity> findResolvedTicketsOlderThan(
+            @Param("threshold") Instant threshold,
+            @Param("afterResolvedAt") Instant afterResolvedAt,
+            @Param("afterId") Long afterId,
+            Limit limit
     );
 
-    @Query("select t from TicketEntity t " +
-           "where t.resolutionSlaStatus = :slaStatus " +
-           "and t.resolutionDeadline < :now " +
-           "and t.resolvedAt is null " +
-           "and t.status not in :excludedStatuses")
-    List<TicketEntity> findTicketsWithOverdueResolutionSla(
-            @Param("slaStatus") SlaStatus slaStatus,
-            @Param("now") Instant now,
-            @Param("excludedStatuses") Collection<TicketStatus> excludedStatuses
-    );
+    String SELECT_REVISION = "select new com.rolliedev.ticketflow.dto.TicketRevision(t.id, t.createdBy.id, t.createdAt, t.version, t.eventSeq) " +
+                             "from TicketEntity t ";
 
-    @Query("select t from TicketEntity t " +
-           "where t.status = com.rolliedev.ticketflow.entity.enums.TicketStatus.RESOLVED " +
-           "and t.resolvedAt is not null " +
-           "and t.resolvedAt <= :threshold")
-    List<TicketEntity> findResolvedTicketsOlderThan(@Param("threshold") Instant threshold);
+    String SELECT_ACCESS = "select new com.rolliedev.ticketflow.dto.TicketAccess(t.id, t.createdBy.id, t.createdAt) " +
+                           "from TicketEntity t ";
+
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
+    Optional<TicketEntity> findWithUsersById(Long id);
+
+    @EntityGraph(attributePaths = {"createdBy", "assignedTo"})
+    Optional<TicketEntity> findWithUsersByIdAndCreatedById(Long id, Integer createdById);
+
+    @Query(SELECT_REVISION + "where t.id = :id")
+    Optional<TicketRevision> findRevisionById(@Param("id") Long id);
+
+    @Query(SELECT_REVISION + "where t.id = :id and t.createdBy.id = :createdById")
+    Optional<TicketRevision> findRevisionByIdAndCreatedById(@Param("id") Long id, @Param("createdById") Integer createdById);
+
+    // increments in the database, so concurrent event writers queue up on the ticket row instead of losing a bump
+    @Modifying
+    @Query("update TicketEntity t set t.eventSeq = t.eventSeq + :count where t.id in :ids")
+    void incrementEventSeq(@Param("ids") Collection<Long> ids, @Param("count") long count);
+
+    @Query(SELECT_ACCESS + "where t.id = :id")
+    Optional<TicketAccess> findAccessById(@Param("id") Long id);
+
+    @Query(SELECT_ACCESS + "where t.id = :id and t.createdBy.id = :createdById")
+    Optional<TicketAccess> findAccessByIdAndCreatedById(@Param("id") Long id, @Param("createdById") Integer createdById);
 }
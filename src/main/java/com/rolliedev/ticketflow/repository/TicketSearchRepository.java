@@ -0,0 +1,22 @@
+package com.rolliedev.ticketflow.repository;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.rolliedev.ticketflow.dto.TicketListItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public interface TicketSearchRepository {
+
+    Page<TicketListItem> findListItems(Predicate predicate, NumberExpression<Float> rank, Pageable pageable);
+
+    Slice<TicketListItem> findListItemSlice(Predicate predicate, NumberExpression<Float> rank, Pageable pageable);
+
+    long estimateCount(Predicate predicate);
+
+    List<TicketListItem> findFirstListItems(Predicate predicate, int limit, OrderSpecifier<?>... orders);
+}
@@ -0,0 +1,151 @@
+package com.rolliedev.ticketflow.repository;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.PathBuilderFactory;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.rolliedev.ticketflow.dto.TicketListItem;
+import com.rolliedev.ticketflow.dto.UserSummary;
+import com.rolliedev.ticketflow.entity.QUserEntity;
+import com.rolliedev.ticketflow.entity.TicketEntity;
+import com.rolliedev.ticketflow.querydsl.QPredicates;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.support.Querydsl;
+import org.springframework.data.support.PageableExecutionUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static com.rolliedev.ticketflow.entity.QTicketEntity.ticketEntity;
+
+public class TicketSearchRepositoryImpl implements TicketSearchRepository {
+
+    private static final UnaryOperator<String> EXPLAIN = sql -> "EXPLAIN (FORMAT JSON) " + sql;
+    private static final JsonMapper PLAN_READER = JsonMapper.builder().build();
+
+    private static final QUserEntity creator = new QUserEntity("creator");
+    private static final QUserEntity assignee = new QUserEntity("assignee");
+
+    // selects only the list columns, so no description, no managed entities and no dirty-checking snapshots
+    private static final ConstructorExpression<TicketListItem> LIST_ITEM = Projections.constructor(TicketListItem.class,
+            ticketEntity.id,
+            ticketEntity.title,
+            ticketEntity.status,
+            ticketEntity.priority,
+            Projections.constructor(UserSummary.class, creator.id, creator.fullName, creator.email),
+            Projections.constructor(UserSummary.class, assignee.id, assignee.fullName, assignee.email).skipNulls(),
+            ticketEntity.createdAt,
+            ticketEntity.modifiedAt,
+            ticketEntity.resolvedAt,
+            ticketEntity.firstRespondedAt,
+            ticketEntity.firstResponseDeadline,
+            ticketEntity.resolutionDeadline,
+            ticketEntity.responseSlaStatus,
+            ticketEntity.resolutionSlaStatus
+    );
+
+    private final EntityManager entityManager;
+    private final JPAQueryFactory queryFactory;
+    private final Querydsl querydsl;
+
+    public TicketSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.queryFactory = new JPAQueryFactory(entityManager);
+        this.querydsl = new Querydsl(entityManager, new PathBuilderFactory().create(TicketEntity.class));
+    }
+
+    @Override
+    public Page<TicketListItem> findListItems(Predicate predicate, NumberExpression<Float> rank, Pageable pageable) {
+        JPAQuery<TicketListItem> query = selectListItems(predicate);
+        applyOrder(query, rank, pageable);
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset())
+                    .limit(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(query.fetch(), pageable, () -> countBy(predicate));
+    }
+
+    @Override
+    public Slice<TicketListItem> findListItemSlice(Predicate predicate, NumberExpression<Float> rank, Pageable pageable) {
+        JPAQuery<TicketListItem> query = selectListItems(predicate);
+        applyOrder(query, rank, pageable);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.fetch(), pageable, false);
+        }
+
+        // one extra row is enough to know whether a next page exists
+        List<TicketListItem> tickets = query.offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+        boolean hasNext = tickets.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? tickets.subList(0, pageable.getPageSize()) : tickets, pageable, hasNext);
+    }
+
+    @Override
+    public long estimateCount(Predicate predicate) {
+        if (QPredicates.isAlwaysTrue(predicate)) {
+            // planner statistics, reltuples is -1 until the table has been analyzed
+            Number reltuples = (Number) entityManager
+                    .createNativeQuery("SELECT reltuples FROM pg_class WHERE oid = 'tickets'::regclass")
+                    .getSingleResult();
+            if (reltuples.longValue() >= 0) {
+                return reltuples.longValue();
+            }
+        }
+        // the planner's row estimate for the generated SQL, which costs a plan but never touches the matching rows;
+        // a session sharing the connection prefixes that SQL with EXPLAIN, and the plan comes back as the one string column
+        Session session = entityManager.unwrap(Session.class);
+        try (Session explainSession = session.sessionWithOptions().connection().statementInspector(EXPLAIN).openSession()) {
+            List<String> plan = new JPAQuery<>(explainSession)
+                    .select(ticketEntity.id.stringValue())
+                    .from(ticketEntity)
+                    .where(predicate)
+                    .fetch();
+            return PLAN_READER.readTree(plan.getFirst()).path(0).path("Plan").path("Plan Rows").asLong(0);
+        }
+    }
+
+    @Override
+    public List<TicketListItem> findFirstListItems(Predicate predicate, int limit, OrderSpecifier<?>... orders) {
+        return selectListItems(predicate)
+                .orderBy(orders)
+                .limit(limit)
+                .fetch();
+    }
+
+    private void applyOrder(JPAQuery<TicketListItem> query, NumberExpression<Float> rank, Pageable pageable) {
+        // an explicit sort requested by the client wins over relevance
+        if (pageable.getSort().isSorted()) {
+            querydsl.applySorting(pageable.getSort(), query);
+        } else if (rank != null) {
+            query.orderBy(rank.desc(), ticketEntity.id.desc());
+        }
+    }
+
+    private JPAQuery<TicketListItem> selectListItems(Predicate predicate) {
+        return queryFactory.select(LIST_ITEM)
+                .from(ticketEntity)
+                .join(ticketEntity.createdBy, creator)
+                .leftJoin(ticketEntity.assignedTo, assignee)
+                .where(predicate);
+    }
+
+    private long countBy(Predicate predicate) {
+        Long count = queryFactory.select(ticketEntity.count())
+                .from(ticketEntity)
+                .where(predicate)
+                .fetchOne();
+        return count == null ? 0L : count;
+    }
+}
@@ -1,14 +1,26 @@
 package com.rolliedev.ticketflow.repository;
 
+import com.rolliedev.ticketflow.config.CacheConfiguration;
+import com.rolliedev.ticketflow.dto.UserSnapshot;
 import com.rolliedev.ticketflow.entity.UserEntity;
 import com.rolliedev.ticketflow.entity.enums.Role;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<UserEntity, Integer> {
 
+    // every ticket and comment mutation resolves its actor by id, only this immutable snapshot is cached
+    @Cacheable(cacheNames = CacheConfiguration.USERS_CACHE, unless = "#result == null")
+    @Query("select new com.rolliedev.ticketflow.dto.UserSnapshot(u.id, u.fullName, u.email, u.role) " +
+           "from UserEntity u " +
+           "where u.id = :id")
+    Optional<UserSnapshot> findSnapshotById(@Param("id") Integer id);
+
     Optional<UserEntity> findByEmail(String email);
 
     List<UserEntity> findAllByRoleIn(List<Role> roles);
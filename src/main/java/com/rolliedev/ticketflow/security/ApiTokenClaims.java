@@ -0,0 +1,14 @@
+package com.rolliedev.ticketflow.security;
+
+import com.rolliedev.ticketflow.entity.enums.Role;
+
+import java.time.Instant;
+
+public record ApiTokenClaims(String id,
+                             Integer userId,
+                             String email,
+                             String fullName,
+                             Role role,
+                             Instant issuedAt,
+                             Instant expiresAt) {
+}
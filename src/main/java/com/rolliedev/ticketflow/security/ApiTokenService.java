@@ -0,0 +1,142 @@
+package com.rolliedev.ticketflow.security;
+
+import com.rolliedev.ticketflow.config.AuthProperties;
+import com.rolliedev.ticketflow.dto.ApiTokenResponse;
+import com.rolliedev.ticketflow.entity.enums.Role;
+import com.rolliedev.ticketflow.service.UserChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Issues and verifies opaque, HMAC-signed API tokens of the form {@code base64url(claims).base64url(signature)}.
+ * <p>
+ * The claims carry everything {@link TicketFlowUserDetails} needs, so a token is verified without a database
+ * round trip or a password hash. Revoked tokens and users changed after a token was issued are tracked in memory
+ * until the affected tokens would have expired anyway.
+ */
+@Slf4j
+@Component
+public class ApiTokenService {
+
+    public static final String TOKEN_TYPE = "Bearer";
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec signingKey;
+    private final Duration ttl;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<String, Instant> changedUsers = new ConcurrentHashMap<>();
+
+    public ApiTokenService(AuthProperties authProperties, ObjectMapper objectMapper, Clock clock) {
+        this.signingKey = new SecretKeySpec(signingKey(authProperties.tokenSecret()), SIGNATURE_ALGORITHM);
+        this.ttl = authProperties.tokenTtl();
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    public ApiTokenResponse issue(TicketFlowUserDetails user) {
+        Instant now = clock.instant();
+        Role role = Role.valueOf(user.getAuthorities().iterator().next().getAuthority());
+        ApiTokenClaims claims = new ApiTokenClaims(UUID.randomUUID().toString(), user.getId(), user.getEmail(),
+                user.getFullName(), role, now, now.plus(ttl));
+
+        String payload = ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+        String token = payload + "." + ENCODER.encodeToString(sign(payload));
+        return new ApiTokenResponse(token, TOKEN_TYPE, claims.expiresAt());
+    }
+
+    public Optional<TicketFlowUserDetails> authenticate(String token) {
+        return verify(token)
+                .map(claims -> new TicketFlowUserDetails(claims.userId(), claims.fullName(), claims.email(), null,
+                        Collections.singleton(claims.role())));
+    }
+
+    public void revoke(String token) {
+        verify(token).ifPresent(claims -> revokedTokens.put(claims.id(), claims.expiresAt()));
+        purgeExpired();
+    }
+
+    // tokens issued before the change still carry the old role or email, so they stop being accepted
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        changedUsers.put(event.email(), clock.instant());
+        purgeExpired();
+    }
+
+    private Optional<ApiTokenClaims> verify(String token) {
+        int separator = token.indexOf('.');
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+
+        String payload = token.substring(0, separator);
+        ApiTokenClaims claims;
+        try {
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(signature, sign(payload))) {
+                return Optional.empty();
+            }
+            claims = objectMapper.readValue(DECODER.decode(payload), ApiTokenClaims.class);
+        } catch (IllegalArgumentException | JacksonException e) {
+            log.debug("Rejected malformed API token: {}", e.getMessage());
+            return Optional.empty();
+        }
+
+        Instant now = clock.instant();
+        Instant userChangedAt = changedUsers.get(claims.email());
+        if (!claims.expiresAt().isAfter(now)
+                || revokedTokens.containsKey(claims.id())
+                || (userChangedAt != null && claims.issuedAt().isBefore(userChangedAt))) {
+            return Optional.empty();
+        }
+        return Optional.of(claims);
+    }
+
+    private void purgeExpired() {
+        Instant now = clock.instant();
+        revokedTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        changedUsers.values().removeIf(changedAt -> !changedAt.plus(ttl).isAfter(now));
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(signingKey);
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign API token", e);
+        }
+    }
+
+    private static byte[] signingKey(String secret) {
+        if (secret != null && !secret.isBlank()) {
+            return Base64.getDecoder().decode(secret);
+        }
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+}
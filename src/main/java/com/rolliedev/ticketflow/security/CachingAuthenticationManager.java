@@ -0,0 +1,43 @@
+package com.rolliedev.ticketflow.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class CachingAuthenticationManager implements AuthenticationManager {
+
+    private final AuthenticationManager delegate;
+    private final CredentialsCache credentialsCache;
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!(authentication.getCredentials() instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+
+        String username = authentication.getName();
+        Optional<Authentication> cached = credentialsCache.get(username, password);
+        if (cached.isPresent()) {
+            // a fresh token per request, so request details are never shared between calls
+            return withoutCredentials(cached.get(), authentication.getDetails());
+        }
+
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            credentialsCache.put(username, password, withoutCredentials(result, null));
+        }
+        return result;
+    }
+
+    private static Authentication withoutCredentials(Authentication authentication, Object details) {
+        UsernamePasswordAuthenticationToken token = UsernamePasswordAuthenticationToken.authenticated(
+                authentication.getPrincipal(), null, authentication.getAuthorities());
+        token.setDetails(details);
+        return token;
+    }
+}
@@ -0,0 +1,94 @@
+package com.rolliedev.ticketflow.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.rolliedev.ticketflow.config.AuthProperties;
+import com.rolliedev.ticketflow.service.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Optional;
+
+/**
+ * Bounded, expiring cache of successfully verified username/password pairs, so repeated HTTP Basic
+ * calls skip the user lookup and the password hash check.
+ * <p>
+ * Entries are keyed by username and hold an HMAC of the credentials under a random per-process key, raw passwords
+ * are never held. The digest is computed before the cache is touched, so lookups never wait on each other.
+ */
+@Component
+public class CredentialsCache {
+
+    private static final String DIGEST_ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec digestKey;
+    private final Cache<String, CachedAuthentication> entries;
+
+    public CredentialsCache(AuthProperties authProperties, MeterRegistry meterRegistry, Ticker ticker) {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.digestKey = new SecretKeySpec(key, DIGEST_ALGORITHM);
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(authProperties.credentialsCacheMaxSize())
+                .expireAfterWrite(authProperties.credentialsCacheTtl())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "credentials");
+    }
+
+    public Optional<Authentication> get(String username, String password) {
+        byte[] digest = digest(username, password);
+        return Optional.ofNullable(entries.getIfPresent(username))
+                .filter(cached -> MessageDigest.isEqual(cached.digest(), digest))
+                .map(CachedAuthentication::authentication);
+    }
+
+    public void put(String username, String password, Authentication authentication) {
+        entries.put(username, new CachedAuthentication(digest(username, password), authentication));
+    }
+
+    public void evict(String username) {
+        entries.invalidate(username);
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    public long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    // after commit, so a concurrent login cannot re-cache the old credentials before the change is visible
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.email());
+    }
+
+    private byte[] digest(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(DIGEST_ALGORITHM);
+            mac.init(digestKey);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to digest credentials", e);
+        }
+    }
+
+    private record CachedAuthentication(byte[] digest, Authentication authentication) {
+    }
+}
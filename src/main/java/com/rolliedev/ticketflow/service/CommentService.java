@@ -1,6 +1,7 @@
 package com.rolliedev.ticketflow.service;
 
 import com.rolliedev.ticketflow.dto.CommentResponse;
+import com.rolliedev.ticketflow.dto.UserSnapshot;
 import com.rolliedev.ticketflow.entity.TicketCommentEntity;
 import com.rolliedev.ticketflow.entity.TicketEntity;
 import com.rolliedev.ticketflow.entity.UserEntity;
@@ -13,7 +14,6 @@ import com.rolliedev.ticketflow.mapper.CommentResponseMapper;
 import com.rolliedev.ticketflow.policy.AccessPolicy;
 import com.rolliedev.ticketflow.repository.TicketCommentRepository;
 import com.rolliedev.ticketflow.repository.TicketRepository;
-import com.rolliedev.ticketflow.repository.UserRepository;
 import com.rolliedev.ticketflow.service.sla.SlaService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -27,7 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentService {
 
     private final TicketRepository ticketRepository;
-    private final UserRepository userRepository;
+    private final UserReferences userReferences;
     private final TicketCommentRepository commentRepository;
     private final TicketEventService eventService;
     private final CommentResponseMapper commentMapper;
@@ -46,24 +46,25 @@ public class CommentService {
             throw new BusinessRuleViolationException("Closed tickets cannot be modified");
         }
 
-        UserEntity author = getUser(authorId);
+        UserSnapshot author = getUser(authorId);
+        UserEntity authorReference = userReferences.getReference(authorId);
         accessPolicy.requireTicketOwnerIfCustomer(author, ticket, "Customers cannot add comments to tickets they did not create");
 
         TicketCommentEntity comment = TicketCommentEntity.builder()
                 .ticket(ticket)
-                .author(author)
+                .author(authorReference)
                 .body(text)
                 .build();
         TicketCommentEntity savedComment = commentRepository.save(comment);
 
-        eventService.recordCommentedEvent(ticket, author, savedComment.getId());
+        eventService.recordCommentedEvent(ticket, authorReference, savedComment.getId());
 
         if (countsAsFirstResponse(ticket, author)) {
             ticket.setFirstRespondedAt(savedComment.getCreatedAt());
-            slaService.evaluateFirstResponse(ticket, author);
+            slaService.evaluateFirstResponse(ticket, authorReference);
         }
 
-        if (author.getRole() == Role.CUSTOMER) {
+        if (author.role() == Role.CUSTOMER) {
             if (ticket.getStatus() == TicketStatus.WAITING_CUSTOMER || ticket.getStatus() == TicketStatus.RESOLVED) {
                 TicketStatus currentStatus = ticket.getStatus();
 
@@ -76,10 +77,10 @@ public class CommentService {
                 }
 
                 ticket.setStatus(TicketStatus.IN_PROGRESS);
-                eventService.recordStatusChangedEvent(ticket, author, currentStatus, TicketStatus.IN_PROGRESS);
+                eventService.recordStatusChangedEvent(ticket, authorReference, currentStatus, TicketStatus.IN_PROGRESS);
             }
         }
-        return commentMapper.map(savedComment);
+        return commentMapper.map(savedComment, author);
     }
 
     @Transactional
@@ -95,11 +96,12 @@ public class CommentService {
             throw new BusinessRuleViolationException("Closed tickets cannot be modified");
         }
 
-        UserEntity actor = getUser(actorId);
+        UserSnapshot actor = getUser(actorId);
+        UserEntity actorReference = userReferences.getReference(actorId);
         accessPolicy.requireAdminOrCommentAuthor(actor, comment, "Only admins or the comment author can delete a comment");
 
         commentRepository.delete(comment);
-        eventService.recordCommentDeletedEvent(ticket, actor, commentId);
+        eventService.recordCommentDeletedEvent(ticket, actorReference, commentId);
     }
 
     private TicketEntity getTicket(Long ticketId) {
@@ -107,13 +109,13 @@ public class CommentService {
                 .orElseThrow(() -> ResourceNotFoundException.ticket(ticketId));
     }
 
-    private UserEntity getUser(Integer userId) {
-        return userRepository.findById(userId)
+    private UserSnapshot getUser(Integer userId) {
+        return userReferences.findById(userId)
                 .orElseThrow(() -> ResourceNotFoundException.user(userId));
     }
 
-    private boolean countsAsFirstResponse(TicketEntity ticket, UserEntity author) {
+    private boolean countsAsFirstResponse(TicketEntity ticket, UserSnapshot author) {
         return ticket.getFirstRespondedAt() == null &&
-               (author.getRole() == Role.ADMIN || author.getRole() == Role.AGENT);
+               (author.role() == Role.ADMIN || author.role() == Role.AGENT);
     }
 }
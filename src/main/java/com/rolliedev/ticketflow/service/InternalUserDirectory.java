@@ -0,0 +1,67 @@
+package com.rolliedev.ticketflow.service;
+
+import com.rolliedev.ticketflow.dto.UserResponse;
+import com.rolliedev.ticketflow.entity.enums.Role;
+import com.rolliedev.ticketflow.mapper.UserResponseMapper;
+import com.rolliedev.ticketflow.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Shared, immutable snapshot of all agents and admins, used by every internal ticket page instead of
+ * querying the users table per render. Reloaded when an internal user changes and periodically, so
+ * changes made by other nodes show up within one refresh interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InternalUserDirectory {
+
+    private static final List<Role> INTERNAL_ROLES = List.of(Role.ADMIN, Role.AGENT);
+
+    private final UserRepository userRepository;
+    private final UserResponseMapper userResponseMapper;
+
+    private volatile List<UserResponse> snapshot;
+
+    public List<UserResponse> users() {
+        List<UserResponse> current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    // loads run under the lock, so a slower, older load can never replace a newer snapshot
+    @Scheduled(fixedDelayString = "${app.user.directory-refresh-ms:60000}")
+    public synchronized void refresh() {
+        List<UserResponse> users = userRepository.findAllByRoleIn(INTERNAL_ROLES).stream()
+                .map(userResponseMapper::map)
+                .sorted(Comparator.comparing(UserResponse::id))
+                .toList();
+
+        // an unchanged directory keeps the instance every page already shares
+        if (users.equals(snapshot)) {
+            return;
+        }
+        snapshot = users;
+        log.debug("Internal user directory refreshed with {} user(s)", users.size());
+    }
+
+    // a user leaving an internal role is still in the current snapshot, so both sides are checked
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        List<UserResponse> current = snapshot;
+        boolean listed = current != null && current.stream().anyMatch(user -> user.id().equals(event.id()));
+        if (INTERNAL_ROLES.contains(event.role()) || listed) {
+            refresh();
+        }
+    }
+}
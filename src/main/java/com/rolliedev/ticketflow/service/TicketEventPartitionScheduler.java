@@ -0,0 +1,54 @@
+package com.rolliedev.ticketflow.service;
+
+import com.rolliedev.ticketflow.aop.SchedulerLock;
+import com.rolliedev.ticketflow.config.TicketProperties;
+import com.rolliedev.ticketflow.repository.TicketEventPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketEventPartitionScheduler {
+
+    private final TicketEventPartitionRepository partitionRepository;
+    private final TicketProperties ticketProperties;
+    private final Clock clock;
+
+    // also runs at startup, so the current month never falls into the default partition
+    @Scheduled(
+            initialDelay = 0,
+            fixedDelayString = "${app.ticket.event-partition-check-delay-hours:24}",
+            timeUnit = TimeUnit.HOURS
+    )
+    @SchedulerLock(name = "ticket-event-partitions", lockAtMostFor = "PT10M", lockAtLeastFor = "PT1M")
+    public void maintainPartitions() {
+        YearMonth currentMonth = YearMonth.from(clock.instant().atZone(ZoneOffset.UTC));
+
+        for (int i = 0; i <= ticketProperties.eventPartitionsAhead(); i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            if (partitionRepository.createPartition(month)) {
+                log.info("Created ticket_events partition for {}", month);
+            }
+        }
+
+        Integer retentionMonths = ticketProperties.eventRetentionMonths();
+        if (retentionMonths == null) {
+            return;
+        }
+        YearMonth oldestKept = currentMonth.minusMonths(retentionMonths);
+        for (YearMonth month : partitionRepository.findPartitionMonths()) {
+            if (month.isBefore(oldestKept)) {
+                partitionRepository.dropPartition(month);
+                log.info("Dropped ticket_events partition for {}", month);
+            }
+        }
+    }
+}
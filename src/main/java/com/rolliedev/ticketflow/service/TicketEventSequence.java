@@ -0,0 +1,88 @@
+package com.rolliedev.ticketflow.service;
+
+import com.rolliedev.ticketflow.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Collects the event_seq bumps of the current transaction and writes them right before commit,
+ * one UPDATE per distinct bump count instead of one per event. Bumping per event would flush the session
+ * and hit the ticket row for every single event, which breaks up the insert batches of a unit of work.
+ * Reads that compare the sequence inside the same transaction call {@link #apply()} first.
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketEventSequence {
+
+    private final TicketRepository ticketRepository;
+
+    public void increment(Long ticketId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ticketRepository.incrementEventSeq(List.of(ticketId), 1);
+            return;
+        }
+        pendingBumps().orElseGet(this::registerPendingBumps).add(ticketId);
+    }
+
+    public void apply() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingBumps().ifPresent(PendingBumps::apply);
+        }
+    }
+
+    // kept on the synchronization itself, so a suspended outer transaction keeps its own bumps
+    private Optional<PendingBumps> pendingBumps() {
+        return TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(PendingBumps.class::isInstance)
+                .map(PendingBumps.class::cast)
+                .filter(bumps -> bumps.owner == this)
+                .findFirst();
+    }
+
+    private PendingBumps registerPendingBumps() {
+        PendingBumps bumps = new PendingBumps(this);
+        TransactionSynchronizationManager.registerSynchronization(bumps);
+        return bumps;
+    }
+
+    private static final class PendingBumps implements TransactionSynchronization {
+
+        private final TicketEventSequence owner;
+        private final Map<Long, Integer> countsByTicketId = new HashMap<>();
+
+        private PendingBumps(TicketEventSequence owner) {
+            this.owner = owner;
+        }
+
+        private void add(Long ticketId) {
+            countsByTicketId.merge(ticketId, 1, Integer::sum);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            apply();
+        }
+
+        private void apply() {
+            if (countsByTicketId.isEmpty()) {
+                return;
+            }
+
+            // the same flush commit would do anyway, so the tickets created in this transaction exist before the update
+            owner.ticketRepository.flush();
+            Map<Integer, List<Long>> ticketIdsByCount = new TreeMap<>();
+            countsByTicketId.forEach((ticketId, count) -> ticketIdsByCount.computeIfAbsent(count, key -> new ArrayList<>()).add(ticketId));
+            ticketIdsByCount.forEach((count, ticketIds) -> owner.ticketRepository.incrementEventSeq(ticketIds, count));
+            countsByTicketId.clear();
+        }
+    }
+}
@@ -1,84 +1,132 @@
 package com.rolliedev.ticketflow.service;
 
+import com.rolliedev.ticketflow.dto.CursorPageResponse;
+import com.rolliedev.ticketflow.dto.SlaBreach;
+import com.rolliedev.ticketflow.dto.StreamedTicketEvent;
 import com.rolliedev.ticketflow.dto.TicketEventResponse;
+import com.rolliedev.ticketflow.dto.TimelineCursor;
 import com.rolliedev.ticketflow.entity.TicketEntity;
 import com.rolliedev.ticketflow.entity.TicketEventEntity;
 import com.rolliedev.ticketflow.entity.UserEntity;
 import com.rolliedev.ticketflow.entity.enums.TicketEventType;
 import com.rolliedev.ticketflow.entity.enums.TicketPriority;
 import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+import com.rolliedev.ticketflow.entity.payload.CommentPayload;
+import com.rolliedev.ticketflow.entity.payload.FirstResponseSlaBreachedPayload;
+import com.rolliedev.ticketflow.entity.payload.PriorityChangedPayload;
+import com.rolliedev.ticketflow.entity.payload.ResolutionSlaBreachedPayload;
+import com.rolliedev.ticketflow.entity.payload.StatusChangedPayload;
+import com.rolliedev.ticketflow.entity.payload.TicketAssignedPayload;
+import com.rolliedev.ticketflow.entity.payload.TicketCreatedPayload;
+import com.rolliedev.ticketflow.entity.payload.TicketEventPayload;
+import com.rolliedev.ticketflow.mapper.TicketEventPayloadCodec;
 import com.rolliedev.ticketflow.mapper.TicketEventResponseMapper;
+import com.rolliedev.ticketflow.repository.TicketEventBatchRepository;
 import com.rolliedev.ticketflow.repository.TicketEventRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class TicketEventService {
 
+    private static final Duration CLOCK_SKEW_SLACK = Duration.ofDays(1);
+
     private final TicketEventRepository eventRepository;
+    private final TicketEventBatchRepository eventBatchRepository;
+    private final TicketEventSequence eventSequence;
     private final TicketEventResponseMapper eventMapper;
+    private final TicketEventPayloadCodec payloadCodec;
 
-    public Page<TicketEventResponse> getTimeline(Long ticketId, Pageable pageable) {
-        return eventRepository.findAllByTicketId(ticketId, pageable)
+    // events are never older than their ticket, the slack only absorbs clock differences between nodes
+    public Page<TicketEventResponse> getTimeline(Long ticketId, Instant ticketCreatedAt, Pageable pageable) {
+        return eventRepository.findAllByTicketIdAndCreatedAtGreaterThanEqual(ticketId, ticketCreatedAt.minus(CLOCK_SKEW_SLACK), pageable)
                 .map(eventMapper::map);
     }
 
-    @Transactional(propagation = Propagation.MANDATORY)
-    public void recordFirstResponseSlaBreachedEvent(TicketEntity ticket) {
-        recordFirstResponseSlaBreachedEvent(ticket, null);
+    public CursorPageResponse<TicketEventResponse> getTimeline(Long ticketId, Instant ticketCreatedAt, TimelineCursor cursor, int size) {
+        Instant from = ticketCreatedAt.minus(CLOCK_SKEW_SLACK);
+        // one extra row tells whether there is a next page without running a count query
+        Limit limit = Limit.of(size + 1);
+        List<TicketEventEntity> events = cursor.isFirstPage()
+                ? eventRepository.findTimeline(ticketId, from, limit)
+                : eventRepository.findTimelineBefore(ticketId, from, cursor.lastCreatedAt(), cursor.lastId(), limit);
+        boolean hasNext = events.size() > size;
+        List<TicketEventEntity> pageContent = hasNext ? events.subList(0, size) : events;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TicketEventEntity last = pageContent.getLast();
+            nextCursor = new TimelineCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorPageResponse.of(pageContent.stream().map(eventMapper::map).toList(), size, nextCursor);
+    }
+
+    // not read-only on purpose: the notification arrives on a listener thread right after the commit, with no user
+    // to keep it sticky, and a lagging replica would not have the event yet, so it would silently never be streamed
+    @Transactional
+    public List<StreamedTicketEvent> findStreamedEvents(Collection<Long> eventIds) {
+        return eventRepository.findAllByIdInOrderByCreatedAtAscIdAsc(eventIds).stream()
+                .map(event -> new StreamedTicketEvent(
+                        event.getTicket().getAssignedTo() == null ? null : event.getTicket().getAssignedTo().getId(),
+                        eventMapper.map(event)))
+                .toList();
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
     public void recordFirstResponseSlaBreachedEvent(TicketEntity ticket, UserEntity actor) {
-        saveTicketEvent(ticket, actor, TicketEventType.FIRST_RESPONSE_SLA_BREACHED, Map.of(
-                "firstResponseDeadline", ticket.getFirstResponseDeadline().toString()
-        ));
+        saveTicketEvent(ticket, actor, TicketEventType.FIRST_RESPONSE_SLA_BREACHED,
+                new FirstResponseSlaBreachedPayload(ticket.getFirstResponseDeadline()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordResolutionSlaBreachedEvent(TicketEntity ticket, UserEntity actor) {
+        saveTicketEvent(ticket, actor, TicketEventType.RESOLUTION_SLA_BREACHED,
+                new ResolutionSlaBreachedPayload(ticket.getResolutionDeadline()));
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
-    public void recordResolutionSlaBreachedEvent(TicketEntity ticket) {
-        recordResolutionSlaBreachedEvent(ticket, null);
+    public void recordFirstResponseSlaBreachedEvents(List<SlaBreach> breaches, Instant breachedAt) {
+        eventBatchRepository.insertSystemEvents(TicketEventType.FIRST_RESPONSE_SLA_BREACHED,
+                breachPayloads(breaches, FirstResponseSlaBreachedPayload::new), breachedAt);
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
-    public void recordResolutionSlaBreachedEvent(TicketEntity ticket, UserEntity actor) {
-        saveTicketEvent(ticket, actor, TicketEventType.RESOLUTION_SLA_BREACHED, Map.of(
-                "resolutionDeadline", ticket.getResolutionDeadline().toString()
-        ));
+    public void recordResolutionSlaBreachedEvents(List<SlaBreach> breaches, Instant breachedAt) {
+        eventBatchRepository.insertSystemEvents(TicketEventType.RESOLUTION_SLA_BREACHED,
+                breachPayloads(breaches, ResolutionSlaBreachedPayload::new), breachedAt);
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
     public void recordCreatedEvent(TicketEntity ticket, UserEntity actor) {
-        saveTicketEvent(ticket, actor, TicketEventType.CREATED, Map.of(
-                "ticketId", ticket.getId().toString(),
-                "createdById", actor.getId().toString()
-        ));
+        saveTicketEvent(ticket, actor, TicketEventType.CREATED, new TicketCreatedPayload(ticket.getId(), actor.getId()));
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
     public void recordAssignedEvent(TicketEntity ticket, UserEntity actor, UserEntity previousAssignee, UserEntity newAssignee) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("previousAssigneeId", previousAssignee == null ? null : previousAssignee.getId().toString());
-        payload.put("assigneeId", newAssignee.getId().toString());
-
-        saveTicketEvent(ticket, actor, TicketEventType.ASSIGNED, payload);
+        saveTicketEvent(ticket, actor, TicketEventType.ASSIGNED, new TicketAssignedPayload(
+                previousAssignee == null ? null : previousAssignee.getId(),
+                newAssignee.getId()
+        ));
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
     public void recordPriorityChangedEvent(TicketEntity ticket, UserEntity actor, TicketPriority oldPriority, TicketPriority newPriority) {
-        saveTicketEvent(ticket, actor, TicketEventType.PRIORITY_CHANGED, Map.of(
-                "oldPriority", oldPriority.name(),
-                "newPriority", newPriority.name()
-        ));
+        saveTicketEvent(ticket, actor, TicketEventType.PRIORITY_CHANGED, new PriorityChangedPayload(oldPriority, newPriority));
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
@@ -88,33 +136,42 @@ public class TicketEventService {
 
     @Transactional(propagation = Propagation.MANDATORY)
     public void recordStatusChangedEvent(TicketEntity ticket, UserEntity actor, TicketStatus oldStatus, TicketStatus newStatus) {
-        saveTicketEvent(ticket, actor, TicketEventType.STATUS_CHANGED, Map.of(
-                "oldStatus", oldStatus.name(),
-                "newStatus", newStatus.name()
-        ));
+        saveTicketEvent(ticket, actor, TicketEventType.STATUS_CHANGED, new StatusChangedPayload(oldStatus, newStatus));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChangedEvents(List<Long> ticketIds, TicketStatus oldStatus, TicketStatus newStatus, Instant changedAt) {
+        // records are immutable, every ticket of the chunk shares the one payload
+        StatusChangedPayload payload = new StatusChangedPayload(oldStatus, newStatus);
+        Map<Long, TicketEventPayload> payloads = new LinkedHashMap<>();
+        ticketIds.forEach(ticketId -> payloads.put(ticketId, payload));
+        eventBatchRepository.insertSystemEvents(TicketEventType.STATUS_CHANGED, payloads, changedAt);
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
     public void recordCommentedEvent(TicketEntity ticket, UserEntity actor, Long commentId) {
-        saveTicketEvent(ticket, actor, TicketEventType.COMMENTED, Map.of(
-                "commentId", commentId.toString()
-        ));
+        saveTicketEvent(ticket, actor, TicketEventType.COMMENTED, new CommentPayload(commentId));
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
     public void recordCommentDeletedEvent(TicketEntity ticket, UserEntity actor, Long commentId) {
-        saveTicketEvent(ticket, actor, TicketEventType.COMMENT_DELETED, Map.of(
-                "commentId", commentId.toString()
-        ));
+        saveTicketEvent(ticket, actor, TicketEventType.COMMENT_DELETED, new CommentPayload(commentId));
+    }
+
+    private Map<Long, TicketEventPayload> breachPayloads(List<SlaBreach> breaches, Function<Instant, TicketEventPayload> payloadFactory) {
+        Map<Long, TicketEventPayload> payloads = new LinkedHashMap<>();
+        breaches.forEach(breach -> payloads.put(breach.ticketId(), payloadFactory.apply(breach.deadline())));
+        return payloads;
     }
 
-    private void saveTicketEvent(TicketEntity ticket, UserEntity actor, TicketEventType eventType, Map<String, Object> payload) {
+    private void saveTicketEvent(TicketEntity ticket, UserEntity actor, TicketEventType eventType, TicketEventPayload payload) {
         TicketEventEntity ticketEvent = TicketEventEntity.builder()
                 .ticket(ticket)
                 .actor(actor)
                 .eventType(eventType)
-                .payload(payload)
+                .payload(payloadCodec.encode(eventType, payload))
                 .build();
         eventRepository.save(ticketEvent);
+        eventSequence.increment(ticket.getId());
     }
 }
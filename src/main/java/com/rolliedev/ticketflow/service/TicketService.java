@@ -1,9 +1,21 @@
 package com.rolliedev.ticketflow.service;
 
+import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.rolliedev.ticketflow.config.TicketProperties;
+import com.rolliedev.ticketflow.dto.AutoCloseChunk;
+import com.rolliedev.ticketflow.dto.CountMode;
 import com.rolliedev.ticketflow.dto.CreateTicketRequest;
+import com.rolliedev.ticketflow.dto.CursorPageResponse;
+import com.rolliedev.ticketflow.dto.EstimatedPage;
+import com.rolliedev.ticketflow.dto.TicketCursor;
+import com.rolliedev.ticketflow.dto.TicketListItem;
 import com.rolliedev.ticketflow.dto.TicketResponse;
+import com.rolliedev.ticketflow.dto.TicketAccess;
+import com.rolliedev.ticketflow.dto.TicketRevision;
 import com.rolliedev.ticketflow.dto.TicketSearchFilter;
+import com.rolliedev.ticketflow.dto.UserSnapshot;
 import com.rolliedev.ticketflow.entity.TicketEntity;
 import com.rolliedev.ticketflow.entity.UserEntity;
 import com.rolliedev.ticketflow.entity.enums.Role;
@@ -14,14 +26,16 @@ import com.rolliedev.ticketflow.exception.InvalidRequestException;
 import com.rolliedev.ticketflow.exception.ResourceNotFoundException;
 import com.rolliedev.ticketflow.mapper.TicketResponseMapper;
 import com.rolliedev.ticketflow.policy.AccessPolicy;
+import com.rolliedev.ticketflow.querydsl.KeywordSearchMode;
 import com.rolliedev.ticketflow.querydsl.TicketPredicateBuilder;
 import com.rolliedev.ticketflow.repository.TicketRepository;
-import com.rolliedev.ticketflow.repository.UserRepository;
 import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
 import com.rolliedev.ticketflow.service.sla.SlaService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,51 +49,104 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class TicketService {
 
-    private final UserRepository userRepository;
+    private final UserReferences userReferences;
     private final TicketRepository ticketRepository;
     private final TicketEventService eventService;
+    private final TicketEventSequence eventSequence;
     private final TicketResponseMapper ticketResponseMapper;
     private final TicketPredicateBuilder ticketPredicateBuilder;
     private final AccessPolicy accessPolicy;
     private final SlaService slaService;
+    private final TicketProperties ticketProperties;
 
-    public Page<TicketResponse> findAll(TicketSearchFilter filter, Pageable pageable, TicketFlowUserDetails actor) {
-        Predicate predicate = ticketPredicateBuilder.buildPredicate(filter, actor);
-        return ticketRepository.findAll(predicate, pageable)
-                .map(ticketResponseMapper::map);
+    public Page<TicketListItem> findAll(TicketSearchFilter filter, Pageable pageable, TicketFlowUserDetails actor) {
+        KeywordSearchMode keywordSearchMode = ticketProperties.keywordSearchMode();
+        Predicate predicate = ticketPredicateBuilder.buildPredicate(filter, actor, keywordSearchMode);
+        return ticketRepository.findListItems(predicate, relevanceRank(filter, keywordSearchMode), pageable);
     }
 
-    public Optional<TicketResponse> findById(Long id, TicketFlowUserDetails actor) {
-        Optional<TicketEntity> maybeTicket = ticketRepository.findById(id);
-        if (actor.hasAuthority(Role.CUSTOMER)) {
-            maybeTicket = maybeTicket.filter(t -> t.getCreatedBy().getId().equals(actor.getId()));
+    public Slice<TicketListItem> findAll(TicketSearchFilter filter, Pageable pageable, CountMode countMode, TicketFlowUserDetails actor) {
+        if (countMode == CountMode.EXACT) {
+            return findAll(filter, pageable, actor);
+        }
+
+        KeywordSearchMode keywordSearchMode = ticketProperties.keywordSearchMode();
+        Predicate predicate = ticketPredicateBuilder.buildPredicate(filter, actor, keywordSearchMode);
+        Slice<TicketListItem> tickets = ticketRepository.findListItemSlice(predicate, relevanceRank(filter, keywordSearchMode), pageable);
+        return countMode == CountMode.ESTIMATED
+                ? new EstimatedPage<>(tickets, ticketRepository.estimateCount(predicate))
+                : tickets;
+    }
+
+    public CursorPageResponse<TicketListItem> findAll(TicketSearchFilter filter, TicketCursor cursor, int size, TicketFlowUserDetails actor) {
+        Predicate predicate = ExpressionUtils.allOf(
+                ticketPredicateBuilder.buildPredicate(filter, actor, ticketProperties.keywordSearchMode()),
+                ticketPredicateBuilder.buildSeekPredicate(cursor)
+        );
+
+        // one extra row tells whether there is a next page without running a count query
+        List<TicketListItem> tickets = ticketRepository.findFirstListItems(predicate, size + 1, ticketPredicateBuilder.buildSeekOrder(cursor));
+        boolean hasNext = tickets.size() > size;
+        List<TicketListItem> pageContent = hasNext ? tickets.subList(0, size) : tickets;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TicketListItem last = pageContent.getLast();
+            nextCursor = cursor.next(last.createdAt(), last.id()).encode();
         }
+        return CursorPageResponse.of(pageContent, size, nextCursor);
+    }
+
+    // a single projection query with the ownership check in its where clause, so nested endpoints check access
+    // without loading the ticket
+    public Optional<TicketAccess> findAccess(Long id, TicketFlowUserDetails actor) {
+        return actor.hasAuthority(Role.CUSTOMER)
+                ? ticketRepository.findAccessByIdAndCreatedById(id, actor.getId())
+                : ticketRepository.findAccessById(id);
+    }
+
+    // same ownership check, for endpoints that compare an ETag and answer 304 without mapping the ticket;
+    // event bumps still pending in a surrounding transaction are written first so the revision reflects them
+    public Optional<TicketRevision> findRevision(Long id, TicketFlowUserDetails actor) {
+        eventSequence.apply();
+        return actor.hasAuthority(Role.CUSTOMER)
+                ? ticketRepository.findRevisionByIdAndCreatedById(id, actor.getId())
+                : ticketRepository.findRevisionById(id);
+    }
+
+    public Optional<TicketResponse> findById(Long id, TicketFlowUserDetails actor) {
+        Optional<TicketEntity> maybeTicket = actor.hasAuthority(Role.CUSTOMER)
+                ? ticketRepository.findWithUsersByIdAndCreatedById(id, actor.getId())
+                : ticketRepository.findWithUsersById(id);
         return maybeTicket.map(ticketResponseMapper::map);
     }
 
     @Transactional
     public TicketResponse create(CreateTicketRequest ticketDto, Integer creatorId) {
-        UserEntity creator = getUser(creatorId);
+        UserSnapshot creator = getUser(creatorId);
+        UserEntity creatorReference = userReferences.getReference(creatorId);
         TicketEntity ticket = TicketEntity.builder()
                 .title(ticketDto.title())
                 .description(ticketDto.description())
                 .status(TicketStatus.NEW)
                 .priority(TicketPriority.MEDIUM)
-                .createdBy(creator)
+                .createdBy(creatorReference)
                 .build();
         TicketEntity saved = ticketRepository.save(ticket);
         slaService.initializeSlaForNewTicket(saved);
-        eventService.recordCreatedEvent(saved, creator);
-        return ticketResponseMapper.map(saved);
+        eventService.recordCreatedEvent(saved, creatorReference);
+        return ticketResponseMapper.map(saved, creator);
     }
 
     @Transactional
     @PreAuthorize("hasAnyAuthority('ADMIN', 'AGENT')")
     public TicketResponse assign(Long ticketId, Integer actorId, Integer assigneeId) {
-        UserEntity actor = getUser(actorId);
+        UserSnapshot actor = getUser(actorId);
+        UserEntity actorReference = userReferences.getReference(actorId);
 
-        UserEntity newAssignee = getUser(assigneeId);
-        if (newAssignee.getRole() != Role.ADMIN && newAssignee.getRole() != Role.AGENT) {
+        UserSnapshot newAssignee = getUser(assigneeId);
+        UserEntity newAssigneeReference = userReferences.getReference(assigneeId);
+        if (newAssignee.role() != Role.ADMIN && newAssignee.role() != Role.AGENT) {
             throw new InvalidRequestException("Only agents or admins can be assigned to tickets");
         }
 
@@ -92,34 +159,35 @@ public class TicketService {
         if (currentAssignee != null) {
             accessPolicy.requireTicketAssigneeOrAdmin(ticket, actor, "Only the ticket assignee or admin can reassign tickets");
         }
-        if (currentAssignee != null && currentAssignee.getId().equals(newAssignee.getId())) {
-            return ticketResponseMapper.map(ticket);
+        if (currentAssignee != null && currentAssignee.getId().equals(newAssignee.id())) {
+            return ticketResponseMapper.map(ticket, newAssignee);
         }
 
-        ticket.setAssignedTo(newAssignee);
+        ticket.setAssignedTo(newAssigneeReference);
 
-        eventService.recordAssignedEvent(ticket, actor, currentAssignee, newAssignee);
+        eventService.recordAssignedEvent(ticket, actorReference, currentAssignee, newAssigneeReference);
 
-        return ticketResponseMapper.map(ticket);
+        return ticketResponseMapper.map(ticket, newAssignee);
     }
 
     @Transactional
     @PreAuthorize("hasAnyAuthority('ADMIN', 'AGENT')")
     public TicketResponse startProgress(Long ticketId, Integer actorId) {
-        UserEntity actor = getUser(actorId);
+        UserSnapshot actor = getUser(actorId);
+        UserEntity actorReference = userReferences.getReference(actorId);
 
         TicketEntity ticket = getTicket(ticketId);
         // if the ticket is not assigned to anyone, assign it to the actor who started the progress
         if (ticket.getAssignedTo() == null) {
-            ticket.setAssignedTo(actor);
-            eventService.recordAssignedEvent(ticket, actor, null, actor);
+            ticket.setAssignedTo(actorReference);
+            eventService.recordAssignedEvent(ticket, actorReference, null, actorReference);
         }
 
         accessPolicy.requireTicketAssigneeOrAdmin(ticket, actor, "Only the ticket assignee or admin can start progress on the ticket");
 
         TicketStatus currentStatus = ticket.getStatus();
         if (currentStatus == TicketStatus.IN_PROGRESS) {
-            return ticketResponseMapper.map(ticket);
+            return ticketResponseMapper.map(ticket, actor);
         }
 
         currentStatus.assertCanTransitionTo(TicketStatus.IN_PROGRESS);
@@ -131,61 +199,63 @@ public class TicketService {
         }
 
         if (currentStatus == TicketStatus.RESOLVED) {
-            slaService.handleResolvedTicketReopenedByInternalUser(ticket, actor, transitionedAt);
+            slaService.handleResolvedTicketReopenedByInternalUser(ticket, actorReference, transitionedAt);
             ticket.setResolvedAt(null);
         }
 
         ticket.setStatus(TicketStatus.IN_PROGRESS);
-        eventService.recordStatusChangedEvent(ticket, actor, currentStatus, TicketStatus.IN_PROGRESS);
+        eventService.recordStatusChangedEvent(ticket, actorReference, currentStatus, TicketStatus.IN_PROGRESS);
 
-        return ticketResponseMapper.map(ticket);
+        return ticketResponseMapper.map(ticket, actor);
     }
 
     @Transactional
     @PreAuthorize("hasAnyAuthority('ADMIN', 'AGENT')")
     public TicketResponse requestCustomerInfo(Long ticketId, Integer actorId) {
-        UserEntity actor = getUser(actorId);
+        UserSnapshot actor = getUser(actorId);
+        UserEntity actorReference = userReferences.getReference(actorId);
 
         TicketEntity ticket = getTicket(ticketId);
         accessPolicy.requireTicketAssigneeOrAdmin(ticket, actor, "Only the ticket assignee or admin can request customer info");
 
         TicketStatus currentStatus = ticket.getStatus();
         if (currentStatus == TicketStatus.WAITING_CUSTOMER) {
-            return ticketResponseMapper.map(ticket);
+            return ticketResponseMapper.map(ticket, actor);
         }
 
         currentStatus.assertCanTransitionTo(TicketStatus.WAITING_CUSTOMER);
 
         Instant requestedAt = Instant.now();
 
-        handleFirstResponseIfNeeded(ticket, actor, requestedAt);
+        handleFirstResponseIfNeeded(ticket, actorReference, requestedAt);
 
-        slaService.pauseResolutionSlaClock(ticket, actor, requestedAt);
+        slaService.pauseResolutionSlaClock(ticket, actorReference, requestedAt);
 
         ticket.setStatus(TicketStatus.WAITING_CUSTOMER);
-        eventService.recordStatusChangedEvent(ticket, actor, currentStatus, TicketStatus.WAITING_CUSTOMER);
+        eventService.recordStatusChangedEvent(ticket, actorReference, currentStatus, TicketStatus.WAITING_CUSTOMER);
 
-        return ticketResponseMapper.map(ticket);
+        return ticketResponseMapper.map(ticket, actor);
     }
 
     @Transactional
     @PreAuthorize("hasAnyAuthority('ADMIN', 'AGENT')")
     public TicketResponse resolve(Long ticketId, Integer actorId) {
-        UserEntity actor = getUser(actorId);
+        UserSnapshot actor = getUser(actorId);
+        UserEntity actorReference = userReferences.getReference(actorId);
 
         TicketEntity ticket = getTicket(ticketId);
         accessPolicy.requireTicketAssigneeOrAdmin(ticket, actor, "Only the ticket assignee or admin can resolve tickets");
 
         TicketStatus currentStatus = ticket.getStatus();
         if (currentStatus == TicketStatus.RESOLVED) {
-            return ticketResponseMapper.map(ticket);
+            return ticketResponseMapper.map(ticket, actor);
         }
 
         currentStatus.assertCanTransitionTo(TicketStatus.RESOLVED);
 
         Instant resolvedAt = Instant.now();
 
-        handleFirstResponseIfNeeded(ticket, actor, resolvedAt);
+        handleFirstResponseIfNeeded(ticket, actorReference, resolvedAt);
 
         if (currentStatus == TicketStatus.WAITING_CUSTOMER) {
             slaService.resumeResolutionSlaClock(ticket, resolvedAt);
@@ -194,57 +264,73 @@ public class TicketService {
         ticket.setStatus(TicketStatus.RESOLVED);
         ticket.setResolvedAt(resolvedAt);
 
-        slaService.pauseResolutionSlaClock(ticket, actor, resolvedAt);
+        slaService.pauseResolutionSlaClock(ticket, actorReference, resolvedAt);
 
-        eventService.recordStatusChangedEvent(ticket, actor, currentStatus, TicketStatus.RESOLVED);
+        eventService.recordStatusChangedEvent(ticket, actorReference, currentStatus, TicketStatus.RESOLVED);
 
-        return ticketResponseMapper.map(ticket);
+        return ticketResponseMapper.map(ticket, actor);
     }
 
     @Transactional
     @PreAuthorize("hasAuthority('CUSTOMER')")
     public TicketResponse closeByCustomer(Long ticketId, Integer actorId) {
-        UserEntity actor = getUser(actorId);
+        UserSnapshot actor = getUser(actorId);
+        UserEntity actorReference = userReferences.getReference(actorId);
 
         TicketEntity ticket = getTicket(ticketId);
         accessPolicy.requireTicketOwner(ticket, actor, "Only the ticket creator can close tickets");
 
         TicketStatus currentStatus = ticket.getStatus();
         if (currentStatus == TicketStatus.CLOSED) {
-            return ticketResponseMapper.map(ticket);
+            return ticketResponseMapper.map(ticket, actor);
         }
         currentStatus.assertCanTransitionTo(TicketStatus.CLOSED);
 
         ticket.setStatus(TicketStatus.CLOSED);
-        eventService.recordStatusChangedEvent(ticket, actor, currentStatus, TicketStatus.CLOSED);
+        eventService.recordStatusChangedEvent(ticket, actorReference, currentStatus, TicketStatus.CLOSED);
 
         slaService.finalizeResolutionSlaOnClose(ticket);
 
-        return ticketResponseMapper.map(ticket);
+        return ticketResponseMapper.map(ticket, actor);
     }
 
+    // one bounded chunk per transaction, the caller walks the candidates with the returned keyset position
     @Transactional
-    public int closeResolvedTicketsOlderThan(Instant threshold) {
+    public AutoCloseChunk closeResolvedTicketsOlderThan(Instant threshold, AutoCloseChunk previous, int chunkSize) {
         if (threshold == null) {
             throw new IllegalArgumentException("Auto-close threshold cannot be null");
         }
 
-        List<TicketEntity> ticketsToClose = ticketRepository.findResolvedTicketsOlderThan(threshold);
+        List<TicketEntity> ticketsToClose = ticketRepository.findResolvedTicketsOlderThan(
+                threshold,
+                previous.lastResolvedAt(),
+                previous.lastId(),
+                Limit.of(chunkSize)
+        );
+        if (ticketsToClose.isEmpty()) {
+            return new AutoCloseChunk(0, previous.lastResolvedAt(), previous.lastId());
+        }
 
         ticketsToClose.forEach(ticket -> {
             ticket.setStatus(TicketStatus.CLOSED);
-            eventService.recordStatusChangedEvent(ticket, TicketStatus.RESOLVED, TicketStatus.CLOSED);
-
             slaService.finalizeResolutionSlaOnClose(ticket);
         });
-
-        return ticketsToClose.size();
+        eventService.recordStatusChangedEvents(
+                ticketsToClose.stream().map(TicketEntity::getId).toList(),
+                TicketStatus.RESOLVED,
+                TicketStatus.CLOSED,
+                Instant.now()
+        );
+
+        TicketEntity last = ticketsToClose.getLast();
+        return new AutoCloseChunk(ticketsToClose.size(), last.getResolvedAt(), last.getId());
     }
 
     @Transactional
     @PreAuthorize("hasAnyAuthority('ADMIN', 'AGENT')")
     public TicketResponse changePriority(Long ticketId, Integer actorId, TicketPriority newPriority) {
-        UserEntity actor = getUser(actorId);
+        UserSnapshot actor = getUser(actorId);
+        UserEntity actorReference = userReferences.getReference(actorId);
 
         TicketEntity ticket = getTicket(ticketId);
 
@@ -256,20 +342,26 @@ public class TicketService {
 
         TicketPriority oldPriority = ticket.getPriority();
         if (oldPriority == newPriority) {
-            return ticketResponseMapper.map(ticket);
+            return ticketResponseMapper.map(ticket, actor);
         }
 
         Instant changedAt = Instant.now();
         ticket.setPriority(newPriority);
         slaService.updateDeadlinesAfterPriorityChange(ticket, changedAt);
 
-        eventService.recordPriorityChangedEvent(ticket, actor, oldPriority, newPriority);
+        eventService.recordPriorityChangedEvent(ticket, actorReference, oldPriority, newPriority);
+
+        return ticketResponseMapper.map(ticket, actor);
+    }
 
-        return ticketResponseMapper.map(ticket);
+    private NumberExpression<Float> relevanceRank(TicketSearchFilter filter, KeywordSearchMode keywordSearchMode) {
+        return filter.hasKeyword() && keywordSearchMode == KeywordSearchMode.FULL_TEXT
+                ? ticketPredicateBuilder.fullTextRank(filter.keyword())
+                : null;
     }
 
-    private UserEntity getUser(Integer userId) {
-        return userRepository.findById(userId)
+    private UserSnapshot getUser(Integer userId) {
+        return userReferences.findById(userId)
                 .orElseThrow(() -> ResourceNotFoundException.user(userId));
     }
 
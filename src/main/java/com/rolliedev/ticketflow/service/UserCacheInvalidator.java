@@ -0,0 +1,16 @@
+package com.rolliedev.ticketflow.service;
+
+import com.rolliedev.ticketflow.config.CacheConfiguration;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class UserCacheInvalidator {
+
+    // after commit, so a concurrent lookup cannot put the old row back into the cache
+    @CacheEvict(cacheNames = CacheConfiguration.USERS_CACHE, key = "#event.id()")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.rolliedev.ticketflow.service;
+
+import com.rolliedev.ticketflow.entity.enums.Role;
+
+public record UserChangedEvent(Integer id, String email, Role role) {
+}
@@ -0,0 +1,30 @@
+package com.rolliedev.ticketflow.service;
+
+import com.rolliedev.ticketflow.dto.UserSnapshot;
+import com.rolliedev.ticketflow.entity.UserEntity;
+import com.rolliedev.ticketflow.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Resolves the users that ticket and comment mutations act on.
+ * <p>
+ * Role checks and response mapping use the cached, immutable {@link UserSnapshot}. Associations and event actors
+ * point at a reference of the current session instead, which is only loaded if something reads more than its id.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserReferences {
+
+    private final UserRepository userRepository;
+
+    public Optional<UserSnapshot> findById(Integer id) {
+        return userRepository.findSnapshotById(id);
+    }
+
+    public UserEntity getReference(Integer id) {
+        return userRepository.getReferenceById(id);
+    }
+}
@@ -13,6 +13,7 @@ import com.rolliedev.ticketflow.mapper.UserResponseMapper;
 import com.rolliedev.ticketflow.repository.UserRepository;
 import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,7 +23,6 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +35,8 @@ public class UserService implements UserDetailsService {
     private final UserResponseMapper userResponseMapper;
     private final PublicRegistrationRequestMapper publicRegistrationRequestMapper;
     private final InternalUserCreateRequestMapper internalUserCreateRequestMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InternalUserDirectory internalUserDirectory;
 
     @PreAuthorize("hasAuthority('ADMIN')")
     public Page<UserResponse> findAll(Pageable pageable) {
@@ -42,10 +44,8 @@ public class UserService implements UserDetailsService {
                 .map(userResponseMapper::map);
     }
 
-    public List<UserResponse> findAllByRoleIn(Role... roles) {
-        return userRepository.findAllByRoleIn(Arrays.asList(roles)).stream()
-                .map(userResponseMapper::map)
-                .toList();
+    public List<UserResponse> findInternalUsers() {
+        return internalUserDirectory.users();
     }
 
     public Optional<UserResponse> findById(Integer id, TicketFlowUserDetails actor) {
@@ -60,7 +60,7 @@ public class UserService implements UserDetailsService {
     public UserResponse createCustomer(PublicRegistrationRequest userDto) {
         ensureEmailIsUnique(userDto.email());
         UserEntity userEntity = publicRegistrationRequestMapper.map(userDto);
-        return userResponseMapper.map(userRepository.save(userEntity));
+        return userResponseMapper.map(saveAndPublish(userEntity));
     }
 
     @Transactional
@@ -72,7 +72,14 @@ public class UserService implements UserDetailsService {
 
         ensureEmailIsUnique(userDto.email());
         UserEntity userEntity = internalUserCreateRequestMapper.map(userDto);
-        return userResponseMapper.map(userRepository.save(userEntity));
+        return userResponseMapper.map(saveAndPublish(userEntity));
+    }
+
+    // every write to a user goes through here, so caches keyed by the user can drop stale entries
+    private UserEntity saveAndPublish(UserEntity userEntity) {
+        UserEntity saved = userRepository.save(userEntity);
+        eventPublisher.publishEvent(new UserChangedEvent(saved.getId(), saved.getEmail(), saved.getRole()));
+        return saved;
     }
 
     private void ensureEmailIsUnique(String email) {
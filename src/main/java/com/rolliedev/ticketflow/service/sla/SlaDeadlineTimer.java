@@ -0,0 +1,112 @@
+package com.rolliedev.ticketflow.service.sla;
+
+import com.rolliedev.ticketflow.entity.enums.SlaDeadlineType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Keeps the upcoming on-track SLA deadlines of this instance in memory and publishes a
+ * {@link SlaDeadlinesDueEvent} as soon as the earliest one elapses, instead of waiting for the next poll.
+ * Entries are only hints: the breach sweep re-checks every ticket, so stale deadlines of answered,
+ * paused or re-prioritized tickets simply fire a sweep that finds nothing.
+ * Only deadlines up to the horizon are kept; later ones are loaded by the next reconciliation pass.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlaDeadlineTimer {
+
+    private final TaskScheduler taskScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    private final NavigableMap<Instant, Set<SlaDeadlineType>> deadlines = new TreeMap<>();
+    private Instant horizon = Instant.MIN;
+    private ScheduledFuture<?> nextFire;
+    private Instant nextFireAt;
+
+    public void schedule(SlaDeadlineType type, Instant deadline) {
+        // a deadline set inside a transaction becomes visible to the sweep only after commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(type, deadline);
+                }
+            });
+        } else {
+            add(type, deadline);
+        }
+    }
+
+    public synchronized void load(SlaDeadlineType type, Collection<Instant> pendingDeadlines, Instant until) {
+        if (until.isAfter(horizon)) {
+            horizon = until;
+        }
+        pendingDeadlines.forEach(deadline -> put(type, deadline));
+        rearm();
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    private synchronized void add(SlaDeadlineType type, Instant deadline) {
+        if (deadline == null || deadline.isAfter(horizon)) {
+            return;
+        }
+        put(type, deadline);
+        rearm();
+    }
+
+    private void put(SlaDeadlineType type, Instant deadline) {
+        deadlines.computeIfAbsent(deadline, key -> EnumSet.noneOf(SlaDeadlineType.class)).add(type);
+    }
+
+    private void fire() {
+        Instant now = Instant.now(clock);
+        Set<SlaDeadlineType> dueTypes = EnumSet.noneOf(SlaDeadlineType.class);
+        synchronized (this) {
+            // a deadline equal to now is handed over as well, keeping it would rearm the timer at the same instant;
+            // the sweep only breaches deadlines strictly before now, so such a ticket is left to the next queue poll
+            NavigableMap<Instant, Set<SlaDeadlineType>> elapsed = deadlines.headMap(now, true);
+            elapsed.values().forEach(dueTypes::addAll);
+            elapsed.clear();
+            nextFire = null;
+            nextFireAt = null;
+            rearm();
+        }
+
+        if (!dueTypes.isEmpty()) {
+            eventPublisher.publishEvent(new SlaDeadlinesDueEvent(dueTypes, now));
+        }
+    }
+
+    private void rearm() {
+        if (deadlines.isEmpty()) {
+            return;
+        }
+
+        Instant earliest = deadlines.firstKey();
+        if (nextFire != null && !nextFireAt.isAfter(earliest)) {
+            return;
+        }
+        if (nextFire != null) {
+            nextFire.cancel(false);
+        }
+        nextFireAt = earliest;
+        nextFire = taskScheduler.schedule(this::fire, earliest);
+    }
+}
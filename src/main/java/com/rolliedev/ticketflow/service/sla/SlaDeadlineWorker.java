@@ -0,0 +1,59 @@
+package com.rolliedev.ticketflow.service.sla;
+
+import com.rolliedev.ticketflow.config.SlaProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.stream.IntStream;
+
+/**
+ * Drains the durable SLA deadline queue. Every node runs the same worker, rows are claimed with
+ * SKIP LOCKED, so nodes and threads never process the same deadline and never record a breach twice.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlaDeadlineWorker {
+
+    private static final ThreadFactory WORKER_THREADS = Thread.ofVirtual().name("sla-worker-", 0).factory();
+
+    private final SlaService slaService;
+    private final SlaProperties slaProperties;
+    private final Clock clock;
+
+    @Scheduled(fixedDelayString = "${app.sla.queue-poll-delay-ms:5000}")
+    public void pollDueDeadlines() {
+        processDueDeadlines(Instant.now(clock));
+    }
+
+    @EventListener
+    public void onDeadlinesDue(SlaDeadlinesDueEvent event) {
+        processDueDeadlines(event.dueAt());
+    }
+
+    private void processDueDeadlines(Instant now) {
+        try (ExecutorService workers = Executors.newThreadPerTaskExecutor(WORKER_THREADS)) {
+            List<CompletableFuture<Integer>> results = IntStream.range(0, slaProperties.queueWorkers())
+                    .mapToObj(worker -> CompletableFuture.supplyAsync(() -> slaService.processDueDeadlines(now), workers))
+                    .toList();
+
+            int breaches = results.stream()
+                    .mapToInt(CompletableFuture::join)
+                    .sum();
+
+            if (breaches > 0) {
+                log.info("SLA deadline workers marked {} SLA(s) as breached", breaches);
+            }
+        }
+    }
+}
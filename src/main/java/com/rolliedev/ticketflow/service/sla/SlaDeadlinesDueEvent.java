@@ -0,0 +1,9 @@
+package com.rolliedev.ticketflow.service.sla;
+
+import com.rolliedev.ticketflow.entity.enums.SlaDeadlineType;
+
+import java.time.Instant;
+import java.util.Set;
+
+public record SlaDeadlinesDueEvent(Set<SlaDeadlineType> types, Instant dueAt) {
+}
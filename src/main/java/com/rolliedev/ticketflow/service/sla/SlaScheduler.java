@@ -1,5 +1,6 @@
 package com.rolliedev.ticketflow.service.sla;
 
+import com.rolliedev.ticketflow.aop.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -14,7 +15,10 @@ public class SlaScheduler {
 
     private final SlaService slaService;
 
-    @Scheduled(fixedDelayString = "${app.sla.check-delay-ms:60000}")
+    // reconciliation pass: catches overdue tickets without a queued deadline, e.g. rows written before the queue existed
+    // or by plain SQL, and deadlines whose timer entry was lost while a node was down
+    @Scheduled(fixedDelayString = "${app.sla.check-delay-ms:300000}")
+    @SchedulerLock(name = "sla-reconciliation", lockAtMostFor = "PT10M", lockAtLeastFor = "PT30S")
     public void checkOverdueSlas() {
         Instant now = Instant.now();
 
@@ -29,4 +33,10 @@ public class SlaScheduler {
             log.info("SLA check marked {} resolution SLA(s) as breached", resolutionBreaches);
         }
     }
+
+    // not locked, every node keeps its own in-memory timer
+    @Scheduled(fixedDelayString = "${app.sla.check-delay-ms:300000}")
+    public void refreshDeadlineTimer() {
+        slaService.scheduleUpcomingDeadlines(Instant.now());
+    }
 }
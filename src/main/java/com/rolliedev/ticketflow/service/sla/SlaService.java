@@ -1,21 +1,30 @@
 package com.rolliedev.ticketflow.service.sla;
 
+import com.rolliedev.ticketflow.config.SlaProperties;
+import com.rolliedev.ticketflow.dto.DueSlaDeadline;
+import com.rolliedev.ticketflow.dto.SlaBreach;
 import com.rolliedev.ticketflow.dto.SlaPolicy;
 import com.rolliedev.ticketflow.entity.TicketEntity;
 import com.rolliedev.ticketflow.entity.UserEntity;
+import com.rolliedev.ticketflow.entity.enums.SlaDeadlineType;
 import com.rolliedev.ticketflow.entity.enums.SlaStatus;
 import com.rolliedev.ticketflow.entity.enums.TicketStatus;
-import com.rolliedev.ticketflow.repository.TicketRepository;
+import com.rolliedev.ticketflow.repository.SlaBreachRepository;
+import com.rolliedev.ticketflow.repository.SlaDeadlineQueueRepository;
 import com.rolliedev.ticketflow.service.TicketEventService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,8 +34,12 @@ public class SlaService {
     private static final Set<TicketStatus> SLA_CHECK_EXCLUDED_STATUSES = Set.of(TicketStatus.WAITING_CUSTOMER, TicketStatus.RESOLVED, TicketStatus.CLOSED);
 
     private final SlaPolicyProvider policyProvider;
-    private final TicketRepository ticketRepository;
+    private final SlaBreachRepository slaBreachRepository;
+    private final SlaDeadlineQueueRepository deadlineQueueRepository;
     private final TicketEventService eventService;
+    private final TransactionTemplate transactionTemplate;
+    private final SlaProperties slaProperties;
+    private final SlaDeadlineTimer deadlineTimer;
 
     public void initializeSlaForNewTicket(TicketEntity ticket) {
         if (ticket.getCreatedAt() == null) {
@@ -44,6 +57,9 @@ public class SlaService {
 
         ticket.setResponseSlaStatus(SlaStatus.ON_TRACK);
         ticket.setResolutionSlaStatus(SlaStatus.ON_TRACK);
+
+        scheduleNewTicketDeadline(ticket, SlaDeadlineType.FIRST_RESPONSE, ticket.getFirstResponseDeadline());
+        scheduleNewTicketDeadline(ticket, SlaDeadlineType.RESOLUTION, ticket.getResolutionDeadline());
     }
 
     public void evaluateFirstResponse(TicketEntity ticket, UserEntity actor) {
@@ -111,6 +127,8 @@ public class SlaService {
         ticket.setResolutionDeadline(ticket.getResolutionDeadline().plus(pausedDuration));
         ticket.setResolutionSlaPausedAt(null);
         ticket.setResolutionSlaStatus(SlaStatus.ON_TRACK);
+
+        scheduleDeadline(ticket, SlaDeadlineType.RESOLUTION, ticket.getResolutionDeadline());
     }
 
     public void updateDeadlinesAfterPriorityChange(TicketEntity ticket, Instant changedAt) {
@@ -125,6 +143,13 @@ public class SlaService {
         } else {
             tightenActiveDeadlines(ticket, changedAt, slaPolicy);
         }
+
+        if (ticket.getResponseSlaStatus() == SlaStatus.ON_TRACK) {
+            scheduleDeadline(ticket, SlaDeadlineType.FIRST_RESPONSE, ticket.getFirstResponseDeadline());
+        }
+        if (ticket.getResolutionSlaStatus() == SlaStatus.ON_TRACK) {
+            scheduleDeadline(ticket, SlaDeadlineType.RESOLUTION, ticket.getResolutionDeadline());
+        }
     }
 
     public void handleResolvedTicketReopenedByInternalUser(TicketEntity ticket, UserEntity actor, Instant reopenedAt) {
@@ -151,6 +176,7 @@ public class SlaService {
             eventService.recordResolutionSlaBreachedEvent(ticket, actor);
         } else {
             ticket.setResolutionSlaStatus(SlaStatus.ON_TRACK);
+            scheduleDeadline(ticket, SlaDeadlineType.RESOLUTION, ticket.getResolutionDeadline());
         }
     }
 
@@ -161,36 +187,87 @@ public class SlaService {
         }
     }
 
-    @Transactional
     public int markOverdueFirstResponseSlasAsBreached(Instant now) {
-        List<TicketEntity> overdueTickets = ticketRepository.findTicketsWithOverdueFirstResponseSla(
-                SlaStatus.ON_TRACK,
-                now,
-                SLA_CHECK_EXCLUDED_STATUSES
-        );
+        return breachInChunks(() -> {
+            List<SlaBreach> breaches = slaBreachRepository.markOverdueFirstResponsesAsBreached(
+                    now,
+                    SLA_CHECK_EXCLUDED_STATUSES,
+                    slaProperties.breachBatchSize()
+            );
+            eventService.recordFirstResponseSlaBreachedEvents(breaches, now);
+            return breaches.size();
+        });
+    }
 
-        overdueTickets.forEach(ticket -> {
-            ticket.setResponseSlaStatus(SlaStatus.BREACHED);
-            eventService.recordFirstResponseSlaBreachedEvent(ticket);
+    public int markOverdueResolutionSlasAsBreached(Instant now) {
+        return breachInChunks(() -> {
+            List<SlaBreach> breaches = slaBreachRepository.markOverdueResolutionsAsBreached(
+                    now,
+                    SLA_CHECK_EXCLUDED_STATUSES,
+                    slaProperties.breachBatchSize()
+            );
+            eventService.recordResolutionSlaBreachedEvents(breaches, now);
+            return breaches.size();
         });
+    }
 
-        return overdueTickets.size();
+    public int processDueDeadlines(Instant now) {
+        int total = 0;
+        DueDeadlinesChunk chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> processDueDeadlinesChunk(now));
+            total += chunk.breached();
+        } while (chunk.claimed() == slaProperties.breachBatchSize());
+        return total;
     }
 
-    @Transactional
-    public int markOverdueResolutionSlasAsBreached(Instant now) {
-        List<TicketEntity> overdueTickets = ticketRepository.findTicketsWithOverdueResolutionSla(
-                SlaStatus.ON_TRACK,
-                now,
-                SLA_CHECK_EXCLUDED_STATUSES
-        );
+    public void scheduleUpcomingDeadlines(Instant now) {
+        Instant until = now.plus(slaProperties.deadlineTimerLookahead());
+        deadlineTimer.load(SlaDeadlineType.FIRST_RESPONSE, slaBreachRepository.findPendingFirstResponseDeadlines(now, until), until);
+        deadlineTimer.load(SlaDeadlineType.RESOLUTION, slaBreachRepository.findPendingResolutionDeadlines(now, until), until);
+    }
 
-        overdueTickets.forEach(ticket -> {
-            ticket.setResolutionSlaStatus(SlaStatus.BREACHED);
-            eventService.recordResolutionSlaBreachedEvent(ticket);
-        });
+    // each chunk commits on its own, so a mass breach never holds row locks for the whole sweep
+    private int breachInChunks(Supplier<Integer> chunk) {
+        int total = 0;
+        int breached;
+        do {
+            breached = transactionTemplate.execute(status -> chunk.get());
+            total += breached;
+        } while (breached == slaProperties.breachBatchSize());
+        return total;
+    }
 
-        return overdueTickets.size();
+    private DueDeadlinesChunk processDueDeadlinesChunk(Instant now) {
+        List<DueSlaDeadline> claimed = deadlineQueueRepository.claimDue(now, slaProperties.breachBatchSize());
+        Map<SlaDeadlineType, List<Long>> ticketIdsByType = claimed.stream()
+                .collect(Collectors.groupingBy(
+                        DueSlaDeadline::type,
+                        () -> new EnumMap<>(SlaDeadlineType.class),
+                        Collectors.mapping(DueSlaDeadline::ticketId, Collectors.toList())
+                ));
+
+        // claimed rows are deleted either way, the guarded UPDATE skips tickets that were answered, paused or resolved meanwhile
+        List<SlaBreach> responseBreaches = ticketIdsByType.containsKey(SlaDeadlineType.FIRST_RESPONSE)
+                ? slaBreachRepository.markFirstResponsesAsBreached(ticketIdsByType.get(SlaDeadlineType.FIRST_RESPONSE), now, SLA_CHECK_EXCLUDED_STATUSES)
+                : List.of();
+        List<SlaBreach> resolutionBreaches = ticketIdsByType.containsKey(SlaDeadlineType.RESOLUTION)
+                ? slaBreachRepository.markResolutionsAsBreached(ticketIdsByType.get(SlaDeadlineType.RESOLUTION), now, SLA_CHECK_EXCLUDED_STATUSES)
+                : List.of();
+
+        eventService.recordFirstResponseSlaBreachedEvents(responseBreaches, now);
+        eventService.recordResolutionSlaBreachedEvents(resolutionBreaches, now);
+        return new DueDeadlinesChunk(claimed.size(), responseBreaches.size() + resolutionBreaches.size());
+    }
+
+    private void scheduleNewTicketDeadline(TicketEntity ticket, SlaDeadlineType type, Instant deadline) {
+        deadlineQueueRepository.enqueueForNewTicket(ticket, type, deadline);
+        deadlineTimer.schedule(type, deadline);
+    }
+
+    private void scheduleDeadline(TicketEntity ticket, SlaDeadlineType type, Instant deadline) {
+        deadlineQueueRepository.enqueue(ticket.getId(), type, deadline);
+        deadlineTimer.schedule(type, deadline);
     }
 
     private SlaStatus evaluateSlaStatus(Instant completedAt, Instant deadline) {
@@ -233,4 +310,7 @@ public class SlaService {
     private Instant getEarlierInstant(Instant first, Instant second) {
         return first.isBefore(second) ? first : second;
     }
+
+    private record DueDeadlinesChunk(int claimed, int breached) {
+    }
 }
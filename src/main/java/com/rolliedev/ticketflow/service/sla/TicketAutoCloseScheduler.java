@@ -1,7 +1,10 @@
 package com.rolliedev.ticketflow.service.sla;
 
+import com.rolliedev.ticketflow.aop.SchedulerLock;
 import com.rolliedev.ticketflow.config.TicketProperties;
+import com.rolliedev.ticketflow.dto.AutoCloseChunk;
 import com.rolliedev.ticketflow.service.TicketService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -19,17 +22,30 @@ public class TicketAutoCloseScheduler {
 
     private final TicketService ticketService;
     private final TicketProperties ticketProperties;
+    private final MeterRegistry meterRegistry;
     private final Clock clock;
 
     @Scheduled(
             fixedDelayString = "${app.ticket.auto-close-check-delay-hours:24}",
             timeUnit = TimeUnit.HOURS
     )
+    @SchedulerLock(name = "ticket-auto-close", lockAtMostFor = "PT1H", lockAtLeastFor = "PT5M")
     public void autoCloseTickets() {
         Instant threshold = Instant.now(clock)
                 .minus(ticketProperties.autoCloseAfterDays(), ChronoUnit.DAYS);
+        int chunkSize = ticketProperties.autoCloseChunkSize();
 
-        int closedTicketsCount = ticketService.closeResolvedTicketsOlderThan(threshold);
+        // every chunk commits on its own; after a crash the next run simply finds the remaining RESOLVED tickets
+        int closedTicketsCount = 0;
+        AutoCloseChunk chunk = AutoCloseChunk.start();
+        do {
+            chunk = ticketService.closeResolvedTicketsOlderThan(threshold, chunk, chunkSize);
+            closedTicketsCount += chunk.closedCount();
+
+            meterRegistry.counter("tickets.auto_close.chunks").increment();
+            meterRegistry.counter("tickets.auto_close.closed").increment(chunk.closedCount());
+            log.debug("Auto-close progress: {} tickets closed, last resolved at {}", closedTicketsCount, chunk.lastResolvedAt());
+        } while (chunk.closedCount() == chunkSize);
 
         if (closedTicketsCount > 0) {
             log.info("Auto-closed {} tickets", closedTicketsCount);
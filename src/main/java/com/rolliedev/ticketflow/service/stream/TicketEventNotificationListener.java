@@ -0,0 +1,118 @@
+package com.rolliedev.ticketflow.service.stream;
+
+import com.rolliedev.ticketflow.service.TicketEventService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listens on the {@code ticket_events} channel, fed by an insert trigger, and hands committed events to the
+ * {@link TicketEventStreamHub}. Every node listens on its own connection, so an event written on any node
+ * reaches the subscribers of all of them. The connection is opened outside the pool, it is held for as long
+ * as the application runs.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketEventNotificationListener {
+
+    private static final String CHANNEL = "ticket_events";
+    private static final int POLL_TIMEOUT_MILLIS = 10_000;
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+
+    private final DataSourceProperties dataSourceProperties;
+    private final TicketEventService eventService;
+    private final TicketEventStreamHub streamHub;
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread listener;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        listener = Thread.ofVirtual().name("ticket-event-listener").start(this::listen);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    public boolean isListening() {
+        return listening;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                listening = true;
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null && notifications.length > 0) {
+                        dispatch(notifications);
+                    }
+                }
+            } catch (SQLException ex) {
+                listening = false;
+                // notifications sent while disconnected are lost, subscribers catch up from the timeline
+                if (running) {
+                    log.warn("Ticket event listener lost its connection, reconnecting in {}", RECONNECT_DELAY, ex);
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void dispatch(PGNotification[] notifications) {
+        List<Long> eventIds = new ArrayList<>(notifications.length);
+        for (PGNotification notification : notifications) {
+            // 'ticket_id,event_id,assignee_id', the assignee is empty for unassigned tickets
+            String[] ids = notification.getParameter().split(",", -1);
+            Integer assigneeId = ids.length > 2 && !ids[2].isEmpty() ? Integer.valueOf(ids[2]) : null;
+            if (streamHub.isWatched(Long.valueOf(ids[0]), assigneeId)) {
+                eventIds.add(Long.valueOf(ids[1]));
+            }
+        }
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            eventService.findStreamedEvents(eventIds).forEach(streamHub::publish);
+        } catch (RuntimeException ex) {
+            log.warn("Could not load {} streamed ticket event(s)", eventIds.size(), ex);
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(RECONNECT_DELAY);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.rolliedev.ticketflow.service.stream;
+
+import com.rolliedev.ticketflow.config.StreamProperties;
+import com.rolliedev.ticketflow.dto.StreamedTicketEvent;
+import com.rolliedev.ticketflow.dto.TicketEventResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * SSE subscribers of this node, by ticket and by assignee queue. Each subscriber has a bounded buffer drained
+ * by its own virtual thread, so idle connections cost a parked virtual thread and publishing never waits on a
+ * client: a subscriber whose buffer is full is disconnected and catches up from the timeline when it reconnects.
+ */
+@Component
+public class TicketEventStreamHub {
+
+    private static final ThreadFactory SENDER_THREADS = Thread.ofVirtual().name("event-stream-", 0).factory();
+
+    private final StreamProperties streamProperties;
+    private final Counter droppedSubscribers;
+
+    private final Map<Long, Set<Subscriber>> ticketSubscribers = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<Subscriber>> queueSubscribers = new ConcurrentHashMap<>();
+
+    public TicketEventStreamHub(StreamProperties streamProperties, MeterRegistry meterRegistry) {
+        this.streamProperties = streamProperties;
+        this.droppedSubscribers = Counter.builder("ticket.stream.dropped")
+                .description("SSE subscribers disconnected because they fell behind")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribeToTicket(Long ticketId) {
+        return subscribe(ticketSubscribers, ticketId);
+    }
+
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'AGENT')")
+    public SseEmitter subscribeToAssignedQueue(Integer assigneeId) {
+        return subscribe(queueSubscribers, assigneeId);
+    }
+
+    public boolean isWatched(Long ticketId, Integer assigneeId) {
+        return ticketSubscribers.containsKey(ticketId)
+               || assigneeId != null && queueSubscribers.containsKey(assigneeId);
+    }
+
+    public int subscriberCount() {
+        return ticketSubscribers.values().stream().mapToInt(Set::size).sum()
+               + queueSubscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    public void publish(StreamedTicketEvent streamedEvent) {
+        TicketEventResponse event = streamedEvent.event();
+        ticketSubscribers.getOrDefault(event.ticketId(), Set.of()).forEach(subscriber -> subscriber.offer(event));
+        if (streamedEvent.assigneeId() != null) {
+            queueSubscribers.getOrDefault(streamedEvent.assigneeId(), Set.of()).forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    private <K> SseEmitter subscribe(Map<K, Set<Subscriber>> subscribers, K key) {
+        SseEmitter emitter = new SseEmitter(streamProperties.timeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, closed -> unsubscribe(subscribers, key, closed));
+        subscribers.compute(key, (ignored, keySubscribers) -> {
+            Set<Subscriber> result = keySubscribers == null ? ConcurrentHashMap.newKeySet() : keySubscribers;
+            result.add(subscriber);
+            return result;
+        });
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+        subscriber.start();
+        return emitter;
+    }
+
+    private <K> void unsubscribe(Map<K, Set<Subscriber>> subscribers, K key, Subscriber subscriber) {
+        subscribers.computeIfPresent(key, (ignored, keySubscribers) -> {
+            keySubscribers.remove(subscriber);
+            return keySubscribers.isEmpty() ? null : keySubscribers;
+        });
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Consumer<Subscriber> unregister;
+        private final BlockingQueue<TicketEventResponse> buffer = new ArrayBlockingQueue<>(streamProperties.bufferSize());
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private Thread sender;
+
+        private Subscriber(SseEmitter emitter, Consumer<Subscriber> unregister) {
+            this.emitter = emitter;
+            this.unregister = unregister;
+        }
+
+        private void start() {
+            sender = SENDER_THREADS.newThread(this::drain);
+            sender.start();
+        }
+
+        private void offer(TicketEventResponse event) {
+            if (!buffer.offer(event)) {
+                droppedSubscribers.increment();
+                close();
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    TicketEventResponse event = buffer.poll(streamProperties.heartbeat().toMillis(), TimeUnit.MILLISECONDS);
+                    if (event == null) {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(event.id()))
+                                .name(event.eventType().name())
+                                .data(event, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException ex) {
+                // the client went away or the emitter was completed, the container reports it through the callbacks
+                close();
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                unregister.accept(this);
+                if (sender != null && sender != Thread.currentThread()) {
+                    sender.interrupt();
+                }
+            }
+        }
+    }
+}
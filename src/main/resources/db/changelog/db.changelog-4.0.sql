@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset rollie:1 runInTransaction:false
+-- expression index instead of a stored column, so tickets is never rewritten; fts_match/fts_rank render the same expression
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tickets_search ON tickets USING GIN (
+    (setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+     setweight(to_tsvector('english', coalesce(description, '')), 'B'))
+    );
@@ -0,0 +1,7 @@
+--liquibase formatted sql
+
+--changeset rollie:1 runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tickets_created_at_id ON tickets (created_at, id);
+
+--changeset rollie:2 runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tickets_created_by_id_created_at_id ON tickets (created_by_id, created_at, id);
@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+--changeset rollie:1 runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tickets_pending_first_response_deadline ON tickets (first_response_deadline)
+    WHERE response_sla_status = 'ON_TRACK' AND first_responded_at IS NULL;
+
+--changeset rollie:2 runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tickets_pending_resolution_deadline ON tickets (resolution_deadline)
+    WHERE resolution_sla_status = 'ON_TRACK' AND resolved_at IS NULL;
@@ -0,0 +1,26 @@
+--liquibase formatted sql
+
+--changeset rollie:1
+CREATE TABLE sla_deadlines
+(
+    ticket_id     BIGINT REFERENCES tickets (id) ON DELETE CASCADE NOT NULL,
+    deadline_type VARCHAR(32)                                      NOT NULL,
+    due_at        TIMESTAMPTZ                                      NOT NULL,
+
+    PRIMARY KEY (ticket_id, deadline_type)
+);
+CREATE INDEX IF NOT EXISTS idx_sla_deadlines_due_at ON sla_deadlines (due_at);
+
+--changeset rollie:2
+INSERT INTO sla_deadlines (ticket_id, deadline_type, due_at)
+SELECT id, 'FIRST_RESPONSE', first_response_deadline
+FROM tickets
+WHERE response_sla_status = 'ON_TRACK'
+  AND first_responded_at IS NULL
+  AND first_response_deadline IS NOT NULL
+UNION ALL
+SELECT id, 'RESOLUTION', resolution_deadline
+FROM tickets
+WHERE resolution_sla_status = 'ON_TRACK'
+  AND resolved_at IS NULL
+  AND resolution_deadline IS NOT NULL;
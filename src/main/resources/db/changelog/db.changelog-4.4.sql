@@ -0,0 +1,10 @@
+--liquibase formatted sql
+
+--changeset rollie:1
+CREATE TABLE scheduler_locks
+(
+    name         VARCHAR(64) PRIMARY KEY,
+    locked_until TIMESTAMPTZ  NOT NULL,
+    locked_at    TIMESTAMPTZ  NOT NULL,
+    locked_by    VARCHAR(255) NOT NULL
+);
@@ -0,0 +1,5 @@
+--liquibase formatted sql
+
+--changeset rollie:1 runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tickets_resolved_resolved_at_id ON tickets (resolved_at, id)
+    WHERE status = 'RESOLVED';
@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset rollie:1
+-- ids are handed out by Hibernate's pooled optimizer in blocks of 50, the column defaults stay for plain SQL inserts
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE tickets_id_seq INCREMENT BY 50;
+ALTER SEQUENCE ticket_comments_id_seq INCREMENT BY 50;
+ALTER SEQUENCE ticket_events_id_seq INCREMENT BY 50;
@@ -0,0 +1,103 @@
+--liquibase formatted sql
+
+--changeset rollie:1
+ALTER TABLE ticket_events RENAME TO ticket_events_unpartitioned;
+ALTER INDEX ticket_events_pkey RENAME TO ticket_events_unpartitioned_pkey;
+ALTER INDEX idx_ticket_events_ticket_id RENAME TO idx_ticket_events_unpartitioned_ticket_id;
+
+-- monthly range partitions on created_at, the primary key has to include the partition key
+CREATE TABLE ticket_events
+(
+    id               BIGINT      NOT NULL DEFAULT nextval('ticket_events_id_seq'),
+    ticket_id        BIGINT      NOT NULL REFERENCES tickets (id) ON DELETE CASCADE,
+    actor_id         INT REFERENCES users (id),
+    event_type       VARCHAR(32) NOT NULL,
+    payload          JSONB       NOT NULL,
+    created_at       TIMESTAMPTZ NOT NULL,
+    audit_created_by VARCHAR(255),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+ALTER SEQUENCE ticket_events_id_seq OWNED BY ticket_events.id;
+-- matches the timeline order, so a page is a range scan of the index instead of a sort of every event of the ticket;
+-- created while the table is still empty, every partition inherits it
+CREATE INDEX IF NOT EXISTS idx_ticket_events_ticket_id_created_at_id
+    ON ticket_events (ticket_id, created_at DESC, id DESC);
+
+-- catches rows outside every monthly partition, e.g. backdated system events
+CREATE TABLE ticket_events_default PARTITION OF ticket_events DEFAULT;
+
+--changeset rollie:2 splitStatements:false
+-- creates the partition of the given month (UTC) unless it exists, rows of that month are moved out of the default partition
+CREATE OR REPLACE FUNCTION create_ticket_events_partition(for_month DATE) RETURNS TEXT
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    month_start TIMESTAMPTZ := date_trunc('month', for_month::timestamp) AT TIME ZONE 'UTC';
+    month_end   TIMESTAMPTZ := (date_trunc('month', for_month::timestamp) + INTERVAL '1 month') AT TIME ZONE 'UTC';
+    partition   TEXT        := 'ticket_events_' || to_char(for_month, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE ticket_events INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition);
+    EXECUTE format('WITH moved AS (DELETE FROM ticket_events_default WHERE created_at >= %L AND created_at < %L RETURNING *) '
+                       || 'INSERT INTO %I SELECT * FROM moved', month_start, month_end, partition);
+    EXECUTE format('ALTER TABLE ticket_events ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition, month_start, month_end);
+    RETURN partition;
+END
+$$;
+
+--changeset rollie:3 splitStatements:false
+DO
+$$
+DECLARE
+    month DATE;
+BEGIN
+    FOR month IN
+        SELECT generate_series(
+                       date_trunc('month', coalesce((SELECT min(created_at) FROM ticket_events_unpartitioned), now()) AT TIME ZONE 'UTC'),
+                       date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months',
+                       INTERVAL '1 month')::date
+    LOOP
+        PERFORM create_ticket_events_partition(month);
+    END LOOP;
+END
+$$;
+
+--changeset rollie:4 splitStatements:false
+-- copies the events by id range and commits after every batch, so locks are only held for one batch and a rerun
+-- resumes after the last copied batch; new events get ids above the legacy ones from the shared sequence
+CREATE OR REPLACE PROCEDURE copy_unpartitioned_ticket_events(batch_size INT)
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    last_id BIGINT;
+    max_id  BIGINT;
+BEGIN
+    IF to_regclass('ticket_events_unpartitioned') IS NULL THEN
+        RETURN;
+    END IF;
+
+    SELECT coalesce(max(id), 0) INTO max_id FROM ticket_events_unpartitioned;
+    SELECT coalesce(max(id), 0) INTO last_id FROM ticket_events WHERE id <= max_id;
+    WHILE last_id < max_id
+        LOOP
+            INSERT INTO ticket_events
+            SELECT *
+            FROM ticket_events_unpartitioned
+            WHERE id > last_id
+              AND id <= last_id + batch_size;
+            last_id := last_id + batch_size;
+            COMMIT;
+        END LOOP;
+
+    DROP TABLE ticket_events_unpartitioned;
+END
+$$;
+
+--changeset rollie:5 runInTransaction:false
+-- runs synchronously while Liquibase migrates on startup, so the upgrading node only starts once all events are copied
+CALL copy_unpartitioned_ticket_events(10000);
+DROP PROCEDURE copy_unpartitioned_ticket_events(INT);
@@ -0,0 +1,20 @@
+--liquibase formatted sql
+
+--changeset rollie:1 splitStatements:false
+-- notifications are delivered when the inserting transaction commits and never for rolled back rows,
+-- the payload is 'ticket_id,event_id' so listeners can skip tickets nobody is watching without a query
+CREATE OR REPLACE FUNCTION notify_ticket_event() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    PERFORM pg_notify('ticket_events', NEW.ticket_id || ',' || NEW.id);
+    RETURN NULL;
+END
+$$;
+
+--changeset rollie:2
+CREATE TRIGGER ticket_events_notify
+    AFTER INSERT
+    ON ticket_events
+    FOR EACH ROW
+EXECUTE FUNCTION notify_ticket_event();
@@ -0,0 +1,13 @@
+--liquibase formatted sql
+
+--changeset rollie:1
+-- the application bumps it in the same transaction as every event insert, so a ticket's revision is read from
+-- its own row instead of counting its events
+ALTER TABLE tickets
+    ADD COLUMN event_seq BIGINT NOT NULL DEFAULT 0;
+
+--changeset rollie:2
+UPDATE tickets t
+SET event_seq = e.cnt
+FROM (SELECT ticket_id, count(*) AS cnt FROM ticket_events GROUP BY ticket_id) e
+WHERE t.id = e.ticket_id;
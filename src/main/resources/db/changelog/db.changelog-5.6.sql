@@ -0,0 +1,21 @@
+--liquibase formatted sql
+
+--changeset rollie:1 splitStatements:false
+-- the payload becomes 'ticket_id,event_id,assignee_id' (empty when unassigned), so listeners can also skip events
+-- no assignee queue is watching without a query; an assignment is inserted before Hibernate updates the ticket row,
+-- so its new assignee is taken from the event itself
+CREATE OR REPLACE FUNCTION notify_ticket_event() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    assignee_id TEXT;
+BEGIN
+    IF NEW.event_type = 'ASSIGNED' THEN
+        assignee_id := NEW.payload ->> 'assigneeId';
+    ELSE
+        SELECT assigned_to_id INTO assignee_id FROM tickets WHERE id = NEW.ticket_id;
+    END IF;
+    PERFORM pg_notify('ticket_events', NEW.ticket_id || ',' || NEW.id || ',' || coalesce(assignee_id, ''));
+    RETURN NULL;
+END
+$$;
@@ -445,3 +445,8 @@ VALUES (1001, 1001, 1004, 'CREATED', '{
 
 SELECT setval('ticket_events_id_seq', GREATEST((SELECT max(id) FROM ticket_events), 1046));
 
+--changeset rollie:demo-event-seq context:@dev
+UPDATE tickets t
+SET event_seq = e.cnt
+FROM (SELECT ticket_id, count(*) AS cnt FROM ticket_events GROUP BY ticket_id) e
+WHERE t.id = e.ticket_id;
@@ -0,0 +1,112 @@
+package com.rolliedev.ticketflow.integration;
+
+import com.rolliedev.ticketflow.dto.CreateTicketRequest;
+import com.rolliedev.ticketflow.dto.TicketResponse;
+import com.rolliedev.ticketflow.entity.UserEntity;
+import com.rolliedev.ticketflow.jdbc.ReadWriteRoutingDataSource;
+import com.rolliedev.ticketflow.jdbc.ReplicaLagMonitor;
+import com.rolliedev.ticketflow.service.TicketEventService;
+import com.rolliedev.ticketflow.service.TicketService;
+import com.rolliedev.ticketflow.testsupport.base.AbstractSpringBootIT;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlMergeMode;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing is wired against the test database acting as its own replica, which is never in recovery and so
+ * never lags. The repository calls run in their own read-only transactions, so the test data is committed and
+ * cleaned up after each test.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "app.read-replicas.enabled=true",
+        "app.read-replicas.nodes[0].url=${spring.datasource.url}",
+        "app.read-replicas.sticky-window=1m"
+})
+class ReadReplicaRoutingIT extends AbstractSpringBootIT {
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+    @Autowired
+    private TicketService ticketService;
+    @Autowired
+    private TicketEventService eventService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        replicaLagMonitor.checkLag();
+    }
+
+    @Test
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = "classpath:sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        double replicaReadsBefore = routed("replica-1", "read_only");
+
+        assertThat(ticketRepository.findById(1L)).isPresent();
+
+        assertThat(routed("replica-1", "read_only")).isEqualTo(replicaReadsBefore + 1);
+        assertThat(replicaLagMonitor.usableReplicas()).singleElement()
+                .satisfies(replica -> assertThat(replica.getLag()).isZero());
+    }
+
+    @Test
+    @WithMockUser(username = "clark.kent@gmail.com", authorities = "CUSTOMER")
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = "classpath:sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldReadOwnWritesFromPrimaryWithinStickyWindow() {
+        UserEntity customer = userRepository.findByEmail("clark.kent@gmail.com").orElseThrow();
+        double stickyReadsBefore = routed("primary", "sticky");
+
+        TicketResponse created = ticketService.create(new CreateTicketRequest("sticky", "sticky"), customer.getId());
+
+        assertThat(ticketRepository.findById(created.id())).isPresent();
+        assertThat(routed("primary", "sticky")).isEqualTo(stickyReadsBefore + 1);
+    }
+
+    // the SSE listener looks events up right after their commit and without a user, a replica may not have them yet
+    @Test
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = "classpath:sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldReadStreamedEventsFromPrimaryWithoutUser() {
+        double replicaReadsBefore = routed("replica-1", "read_only");
+
+        assertThat(eventService.findStreamedEvents(List.of(1L))).singleElement()
+                .satisfies(streamed -> assertThat(streamed.event().id()).isEqualTo(1L));
+
+        assertThat(routed("replica-1", "read_only")).isEqualTo(replicaReadsBefore);
+    }
+
+    @Test
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = "classpath:sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldExposeSeparatePoolMetricsPerTarget() throws SQLException {
+        assertThat(dataSource.isWrapperFor(ReadWriteRoutingDataSource.class)).isTrue();
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "replica-1").gauge()).isNotNull();
+        assertThat(meterRegistry.get("datasource.replica.lag").tag("replica", "replica-1").gauge().value()).isZero();
+    }
+
+    private double routed(String target, String reason) {
+        Counter counter = meterRegistry.find("datasource.read.routing").tag("target", target).tag("reason", reason).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
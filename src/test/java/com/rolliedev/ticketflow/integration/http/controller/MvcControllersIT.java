@@ -1,5 +1,6 @@
 package com.rolliedev.ticketflow.integration.http.controller;
 
+import com.rolliedev.ticketflow.dto.CountMode;
 import com.rolliedev.ticketflow.entity.TicketEntity;
 import com.rolliedev.ticketflow.entity.UserEntity;
 import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
@@ -9,13 +10,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
+import static com.rolliedev.ticketflow.testsupport.util.QueryBudget.queryCountAtMost;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.flash;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
@@ -220,6 +225,29 @@ public class MvcControllersIT extends AbstractRestIT {
                 ));
     }
 
+    @Test
+    void shouldRenderTicketListWithoutTotalsWhenCountModeIsNone() throws Exception {
+        mockMvc.perform(get("/tickets")
+                        .with(user(new TicketFlowUserDetails(admin)))
+                        .param("count", "NONE")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("countMode", equalTo(CountMode.NONE)))
+                .andExpect(content().string(containsString("page=1&amp;size=2&amp;count=NONE")))
+                .andExpect(content().string(not(containsString(" of "))));
+    }
+
+    @Test
+    void shouldRenderTicketListWithEstimatedTotalWhenCountModeIsEstimated() throws Exception {
+        mockMvc.perform(get("/tickets")
+                        .with(user(new TicketFlowUserDetails(admin)))
+                        .param("count", "ESTIMATED")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("of about")))
+                .andExpect(content().string(containsString("count=ESTIMATED")));
+    }
+
     @Test
     void shouldIncludeInternalFiltersInModelWhenCalledByInternalUser() throws Exception {
         mockMvc.perform(get("/tickets")
@@ -259,6 +287,7 @@ public class MvcControllersIT extends AbstractRestIT {
         mockMvc.perform(get("/tickets/{id}", ticket1.getId())
                         .with(user(new TicketFlowUserDetails(agent))))
                 .andExpect(status().isOk())
+                .andExpect(queryCountAtMost(3))
                 .andExpect(model().attributeExists("timeline", "internalUsers"));
     }
 
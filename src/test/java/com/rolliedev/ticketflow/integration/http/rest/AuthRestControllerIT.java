@@ -0,0 +1,108 @@
+package com.rolliedev.ticketflow.integration.http.rest;
+
+import com.rolliedev.ticketflow.entity.UserEntity;
+import com.rolliedev.ticketflow.testsupport.base.AbstractRestIT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import tools.jackson.databind.JsonNode;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AuthRestControllerIT extends AbstractRestIT {
+
+    private UserEntity customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.findByEmail("clark.kent@gmail.com").orElseThrow();
+    }
+
+    @Test
+    void shouldAuthenticateApiCallsWithIssuedToken() throws Exception {
+        String token = issueToken("clark.kent@gmail.com", "123");
+
+        mockMvc.perform(get("/api/v1/users/{id}", customer.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.id").value(customer.getId()),
+                        jsonPath("$.email").value("clark.kent@gmail.com")
+                );
+    }
+
+    @Test
+    void shouldKeepRoleFromTokenForAuthorization() throws Exception {
+        String token = issueToken("clark.kent@gmail.com", "123");
+
+        mockMvc.perform(get("/api/v1/users")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldReturn401WhenIssuingTokenWithWrongPassword() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/token")
+                        .with(httpBasic("clark.kent@gmail.com", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldNotIssueTokenForBearerToken() throws Exception {
+        String token = issueToken("clark.kent@gmail.com", "123");
+
+        mockMvc.perform(post("/api/v1/auth/token")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldReturn401ForInvalidToken() throws Exception {
+        mockMvc.perform(get("/api/v1/users/{id}", customer.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer forged.token"))
+                .andExpectAll(
+                        status().isUnauthorized(),
+                        header().string(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"")
+                );
+    }
+
+    @Test
+    void shouldRejectRevokedToken() throws Exception {
+        String token = issueToken("clark.kent@gmail.com", "123");
+
+        mockMvc.perform(delete("/api/v1/auth/token")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/users/{id}", customer.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldReturn400WhenRevokingWithoutToken() throws Exception {
+        mockMvc.perform(delete("/api/v1/auth/token")
+                        .with(httpBasic("clark.kent@gmail.com", "123")))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String issueToken(String email, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/auth/token")
+                        .with(httpBasic(email, password)))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.tokenType").value("Bearer")
+                )
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        JsonNode response = objectMapper.readTree(body);
+        return response.get("accessToken").asString();
+    }
+}
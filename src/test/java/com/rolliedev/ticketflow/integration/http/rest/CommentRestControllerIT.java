@@ -7,12 +7,15 @@ import com.rolliedev.ticketflow.entity.enums.TicketStatus;
 import com.rolliedev.ticketflow.testsupport.base.AbstractRestIT;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
+import static com.rolliedev.ticketflow.testsupport.util.QueryBudget.queryCountAtMost;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -31,6 +34,7 @@ public class CommentRestControllerIT extends AbstractRestIT {
         mockMvc.perform(get("/api/v1/tickets/{ticketId}/comments", ticket1.getId())
                         .with(httpBasic("clark.kent@gmail.com", "123")))
                 .andExpect(status().isOk())
+                .andExpect(queryCountAtMost(3))
                 .andExpect(jsonPath("$.metadata.totalElements").value(3))
                 .andExpect(jsonPath("$.content.length()").value(3));
     }
@@ -73,6 +77,32 @@ public class CommentRestControllerIT extends AbstractRestIT {
                 .andExpect(jsonPath("$.content.length()").value(1));
     }
 
+    @Test
+    void shouldAnswerNotModifiedUntilCommentIsAdded() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/tickets/{ticketId}/comments", ticket1.getId())
+                        .with(httpBasic("clark.kent@gmail.com", "123")))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/tickets/{ticketId}/comments", ticket1.getId())
+                        .with(httpBasic("clark.kent@gmail.com", "123"))
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/v1/tickets/{ticketId}/comments", ticket1.getId())
+                        .with(httpBasic("clark.kent@gmail.com", "123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateCommentRequest("Any news?"))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/v1/tickets/{ticketId}/comments", ticket1.getId())
+                        .with(httpBasic("clark.kent@gmail.com", "123"))
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.metadata.totalElements").value(4));
+    }
+
     @Test
     void shouldReturn404WhenCustomerRequestsCommentsOnTicketTheyDoNotOwn() throws Exception {
         mockMvc.perform(post("/api/v1/users")
@@ -0,0 +1,98 @@
+package com.rolliedev.ticketflow.integration.http.rest;
+
+import com.rolliedev.ticketflow.dto.AssignTicketRequest;
+import com.rolliedev.ticketflow.dto.ChangePriorityRequest;
+import com.rolliedev.ticketflow.entity.UserEntity;
+import com.rolliedev.ticketflow.entity.enums.TicketPriority;
+import com.rolliedev.ticketflow.service.stream.TicketEventNotificationListener;
+import com.rolliedev.ticketflow.testsupport.base.AbstractRestIT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlMergeMode;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// events reach the stream only after their transaction commits, so these tests commit and clean up after themselves
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TicketEventStreamIT extends AbstractRestIT {
+
+    private static final Duration DELIVERY_TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private TicketEventNotificationListener notificationListener;
+
+    private UserEntity agent;
+
+    @BeforeEach
+    void setUp() {
+        agent = userRepository.findByEmail("bruce.wayne@gmail.com").orElseThrow();
+        await().atMost(DELIVERY_TIMEOUT).until(notificationListener::isListening);
+    }
+
+    @Test
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = "classpath:sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldPushCommittedEventToSubscriberOfTicket() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/v1/tickets/{id}/events/stream", 1L)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(httpBasic("clark.kent@gmail.com", "123")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(patch("/api/v1/tickets/{id}/priority", 1L)
+                        .with(httpBasic("bruce.wayne@gmail.com", "123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ChangePriorityRequest(TicketPriority.LOW))))
+                .andExpect(status().isOk());
+
+        await().atMost(DELIVERY_TIMEOUT).untilAsserted(() -> assertThat(stream.getResponse().getContentAsString())
+                .contains("event:PRIORITY_CHANGED")
+                .contains("\"ticketId\":1")
+                .contains("\"newPriority\":\"LOW\""));
+    }
+
+    @Test
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = "classpath:sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldPushAssignmentToQueueOfNewAssignee() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/v1/tickets/assigned/events/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(httpBasic("bruce.wayne@gmail.com", "123")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(patch("/api/v1/tickets/{id}/assign", 2L)
+                        .with(httpBasic("lex.luthor@gmail.com", "123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AssignTicketRequest(agent.getId()))))
+                .andExpect(status().isOk());
+
+        await().atMost(DELIVERY_TIMEOUT).untilAsserted(() -> assertThat(stream.getResponse().getContentAsString())
+                .contains("event:ASSIGNED")
+                .contains("\"ticketId\":2"));
+    }
+
+    @Test
+    @SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+    @Sql(scripts = "classpath:sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldRejectQueueStreamOfCustomer() throws Exception {
+        mockMvc.perform(get("/api/v1/tickets/assigned/events/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(httpBasic("clark.kent@gmail.com", "123")))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -1,5 +1,6 @@
 package com.rolliedev.ticketflow.integration.http.rest;
 
+import com.jayway.jsonpath.JsonPath;
 import com.rolliedev.ticketflow.dto.AssignTicketRequest;
 import com.rolliedev.ticketflow.dto.ChangePriorityRequest;
 import com.rolliedev.ticketflow.dto.CreateTicketRequest;
@@ -12,11 +13,18 @@ import com.rolliedev.ticketflow.entity.enums.TicketStatus;
 import com.rolliedev.ticketflow.testsupport.base.AbstractRestIT;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.rolliedev.ticketflow.testsupport.util.QueryBudget.queryCountAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -45,6 +53,7 @@ public class TicketRestControllerIT extends AbstractRestIT {
         mockMvc.perform(get("/api/v1/tickets/{id}", ticket1.getId())
                         .with(httpBasic("lex.luthor@gmail.com", "123")))
                 .andExpect(status().isOk())
+                .andExpect(queryCountAtMost(3))
                 .andExpect(jsonPath("$.id").value(ticket1.getId()))
                 .andExpect(jsonPath("$.title").value("Cannot log in"))
                 .andExpect(jsonPath("$.status").value(TicketStatus.IN_PROGRESS.name()))
@@ -101,6 +110,7 @@ public class TicketRestControllerIT extends AbstractRestIT {
         mockMvc.perform(get("/api/v1/tickets")
                         .with(httpBasic("lex.luthor@gmail.com", "123")))
                 .andExpect(status().isOk())
+                .andExpect(queryCountAtMost(2))
                 .andExpect(jsonPath("$.metadata.totalElements").value(5))
                 .andExpect(jsonPath("$.content.length()").value(5));
     }
@@ -157,6 +167,89 @@ public class TicketRestControllerIT extends AbstractRestIT {
                 .andExpect(jsonPath("$.content.length()").value(2));
     }
 
+    @Test
+    void shouldReturnSliceWithoutTotalsWhenCountModeIsNone() throws Exception {
+        mockMvc.perform(get("/api/v1/tickets")
+                        .with(httpBasic("lex.luthor@gmail.com", "123"))
+                        .param("count", "NONE")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.metadata.hasNext").value(true))
+                .andExpect(jsonPath("$.metadata.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.metadata.totalPages").doesNotExist());
+    }
+
+    @Test
+    void shouldReportLastSliceWhenCountModeIsNone() throws Exception {
+        mockMvc.perform(get("/api/v1/tickets")
+                        .with(httpBasic("lex.luthor@gmail.com", "123"))
+                        .param("count", "NONE")
+                        .param("page", "2")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.metadata.hasNext").value(false));
+    }
+
+    @Test
+    void shouldReturnEstimatedTotalWhenCountModeIsEstimated() throws Exception {
+        mockMvc.perform(get("/api/v1/tickets")
+                        .with(httpBasic("clark.kent@gmail.com", "123"))
+                        .param("count", "ESTIMATED")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.metadata.totalEstimated").value(true))
+                .andExpect(jsonPath("$.metadata.totalElements").value(3))
+                .andExpect(jsonPath("$.metadata.hasNext").value(true));
+    }
+
+    @Test
+    void shouldWalkAllTicketsByCursorWhenCalledByAdmin() throws Exception {
+        List<Integer> seenIds = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+
+        do {
+            String json = mockMvc.perform(get("/api/v1/tickets")
+                            .with(httpBasic("lex.luthor@gmail.com", "123"))
+                            .param("cursor", cursor)
+                            .param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.metadata.totalElements").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+
+            seenIds.addAll(JsonPath.read(json, "$.content[*].id"));
+            cursor = JsonPath.read(json, "$.metadata.nextCursor");
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seenIds).hasSize(5).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldWalkOnlyOwnTicketsByCursorWhenCalledByCustomer() throws Exception {
+        mockMvc.perform(get("/api/v1/tickets")
+                        .with(httpBasic("clark.kent@gmail.com", "123"))
+                        .param("cursor", "")
+                        .param("sort", "id,asc")
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.content[*].createdBy.id", everyItem(equalTo(customer.getId()))))
+                .andExpect(jsonPath("$.metadata.hasNext").value(false))
+                .andExpect(jsonPath("$.metadata.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void shouldReturn400WhenCursorIsMalformed() throws Exception {
+        mockMvc.perform(get("/api/v1/tickets")
+                        .with(httpBasic("lex.luthor@gmail.com", "123"))
+                        .param("cursor", "garbage"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldReturn401WhenListingTicketsWithoutAuthentication() throws Exception {
         mockMvc.perform(get("/api/v1/tickets"))
@@ -168,8 +261,82 @@ public class TicketRestControllerIT extends AbstractRestIT {
         mockMvc.perform(get("/api/v1/tickets/{id}/events", ticket1.getId())
                         .with(httpBasic("lex.luthor@gmail.com", "123")))
                 .andExpect(status().isOk())
+                .andExpect(queryCountAtMost(3))
                 .andExpect(jsonPath("$.metadata.totalElements").value(7))
-                .andExpect(jsonPath("$.content").isArray());
+                .andExpect(jsonPath("$.content").isArray())
+                // the test data stores ids as strings like older releases did, the typed payload serves them as numbers
+                .andExpect(jsonPath("$.content[6].eventType").value("CREATED"))
+                .andExpect(jsonPath("$.content[6].payload.createdById").value(3));
+    }
+
+    @Test
+    void shouldWalkTimelineByCursorInSameOrderAsPagedTimeline() throws Exception {
+        String pagedJson = mockMvc.perform(get("/api/v1/tickets/{id}/events", ticket1.getId())
+                        .with(httpBasic("lex.luthor@gmail.com", "123")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<Integer> seenIds = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+
+        do {
+            String json = mockMvc.perform(get("/api/v1/tickets/{id}/events", ticket1.getId())
+                            .with(httpBasic("lex.luthor@gmail.com", "123"))
+                            .param("cursor", cursor)
+                            .param("size", "3"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.metadata.totalElements").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+
+            seenIds.addAll(JsonPath.read(json, "$.content[*].id"));
+            cursor = JsonPath.read(json, "$.metadata.nextCursor");
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seenIds).containsExactlyElementsOf(JsonPath.read(pagedJson, "$.content[*].id"));
+    }
+
+    @Test
+    void shouldAnswerNotModifiedUntilTicketChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/tickets/{id}", ticket1.getId())
+                        .with(httpBasic("bruce.wayne@gmail.com", "123")))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/tickets/{id}", ticket1.getId())
+                        .with(httpBasic("bruce.wayne@gmail.com", "123"))
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        mockMvc.perform(patch("/api/v1/tickets/{id}/priority", ticket1.getId())
+                        .with(httpBasic("bruce.wayne@gmail.com", "123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ChangePriorityRequest(TicketPriority.LOW))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/tickets/{id}", ticket1.getId())
+                        .with(httpBasic("bruce.wayne@gmail.com", "123"))
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.priority").value(TicketPriority.LOW.name()));
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForUnchangedTimeline() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/tickets/{id}/events", ticket1.getId())
+                        .with(httpBasic("lex.luthor@gmail.com", "123")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/tickets/{id}/events", ticket1.getId())
+                        .with(httpBasic("lex.luthor@gmail.com", "123"))
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(queryCountAtMost(1));
     }
 
     @Test
@@ -0,0 +1,58 @@
+package com.rolliedev.ticketflow.integration.repository;
+
+import com.rolliedev.ticketflow.repository.SchedulerLockRepository;
+import com.rolliedev.ticketflow.testsupport.base.AbstractSpringBootIT;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchedulerLockRepositoryIT extends AbstractSpringBootIT {
+
+    private static final String JOB = "test-job";
+
+    @Autowired
+    private SchedulerLockRepository lockRepository;
+
+    @Test
+    void shouldGrantLockToOnlyOneNodeAtATime() {
+        assertThat(lockRepository.tryLock(JOB, Duration.ofMinutes(10), "node-a")).isTrue();
+        assertThat(lockRepository.tryLock(JOB, Duration.ofMinutes(10), "node-b")).isFalse();
+        assertThat(lockRepository.tryLock(JOB, Duration.ofMinutes(10), "node-a")).isFalse();
+    }
+
+    @Test
+    void shouldHandLockOverAfterReleaseWithoutLockAtLeastFor() {
+        lockRepository.tryLock(JOB, Duration.ofMinutes(10), "node-a");
+
+        lockRepository.unlock(JOB, Duration.ZERO, "node-a");
+
+        assertThat(lockRepository.tryLock(JOB, Duration.ofMinutes(10), "node-b")).isTrue();
+    }
+
+    @Test
+    void shouldKeepLockUntilLockAtLeastForElapses() {
+        lockRepository.tryLock(JOB, Duration.ofMinutes(10), "node-a");
+
+        lockRepository.unlock(JOB, Duration.ofMinutes(5), "node-a");
+
+        assertThat(lockRepository.tryLock(JOB, Duration.ofMinutes(10), "node-b")).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreReleaseFromNodeThatDoesNotHoldLock() {
+        lockRepository.tryLock(JOB, Duration.ofMinutes(10), "node-a");
+
+        lockRepository.unlock(JOB, Duration.ZERO, "node-b");
+
+        assertThat(lockRepository.tryLock(JOB, Duration.ofMinutes(10), "node-b")).isFalse();
+    }
+
+    @Test
+    void shouldLockJobsIndependently() {
+        assertThat(lockRepository.tryLock(JOB, Duration.ofMinutes(10), "node-a")).isTrue();
+        assertThat(lockRepository.tryLock("other-job", Duration.ofMinutes(10), "node-b")).isTrue();
+    }
+}
@@ -0,0 +1,72 @@
+package com.rolliedev.ticketflow.integration.repository;
+
+import com.rolliedev.ticketflow.entity.enums.TicketEventType;
+import com.rolliedev.ticketflow.repository.TicketEventPartitionRepository;
+import com.rolliedev.ticketflow.testsupport.base.AbstractSpringBootIT;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TicketEventPartitionRepositoryIT extends AbstractSpringBootIT {
+
+    private static final YearMonth MONTH = YearMonth.of(2020, 3);
+
+    @Autowired
+    private TicketEventPartitionRepository partitionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldMoveRowsOutOfDefaultPartitionWhenMonthPartitionIsCreated() {
+        insertEvent(Instant.parse("2020-03-15T12:00:00Z"));
+        insertEvent(Instant.parse("2020-04-01T00:00:00Z"));
+        assertThat(countMarchRows("ticket_events_default")).isEqualTo(1);
+
+        boolean created = partitionRepository.createPartition(MONTH);
+        boolean createdAgain = partitionRepository.createPartition(MONTH);
+
+        assertThat(created).isTrue();
+        assertThat(createdAgain).isFalse();
+        assertThat(partitionRepository.findPartitionMonths()).contains(MONTH);
+        assertThat(countMarchRows("ticket_events_2020_03")).isEqualTo(1);
+        assertThat(countMarchRows("ticket_events_default")).isZero();
+        assertThat(countMarchRows("ticket_events")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCreatePartitionsForCurrentMonthAtStartup() {
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+
+        assertThat(partitionRepository.findPartitionMonths()).contains(currentMonth, currentMonth.plusMonths(1));
+    }
+
+    @Test
+    void shouldDropPartitionWithItsRows() {
+        insertEvent(Instant.parse("2020-03-15T12:00:00Z"));
+        partitionRepository.createPartition(MONTH);
+
+        partitionRepository.dropPartition(MONTH);
+
+        assertThat(partitionRepository.findPartitionMonths()).doesNotContain(MONTH);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM ticket_events WHERE created_at >= '2020-03-01Z' AND created_at < '2020-04-01Z'", Long.class)).isZero();
+    }
+
+    private void insertEvent(Instant createdAt) {
+        Long ticketId = jdbcTemplate.queryForObject("SELECT min(id) FROM tickets", Long.class);
+        jdbcTemplate.update("INSERT INTO ticket_events (ticket_id, event_type, payload, created_at) VALUES (?, ?, '{}', ?)",
+                ticketId, TicketEventType.CREATED.name(), Timestamp.from(createdAt));
+    }
+
+    private long countMarchRows(String table) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + table + " WHERE created_at >= '2020-03-01Z' AND created_at < '2020-04-01Z'", Long.class);
+    }
+}
@@ -8,10 +8,12 @@ import com.rolliedev.ticketflow.testsupport.base.AbstractJpaIT;
 import com.rolliedev.ticketflow.testsupport.util.DataUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
+import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,7 +24,7 @@ class TicketEventRepositoryIT extends AbstractJpaIT {
     private TicketEventRepository eventRepository;
 
     @Test
-    void shouldReturnAllEventsByTicketIdOrderedByCreatedAtDesc() {
+    void shouldReturnAllEventsByTicketIdCreatedSinceOrderedByCreatedAtDesc() {
         // given
         TicketEventEntity event1 = DataUtils.getTransientTicketCreatedEvent(ticket2, customer);
         TicketEventEntity event2 = DataUtils.getTransientTicketCommentedEvent(ticket2, customer, TicketCommentEntity.builder().id(4L).build());
@@ -31,7 +33,7 @@ class TicketEventRepositoryIT extends AbstractJpaIT {
         flushAndClear();
 
         // when
-        Page<TicketEventEntity> actualResult = eventRepository.findAllByTicketId(ticket2.getId(),
+        Page<TicketEventEntity> actualResult = eventRepository.findAllByTicketIdAndCreatedAtGreaterThanEqual(ticket2.getId(), Instant.EPOCH,
                 PageRequest.of(0, 10, Sort.Direction.DESC, "createdAt", "id"));
 
         // then
@@ -40,6 +42,31 @@ class TicketEventRepositoryIT extends AbstractJpaIT {
                 .map(TicketEventEntity::getId)
                 .toList();
         assertThat(ticketEventIds).containsExactly(event3.getId(), event2.getId(), event1.getId());
-        assertThat(actualResult.getContent().getFirst().getPayload()).containsEntry("newStatus", TicketStatus.CLOSED.name());
+        assertThat(actualResult.getContent().getFirst().getPayload()).contains("\"newStatus\": \"CLOSED\"");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldWalkTimelineByCursorBreakingCreatedAtTiesById() {
+        // given
+        TicketEventEntity event1 = DataUtils.getTransientTicketCreatedEvent(ticket2, customer);
+        TicketEventEntity event2 = DataUtils.getTransientTicketCommentedEvent(ticket2, customer, TicketCommentEntity.builder().id(4L).build());
+        TicketEventEntity event3 = DataUtils.getTransientTicketStatusChangedEvent(ticket2, customer, ticket2.getStatus(), TicketStatus.CLOSED);
+        eventRepository.saveAll(List.of(event1, event2, event3));
+        flushAndClear();
+        Instant sameInstant = ticket2.getCreatedAt().plusSeconds(60);
+        entityManager.createQuery("update TicketEventEntity e set e.createdAt = :createdAt where e.ticket.id = :ticketId")
+                .setParameter("createdAt", sameInstant)
+                .setParameter("ticketId", ticket2.getId())
+                .executeUpdate();
+        Instant from = ticket2.getCreatedAt().minusSeconds(60);
+
+        // when
+        List<TicketEventEntity> firstPage = eventRepository.findTimeline(ticket2.getId(), from, Limit.of(2));
+        TicketEventEntity last = firstPage.getLast();
+        List<TicketEventEntity> secondPage = eventRepository.findTimelineBefore(ticket2.getId(), from, last.getCreatedAt(), last.getId(), Limit.of(2));
+
+        // then
+        assertThat(firstPage).extracting(TicketEventEntity::getId).containsExactly(event3.getId(), event2.getId());
+        assertThat(secondPage).extracting(TicketEventEntity::getId).containsExactly(event1.getId());
+    }
+}
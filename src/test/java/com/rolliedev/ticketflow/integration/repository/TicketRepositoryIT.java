@@ -1,11 +1,14 @@
 package com.rolliedev.ticketflow.integration.repository;
 
 import com.querydsl.core.types.Predicate;
+import com.rolliedev.ticketflow.dto.TicketListItem;
 import com.rolliedev.ticketflow.dto.TicketSearchFilter;
+import com.rolliedev.ticketflow.dto.UserSummary;
 import com.rolliedev.ticketflow.entity.TicketEntity;
 import com.rolliedev.ticketflow.entity.enums.SlaStatus;
 import com.rolliedev.ticketflow.entity.enums.TicketPriority;
 import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+import com.rolliedev.ticketflow.querydsl.KeywordSearchMode;
 import com.rolliedev.ticketflow.querydsl.TicketPredicateBuilder;
 import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
 import com.rolliedev.ticketflow.testsupport.base.AbstractJpaIT;
@@ -13,8 +16,10 @@ import com.rolliedev.ticketflow.testsupport.util.DataUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -76,6 +81,110 @@ class TicketRepositoryIT extends AbstractJpaIT {
                 .containsExactlyInAnyOrder(ticket4.getId(), ticket5.getId());
     }
 
+    @Test
+    void shouldReturnMatchingTicketsWhenFilterByKeywordInSubstringMode() {
+        TicketEntity ticket4 = DataUtils.getTransientTicket(
+                "Unable to open dashboard", "Dashboards keep spinning forever", customer
+        );
+        ticketRepository.save(ticket4);
+        flushAndClear();
+
+        Predicate predicate = ticketPredicateBuilder.buildPredicate(
+                TicketSearchFilter.builder()
+                        .keyword("dashb")
+                        .build(),
+                new TicketFlowUserDetails(agent),
+                KeywordSearchMode.SUBSTRING
+        );
+
+        Page<TicketEntity> actualResult = ticketRepository.findAll(predicate, PageRequest.of(0, 10));
+
+        assertThat(actualResult.getContent())
+                .extracting(TicketEntity::getId)
+                .containsExactly(ticket4.getId());
+    }
+
+    @Test
+    void shouldReturnTicketsOrderedByRelevanceWhenSearchingByFullText() {
+        TicketEntity descriptionMatch = DataUtils.getTransientTicket(
+                "Payment issue", "The invoice page shows a wrong invoice total", customer
+        );
+        TicketEntity titleMatch = DataUtils.getTransientTicket(
+                "Invoice is missing", "I did not receive my invoice for March", customer
+        );
+        ticketRepository.saveAll(List.of(descriptionMatch, titleMatch));
+        flushAndClear();
+
+        TicketSearchFilter filter = TicketSearchFilter.builder()
+                .keyword("invoices")
+                .build();
+        Predicate predicate = ticketPredicateBuilder.buildPredicate(filter, new TicketFlowUserDetails(agent), KeywordSearchMode.FULL_TEXT);
+
+        Page<TicketListItem> actualResult = ticketRepository.findListItems(
+                predicate, ticketPredicateBuilder.fullTextRank(filter.keyword()), PageRequest.of(0, 10)
+        );
+
+        assertThat(actualResult.getTotalElements()).isEqualTo(2);
+        assertThat(actualResult.getContent())
+                .extracting(TicketListItem::id)
+                .containsExactly(titleMatch.getId(), descriptionMatch.getId());
+    }
+
+    @Test
+    void shouldEstimateFilteredTicketsFromPlannerRows() {
+        TicketEntity ticket4 = DataUtils.getTransientTicket(
+                "Invoice is missing", "I did not receive my invoice for March", TicketStatus.NEW, TicketPriority.LOW, customer, null
+        );
+        ticketRepository.save(ticket4);
+        flushAndClear();
+
+        Predicate byStatus = ticketPredicateBuilder.buildPredicate(
+                TicketSearchFilter.builder()
+                        .status(TicketStatus.NEW)
+                        .creatorId(customer.getId())
+                        .build(),
+                new TicketFlowUserDetails(agent)
+        );
+        Predicate byKeyword = ticketPredicateBuilder.buildPredicate(
+                TicketSearchFilter.builder()
+                        .keyword("invoice")
+                        .build(),
+                new TicketFlowUserDetails(agent),
+                KeywordSearchMode.FULL_TEXT
+        );
+
+        // planner estimates are never exact, but always at least one row and never more than the table holds
+        entityManager.createNativeQuery("ANALYZE tickets").executeUpdate();
+        long total = ticketRepository.count();
+
+        assertThat(ticketRepository.estimateCount(byStatus)).isBetween(1L, total);
+        assertThat(ticketRepository.estimateCount(byKeyword)).isBetween(1L, total);
+    }
+
+    @Test
+    void shouldProjectListItemsWithCreatorAndOptionalAssignee() {
+        TicketEntity unassigned = ticketRepository.save(DataUtils.getTransientTicket("Unassigned", "No one yet", customer));
+        flushAndClear();
+
+        Predicate predicate = ticketPredicateBuilder.buildPredicate(
+                TicketSearchFilter.builder().build(), new TicketFlowUserDetails(customer), KeywordSearchMode.FULL_TEXT
+        );
+
+        Page<TicketListItem> actualResult = ticketRepository.findListItems(
+                predicate, null, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"))
+        );
+
+        TicketListItem item = actualResult.getContent().getFirst();
+        assertThat(item.id()).isEqualTo(unassigned.getId());
+        assertThat(item.title()).isEqualTo("Unassigned");
+        assertThat(item.createdBy()).isEqualTo(new UserSummary(customer.getId(), customer.getFullName(), customer.getEmail()));
+        assertThat(item.assignedTo()).isNull();
+        assertThat(actualResult.getContent())
+                .extracting(TicketListItem::createdBy)
+                .extracting(UserSummary::id)
+                .containsOnly(customer.getId());
+    }
+
     @Test
     void shouldReturnOnlyResolvedTicketsAtOrBeforeThreshold() {
         Instant threshold = Instant.parse("2026-05-15T10:00:00Z");
@@ -118,16 +227,33 @@ class TicketRepositoryIT extends AbstractJpaIT {
 
         flushAndClear();
 
-        List<TicketEntity> actualResult = ticketRepository.findResolvedTicketsOlderThan(threshold);
+        List<TicketEntity> actualResult = ticketRepository.findResolvedTicketsOlderThan(threshold, Instant.EPOCH, 0L, Limit.of(10));
 
         assertThat(actualResult)
                 .extracting(TicketEntity::getId)
-                .containsExactlyInAnyOrder(
+                .containsExactly(
                         oldResolved.getId(),
                         exactlyAtThreshold.getId()
                 );
     }
 
+    @Test
+    void shouldContinueResolvedTicketsAfterKeysetPositionInResolvedAtAndIdOrder() {
+        Instant threshold = Instant.parse("2026-05-15T10:00:00Z");
+        Instant resolvedAt = threshold.minus(1, ChronoUnit.HOURS);
+
+        TicketEntity first = saveTicket("First", TicketStatus.RESOLVED, resolvedAt);
+        TicketEntity second = saveTicket("Second", TicketStatus.RESOLVED, resolvedAt);
+        TicketEntity third = saveTicket("Third", TicketStatus.RESOLVED, threshold);
+        flushAndClear();
+
+        List<TicketEntity> firstChunk = ticketRepository.findResolvedTicketsOlderThan(threshold, Instant.EPOCH, 0L, Limit.of(1));
+        List<TicketEntity> secondChunk = ticketRepository.findResolvedTicketsOlderThan(threshold, resolvedAt, first.getId(), Limit.of(5));
+
+        assertThat(firstChunk).extracting(TicketEntity::getId).containsExactly(first.getId());
+        assertThat(secondChunk).extracting(TicketEntity::getId).containsExactly(second.getId(), third.getId());
+    }
+
     private TicketEntity saveTicket(String title, TicketStatus status, Instant resolvedAt) {
         TicketEntity ticket = TicketEntity.builder()
                 .title(title)
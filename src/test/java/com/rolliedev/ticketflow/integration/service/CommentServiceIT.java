@@ -299,7 +299,7 @@ class CommentServiceIT extends AbstractSpringBootIT {
 
     private List<TicketEventEntity> events(Long ticketId) {
         return eventRepository
-                .findAllByTicketId(ticketId, Pageable.unpaged())
+                .findAllByTicketIdAndCreatedAtGreaterThanEqual(ticketId, Instant.EPOCH, Pageable.unpaged())
                 .getContent();
     }
 
@@ -309,8 +309,8 @@ class CommentServiceIT extends AbstractSpringBootIT {
 
     private List<TicketEventEntity> latestEvents(Long ticketId, int count) {
         return eventRepository
-                .findAllByTicketId(
-                        ticketId,
+                .findAllByTicketIdAndCreatedAtGreaterThanEqual(
+                        ticketId, Instant.EPOCH,
                         PageRequest.of(0, count, Sort.by(Sort.Direction.DESC, "id"))
                 )
                 .getContent();
@@ -0,0 +1,220 @@
+package com.rolliedev.ticketflow.integration.service;
+
+import com.rolliedev.ticketflow.dto.CreateTicketRequest;
+import com.rolliedev.ticketflow.dto.TicketResponse;
+import com.rolliedev.ticketflow.entity.TicketEntity;
+import com.rolliedev.ticketflow.entity.TicketEventEntity;
+import com.rolliedev.ticketflow.entity.UserEntity;
+import com.rolliedev.ticketflow.entity.enums.SlaDeadlineType;
+import com.rolliedev.ticketflow.entity.enums.SlaStatus;
+import com.rolliedev.ticketflow.entity.enums.TicketEventType;
+import com.rolliedev.ticketflow.entity.enums.TicketPriority;
+import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+import com.rolliedev.ticketflow.entity.payload.FirstResponseSlaBreachedPayload;
+import com.rolliedev.ticketflow.entity.payload.ResolutionSlaBreachedPayload;
+import com.rolliedev.ticketflow.mapper.TicketEventPayloadCodec;
+import com.rolliedev.ticketflow.repository.SlaDeadlineQueueRepository;
+import com.rolliedev.ticketflow.service.TicketService;
+import com.rolliedev.ticketflow.service.sla.SlaService;
+import com.rolliedev.ticketflow.testsupport.base.AbstractSpringBootIT;
+import com.rolliedev.ticketflow.testsupport.util.DataUtils;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@TestPropertySource(properties = "app.sla.breach-batch-size=2")
+class SlaServiceIT extends AbstractSpringBootIT {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+    private static final Instant PAST_DEADLINE = Instant.parse("2026-01-01T09:00:00Z");
+    private static final Instant FUTURE_DEADLINE = Instant.parse("2026-01-01T11:00:00Z");
+    private static final Instant ANSWERED_AT = Instant.parse("2026-01-01T08:30:00Z");
+
+    @Autowired
+    private SlaService slaService;
+    @Autowired
+    private TicketService ticketService;
+    @Autowired
+    private SlaDeadlineQueueRepository deadlineQueueRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TicketEventPayloadCodec payloadCodec;
+
+    private UserEntity customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.findByEmail("clark.kent@gmail.com").orElseThrow();
+    }
+
+    @Test
+    void shouldBreachOverdueFirstResponsesAcrossSeveralChunks() {
+        List<TicketEntity> overdue = List.of(
+                saveTicket(TicketStatus.NEW, PAST_DEADLINE, FUTURE_DEADLINE),
+                saveTicket(TicketStatus.NEW, PAST_DEADLINE, FUTURE_DEADLINE),
+                saveTicket(TicketStatus.IN_PROGRESS, PAST_DEADLINE, FUTURE_DEADLINE)
+        );
+        TicketEntity notDueYet = saveTicket(TicketStatus.NEW, FUTURE_DEADLINE, FUTURE_DEADLINE);
+        TicketEntity waiting = saveTicket(TicketStatus.WAITING_CUSTOMER, PAST_DEADLINE, FUTURE_DEADLINE);
+        List<TicketEntity> notOverdue = List.of(
+                // deadline exactly now
+                saveTicket(TicketStatus.NEW, SlaStatus.ON_TRACK, NOW, null, SlaStatus.ON_TRACK, FUTURE_DEADLINE, null),
+                // first response already given
+                saveTicket(TicketStatus.NEW, SlaStatus.ON_TRACK, PAST_DEADLINE, ANSWERED_AT, SlaStatus.ON_TRACK, FUTURE_DEADLINE, null),
+                saveTicket(TicketStatus.NEW, SlaStatus.BREACHED, PAST_DEADLINE, null, SlaStatus.ON_TRACK, FUTURE_DEADLINE, null),
+                saveTicket(TicketStatus.NEW, SlaStatus.MET, PAST_DEADLINE, ANSWERED_AT, SlaStatus.ON_TRACK, FUTURE_DEADLINE, null),
+                saveTicket(TicketStatus.RESOLVED, SlaStatus.ON_TRACK, PAST_DEADLINE, null, SlaStatus.ON_TRACK, FUTURE_DEADLINE, NOW),
+                saveTicket(TicketStatus.CLOSED, SlaStatus.ON_TRACK, PAST_DEADLINE, null, SlaStatus.ON_TRACK, FUTURE_DEADLINE, null)
+        );
+        flushAndClear();
+
+        int actualResult = slaService.markOverdueFirstResponseSlasAsBreached(NOW);
+        flushAndClear();
+
+        assertThat(actualResult).isEqualTo(3);
+        overdue.forEach(ticket -> {
+            TicketEntity actualTicket = ticketRepository.findById(ticket.getId()).orElseThrow();
+            assertThat(actualTicket.getResponseSlaStatus()).isSameAs(SlaStatus.BREACHED);
+            assertThat(actualTicket.getResolutionSlaStatus()).isSameAs(SlaStatus.ON_TRACK);
+            assertThat(actualTicket.getVersion()).isEqualTo(ticket.getVersion());
+
+            List<TicketEventEntity> events = eventsOf(ticket);
+            assertThat(events).hasSize(1);
+            assertThat(events.getFirst().getEventType()).isSameAs(TicketEventType.FIRST_RESPONSE_SLA_BREACHED);
+            assertThat(events.getFirst().getActor()).isNull();
+            assertThat(payloadCodec.decode(events.getFirst().getEventType(), events.getFirst().getPayload()))
+                    .isEqualTo(new FirstResponseSlaBreachedPayload(PAST_DEADLINE));
+        });
+        assertThat(ticketRepository.findById(notDueYet.getId()).orElseThrow().getResponseSlaStatus()).isSameAs(SlaStatus.ON_TRACK);
+        assertThat(ticketRepository.findById(waiting.getId()).orElseThrow().getResponseSlaStatus()).isSameAs(SlaStatus.ON_TRACK);
+        assertThat(eventsOf(notDueYet)).isEmpty();
+        assertUntouched(notOverdue);
+    }
+
+    @Test
+    void shouldBreachOverdueResolutionsOnlyOnce() {
+        TicketEntity overdue = saveTicket(TicketStatus.IN_PROGRESS, FUTURE_DEADLINE, PAST_DEADLINE);
+        List<TicketEntity> notOverdue = List.of(
+                saveTicket(TicketStatus.IN_PROGRESS, SlaStatus.MET, PAST_DEADLINE, ANSWERED_AT, SlaStatus.ON_TRACK, FUTURE_DEADLINE, null),
+                // deadline exactly now
+                saveTicket(TicketStatus.IN_PROGRESS, SlaStatus.MET, PAST_DEADLINE, ANSWERED_AT, SlaStatus.ON_TRACK, NOW, null),
+                saveTicket(TicketStatus.RESOLVED, SlaStatus.MET, PAST_DEADLINE, ANSWERED_AT, SlaStatus.ON_TRACK, PAST_DEADLINE, ANSWERED_AT),
+                // resolved at set while the status still says otherwise
+                saveTicket(TicketStatus.IN_PROGRESS, SlaStatus.MET, PAST_DEADLINE, ANSWERED_AT, SlaStatus.ON_TRACK, PAST_DEADLINE, ANSWERED_AT),
+                saveTicket(TicketStatus.IN_PROGRESS, SlaStatus.MET, PAST_DEADLINE, ANSWERED_AT, SlaStatus.BREACHED, PAST_DEADLINE, null),
+                saveTicket(TicketStatus.IN_PROGRESS, SlaStatus.MET, PAST_DEADLINE, ANSWERED_AT, SlaStatus.MET, PAST_DEADLINE, ANSWERED_AT),
+                saveTicket(TicketStatus.IN_PROGRESS, SlaStatus.MET, PAST_DEADLINE, ANSWERED_AT, SlaStatus.PAUSED, PAST_DEADLINE, null),
+                saveTicket(TicketStatus.WAITING_CUSTOMER, SlaStatus.MET, PAST_DEADLINE, ANSWERED_AT, SlaStatus.ON_TRACK, PAST_DEADLINE, null),
+                saveTicket(TicketStatus.CLOSED, SlaStatus.MET, PAST_DEADLINE, ANSWERED_AT, SlaStatus.ON_TRACK, PAST_DEADLINE, null)
+        );
+        flushAndClear();
+
+        int firstSweep = slaService.markOverdueResolutionSlasAsBreached(NOW);
+        int secondSweep = slaService.markOverdueResolutionSlasAsBreached(NOW);
+        flushAndClear();
+
+        assertThat(firstSweep).isEqualTo(1);
+        assertThat(secondSweep).isZero();
+        assertThat(ticketRepository.findById(overdue.getId()).orElseThrow().getResolutionSlaStatus()).isSameAs(SlaStatus.BREACHED);
+        assertThat(eventsOf(overdue))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getEventType()).isSameAs(TicketEventType.RESOLUTION_SLA_BREACHED);
+                    assertThat(payloadCodec.decode(event.getEventType(), event.getPayload()))
+                            .isEqualTo(new ResolutionSlaBreachedPayload(PAST_DEADLINE));
+                });
+        assertUntouched(notOverdue);
+    }
+
+    @Test
+    void shouldEnqueueBothDeadlinesWhenTicketIsCreated() {
+        TicketResponse created = ticketService.create(new CreateTicketRequest("queued", "queued"), customer.getId());
+        flushAndClear();
+
+        TicketEntity ticket = ticketRepository.findById(created.id()).orElseThrow();
+        assertThat(queuedDeadlines(ticket)).containsExactlyInAnyOrder(
+                tuple(SlaDeadlineType.FIRST_RESPONSE.name(), toDbPrecision(ticket.getFirstResponseDeadline())),
+                tuple(SlaDeadlineType.RESOLUTION.name(), toDbPrecision(ticket.getResolutionDeadline()))
+        );
+    }
+
+    @Test
+    void shouldBreachClaimedDueDeadlinesOnceAndDrainQueue() {
+        TicketEntity overdue = saveTicket(TicketStatus.NEW, PAST_DEADLINE, FUTURE_DEADLINE);
+        TicketEntity answered = saveTicket(TicketStatus.IN_PROGRESS, PAST_DEADLINE, FUTURE_DEADLINE);
+        answered.setFirstRespondedAt(PAST_DEADLINE.minusSeconds(60));
+        answered.setResponseSlaStatus(SlaStatus.MET);
+        flushAndClear();
+        deadlineQueueRepository.enqueue(overdue.getId(), SlaDeadlineType.FIRST_RESPONSE, PAST_DEADLINE);
+        deadlineQueueRepository.enqueue(answered.getId(), SlaDeadlineType.FIRST_RESPONSE, PAST_DEADLINE);
+        deadlineQueueRepository.enqueue(overdue.getId(), SlaDeadlineType.RESOLUTION, FUTURE_DEADLINE);
+
+        int firstRun = slaService.processDueDeadlines(NOW);
+        int secondRun = slaService.processDueDeadlines(NOW);
+        flushAndClear();
+
+        assertThat(firstRun).isEqualTo(1);
+        assertThat(secondRun).isZero();
+        assertThat(ticketRepository.findById(overdue.getId()).orElseThrow().getResponseSlaStatus()).isSameAs(SlaStatus.BREACHED);
+        assertThat(eventsOf(overdue)).singleElement()
+                .extracting(TicketEventEntity::getEventType)
+                .isSameAs(TicketEventType.FIRST_RESPONSE_SLA_BREACHED);
+        assertThat(eventsOf(answered)).isEmpty();
+        assertThat(queuedDeadlines(overdue)).containsExactly(tuple(SlaDeadlineType.RESOLUTION.name(), FUTURE_DEADLINE));
+        assertThat(queuedDeadlines(answered)).isEmpty();
+    }
+
+    private List<Tuple> queuedDeadlines(TicketEntity ticket) {
+        return jdbcTemplate.query(
+                "SELECT deadline_type, due_at FROM sla_deadlines WHERE ticket_id = ?",
+                (rs, rowNum) -> tuple(rs.getString("deadline_type"), rs.getObject("due_at", OffsetDateTime.class).toInstant()),
+                ticket.getId()
+        );
+    }
+
+    private void assertUntouched(List<TicketEntity> tickets) {
+        tickets.forEach(ticket -> {
+            TicketEntity actualTicket = ticketRepository.findById(ticket.getId()).orElseThrow();
+            assertThat(actualTicket.getResponseSlaStatus()).isSameAs(ticket.getResponseSlaStatus());
+            assertThat(actualTicket.getResolutionSlaStatus()).isSameAs(ticket.getResolutionSlaStatus());
+            assertThat(eventsOf(ticket)).isEmpty();
+        });
+    }
+
+    private TicketEntity saveTicket(TicketStatus status, Instant firstResponseDeadline, Instant resolutionDeadline) {
+        return saveTicket(status, SlaStatus.ON_TRACK, firstResponseDeadline, null, SlaStatus.ON_TRACK, resolutionDeadline, null);
+    }
+
+    private TicketEntity saveTicket(TicketStatus status,
+                                    SlaStatus responseSlaStatus,
+                                    Instant firstResponseDeadline,
+                                    Instant firstRespondedAt,
+                                    SlaStatus resolutionSlaStatus,
+                                    Instant resolutionDeadline,
+                                    Instant resolvedAt) {
+        TicketEntity ticket = DataUtils.getTransientTicket("sla sweep", "sla sweep", status, TicketPriority.MEDIUM, customer, null);
+        ticket.setResponseSlaStatus(responseSlaStatus);
+        ticket.setFirstResponseDeadline(firstResponseDeadline);
+        ticket.setFirstRespondedAt(firstRespondedAt);
+        ticket.setResolutionSlaStatus(resolutionSlaStatus);
+        ticket.setResolutionDeadline(resolutionDeadline);
+        ticket.setResolvedAt(resolvedAt);
+        return ticketRepository.save(ticket);
+    }
+
+    private List<TicketEventEntity> eventsOf(TicketEntity ticket) {
+        return eventRepository.findAllByTicketIdAndCreatedAtGreaterThanEqual(ticket.getId(), Instant.EPOCH, Pageable.unpaged()).getContent();
+    }
+}
@@ -1,7 +1,11 @@
 package com.rolliedev.ticketflow.integration.service;
 
+import com.rolliedev.ticketflow.dto.AutoCloseChunk;
 import com.rolliedev.ticketflow.dto.CreateTicketRequest;
+import com.rolliedev.ticketflow.dto.TicketListItem;
 import com.rolliedev.ticketflow.dto.TicketResponse;
+import com.rolliedev.ticketflow.dto.TicketAccess;
+import com.rolliedev.ticketflow.dto.TicketRevision;
 import com.rolliedev.ticketflow.dto.TicketSearchFilter;
 import com.rolliedev.ticketflow.entity.TicketEntity;
 import com.rolliedev.ticketflow.entity.TicketEventEntity;
@@ -11,11 +15,13 @@ import com.rolliedev.ticketflow.entity.enums.SlaStatus;
 import com.rolliedev.ticketflow.entity.enums.TicketEventType;
 import com.rolliedev.ticketflow.entity.enums.TicketPriority;
 import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+import com.rolliedev.ticketflow.entity.payload.StatusChangedPayload;
 import com.rolliedev.ticketflow.exception.BusinessRuleViolationException;
 import com.rolliedev.ticketflow.exception.InvalidRequestException;
 import com.rolliedev.ticketflow.exception.InvalidStatusTransitionException;
 import com.rolliedev.ticketflow.exception.ResourceNotFoundException;
 import com.rolliedev.ticketflow.exception.TicketFlowAccessDeniedException;
+import com.rolliedev.ticketflow.mapper.TicketEventPayloadCodec;
 import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
 import com.rolliedev.ticketflow.service.TicketService;
 import com.rolliedev.ticketflow.testsupport.base.AbstractSpringBootIT;
@@ -50,6 +56,8 @@ class TicketServiceIT extends AbstractSpringBootIT {
     private TicketService ticketService;
     @Autowired
     private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TicketEventPayloadCodec payloadCodec;
 
     private UserEntity admin, agent, customer;
     private TicketEntity ticket1, ticket2;
@@ -69,11 +77,11 @@ class TicketServiceIT extends AbstractSpringBootIT {
         TicketFlowUserDetails adminDetails = new TicketFlowUserDetails(admin);
         TicketSearchFilter emptyFilter = TicketSearchFilter.builder().build();
 
-        Page<TicketResponse> actualResult = ticketService.findAll(emptyFilter, PageRequest.of(0, 10), adminDetails);
+        Page<TicketListItem> actualResult = ticketService.findAll(emptyFilter, PageRequest.of(0, 10), adminDetails);
 
         assertThat(actualResult.getTotalElements()).isEqualTo(5);
         assertThat(actualResult.getContent())
-                .extracting(TicketResponse::id)
+                .extracting(TicketListItem::id)
                 .containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
     }
 
@@ -82,11 +90,11 @@ class TicketServiceIT extends AbstractSpringBootIT {
         TicketFlowUserDetails customerDetails = new TicketFlowUserDetails(customer);
         TicketSearchFilter emptyFilter = TicketSearchFilter.builder().build();
 
-        Page<TicketResponse> actualResult = ticketService.findAll(emptyFilter, PageRequest.of(0, 10), customerDetails);
+        Page<TicketListItem> actualResult = ticketService.findAll(emptyFilter, PageRequest.of(0, 10), customerDetails);
 
         assertThat(actualResult.getTotalElements()).isEqualTo(3);
         assertThat(actualResult.getContent())
-                .extracting(TicketResponse::id)
+                .extracting(TicketListItem::id)
                 .containsExactlyInAnyOrder(1L, 2L, 3L);
     }
 
@@ -97,11 +105,11 @@ class TicketServiceIT extends AbstractSpringBootIT {
                 .status(TicketStatus.NEW)
                 .build();
 
-        Page<TicketResponse> actualResult = ticketService.findAll(filter, PageRequest.of(0, 10), adminDetails);
+        Page<TicketListItem> actualResult = ticketService.findAll(filter, PageRequest.of(0, 10), adminDetails);
 
         assertThat(actualResult.getTotalElements()).isEqualTo(2);
         assertThat(actualResult.getContent())
-                .extracting(TicketResponse::status)
+                .extracting(TicketListItem::status)
                 .containsOnly(TicketStatus.NEW);
     }
 
@@ -112,7 +120,7 @@ class TicketServiceIT extends AbstractSpringBootIT {
                 .priority(TicketPriority.HIGH)
                 .build();
 
-        Page<TicketResponse> actualResult = ticketService.findAll(filter, PageRequest.of(0, 10), adminDetails);
+        Page<TicketListItem> actualResult = ticketService.findAll(filter, PageRequest.of(0, 10), adminDetails);
 
         assertThat(actualResult.getTotalElements()).isEqualTo(1);
         assertThat(actualResult.getContent().getFirst().id()).isEqualTo(1L);
@@ -157,6 +165,44 @@ class TicketServiceIT extends AbstractSpringBootIT {
         assertThat(actualResult).isEmpty();
     }
 
+    @Test
+    void shouldReturnRevisionOfOwnTicketOnlyWhenActorIsCustomer() {
+        TicketFlowUserDetails customerDetails = new TicketFlowUserDetails(customer);
+
+        Optional<TicketRevision> ownTicket = ticketService.findRevision(ticket1.getId(), customerDetails);
+        Optional<TicketRevision> foreignTicket = ticketService.findRevision(4L, customerDetails);
+
+        assertThat(ownTicket).hasValueSatisfying(revision -> {
+            assertThat(revision.ticketId()).isEqualTo(ticket1.getId());
+            assertThat(revision.createdById()).isEqualTo(customer.getId());
+            assertThat(revision.eventSeq()).isEqualTo(eventCount(ticket1.getId()));
+        });
+        assertThat(foreignTicket).isEmpty();
+    }
+
+    @Test
+    void shouldReturnAccessToOwnTicketOnlyWhenActorIsCustomer() {
+        TicketFlowUserDetails customerDetails = new TicketFlowUserDetails(customer);
+
+        Optional<TicketAccess> ownTicket = ticketService.findAccess(ticket1.getId(), customerDetails);
+        Optional<TicketAccess> foreignTicket = ticketService.findAccess(4L, customerDetails);
+
+        assertThat(ownTicket).hasValueSatisfying(access -> {
+            assertThat(access.ticketId()).isEqualTo(ticket1.getId());
+            assertThat(access.createdById()).isEqualTo(customer.getId());
+            assertThat(access.createdAt()).isNotNull();
+        });
+        assertThat(foreignTicket).isEmpty();
+    }
+
+    @Test
+    void shouldReturnRevisionOfAnyTicketWhenActorIsAdmin() {
+        TicketFlowUserDetails adminDetails = new TicketFlowUserDetails(admin);
+
+        assertThat(ticketService.findRevision(4L, adminDetails)).isPresent();
+        assertThat(ticketService.findRevision(999L, adminDetails)).isEmpty();
+    }
+
     @Test
     void shouldPersistTicketWithCorrectDefaultsInitializeSlaAndRecordCreatedEvent() {
         CreateTicketRequest request = new CreateTicketRequest(
@@ -541,7 +587,7 @@ class TicketServiceIT extends AbstractSpringBootIT {
 
         flushAndClear();
 
-        int closedCount = ticketService.closeResolvedTicketsOlderThan(threshold);
+        int closedCount = ticketService.closeResolvedTicketsOlderThan(threshold, AutoCloseChunk.start(), 10).closedCount();
         flushAndClear();
 
         TicketEntity closedTicket = ticketRepository.findById(ticket1.getId()).orElseThrow();
@@ -552,6 +598,10 @@ class TicketServiceIT extends AbstractSpringBootIT {
         assertThat(closedTicket.getStatus()).isEqualTo(TicketStatus.CLOSED);
         assertThat(closedTicket.getResolutionSlaStatus()).isEqualTo(SlaStatus.MET);
         assertThat(closedTicket.getResolutionSlaPausedAt()).isNull();
+        assertThat(eventRepository.findAllByTicketIdAndCreatedAtGreaterThanEqual(closedTicket.getId(), Instant.EPOCH, Pageable.unpaged()).getContent())
+                .filteredOn(event -> event.getEventType() == TicketEventType.STATUS_CHANGED)
+                .extracting(event -> payloadCodec.decode(event.getEventType(), event.getPayload()))
+                .contains(new StatusChangedPayload(TicketStatus.RESOLVED, TicketStatus.CLOSED));
 
         assertThat(stillResolvedTicket.getStatus()).isEqualTo(TicketStatus.RESOLVED);
         assertThat(stillResolvedTicket.getResolutionSlaStatus()).isEqualTo(SlaStatus.PAUSED);
@@ -745,20 +795,20 @@ class TicketServiceIT extends AbstractSpringBootIT {
 
     private List<TicketEventEntity> events(Long ticketId) {
         return eventRepository
-                .findAllByTicketId(ticketId, Pageable.unpaged())
+                .findAllByTicketIdAndCreatedAtGreaterThanEqual(ticketId, Instant.EPOCH, Pageable.unpaged())
                 .getContent();
     }
 
     private long eventCount(Long ticketId) {
         return eventRepository
-                .findAllByTicketId(ticketId, Pageable.unpaged())
+                .findAllByTicketIdAndCreatedAtGreaterThanEqual(ticketId, Instant.EPOCH, Pageable.unpaged())
                 .getTotalElements();
     }
 
     private TicketEventEntity latestEvent(Long ticketId) {
         return eventRepository
-                .findAllByTicketId(
-                        ticketId,
+                .findAllByTicketIdAndCreatedAtGreaterThanEqual(
+                        ticketId, Instant.EPOCH,
                         PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "id"))
                 )
                 .getContent()
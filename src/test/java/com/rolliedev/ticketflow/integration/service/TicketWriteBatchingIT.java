@@ -0,0 +1,96 @@
+package com.rolliedev.ticketflow.integration.service;
+
+import com.rolliedev.ticketflow.dto.CreateTicketRequest;
+import com.rolliedev.ticketflow.entity.UserEntity;
+import com.rolliedev.ticketflow.service.TicketEventSequence;
+import com.rolliedev.ticketflow.service.TicketService;
+import com.rolliedev.ticketflow.testsupport.base.AbstractSpringBootIT;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the create, assign and resolve flows for a batch of tickets inside one transaction and reports
+ * JDBC statements and throughput per flow. The statement counts are asserted, the timings are only logged.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TicketWriteBatchingIT extends AbstractSpringBootIT {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketWriteBatchingIT.class);
+    private static final int TICKETS = 200;
+
+    @Autowired
+    private TicketService ticketService;
+    @Autowired
+    private TicketEventSequence eventSequence;
+
+    private Statistics statistics;
+    private UserEntity admin, agent, customer;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.findByEmail("lex.luthor@gmail.com").orElseThrow();
+        agent = userRepository.findByEmail("bruce.wayne@gmail.com").orElseThrow();
+        customer = userRepository.findByEmail("clark.kent@gmail.com").orElseThrow();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void shouldWriteTicketFlowsInFewerStatementsThanRows() {
+        List<Long> ticketIds = new ArrayList<>();
+
+        FlowResult create = measure("create", ignored -> ticketIds.add(
+                ticketService.create(new CreateTicketRequest("batched", "batched"), customer.getId()).id()));
+        FlowResult assign = measure("assign", i -> ticketService.assign(ticketIds.get(i), admin.getId(), agent.getId()));
+        FlowResult resolve = measure("resolve", i -> {
+            ticketService.startProgress(ticketIds.get(i), agent.getId());
+            ticketService.resolve(ticketIds.get(i), agent.getId());
+        });
+
+        // one statement per row would be at least as many statements as rows, batched event inserts bring it well below
+        assertThat(create.writeStatements()).isLessThan(create.rows());
+        assertThat(assign.writeStatements()).isLessThan(assign.rows());
+        assertThat(resolve.writeStatements()).isLessThan(resolve.rows());
+    }
+
+    private FlowResult measure(String flow, Consumer<Integer> step) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < TICKETS; i++) {
+            step.accept(i);
+        }
+        // the test transaction never commits, so the event_seq bumps a commit would write are applied here
+        eventSequence.apply();
+        entityManager.flush();
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        // every loaded entity is a ticket read by id with its own select, the remaining statements are writes
+        FlowResult result = new FlowResult(
+                statistics.getPrepareStatementCount() - statistics.getEntityLoadCount(),
+                statistics.getEntityInsertCount() + statistics.getEntityUpdateCount()
+        );
+        log.info("{}: {} tickets in {} ms ({} tickets/s), {} write statements for {} entity rows",
+                flow, TICKETS, elapsedNanos / 1_000_000, TICKETS * 1_000_000_000L / elapsedNanos,
+                result.writeStatements(), result.rows());
+        return result;
+    }
+
+    private record FlowResult(long writeStatements, long rows) {
+    }
+}
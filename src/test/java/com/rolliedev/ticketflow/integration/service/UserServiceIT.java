@@ -1,18 +1,25 @@
 package com.rolliedev.ticketflow.integration.service;
 
+import com.rolliedev.ticketflow.config.CacheConfiguration;
 import com.rolliedev.ticketflow.dto.InternalUserCreateRequest;
 import com.rolliedev.ticketflow.dto.PublicRegistrationRequest;
 import com.rolliedev.ticketflow.dto.UserResponse;
+import com.rolliedev.ticketflow.dto.UserSnapshot;
 import com.rolliedev.ticketflow.entity.UserEntity;
 import com.rolliedev.ticketflow.entity.enums.Role;
 import com.rolliedev.ticketflow.exception.BusinessRuleViolationException;
 import com.rolliedev.ticketflow.exception.InvalidRequestException;
 import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
+import com.rolliedev.ticketflow.service.UserCacheInvalidator;
+import com.rolliedev.ticketflow.service.UserChangedEvent;
+import com.rolliedev.ticketflow.service.UserReferences;
 import com.rolliedev.ticketflow.service.UserService;
 import com.rolliedev.ticketflow.testsupport.base.AbstractSpringBootIT;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -32,6 +39,14 @@ public class UserServiceIT extends AbstractSpringBootIT {
 
     @Autowired
     private UserService userService;
+    @Autowired
+    private UserReferences userReferences;
+    @Autowired
+    private UserCacheInvalidator userCacheInvalidator;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     private UserEntity admin, agent, customer, secondCustomer;
 
@@ -74,27 +89,18 @@ public class UserServiceIT extends AbstractSpringBootIT {
     }
 
     @Test
-    void shouldReturnUsersWithGivenRoleWhenSingleRoleIsProvided() {
-        List<UserResponse> actualResult = userService.findAllByRoleIn(Role.ADMIN);
-
-        assertThat(actualResult).hasSize(1);
-        assertThat(actualResult.getFirst().id()).isEqualTo(admin.getId());
-        assertThat(actualResult.getFirst().role()).isEqualTo(Role.ADMIN);
-    }
-
-    @Test
-    void shouldReturnUsersWithGivenRolesWhenMultipleRolesAreProvided() {
-        List<UserResponse> actualResult = userService.findAllByRoleIn(Role.ADMIN, Role.AGENT);
-
-        assertThat(actualResult).hasSize(2);
+    void shouldReturnAgentsAndAdminsAsInternalUsers() {
+        List<UserResponse> actualResult = userService.findInternalUsers();
 
+        // the directory is shared by the whole context, so other tests may have left more agents in it
         assertThat(actualResult)
                 .extracting(UserResponse::id)
-                .containsExactlyInAnyOrder(admin.getId(), agent.getId());
+                .contains(admin.getId(), agent.getId())
+                .doesNotContain(customer.getId(), secondCustomer.getId());
 
         assertThat(actualResult)
                 .extracting(UserResponse::role)
-                .containsExactlyInAnyOrder(Role.ADMIN, Role.AGENT);
+                .containsOnly(Role.ADMIN, Role.AGENT);
     }
 
     @Test
@@ -235,4 +241,52 @@ public class UserServiceIT extends AbstractSpringBootIT {
                 .isInstanceOf(UsernameNotFoundException.class)
                 .hasMessage("Failed to retrieve user: " + dummyEmail);
     }
+
+    @Test
+    void shouldServeRepeatedLookupsByIdFromCache() {
+        double hitsBefore = cacheGets("hit");
+        double missesBefore = cacheGets("miss");
+
+        UserSnapshot first = userReferences.findById(agent.getId()).orElseThrow();
+        UserSnapshot second = userReferences.findById(agent.getId()).orElseThrow();
+
+        assertThat(cacheGets("miss") - missesBefore).isEqualTo(1);
+        assertThat(cacheGets("hit") - hitsBefore).isEqualTo(1);
+        assertThat(second).isEqualTo(first)
+                .isEqualTo(new UserSnapshot(agent.getId(), agent.getFullName(), agent.getEmail(), agent.getRole()));
+        assertThat(cacheManager.getCache(CacheConfiguration.USERS_CACHE).get(agent.getId()).get()).isEqualTo(second);
+    }
+
+    @Test
+    void shouldHandOutSessionReferenceInsteadOfCopyOfUser() {
+        UserEntity reference = userReferences.getReference(agent.getId());
+
+        // agent is managed by the test transaction, so the reference is that very instance
+        assertThat(reference).isSameAs(agent);
+    }
+
+    @Test
+    void shouldLoadUserAgainAfterItChanged() {
+        userReferences.findById(agent.getId()).orElseThrow();
+        double missesBefore = cacheGets("miss");
+
+        userCacheInvalidator.onUserChanged(new UserChangedEvent(agent.getId(), agent.getEmail(), agent.getRole()));
+        userReferences.findById(agent.getId()).orElseThrow();
+
+        assertThat(cacheGets("miss") - missesBefore).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheMissingUsers() {
+        assertThat(userReferences.findById(Integer.MAX_VALUE)).isEmpty();
+
+        assertThat(cacheManager.getCache(CacheConfiguration.USERS_CACHE).get(Integer.MAX_VALUE)).isNull();
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", CacheConfiguration.USERS_CACHE, "result", result)
+                .functionCounter()
+                .count();
+    }
 }
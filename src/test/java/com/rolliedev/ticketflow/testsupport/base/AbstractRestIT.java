@@ -2,11 +2,14 @@ package com.rolliedev.ticketflow.testsupport.base;
 
 import com.rolliedev.ticketflow.repository.TicketRepository;
 import com.rolliedev.ticketflow.repository.UserRepository;
+import com.rolliedev.ticketflow.security.CredentialsCache;
 import com.rolliedev.ticketflow.testsupport.annotation.IT;
 import com.rolliedev.ticketflow.testsupport.container.AbstractPostgresContainerTest;
 import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import tools.jackson.databind.ObjectMapper;
@@ -29,6 +32,17 @@ public abstract class AbstractRestIT extends AbstractPostgresContainerTest {
     protected TicketRepository ticketRepository;
     @Autowired
     private EntityManager entityManager;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private CredentialsCache credentialsCache;
+
+    // rows written by an earlier test are rolled back, so whatever was cached about them is stale
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        credentialsCache.clear();
+    }
 
     protected void flushAndClear() {
         entityManager.flush();
@@ -6,7 +6,9 @@ import com.rolliedev.ticketflow.repository.UserRepository;
 import com.rolliedev.ticketflow.testsupport.annotation.IT;
 import com.rolliedev.ticketflow.testsupport.container.AbstractPostgresContainerTest;
 import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.time.Instant;
@@ -28,6 +30,14 @@ public abstract class AbstractSpringBootIT extends AbstractPostgresContainerTest
     protected TicketEventRepository eventRepository;
     @Autowired
     protected EntityManager entityManager;
+    @Autowired
+    private CacheManager cacheManager;
+
+    // rows written by an earlier test are rolled back, so whatever was cached about them is stale
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
 
     protected static Instant nowAtDbPrecision() {
         return Instant.now().truncatedTo(ChronoUnit.MICROS);
@@ -10,9 +10,6 @@ import com.rolliedev.ticketflow.entity.enums.TicketPriority;
 import com.rolliedev.ticketflow.entity.enums.TicketStatus;
 import lombok.experimental.UtilityClass;
 
-import java.util.HashMap;
-import java.util.Map;
-
 @UtilityClass
 public final class DataUtils {
 
@@ -52,41 +49,32 @@ public final class DataUtils {
     }
 
     public static TicketEventEntity getTransientTicketCreatedEvent(TicketEntity ticket, UserEntity actor) {
-        return getTransientTicketEvent(ticket, actor, TicketEventType.CREATED, Map.of(
-                "ticketId", ticket.getId().toString(),
-                "createdById", actor.getId().toString()
-        ));
+        return getTransientTicketEvent(ticket, actor, TicketEventType.CREATED,
+                "{\"ticketId\": %d, \"createdById\": %d}".formatted(ticket.getId(), actor.getId()));
     }
 
     public static TicketEventEntity getTransientTicketAssignedEvent(TicketEntity ticket, UserEntity actor, UserEntity assignee, UserEntity previousAssignee) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("previousAssigneeId", previousAssignee == null ? null : previousAssignee.getId().toString());
-        payload.put("assigneeId", assignee.getId().toString());
-
-        return getTransientTicketEvent(ticket, actor, TicketEventType.ASSIGNED, payload);
+        return getTransientTicketEvent(ticket, actor, TicketEventType.ASSIGNED,
+                "{\"previousAssigneeId\": %s, \"assigneeId\": %d}".formatted(
+                        previousAssignee == null ? "null" : previousAssignee.getId(), assignee.getId()));
     }
 
     public TicketEventEntity getTransientTicketPriorityChangedEvent(TicketEntity ticket, UserEntity actor, TicketPriority oldPriority, TicketPriority newPriority) {
-        return getTransientTicketEvent(ticket, actor, TicketEventType.PRIORITY_CHANGED, Map.of(
-                "oldPriority", oldPriority.name(),
-                "newPriority", newPriority.name()
-        ));
+        return getTransientTicketEvent(ticket, actor, TicketEventType.PRIORITY_CHANGED,
+                "{\"oldPriority\": \"%s\", \"newPriority\": \"%s\"}".formatted(oldPriority, newPriority));
     }
 
     public TicketEventEntity getTransientTicketStatusChangedEvent(TicketEntity ticket, UserEntity actor, TicketStatus oldStatus, TicketStatus newStatus) {
-        return getTransientTicketEvent(ticket, actor, TicketEventType.STATUS_CHANGED, Map.of(
-                "oldStatus", oldStatus.name(),
-                "newStatus", newStatus.name()
-        ));
+        return getTransientTicketEvent(ticket, actor, TicketEventType.STATUS_CHANGED,
+                "{\"oldStatus\": \"%s\", \"newStatus\": \"%s\"}".formatted(oldStatus, newStatus));
     }
 
     public TicketEventEntity getTransientTicketCommentedEvent(TicketEntity ticket, UserEntity actor, TicketCommentEntity comment) {
-        return getTransientTicketEvent(ticket, actor, TicketEventType.COMMENTED, Map.of(
-                "commentId", comment.getId().toString()
-        ));
+        return getTransientTicketEvent(ticket, actor, TicketEventType.COMMENTED,
+                "{\"commentId\": %d}".formatted(comment.getId()));
     }
 
-    private static TicketEventEntity getTransientTicketEvent(TicketEntity ticket, UserEntity actor, TicketEventType eventType, Map<String, Object> payload) {
+    private static TicketEventEntity getTransientTicketEvent(TicketEntity ticket, UserEntity actor, TicketEventType eventType, String payload) {
         return TicketEventEntity.builder()
                 .ticket(ticket)
                 .actor(actor)
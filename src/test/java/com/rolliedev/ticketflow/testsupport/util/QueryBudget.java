@@ -0,0 +1,24 @@
+package com.rolliedev.ticketflow.testsupport.util;
+
+import com.rolliedev.ticketflow.http.filter.QueryStatsFilter;
+import lombok.experimental.UtilityClass;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asserts the number of statements a request ran, as reported in the {@code X-Query-Count} header.
+ */
+@UtilityClass
+public final class QueryBudget {
+
+    public static ResultMatcher queryCountAtMost(int budget) {
+        return result -> {
+            String queryCount = result.getResponse().getHeader(QueryStatsFilter.X_QUERY_COUNT);
+            assertThat(queryCount).as(QueryStatsFilter.X_QUERY_COUNT + " header").isNotNull();
+            assertThat(Integer.parseInt(queryCount))
+                    .as("statements run by %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(budget);
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.rolliedev.ticketflow.unit.aop;
+
+import com.rolliedev.ticketflow.aop.SchedulerLock;
+import com.rolliedev.ticketflow.aop.SchedulerLockAspect;
+import com.rolliedev.ticketflow.repository.SchedulerLockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLockAspectTest {
+
+    @Mock
+    private SchedulerLockRepository lockRepository;
+
+    private MeterRegistry meterRegistry;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new Job());
+        proxyFactory.addAspect(new SchedulerLockAspect(lockRepository, meterRegistry));
+        job = proxyFactory.getProxy();
+    }
+
+    @Test
+    void shouldRunJobAndKeepLockForAtLeastConfiguredDurationWhenLockIsAcquired() {
+        doReturn(true).when(lockRepository).tryLock(eq("test-job"), eq(Duration.ofMinutes(10)), anyString());
+
+        job.run();
+
+        assertThat(job.runs()).isEqualTo(1);
+        assertThat(meterRegistry.counter("scheduler.job.runs", "job", "test-job", "outcome", "executed").count()).isEqualTo(1);
+        verify(lockRepository).unlock(eq("test-job"), eq(Duration.ofSeconds(30)), anyString());
+    }
+
+    @Test
+    void shouldSkipJobAndCountSkippedRunWhenLockIsHeldElsewhere() {
+        doReturn(false).when(lockRepository).tryLock(eq("test-job"), eq(Duration.ofMinutes(10)), anyString());
+
+        job.run();
+
+        assertThat(job.runs()).isZero();
+        assertThat(meterRegistry.counter("scheduler.job.runs", "job", "test-job", "outcome", "skipped").count()).isEqualTo(1);
+        verify(lockRepository, never()).unlock(anyString(), eq(Duration.ofSeconds(30)), anyString());
+    }
+
+    @Test
+    void shouldReleaseLockWhenJobFails() {
+        doReturn(true).when(lockRepository).tryLock(eq("failing-job"), eq(Duration.ofMinutes(1)), anyString());
+
+        assertThatThrownBy(job::fail).isInstanceOf(IllegalStateException.class);
+
+        verify(lockRepository).unlock(eq("failing-job"), eq(Duration.ZERO), anyString());
+    }
+
+    static class Job {
+
+        private final AtomicInteger runs = new AtomicInteger();
+
+        @SchedulerLock(name = "test-job", lockAtMostFor = "PT10M", lockAtLeastFor = "PT30S")
+        public void run() {
+            runs.incrementAndGet();
+        }
+
+        @SchedulerLock(name = "failing-job", lockAtMostFor = "PT1M")
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+
+        public int runs() {
+            return runs.get();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.rolliedev.ticketflow.unit.aop;
+
+import com.rolliedev.ticketflow.aop.ServiceMetricsAspect;
+import com.rolliedev.ticketflow.config.MetricsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceMetricsAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+    @Mock
+    private MethodSignature signature;
+
+    private MeterRegistry meterRegistry;
+    private ServiceMetricsAspect aspect;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new ServiceMetricsAspect(meterRegistry, new MetricsProperties(Duration.ofMillis(500)));
+        doReturn(signature).when(joinPoint).getSignature();
+        doReturn(LookupService.class.getMethod("find")).when(signature).getMethod();
+    }
+
+    @Test
+    void shouldRecordSuccessfulCallsIntoOneTimerPerMethod() throws Throwable {
+        doReturn("found").when(joinPoint).proceed();
+
+        Object first = aspect.timeServiceExecution(joinPoint);
+        Object second = aspect.timeServiceExecution(joinPoint);
+
+        assertThat(first).isEqualTo("found");
+        assertThat(second).isEqualTo("found");
+        assertThat(meterRegistry.find("service.calls").timers()).singleElement()
+                .satisfies(timer -> {
+                    assertThat(timer.getId().getTag("class")).isEqualTo("LookupService");
+                    assertThat(timer.getId().getTag("method")).isEqualTo("find");
+                    assertThat(timer.getId().getTag("exception")).isEqualTo("none");
+                    assertThat(timer.count()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void shouldRecordFailedCallTaggedWithExceptionAndRethrow() throws Throwable {
+        doThrow(new IllegalStateException("boom")).when(joinPoint).proceed();
+
+        assertThatThrownBy(() -> aspect.timeServiceExecution(joinPoint))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+
+        Timer failed = meterRegistry.find("service.calls").tag("exception", "IllegalStateException").timer();
+        assertThat(failed).isNotNull();
+        assertThat(failed.count()).isEqualTo(1);
+        assertThat(meterRegistry.find("service.calls").tag("exception", "none").timer().count()).isZero();
+    }
+
+    static class LookupService {
+
+        public String find() {
+            return "found";
+        }
+    }
+}
@@ -3,12 +3,14 @@ package com.rolliedev.ticketflow.unit.http.rest;
 import com.rolliedev.ticketflow.config.SecurityConfiguration;
 import com.rolliedev.ticketflow.dto.CommentResponse;
 import com.rolliedev.ticketflow.dto.CreateCommentRequest;
-import com.rolliedev.ticketflow.dto.TicketResponse;
+import com.rolliedev.ticketflow.dto.TicketRevision;
 import com.rolliedev.ticketflow.entity.UserEntity;
 import com.rolliedev.ticketflow.entity.enums.Role;
 import com.rolliedev.ticketflow.exception.BusinessRuleViolationException;
 import com.rolliedev.ticketflow.exception.ResourceNotFoundException;
 import com.rolliedev.ticketflow.http.rest.CommentRestController;
+import com.rolliedev.ticketflow.security.ApiTokenService;
+import com.rolliedev.ticketflow.security.CredentialsCache;
 import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
 import com.rolliedev.ticketflow.service.CommentService;
 import com.rolliedev.ticketflow.service.TicketService;
@@ -19,11 +21,13 @@ import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import tools.jackson.databind.ObjectMapper;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -59,6 +63,10 @@ public class CommentRestControllerTest {
     private CommentService commentService;
     @MockitoBean
     private TicketService ticketService;
+    @MockitoBean
+    private CredentialsCache credentialsCache;
+    @MockitoBean
+    private ApiTokenService apiTokenService;
 
     private TicketFlowUserDetails adminDetails;
 
@@ -72,7 +80,7 @@ public class CommentRestControllerTest {
         List<CommentResponse> commentResponses = List.of(mockCommentResponse(1L), mockCommentResponse(2L));
         PageImpl<CommentResponse> page = new PageImpl<>(commentResponses, PageRequest.of(0, 10), 2);
 
-        doReturn(Optional.of(mock(TicketResponse.class))).when(ticketService).findById(eq(TICKET_ID), any());
+        doReturn(Optional.of(revision())).when(ticketService).findRevision(eq(TICKET_ID), any());
         doReturn(page).when(commentService).findAllBy(eq(TICKET_ID), any());
 
         mockMvc.perform(get("/api/v1/tickets/{ticketId}/comments", TICKET_ID)
@@ -89,7 +97,7 @@ public class CommentRestControllerTest {
     void shouldReturnEmptyPageWhenTicketHasNoComments() throws Exception {
         PageImpl<CommentResponse> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10), 0);
 
-        doReturn(Optional.of(TicketResponse.class)).when(ticketService).findById(eq(TICKET_ID), any());
+        doReturn(Optional.of(revision())).when(ticketService).findRevision(eq(TICKET_ID), any());
         doReturn(emptyPage).when(commentService).findAllBy(eq(TICKET_ID), any());
 
         mockMvc.perform(get("/api/v1/tickets/{ticketId}/comments", TICKET_ID)
@@ -101,9 +109,21 @@ public class CommentRestControllerTest {
                 );
     }
 
+    @Test
+    void shouldReturnNotModifiedWithoutLoadingCommentsWhenETagMatches() throws Exception {
+        doReturn(Optional.of(revision())).when(ticketService).findRevision(eq(TICKET_ID), any());
+
+        mockMvc.perform(get("/api/v1/tickets/{ticketId}/comments", TICKET_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, revision().eTag("comments"))
+                        .with(user(adminDetails)))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(commentService);
+    }
+
     @Test
     void shouldReturnNotFoundWhenTryingToFindCommentsOfNonExistingTicket() throws Exception {
-        doReturn(Optional.empty()).when(ticketService).findById(eq(TICKET_ID), any());
+        doReturn(Optional.empty()).when(ticketService).findRevision(eq(TICKET_ID), any());
 
         mockMvc.perform(get("/api/v1/tickets/{ticketId}/comments", TICKET_ID)
                         .with(user(adminDetails)))
@@ -178,6 +198,10 @@ public class CommentRestControllerTest {
         return new TicketFlowUserDetails(user);
     }
 
+    private TicketRevision revision() {
+        return new TicketRevision(TICKET_ID, ADMIN_ID, Instant.parse("2026-05-10T10:00:00Z"), 0, 2L);
+    }
+
     private CommentResponse mockCommentResponse(Long id) {
         return mock(CommentResponse.class, invocation ->
                 invocation.getMethod().getName().equals("id") ? id : null);
@@ -3,18 +3,28 @@ package com.rolliedev.ticketflow.unit.http.rest;
 import com.rolliedev.ticketflow.config.SecurityConfiguration;
 import com.rolliedev.ticketflow.dto.AssignTicketRequest;
 import com.rolliedev.ticketflow.dto.ChangePriorityRequest;
+import com.rolliedev.ticketflow.dto.CountMode;
 import com.rolliedev.ticketflow.dto.CreateTicketRequest;
+import com.rolliedev.ticketflow.dto.CursorPageResponse;
+import com.rolliedev.ticketflow.dto.TicketCursor;
 import com.rolliedev.ticketflow.dto.TicketEventResponse;
+import com.rolliedev.ticketflow.dto.TicketListItem;
 import com.rolliedev.ticketflow.dto.TicketResponse;
+import com.rolliedev.ticketflow.dto.TicketAccess;
+import com.rolliedev.ticketflow.dto.TicketRevision;
+import com.rolliedev.ticketflow.dto.TimelineCursor;
 import com.rolliedev.ticketflow.entity.UserEntity;
 import com.rolliedev.ticketflow.entity.enums.Role;
 import com.rolliedev.ticketflow.entity.enums.SlaStatus;
 import com.rolliedev.ticketflow.entity.enums.TicketPriority;
 import com.rolliedev.ticketflow.entity.enums.TicketStatus;
 import com.rolliedev.ticketflow.http.rest.TicketRestController;
+import com.rolliedev.ticketflow.security.ApiTokenService;
+import com.rolliedev.ticketflow.security.CredentialsCache;
 import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
 import com.rolliedev.ticketflow.service.TicketEventService;
 import com.rolliedev.ticketflow.service.TicketService;
+import com.rolliedev.ticketflow.service.stream.TicketEventStreamHub;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,9 +33,14 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import tools.jackson.databind.ObjectMapper;
 
 import java.time.Instant;
@@ -35,14 +50,19 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -65,6 +85,12 @@ public class TicketRestControllerTest {
     private TicketService ticketService;
     @MockitoBean
     private TicketEventService eventService;
+    @MockitoBean
+    private TicketEventStreamHub streamHub;
+    @MockitoBean
+    private CredentialsCache credentialsCache;
+    @MockitoBean
+    private ApiTokenService apiTokenService;
 
     private TicketFlowUserDetails adminDetails;
     private TicketFlowUserDetails agentDetails;
@@ -81,6 +107,7 @@ public class TicketRestControllerTest {
     void shouldReturnTicketWhenTicketExists() throws Exception {
         TicketResponse ticket = mockTicketResponse(TICKET_ID);
 
+        doReturn(Optional.of(revision())).when(ticketService).findRevision(eq(TICKET_ID), any());
         doReturn(Optional.of(ticket)).when(ticketService).findById(eq(TICKET_ID), any());
 
         mockMvc.perform(get("/api/v1/tickets/{id}", TICKET_ID)
@@ -91,13 +118,30 @@ public class TicketRestControllerTest {
                         jsonPath("$.responseSlaStatus").value(SlaStatus.ON_TRACK.name()),
                         jsonPath("$.resolutionSlaStatus").value(SlaStatus.ON_TRACK.name()),
                         jsonPath("$.firstResponseDeadline").exists(),
-                        jsonPath("$.resolutionDeadline").exists()
+                        jsonPath("$.resolutionDeadline").exists(),
+                        header().string(HttpHeaders.ETAG, revision().eTag("ticket"))
                 );
     }
 
+    @Test
+    void shouldReturnNotModifiedWithoutLoadingTicketWhenETagMatches() throws Exception {
+        doReturn(Optional.of(revision())).when(ticketService).findRevision(eq(TICKET_ID), any());
+
+        mockMvc.perform(get("/api/v1/tickets/{id}", TICKET_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, revision().eTag("ticket"))
+                        .with(user(adminDetails)))
+                .andExpectAll(
+                        status().isNotModified(),
+                        header().string(HttpHeaders.ETAG, revision().eTag("ticket")),
+                        content().string("")
+                );
+
+        verify(ticketService, never()).findById(any(), any());
+    }
+
     @Test
     void shouldReturnNotFoundWhenTicketDoesNotExist() throws Exception {
-        doReturn(Optional.empty()).when(ticketService).findById(eq(TICKET_ID), any());
+        doReturn(Optional.empty()).when(ticketService).findRevision(eq(TICKET_ID), any());
 
         mockMvc.perform(get("/api/v1/tickets/{id}", TICKET_ID)
                         .with(user(adminDetails)))
@@ -112,10 +156,10 @@ public class TicketRestControllerTest {
 
     @Test
     void shouldReturnPagedTicketsWhenTicketsExist() throws Exception {
-        TicketResponse ticket = mockTicketResponse(TICKET_ID);
-        Page<TicketResponse> page = new PageImpl<>(List.of(ticket), PageRequest.of(0, 10), 1);
+        TicketListItem ticket = mockTicketListItem(TICKET_ID);
+        Page<TicketListItem> page = new PageImpl<>(List.of(ticket), PageRequest.of(0, 10), 1);
 
-        doReturn(page).when(ticketService).findAll(any(), any(), any());
+        doReturn(page).when(ticketService).findAll(any(), any(Pageable.class), eq(CountMode.EXACT), any());
 
         mockMvc.perform(get("/api/v1/tickets")
                         .with(user(adminDetails))
@@ -131,9 +175,9 @@ public class TicketRestControllerTest {
 
     @Test
     void shouldReturnEmptyPageWhenNoTicketsExist() throws Exception {
-        Page<TicketResponse> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10), 0);
+        Page<TicketListItem> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10), 0);
 
-        doReturn(emptyPage).when(ticketService).findAll(any(), any(), any());
+        doReturn(emptyPage).when(ticketService).findAll(any(), any(Pageable.class), eq(CountMode.EXACT), any());
 
         mockMvc.perform(get("/api/v1/tickets")
                         .with(user(adminDetails)))
@@ -144,14 +188,87 @@ public class TicketRestControllerTest {
                 );
     }
 
+    @Test
+    void shouldReturnSliceWithoutTotalsWhenCountModeIsNone() throws Exception {
+        SliceImpl<TicketListItem> slice = new SliceImpl<>(List.of(mockTicketListItem(TICKET_ID)), PageRequest.of(0, 1), true);
+
+        doReturn(slice).when(ticketService).findAll(any(), any(Pageable.class), eq(CountMode.NONE), any());
+
+        mockMvc.perform(get("/api/v1/tickets")
+                        .with(user(adminDetails))
+                        .param("count", "NONE")
+                        .param("size", "1"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.content.length()").value(1),
+                        jsonPath("$.metadata.hasNext").value(true),
+                        jsonPath("$.metadata.totalElements").doesNotExist(),
+                        jsonPath("$.metadata.totalEstimated").value(false)
+                );
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenCountModeIsUnknown() throws Exception {
+        mockMvc.perform(get("/api/v1/tickets")
+                        .with(user(adminDetails))
+                        .param("count", "SOMETIMES"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(ticketService);
+    }
+
+    @Test
+    void shouldReturnCursorPageWhenCursorParamIsPresent() throws Exception {
+        TicketCursor firstPage = TicketCursor.first(Sort.by(Sort.Direction.DESC, "createdAt"));
+        String nextCursor = firstPage.next(Instant.parse("2026-01-01T10:00:00Z"), TICKET_ID).encode();
+        CursorPageResponse<TicketListItem> page = CursorPageResponse.of(List.of(mockTicketListItem(TICKET_ID)), 1, nextCursor);
+
+        doReturn(page).when(ticketService).findAll(any(), any(TicketCursor.class), anyInt(), any());
+
+        mockMvc.perform(get("/api/v1/tickets")
+                        .with(user(adminDetails))
+                        .param("cursor", "")
+                        .param("size", "1"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.content.length()").value(1),
+                        jsonPath("$.metadata.hasNext").value(true),
+                        jsonPath("$.metadata.nextCursor").value(nextCursor),
+                        jsonPath("$.metadata.totalElements").doesNotExist()
+                );
+
+        verify(ticketService).findAll(any(), eq(firstPage), eq(1), any());
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenCursorIsMalformed() throws Exception {
+        mockMvc.perform(get("/api/v1/tickets")
+                        .with(user(adminDetails))
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(ticketService);
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenCursorSortIsNotSupported() throws Exception {
+        mockMvc.perform(get("/api/v1/tickets")
+                        .with(user(adminDetails))
+                        .param("cursor", "")
+                        .param("sort", "priority,desc"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(ticketService);
+    }
+
     @Test
     void shouldReturnPagedTicketEventsOfGivenTicket() throws Exception {
         Page<TicketEventResponse> eventsPage = new PageImpl<>(
                 List.of(mock(TicketEventResponse.class)),
                 PageRequest.of(0, 20), 1);
 
-        doReturn(Optional.of(mock(TicketResponse.class))).when(ticketService).findById(eq(TICKET_ID), any());
-        doReturn(eventsPage).when(eventService).getTimeline(eq(TICKET_ID), any());
+        doReturn(Optional.of(revision())).when(ticketService).findRevision(eq(TICKET_ID), any());
+        doReturn(eventsPage).when(eventService).getTimeline(eq(TICKET_ID), any(), any());
 
         mockMvc.perform(get("/api/v1/tickets/{id}/events", TICKET_ID)
                         .with(user(adminDetails)))
@@ -167,8 +284,8 @@ public class TicketRestControllerTest {
     void shouldReturnEmptyPageWhenTicketHasNoEvents() throws Exception {
         PageImpl<Object> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0);
 
-        doReturn(Optional.of(mock(TicketResponse.class))).when(ticketService).findById(eq(TICKET_ID), any());
-        doReturn(emptyPage).when(eventService).getTimeline(eq(TICKET_ID), any());
+        doReturn(Optional.of(revision())).when(ticketService).findRevision(eq(TICKET_ID), any());
+        doReturn(emptyPage).when(eventService).getTimeline(eq(TICKET_ID), any(), any());
 
         mockMvc.perform(get("/api/v1/tickets/{id}/events", TICKET_ID)
                         .with(user(adminDetails)))
@@ -179,15 +296,100 @@ public class TicketRestControllerTest {
                 );
     }
 
+    @Test
+    void shouldReturnTimelineCursorPageWhenCursorParamIsPresent() throws Exception {
+        String nextCursor = new TimelineCursor(Instant.parse("2026-01-01T10:00:00Z"), 5L).encode();
+        CursorPageResponse<TicketEventResponse> page = CursorPageResponse.of(List.of(mock(TicketEventResponse.class)), 1, nextCursor);
+
+        doReturn(Optional.of(revision())).when(ticketService).findRevision(eq(TICKET_ID), any());
+        doReturn(page).when(eventService).getTimeline(eq(TICKET_ID), any(), any(TimelineCursor.class), anyInt());
+
+        mockMvc.perform(get("/api/v1/tickets/{id}/events", TICKET_ID)
+                        .with(user(adminDetails))
+                        .param("cursor", "")
+                        .param("size", "1"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.content.length()").value(1),
+                        jsonPath("$.metadata.hasNext").value(true),
+                        jsonPath("$.metadata.nextCursor").value(nextCursor),
+                        jsonPath("$.metadata.totalElements").doesNotExist()
+                );
+
+        verify(eventService).getTimeline(eq(TICKET_ID), any(), eq(TimelineCursor.first()), eq(1));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenTimelineCursorIsMalformed() throws Exception {
+        doReturn(Optional.of(revision())).when(ticketService).findRevision(eq(TICKET_ID), any());
+
+        mockMvc.perform(get("/api/v1/tickets/{id}/events", TICKET_ID)
+                        .with(user(adminDetails))
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void shouldReturnNotModifiedWithoutLoadingTimelineWhenETagMatches() throws Exception {
+        doReturn(Optional.of(revision())).when(ticketService).findRevision(eq(TICKET_ID), any());
+
+        mockMvc.perform(get("/api/v1/tickets/{id}/events", TICKET_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, revision().eTag("events"))
+                        .with(user(adminDetails)))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(eventService);
+    }
+
     @Test
     void shouldReturnNotFoundWhenTryingToGetTimelineOfNonExistingTicket() throws Exception {
-        doReturn(Optional.empty()).when(ticketService).findById(eq(TICKET_ID), any());
+        doReturn(Optional.empty()).when(ticketService).findRevision(eq(TICKET_ID), any());
 
         mockMvc.perform(get("/api/v1/tickets/{id}/events", TICKET_ID)
                         .with(user(adminDetails)))
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void shouldStartStreamingTimelineWhenTicketIsAccessible() throws Exception {
+        doReturn(Optional.of(access())).when(ticketService).findAccess(eq(TICKET_ID), any());
+        doReturn(new SseEmitter()).when(streamHub).subscribeToTicket(TICKET_ID);
+
+        mockMvc.perform(get("/api/v1/tickets/{id}/events/stream", TICKET_ID)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(user(customerDetails)))
+                .andExpect(request().asyncStarted());
+
+        verify(streamHub).subscribeToTicket(TICKET_ID);
+        verify(ticketService, never()).findRevision(any(), any());
+    }
+
+    @Test
+    void shouldNotSubscribeWhenTryingToStreamTimelineOfNonExistingTicket() throws Exception {
+        doReturn(Optional.empty()).when(ticketService).findAccess(eq(TICKET_ID), any());
+
+        mockMvc.perform(get("/api/v1/tickets/{id}/events/stream", TICKET_ID)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(user(adminDetails)))
+                .andExpect(status().isNotFound());
+
+        verifyNoInteractions(streamHub);
+    }
+
+    @Test
+    void shouldStreamAssignedQueueOfCurrentAgent() throws Exception {
+        doReturn(new SseEmitter()).when(streamHub).subscribeToAssignedQueue(AGENT_ID);
+
+        mockMvc.perform(get("/api/v1/tickets/assigned/events/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(user(agentDetails)))
+                .andExpect(request().asyncStarted());
+
+        verify(streamHub).subscribeToAssignedQueue(AGENT_ID);
+    }
+
     @Test
     void shouldCreateTicketAndReturnLocationHeaderWhenRequestIsValid() throws Exception {
         CreateTicketRequest request = new CreateTicketRequest("Cannot login", "Getting error");
@@ -340,6 +542,14 @@ public class TicketRestControllerTest {
         return new TicketFlowUserDetails(user);
     }
 
+    private TicketAccess access() {
+        return new TicketAccess(TICKET_ID, CUSTOMER_ID, Instant.parse("2026-05-10T10:00:00Z"));
+    }
+
+    private TicketRevision revision() {
+        return new TicketRevision(TICKET_ID, CUSTOMER_ID, Instant.parse("2026-05-10T10:00:00Z"), 3, 5L);
+    }
+
     private TicketResponse mockTicketResponse(Long id) {
         Instant createdAt = Instant.parse("2026-05-10T10:00:00Z");
 
@@ -361,4 +571,25 @@ public class TicketRestControllerTest {
                 SlaStatus.ON_TRACK
         );
     }
+
+    private TicketListItem mockTicketListItem(Long id) {
+        Instant createdAt = Instant.parse("2026-05-10T10:00:00Z");
+
+        return new TicketListItem(
+                id,
+                "Test ticket",
+                TicketStatus.NEW,
+                TicketPriority.MEDIUM,
+                null,
+                null,
+                createdAt,
+                createdAt,
+                null,
+                null,
+                createdAt.plus(1, ChronoUnit.DAYS),
+                createdAt.plus(3, ChronoUnit.DAYS),
+                SlaStatus.ON_TRACK,
+                SlaStatus.ON_TRACK
+        );
+    }
 }
@@ -6,6 +6,8 @@ import com.rolliedev.ticketflow.dto.UserResponse;
 import com.rolliedev.ticketflow.entity.UserEntity;
 import com.rolliedev.ticketflow.entity.enums.Role;
 import com.rolliedev.ticketflow.http.rest.UserRestController;
+import com.rolliedev.ticketflow.security.ApiTokenService;
+import com.rolliedev.ticketflow.security.CredentialsCache;
 import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
 import com.rolliedev.ticketflow.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,6 +53,10 @@ class UserRestControllerTest {
 
     @MockitoBean
     private UserService userService;
+    @MockitoBean
+    private CredentialsCache credentialsCache;
+    @MockitoBean
+    private ApiTokenService apiTokenService;
 
     private TicketFlowUserDetails adminDetails;
 
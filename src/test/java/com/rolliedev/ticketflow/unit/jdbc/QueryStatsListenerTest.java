@@ -0,0 +1,66 @@
+package com.rolliedev.ticketflow.unit.jdbc;
+
+import com.rolliedev.ticketflow.jdbc.QueryStats;
+import com.rolliedev.ticketflow.jdbc.QueryStatsListener;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryStatsListenerTest {
+
+    private static final String SELECT_USER = "select u.id, u.full_name from users u where u.id=?";
+
+    private final QueryStatsListener listener = new QueryStatsListener();
+
+    @AfterEach
+    void tearDown() {
+        QueryStats.stop();
+    }
+
+    @Test
+    void shouldCountStatementsAndReportRepeatedSelectShapes() {
+        QueryStats stats = QueryStats.start();
+
+        for (int i = 0; i < 5; i++) {
+            execute(SELECT_USER);
+        }
+        execute("select t.id from tickets t where t.id=?");
+        execute("update tickets set status=? where id=?");
+        execute("update tickets set status=? where id=?");
+
+        assertThat(stats.count()).isEqualTo(8);
+        assertThat(stats.repeatedSelects(5)).containsExactly(Map.entry(SELECT_USER, 5));
+        assertThat(stats.repeatedSelects(6)).isEmpty();
+    }
+
+    @Test
+    void shouldCountEveryQueryOfStatementBatch() {
+        QueryStats stats = QueryStats.start();
+
+        execute("insert into ticket_events (id) values (?)", "insert into ticket_comments (id) values (?)");
+
+        assertThat(stats.count()).isEqualTo(2);
+        assertThat(stats.repeatedSelects(2)).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreStatementsOutsideStartedScope() {
+        execute(SELECT_USER);
+
+        assertThat(QueryStats.current()).isNull();
+    }
+
+    private void execute(String... sql) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        List<QueryInfo> queries = Arrays.stream(sql).map(QueryInfo::new).toList();
+        listener.beforeQuery(execInfo, queries);
+        listener.afterQuery(execInfo, queries);
+    }
+}
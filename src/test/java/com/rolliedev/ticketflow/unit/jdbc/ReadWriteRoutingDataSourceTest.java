@@ -0,0 +1,187 @@
+package com.rolliedev.ticketflow.unit.jdbc;
+
+import com.rolliedev.ticketflow.jdbc.ReadWriteRoutingDataSource;
+import com.rolliedev.ticketflow.jdbc.ReadYourWritesTracker;
+import com.rolliedev.ticketflow.jdbc.ReplicaLagMonitor;
+import com.rolliedev.ticketflow.jdbc.ReplicaNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(10);
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private DataSource firstReplicaPool;
+    @Mock
+    private DataSource secondReplicaPool;
+
+    private MeterRegistry meterRegistry;
+    private ReplicaNode firstReplica;
+    private ReplicaNode secondReplica;
+    private ReadYourWritesTracker readYourWritesTracker;
+    private ReadWriteRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        doReturn(mock(Connection.class)).when(primary).getConnection();
+        doReturn(mock(Connection.class)).when(firstReplicaPool).getConnection();
+        doReturn(mock(Connection.class)).when(secondReplicaPool).getConnection();
+        firstReplica = new ReplicaNode("replica-1", firstReplicaPool);
+        secondReplica = new ReplicaNode("replica-2", secondReplicaPool);
+        firstReplica.setLag(Duration.ZERO);
+        secondReplica.setLag(Duration.ofSeconds(2));
+
+        readYourWritesTracker = new ReadYourWritesTracker(Duration.ofMinutes(1), null, Clock.systemUTC());
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(primary, List.of(firstReplica, secondReplica), MAX_LAG,
+                Clock.systemUTC(), meterRegistry);
+        dataSource = new ReadWriteRoutingDataSource(primary, lagMonitor, readYourWritesTracker, meterRegistry);
+        // known defaults, so the proxy does not open a connection of its own to look them up
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bruce.wayne@gmail.com", null, "AGENT"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldSendWritesToPrimary() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        verify(primary).getConnection();
+        verify(firstReplicaPool, never()).getConnection();
+        verify(secondReplicaPool, never()).getConnection();
+    }
+
+    @Test
+    void shouldSpreadReadOnlyTransactionsOverReplicas() throws SQLException {
+        read();
+        read();
+        read();
+
+        verify(primary, never()).getConnection();
+        verify(firstReplicaPool, times(2)).getConnection();
+        verify(secondReplicaPool).getConnection();
+        assertThat(routed("replica-1", "read_only")).isEqualTo(2);
+        assertThat(routed("replica-2", "read_only")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipReplicasBehindLagLimitOrUnreachable() throws SQLException {
+        firstReplica.setLag(MAX_LAG.plusSeconds(1));
+        secondReplica.setLag(null);
+
+        read();
+
+        verify(primary).getConnection();
+        verify(firstReplicaPool, never()).getConnection();
+        verify(secondReplicaPool, never()).getConnection();
+        assertThat(routed("primary", "no_replica")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadOwnWritesFromPrimaryWithinStickyWindow() throws SQLException {
+        TransactionExecution write = mock(TransactionExecution.class);
+        doReturn(true).when(write).isNewTransaction();
+        readYourWritesTracker.afterCommit(write, null);
+
+        read();
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("clark.kent@gmail.com", null, "CUSTOMER"));
+        read();
+
+        verify(primary).getConnection();
+        verify(firstReplicaPool).getConnection();
+        assertThat(routed("primary", "sticky")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotStickAfterReadOnlyOrFailedCommit() throws SQLException {
+        TransactionExecution readOnly = mock(TransactionExecution.class);
+        doReturn(true).when(readOnly).isNewTransaction();
+        doReturn(true).when(readOnly).isReadOnly();
+        TransactionExecution failed = mock(TransactionExecution.class);
+        doReturn(true).when(failed).isNewTransaction();
+        readYourWritesTracker.afterCommit(readOnly, null);
+        readYourWritesTracker.afterCommit(failed, new IllegalStateException("commit failed"));
+
+        read();
+
+        verify(primary, never()).getConnection();
+        verify(firstReplicaPool).getConnection();
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaRefusesConnection() throws SQLException {
+        secondReplica.setLag(null);
+        doThrow(new SQLException("connection refused")).when(firstReplicaPool).getConnection();
+
+        read();
+
+        verify(primary).getConnection();
+        assertThat(routed("primary", "replica_failure")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRouteConnectionsWithExplicitCredentialsLikeDefaultOnes() throws SQLException {
+        Connection replicaConnection = mock(Connection.class);
+        doReturn(replicaConnection).when(firstReplicaPool).getConnection("reporting", "secret");
+        secondReplica.setLag(null);
+
+        try (Connection connection = dataSource.getConnection("reporting", "secret")) {
+            connection.setReadOnly(true);
+            connection.createStatement();
+        }
+
+        verify(firstReplicaPool).getConnection("reporting", "secret");
+        verify(primary, never()).getConnection("reporting", "secret");
+        verify(replicaConnection).createStatement();
+        assertThat(routed("replica-1", "read_only")).isEqualTo(1);
+    }
+
+    private void read() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.createStatement();
+        }
+    }
+
+    private double routed(String target, String reason) {
+        return meterRegistry.get("datasource.read.routing").tag("target", target).tag("reason", reason).counter().count();
+    }
+}
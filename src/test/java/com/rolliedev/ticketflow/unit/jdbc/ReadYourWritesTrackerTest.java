@@ -0,0 +1,125 @@
+package com.rolliedev.ticketflow.unit.jdbc;
+
+import com.rolliedev.ticketflow.jdbc.ReadYourWritesTracker;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+class ReadYourWritesTrackerTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final Duration STICKY_WINDOW = Duration.ofSeconds(5);
+    private static final Instant NOW = Instant.parse("2026-05-10T10:00:00Z");
+
+    private ReadYourWritesTracker writingNode;
+    private ReadYourWritesTracker otherNode;
+
+    @BeforeEach
+    void setUp() {
+        writingNode = new ReadYourWritesTracker(STICKY_WINDOW, SECRET, Clock.fixed(NOW, ZoneOffset.UTC));
+        otherNode = new ReadYourWritesTracker(STICKY_WINDOW, SECRET, Clock.fixed(NOW.plusSeconds(2), ZoneOffset.UTC));
+        authenticate("clark.kent@gmail.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldSetShortLivedCookieOnceAfterWriteInRequest() {
+        MockHttpServletResponse response = request(new MockHttpServletRequest());
+
+        writingNode.afterCommit(write(), null);
+        writingNode.afterCommit(write(), null);
+
+        assertThat(response.getHeaders("Set-Cookie")).singleElement()
+                .satisfies(header -> assertThat(header)
+                        .startsWith(ReadYourWritesTracker.COOKIE_NAME + "=" + NOW.plus(STICKY_WINDOW).toEpochMilli() + ".")
+                        .contains("Max-Age=5", "HttpOnly", "SameSite=Lax"));
+    }
+
+    @Test
+    void shouldReadFromPrimaryOnAnyNodeWithCookieOfOwnWrite() {
+        Cookie cookie = writeAndTakeCookie();
+
+        MockHttpServletRequest nextRequest = new MockHttpServletRequest();
+        nextRequest.setCookies(cookie);
+        request(nextRequest);
+
+        assertThat(otherNode.isSticky()).isTrue();
+        authenticate("bruce.wayne@gmail.com");
+        assertThat(otherNode.isSticky()).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreExpiredTamperedOrForeignCookies() {
+        Cookie cookie = writeAndTakeCookie();
+        String signature = cookie.getValue().substring(cookie.getValue().indexOf('.') + 1);
+
+        assertThat(stickyWith(otherNode, cookie.getValue())).isTrue();
+        assertThat(stickyWith(new ReadYourWritesTracker(STICKY_WINDOW, SECRET, Clock.fixed(NOW.plusSeconds(6), ZoneOffset.UTC)),
+                cookie.getValue())).isFalse();
+        assertThat(stickyWith(otherNode, NOW.plusSeconds(60).toEpochMilli() + "." + signature)).isFalse();
+        assertThat(stickyWith(otherNode, "not-a-cookie")).isFalse();
+        assertThat(stickyWith(new ReadYourWritesTracker(STICKY_WINDOW, null, Clock.fixed(NOW, ZoneOffset.UTC)),
+                cookie.getValue())).isFalse();
+    }
+
+    @Test
+    void shouldKeepWriterStickyOnSameNodeWithoutCookie() {
+        writingNode.afterCommit(write(), null);
+
+        assertThat(writingNode.isSticky()).isTrue();
+        assertThat(otherNode.isSticky()).isFalse();
+    }
+
+    private Cookie writeAndTakeCookie() {
+        MockHttpServletResponse response = request(new MockHttpServletRequest());
+        writingNode.afterCommit(write(), null);
+        RequestContextHolder.resetRequestAttributes();
+        return response.getCookie(ReadYourWritesTracker.COOKIE_NAME);
+    }
+
+    private boolean stickyWith(ReadYourWritesTracker tracker, String cookieValue) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesTracker.COOKIE_NAME, cookieValue));
+        request(request);
+        return tracker.isSticky();
+    }
+
+    private static MockHttpServletResponse request(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private static TransactionExecution write() {
+        TransactionExecution write = mock(TransactionExecution.class);
+        doReturn(true).when(write).isNewTransaction();
+        return write;
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(username, null, "CUSTOMER"));
+    }
+}
@@ -0,0 +1,141 @@
+package com.rolliedev.ticketflow.unit.jdbc;
+
+import com.rolliedev.ticketflow.jdbc.ReplicaLagMonitor;
+import com.rolliedev.ticketflow.jdbc.ReplicaNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReplicaLagMonitorTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(10);
+    private static final Instant START = Instant.parse("2026-05-10T10:00:00Z");
+
+    @Mock
+    private DataSource primaryPool;
+    @Mock
+    private DataSource replicaPool;
+    @Mock
+    private Clock clock;
+    @Mock
+    private ResultSet primaryResult;
+    @Mock
+    private ResultSet replicaResult;
+
+    private Instant now = START;
+    private ReplicaNode replica;
+    private ReplicaLagMonitor lagMonitor;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        doAnswer(invocation -> now).when(clock).instant();
+        doReturn(connectionReturning(primaryResult)).when(primaryPool).getConnection();
+        doReturn(connectionReturning(replicaResult)).when(replicaPool).getConnection();
+        doReturn(true).when(replicaResult).getBoolean(1);
+        doReturn(true).when(replicaResult).getBoolean(2);
+
+        replica = new ReplicaNode("replica-1", replicaPool);
+        lagMonitor = new ReplicaLagMonitor(primaryPool, List.of(replica), MAX_LAG, clock, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldMeasureLagByAgeOfOldestPrimaryPositionNotReplayed() throws SQLException {
+        check(0, 100, 100);
+        assertThat(replica.getLag()).isZero();
+
+        check(6, 200, 100);
+        assertThat(replica.getLag()).isZero();
+
+        check(12, 300, 150);
+        assertThat(replica.getLag()).isEqualTo(Duration.ofSeconds(6));
+        assertThat(lagMonitor.usableReplicas()).containsExactly(replica);
+
+        check(18, 300, 150);
+        assertThat(replica.getLag()).isEqualTo(Duration.ofSeconds(12));
+        assertThat(lagMonitor.usableReplicas()).isEmpty();
+
+        check(24, 400, 300);
+        assertThat(replica.getLag()).isZero();
+        assertThat(lagMonitor.usableReplicas()).containsExactly(replica);
+    }
+
+    @Test
+    void shouldKeepMeasuringReplicaThatStaysBehind() throws SQLException {
+        check(0, 100, 50);
+        for (int second = 5; second <= 60; second += 5) {
+            check(second, 100 + second, 50);
+        }
+
+        assertThat(replica.getLag()).isEqualTo(Duration.ofSeconds(60));
+        assertThat(lagMonitor.usableReplicas()).isEmpty();
+    }
+
+    @Test
+    void shouldNotUseReplicaThatStoppedStreaming() throws SQLException {
+        doReturn(false).when(replicaResult).getBoolean(2);
+
+        check(0, 100, 100);
+
+        assertThat(replica.getLag()).isNull();
+        assertThat(lagMonitor.usableReplicas()).isEmpty();
+    }
+
+    @Test
+    void shouldTreatServerNotInRecoveryAsUpToDate() throws SQLException {
+        doReturn(false).when(replicaResult).getBoolean(1);
+
+        check(0, 100, 0);
+
+        assertThat(replica.getLag()).isZero();
+    }
+
+    @Test
+    void shouldNotUseReplicasWhilePrimaryPositionCannotBeRead() throws SQLException {
+        check(0, 100, 100);
+        doThrow(new SQLException("connection refused")).when(primaryPool).getConnection();
+
+        lagMonitor.checkLag();
+
+        assertThat(replica.getLag()).isNull();
+        assertThat(lagMonitor.usableReplicas()).isEmpty();
+    }
+
+    private void check(long second, long primaryPosition, long replayedPosition) throws SQLException {
+        now = START.plusSeconds(second);
+        doReturn(primaryPosition).when(primaryResult).getLong(1);
+        doReturn(replayedPosition).when(replicaResult).getLong(3);
+        lagMonitor.checkLag();
+    }
+
+    private static Connection connectionReturning(ResultSet resultSet) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        doReturn(statement).when(connection).createStatement();
+        doReturn(resultSet).when(statement).executeQuery(anyString());
+        return connection;
+    }
+}
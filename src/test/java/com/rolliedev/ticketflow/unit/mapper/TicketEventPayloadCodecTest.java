@@ -0,0 +1,56 @@
+package com.rolliedev.ticketflow.unit.mapper;
+
+import com.rolliedev.ticketflow.entity.enums.TicketEventType;
+import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+import com.rolliedev.ticketflow.entity.payload.CommentPayload;
+import com.rolliedev.ticketflow.entity.payload.FirstResponseSlaBreachedPayload;
+import com.rolliedev.ticketflow.entity.payload.StatusChangedPayload;
+import com.rolliedev.ticketflow.entity.payload.TicketAssignedPayload;
+import com.rolliedev.ticketflow.entity.payload.TicketCreatedPayload;
+import com.rolliedev.ticketflow.mapper.TicketEventPayloadCodec;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TicketEventPayloadCodecTest {
+
+    private final TicketEventPayloadCodec codec = new TicketEventPayloadCodec(JsonMapper.builder().build());
+
+    @Test
+    void shouldWriteIdsAsNumbers() {
+        String json = codec.encode(TicketEventType.ASSIGNED, new TicketAssignedPayload(null, 3));
+
+        assertThat(json).isEqualTo("{\"previousAssigneeId\":null,\"assigneeId\":3}");
+    }
+
+    @Test
+    void shouldReadPayloadRecordOfEventType() {
+        Instant deadline = Instant.parse("2026-05-11T10:00:00Z");
+        String json = codec.encode(TicketEventType.FIRST_RESPONSE_SLA_BREACHED, new FirstResponseSlaBreachedPayload(deadline));
+
+        assertThat(codec.decode(TicketEventType.FIRST_RESPONSE_SLA_BREACHED, json))
+                .isEqualTo(new FirstResponseSlaBreachedPayload(deadline));
+        assertThat(codec.decode(TicketEventType.COMMENT_DELETED, "{\"commentId\": 10}"))
+                .isEqualTo(new CommentPayload(10L));
+    }
+
+    @Test
+    void shouldReadLegacyPayloadsWithStringIds() {
+        assertThat(codec.decode(TicketEventType.CREATED, "{\"ticketId\": \"1\", \"createdById\": \"3\"}"))
+                .isEqualTo(new TicketCreatedPayload(1L, 3));
+        assertThat(codec.decode(TicketEventType.ASSIGNED, "{\"previousAssigneeId\": null, \"assigneeId\": \"2\"}"))
+                .isEqualTo(new TicketAssignedPayload(null, 2));
+    }
+
+    @Test
+    void shouldRejectPayloadThatDoesNotMatchEventType() {
+        StatusChangedPayload payload = new StatusChangedPayload(TicketStatus.NEW, TicketStatus.IN_PROGRESS);
+
+        assertThatThrownBy(() -> codec.encode(TicketEventType.PRIORITY_CHANGED, payload))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,109 @@
+package com.rolliedev.ticketflow.unit.security;
+
+import com.rolliedev.ticketflow.config.AuthProperties;
+import com.rolliedev.ticketflow.dto.ApiTokenResponse;
+import com.rolliedev.ticketflow.entity.enums.Role;
+import com.rolliedev.ticketflow.security.ApiTokenService;
+import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
+import com.rolliedev.ticketflow.service.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class ApiTokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-05-10T10:00:00Z");
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    @Mock
+    private Clock clock;
+
+    private ApiTokenService apiTokenService;
+    private TicketFlowUserDetails agent;
+
+    @BeforeEach
+    void setUp() {
+        apiTokenService = newService(SECRET);
+        agent = new TicketFlowUserDetails(7, "Bruce Wayne", "bruce.wayne@gmail.com", "{bcrypt}hash", List.of(Role.AGENT));
+        doReturn(NOW).when(clock).instant();
+    }
+
+    @Test
+    void shouldRebuildUserDetailsFromIssuedToken() {
+        ApiTokenResponse issued = apiTokenService.issue(agent);
+
+        assertThat(issued.tokenType()).isEqualTo("Bearer");
+        assertThat(issued.expiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(15)));
+        assertThat(apiTokenService.authenticate(issued.accessToken())).hasValueSatisfying(user -> {
+            assertThat(user.getId()).isEqualTo(7);
+            assertThat(user.getEmail()).isEqualTo("bruce.wayne@gmail.com");
+            assertThat(user.getFullName()).isEqualTo("Bruce Wayne");
+            assertThat(user.getPassword()).isNull();
+            assertThat(user.hasAuthority(Role.AGENT)).isTrue();
+        });
+    }
+
+    @Test
+    void shouldRejectTamperedOrForeignTokens() {
+        String token = apiTokenService.issue(agent).accessToken();
+        String foreignToken = newService(Base64.getEncoder().encodeToString(new byte[]{1, 2, 3})).issue(agent).accessToken();
+        String escalatedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))))
+                        .replace("AGENT", "ADMIN").getBytes());
+
+        assertThat(apiTokenService.authenticate(escalatedPayload + token.substring(token.indexOf('.')))).isEmpty();
+        assertThat(apiTokenService.authenticate(foreignToken)).isEmpty();
+        assertThat(apiTokenService.authenticate("not-a-token")).isEmpty();
+        assertThat(apiTokenService.authenticate("%%%.%%%")).isEmpty();
+    }
+
+    @Test
+    void shouldRejectExpiredToken() {
+        String token = apiTokenService.issue(agent).accessToken();
+
+        doReturn(NOW.plus(Duration.ofMinutes(15))).when(clock).instant();
+
+        assertThat(apiTokenService.authenticate(token)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectRevokedTokenOnly() {
+        String revoked = apiTokenService.issue(agent).accessToken();
+        String other = apiTokenService.issue(agent).accessToken();
+
+        apiTokenService.revoke(revoked);
+
+        assertThat(apiTokenService.authenticate(revoked)).isEmpty();
+        assertThat(apiTokenService.authenticate(other)).isPresent();
+    }
+
+    @Test
+    void shouldRejectTokensIssuedBeforeUserChanged() {
+        String issuedBefore = apiTokenService.issue(agent).accessToken();
+
+        doReturn(NOW.plusSeconds(1)).when(clock).instant();
+        apiTokenService.onUserChanged(new UserChangedEvent(7, "bruce.wayne@gmail.com", Role.AGENT));
+        String issuedAfter = apiTokenService.issue(agent).accessToken();
+
+        assertThat(apiTokenService.authenticate(issuedBefore)).isEmpty();
+        assertThat(apiTokenService.authenticate(issuedAfter)).isPresent();
+    }
+
+    private ApiTokenService newService(String secret) {
+        AuthProperties properties = new AuthProperties(Duration.ofMinutes(5), 100, Duration.ofMinutes(15), secret);
+        return new ApiTokenService(properties, JsonMapper.builder().build(), clock);
+    }
+}
@@ -0,0 +1,136 @@
+package com.rolliedev.ticketflow.unit.security;
+
+import com.rolliedev.ticketflow.config.AuthProperties;
+import com.rolliedev.ticketflow.entity.enums.Role;
+import com.rolliedev.ticketflow.security.CachingAuthenticationManager;
+import com.rolliedev.ticketflow.security.CredentialsCache;
+import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
+import com.rolliedev.ticketflow.service.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAuthenticationManagerTest {
+
+    private static final String EMAIL = "clark.kent@gmail.com";
+
+    @Mock
+    private AuthenticationManager delegate;
+
+    // fake ticker, the cache expires entries by these nanos only
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private CredentialsCache credentialsCache;
+    private CachingAuthenticationManager authenticationManager;
+    private Authentication verified;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        credentialsCache = new CredentialsCache(new AuthProperties(Duration.ofMinutes(5), 2, Duration.ofMinutes(15), null), meterRegistry, nanos::get);
+        authenticationManager = new CachingAuthenticationManager(delegate, credentialsCache);
+        TicketFlowUserDetails principal = new TicketFlowUserDetails(1, "Clark Kent", EMAIL, "{bcrypt}hash", List.of(Role.CUSTOMER));
+        verified = UsernamePasswordAuthenticationToken.authenticated(principal, "123", principal.getAuthorities());
+    }
+
+    @Test
+    void shouldVerifyCredentialsOnlyOnceWhileCached() {
+        doReturn(verified).when(delegate).authenticate(any());
+
+        Authentication first = authenticationManager.authenticate(basic(EMAIL, "123"));
+        Authentication second = authenticationManager.authenticate(basic(EMAIL, "123"));
+
+        assertThat(first).isSameAs(verified);
+        assertThat(second.isAuthenticated()).isTrue();
+        assertThat(second.getPrincipal()).isSameAs(verified.getPrincipal());
+        assertThat(second.getCredentials()).isNull();
+        verify(delegate, times(1)).authenticate(any());
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheRejectedOrDifferentCredentials() {
+        doReturn(verified).when(delegate).authenticate(basic(EMAIL, "123"));
+        doThrow(new BadCredentialsException("Bad credentials")).when(delegate).authenticate(basic(EMAIL, "wrong"));
+
+        authenticationManager.authenticate(basic(EMAIL, "123"));
+
+        assertThatThrownBy(() -> authenticationManager.authenticate(basic(EMAIL, "wrong"))).isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> authenticationManager.authenticate(basic(EMAIL, "wrong"))).isInstanceOf(BadCredentialsException.class);
+        assertThat(credentialsCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldVerifyAgainAfterTtlExpires() {
+        doReturn(verified).when(delegate).authenticate(any());
+
+        authenticationManager.authenticate(basic(EMAIL, "123"));
+        nanos.addAndGet(Duration.ofMinutes(5).toNanos());
+        authenticationManager.authenticate(basic(EMAIL, "123"));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void shouldVerifyAgainAfterUserChanged() {
+        doReturn(verified).when(delegate).authenticate(any());
+
+        authenticationManager.authenticate(basic(EMAIL, "123"));
+        credentialsCache.onUserChanged(new UserChangedEvent(1, EMAIL, Role.CUSTOMER));
+        authenticationManager.authenticate(basic(EMAIL, "123"));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void shouldKeepAtMostMaxSizeEntries() {
+        doReturn(verified).when(delegate).authenticate(any());
+
+        authenticationManager.authenticate(basic("first@gmail.com", "1"));
+        authenticationManager.authenticate(basic("second@gmail.com", "2"));
+        authenticationManager.authenticate(basic("third@gmail.com", "3"));
+
+        assertThat(credentialsCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldVerifyAgainWhenPasswordDiffersFromCachedOne() {
+        doReturn(verified).when(delegate).authenticate(any());
+
+        authenticationManager.authenticate(basic(EMAIL, "123"));
+        authenticationManager.authenticate(basic(EMAIL, "456"));
+
+        verify(delegate, times(2)).authenticate(any());
+        assertThat(credentialsCache.get(EMAIL, "123")).isEmpty();
+        assertThat(credentialsCache.get(EMAIL, "456")).isPresent();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "credentials").tag("result", result).functionCounter().count();
+    }
+
+    private static Authentication basic(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+}
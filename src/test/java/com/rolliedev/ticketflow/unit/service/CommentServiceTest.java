@@ -1,6 +1,7 @@
 package com.rolliedev.ticketflow.unit.service;
 
 import com.rolliedev.ticketflow.dto.CommentResponse;
+import com.rolliedev.ticketflow.dto.UserSnapshot;
 import com.rolliedev.ticketflow.entity.TicketCommentEntity;
 import com.rolliedev.ticketflow.entity.TicketEntity;
 import com.rolliedev.ticketflow.entity.UserEntity;
@@ -14,10 +15,10 @@ import com.rolliedev.ticketflow.mapper.CommentResponseMapper;
 import com.rolliedev.ticketflow.policy.AccessPolicy;
 import com.rolliedev.ticketflow.repository.TicketCommentRepository;
 import com.rolliedev.ticketflow.repository.TicketRepository;
-import com.rolliedev.ticketflow.repository.UserRepository;
 import com.rolliedev.ticketflow.service.CommentService;
 import com.rolliedev.ticketflow.service.sla.SlaService;
 import com.rolliedev.ticketflow.service.TicketEventService;
+import com.rolliedev.ticketflow.service.UserReferences;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,6 +41,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
@@ -61,7 +63,7 @@ class CommentServiceTest {
     @Mock
     private TicketRepository ticketRepository;
     @Mock
-    private UserRepository userRepository;
+    private UserReferences userReferences;
     @Mock
     private TicketCommentRepository commentRepository;
     @Mock
@@ -131,12 +133,12 @@ class CommentServiceTest {
         CommentResponse commentResponse = mock(CommentResponse.class);
 
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
 
         ArgumentCaptor<TicketCommentEntity> captor = ArgumentCaptor.forClass(TicketCommentEntity.class);
         doReturn(comment).when(commentRepository).save(captor.capture());
 
-        doReturn(commentResponse).when(commentMapper).map(comment);
+        doReturn(commentResponse).when(commentMapper).map(eq(comment), any(UserSnapshot.class));
 
         CommentResponse actualResult = commentService.create(TICKET_ID, AGENT_ID, COMMENT_TEXT);
 
@@ -151,7 +153,7 @@ class CommentServiceTest {
         verify(slaService).evaluateFirstResponse(ticket, agent);
         verify(slaService, never()).resumeResolutionSlaClock(any(), any());
         verify(eventService, never()).recordStatusChangedEvent(any(), any(), any(), any());
-        verify(commentMapper).map(comment);
+        verify(commentMapper).map(eq(comment), any(UserSnapshot.class));
     }
 
     @Test
@@ -172,7 +174,7 @@ class CommentServiceTest {
         TicketCommentEntity comment = savedComment();
 
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
         doReturn(comment).when(commentRepository).save(any(TicketCommentEntity.class));
 
         commentService.create(TICKET_ID, AGENT_ID, COMMENT_TEXT);
@@ -199,7 +201,7 @@ class CommentServiceTest {
                 .hasMessage("Closed tickets cannot be modified");
 
         verify(ticketRepository).findById(TICKET_ID);
-        verifyNoInteractions(userRepository, accessPolicy, commentRepository, slaService, eventService, commentMapper);
+        verifyNoInteractions(userReferences, accessPolicy, commentRepository, slaService, eventService, commentMapper);
     }
 
     @Test
@@ -211,7 +213,7 @@ class CommentServiceTest {
                 .hasMessage(ResourceNotFoundException.ticket(TICKET_ID).getMessage());
 
         verify(ticketRepository).findById(TICKET_ID);
-        verifyNoInteractions(userRepository, accessPolicy, commentRepository, slaService, eventService, commentMapper);
+        verifyNoInteractions(userReferences, accessPolicy, commentRepository, slaService, eventService, commentMapper);
     }
 
     @Test
@@ -231,14 +233,14 @@ class CommentServiceTest {
                 .build();
 
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
-        doReturn(Optional.of(customer)).when(userRepository).findById(CUSTOMER_ID);
+        stubUser(customer);
 
         assertThatThrownBy(() -> commentService.create(TICKET_ID, CUSTOMER_ID, COMMENT_TEXT))
                 .isInstanceOf(TicketFlowAccessDeniedException.class)
                 .hasMessage("Customers cannot add comments to tickets they did not create");
 
         verify(ticketRepository).findById(TICKET_ID);
-        verify(userRepository).findById(CUSTOMER_ID);
+        verify(userReferences).findById(CUSTOMER_ID);
         verifyNoInteractions(commentRepository, slaService, eventService, commentMapper);
     }
 
@@ -258,7 +260,7 @@ class CommentServiceTest {
 
         TicketCommentEntity comment = savedComment();
 
-        doReturn(Optional.of(customer)).when(userRepository).findById(CUSTOMER_ID);
+        stubUser(customer);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
         doReturn(comment).when(commentRepository).save(any(TicketCommentEntity.class));
 
@@ -269,13 +271,13 @@ class CommentServiceTest {
         assertThat(ticket.getFirstRespondedAt()).isNull();
 
         verify(ticketRepository).findById(TICKET_ID);
-        verify(userRepository).findById(CUSTOMER_ID);
+        verify(userReferences).findById(CUSTOMER_ID);
         verify(commentRepository).save(any(TicketCommentEntity.class));
         verify(eventService).recordCommentedEvent(ticket, customer, COMMENT_ID);
         verify(slaService).resumeResolutionSlaClock(ticket, COMMENT_CREATED_AT);
         verify(slaService, never()).evaluateFirstResponse(any(), any());
         verify(eventService).recordStatusChangedEvent(ticket, customer, TicketStatus.WAITING_CUSTOMER, TicketStatus.IN_PROGRESS);
-        verify(commentMapper).map(comment);
+        verify(commentMapper).map(eq(comment), any(UserSnapshot.class));
     }
 
     @Test
@@ -295,7 +297,7 @@ class CommentServiceTest {
 
         TicketCommentEntity comment = savedComment();
 
-        doReturn(Optional.of(customer)).when(userRepository).findById(CUSTOMER_ID);
+        stubUser(customer);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
         doReturn(comment).when(commentRepository).save(any(TicketCommentEntity.class));
 
@@ -306,13 +308,13 @@ class CommentServiceTest {
         assertThat(ticket.getFirstRespondedAt()).isNull();
 
         verify(ticketRepository).findById(TICKET_ID);
-        verify(userRepository).findById(CUSTOMER_ID);
+        verify(userReferences).findById(CUSTOMER_ID);
         verify(commentRepository).save(any(TicketCommentEntity.class));
         verify(eventService).recordCommentedEvent(ticket, customer, COMMENT_ID);
         verify(slaService).resumeResolutionSlaClock(ticket, COMMENT_CREATED_AT);
         verify(slaService, never()).evaluateFirstResponse(any(), any());
         verify(eventService).recordStatusChangedEvent(ticket, customer, TicketStatus.RESOLVED, TicketStatus.IN_PROGRESS);
-        verify(commentMapper).map(comment);
+        verify(commentMapper).map(eq(comment), any(UserSnapshot.class));
     }
 
     @ParameterizedTest
@@ -331,7 +333,7 @@ class CommentServiceTest {
 
         TicketCommentEntity comment = savedComment();
 
-        doReturn(Optional.of(customer)).when(userRepository).findById(CUSTOMER_ID);
+        stubUser(customer);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
         doReturn(comment).when(commentRepository).save(any(TicketCommentEntity.class));
 
@@ -340,10 +342,10 @@ class CommentServiceTest {
         assertThat(ticket.getStatus()).isEqualTo(ticketStatus);
 
         verify(ticketRepository).findById(TICKET_ID);
-        verify(userRepository).findById(CUSTOMER_ID);
+        verify(userReferences).findById(CUSTOMER_ID);
         verify(commentRepository).save(any(TicketCommentEntity.class));
         verify(eventService).recordCommentedEvent(ticket, customer, COMMENT_ID);
-        verify(commentMapper).map(comment);
+        verify(commentMapper).map(eq(comment), any(UserSnapshot.class));
         verify(slaService, never()).resumeResolutionSlaClock(any(), any());
         verify(slaService, never()).evaluateFirstResponse(any(), any());
         verifyNoMoreInteractions(eventService);
@@ -368,13 +370,13 @@ class CommentServiceTest {
                 .author(customer)
                 .build();
 
-        doReturn(Optional.of(customer)).when(userRepository).findById(CUSTOMER_ID);
+        stubUser(customer);
         doReturn(Optional.of(comment)).when(commentRepository).findWithTicketById(COMMENT_ID);
 
         commentService.delete(ticket.getId(), comment.getId(), customer.getId());
 
         verify(commentRepository).findWithTicketById(COMMENT_ID);
-        verify(userRepository).findById(CUSTOMER_ID);
+        verify(userReferences).findById(CUSTOMER_ID);
         verify(commentRepository).delete(comment);
         verify(eventService).recordCommentDeletedEvent(ticket, customer, comment.getId());
     }
@@ -389,7 +391,7 @@ class CommentServiceTest {
 
         verify(commentRepository).findWithTicketById(COMMENT_ID);
         verifyNoMoreInteractions(commentRepository);
-        verifyNoInteractions(userRepository, eventService);
+        verifyNoInteractions(userReferences, eventService);
     }
 
     @Test
@@ -415,7 +417,7 @@ class CommentServiceTest {
 
         verify(commentRepository).findWithTicketById(COMMENT_ID);
         verifyNoMoreInteractions(commentRepository);
-        verifyNoInteractions(userRepository, eventService);
+        verifyNoInteractions(userReferences, eventService);
     }
 
     @Test
@@ -438,7 +440,7 @@ class CommentServiceTest {
 
         verify(commentRepository).findWithTicketById(COMMENT_ID);
         verifyNoMoreInteractions(commentRepository);
-        verifyNoInteractions(userRepository, eventService);
+        verifyNoInteractions(userReferences, eventService);
     }
 
     @Test
@@ -462,18 +464,27 @@ class CommentServiceTest {
                 .build();
 
         doReturn(Optional.of(comment)).when(commentRepository).findWithTicketById(COMMENT_ID);
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
 
         assertThatThrownBy(() -> commentService.delete(TICKET_ID, COMMENT_ID, AGENT_ID))
                 .isInstanceOf(TicketFlowAccessDeniedException.class)
                 .hasMessage("Only admins or the comment author can delete a comment");
 
         verify(commentRepository).findWithTicketById(COMMENT_ID);
-        verify(userRepository).findById(AGENT_ID);
+        verify(userReferences).findById(AGENT_ID);
         verifyNoMoreInteractions(commentRepository);
         verifyNoInteractions(eventService);
     }
 
+    private void stubUser(UserEntity user) {
+        doReturn(Optional.of(snapshotOf(user))).when(userReferences).findById(user.getId());
+        doReturn(user).when(userReferences).getReference(user.getId());
+    }
+
+    private static UserSnapshot snapshotOf(UserEntity user) {
+        return new UserSnapshot(user.getId(), user.getFullName(), user.getEmail(), user.getRole());
+    }
+
     private TicketCommentEntity savedComment() {
         TicketCommentEntity comment = mock(TicketCommentEntity.class);
 
@@ -0,0 +1,108 @@
+package com.rolliedev.ticketflow.unit.service;
+
+import com.rolliedev.ticketflow.dto.UserResponse;
+import com.rolliedev.ticketflow.entity.UserEntity;
+import com.rolliedev.ticketflow.entity.enums.Role;
+import com.rolliedev.ticketflow.mapper.UserResponseMapper;
+import com.rolliedev.ticketflow.repository.UserRepository;
+import com.rolliedev.ticketflow.service.InternalUserDirectory;
+import com.rolliedev.ticketflow.service.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InternalUserDirectoryTest {
+
+    private static final List<Role> INTERNAL_ROLES = List.of(Role.ADMIN, Role.AGENT);
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserResponseMapper userResponseMapper;
+    @InjectMocks
+    private InternalUserDirectory directory;
+
+    private UserEntity admin, agent;
+
+    @BeforeEach
+    void setUp() {
+        admin = user(1, "lex.luthor@gmail.com", Role.ADMIN);
+        agent = user(2, "bruce.wayne@gmail.com", Role.AGENT);
+        doAnswer(invocation -> {
+            UserEntity user = invocation.getArgument(0);
+            return new UserResponse(user.getId(), user.getFullName(), user.getEmail(), user.getRole(), Instant.EPOCH);
+        }).when(userResponseMapper).map(any(UserEntity.class));
+    }
+
+    @Test
+    void shouldLoadOnceAndShareSnapshotAcrossCalls() {
+        doReturn(List.of(agent, admin)).when(userRepository).findAllByRoleIn(INTERNAL_ROLES);
+
+        List<UserResponse> first = directory.users();
+        List<UserResponse> second = directory.users();
+
+        assertThat(first).extracting(UserResponse::id).containsExactly(1, 2);
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findAllByRoleIn(INTERNAL_ROLES);
+    }
+
+    @Test
+    void shouldReplaceSnapshotOnlyWhenDirectoryChanged() {
+        doReturn(List.of(admin)).when(userRepository).findAllByRoleIn(INTERNAL_ROLES);
+        directory.refresh();
+        List<UserResponse> first = directory.users();
+        directory.refresh();
+
+        assertThat(directory.users()).isSameAs(first);
+
+        doReturn(List.of(admin, agent)).when(userRepository).findAllByRoleIn(INTERNAL_ROLES);
+        directory.onUserChanged(new UserChangedEvent(agent.getId(), agent.getEmail(), Role.AGENT));
+
+        assertThat(directory.users()).isNotSameAs(first)
+                .extracting(UserResponse::id).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldRefreshWhenListedUserLeavesInternalRole() {
+        doReturn(List.of(admin, agent)).when(userRepository).findAllByRoleIn(INTERNAL_ROLES);
+        directory.refresh();
+
+        doReturn(List.of(admin)).when(userRepository).findAllByRoleIn(INTERNAL_ROLES);
+        directory.onUserChanged(new UserChangedEvent(agent.getId(), agent.getEmail(), Role.CUSTOMER));
+
+        assertThat(directory.users()).extracting(UserResponse::id).containsExactly(1);
+    }
+
+    @Test
+    void shouldIgnoreCustomerChanges() {
+        doReturn(List.of(admin)).when(userRepository).findAllByRoleIn(INTERNAL_ROLES);
+        directory.refresh();
+
+        directory.onUserChanged(new UserChangedEvent(3, "clark.kent@gmail.com", Role.CUSTOMER));
+
+        verify(userRepository, times(1)).findAllByRoleIn(INTERNAL_ROLES);
+    }
+
+    private static UserEntity user(Integer id, String email, Role role) {
+        return UserEntity.builder()
+                .id(id)
+                .fullName(email)
+                .email(email)
+                .role(role)
+                .build();
+    }
+}
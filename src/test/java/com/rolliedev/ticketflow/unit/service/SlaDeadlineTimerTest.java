@@ -0,0 +1,109 @@
+package com.rolliedev.ticketflow.unit.service;
+
+import com.rolliedev.ticketflow.service.sla.SlaDeadlineTimer;
+import com.rolliedev.ticketflow.entity.enums.SlaDeadlineType;
+import com.rolliedev.ticketflow.service.sla.SlaDeadlinesDueEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SlaDeadlineTimerTest {
+
+    private static final Instant NOW = Instant.parse("2026-05-10T10:00:00Z");
+    private static final Instant HORIZON = NOW.plusSeconds(600);
+
+    @Mock
+    private TaskScheduler taskScheduler;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SlaDeadlineTimer deadlineTimer;
+
+    @BeforeEach
+    void setUp() {
+        deadlineTimer = new SlaDeadlineTimer(taskScheduler, eventPublisher, Clock.fixed(NOW.plusSeconds(61), ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldArmForEarliestLoadedDeadline() {
+        doReturn(mock(ScheduledFuture.class)).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+
+        deadlineTimer.load(SlaDeadlineType.RESOLUTION, List.of(NOW.plusSeconds(120), NOW.plusSeconds(60)), HORIZON);
+
+        assertThat(deadlineTimer.size()).isEqualTo(2);
+        verify(taskScheduler).schedule(any(Runnable.class), eq(NOW.plusSeconds(60)));
+        verify(taskScheduler, never()).schedule(any(Runnable.class), eq(NOW.plusSeconds(120)));
+    }
+
+    @Test
+    void shouldRearmWhenEarlierDeadlineIsScheduled() {
+        ScheduledFuture<?> firstFire = mock(ScheduledFuture.class);
+        doReturn(firstFire, mock(ScheduledFuture.class)).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+
+        deadlineTimer.load(SlaDeadlineType.RESOLUTION, List.of(NOW.plusSeconds(120)), HORIZON);
+        deadlineTimer.schedule(SlaDeadlineType.FIRST_RESPONSE, NOW.plusSeconds(30));
+
+        verify(firstFire).cancel(false);
+        verify(taskScheduler).schedule(any(Runnable.class), eq(NOW.plusSeconds(30)));
+    }
+
+    @Test
+    void shouldIgnoreDeadlinesBeyondHorizon() {
+        deadlineTimer.schedule(SlaDeadlineType.FIRST_RESPONSE, NOW.plusSeconds(30));
+
+        assertThat(deadlineTimer.size()).isZero();
+        verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    void shouldPublishElapsedDeadlineTypesWhenFired() {
+        ArgumentCaptor<Runnable> fire = ArgumentCaptor.forClass(Runnable.class);
+        doReturn(mock(ScheduledFuture.class)).when(taskScheduler).schedule(fire.capture(), any(Instant.class));
+
+        deadlineTimer.load(SlaDeadlineType.FIRST_RESPONSE, List.of(NOW.plusSeconds(30)), HORIZON);
+        deadlineTimer.load(SlaDeadlineType.RESOLUTION, List.of(NOW.plusSeconds(60), NOW.plusSeconds(120)), HORIZON);
+
+        fire.getValue().run();
+
+        verify(eventPublisher).publishEvent(new SlaDeadlinesDueEvent(
+                Set.of(SlaDeadlineType.FIRST_RESPONSE, SlaDeadlineType.RESOLUTION),
+                NOW.plusSeconds(61)
+        ));
+        assertThat(deadlineTimer.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPublishDeadlineDueExactlyWhenFired() {
+        ArgumentCaptor<Runnable> fire = ArgumentCaptor.forClass(Runnable.class);
+        doReturn(mock(ScheduledFuture.class)).when(taskScheduler).schedule(fire.capture(), any(Instant.class));
+
+        deadlineTimer.load(SlaDeadlineType.RESOLUTION, List.of(NOW.plusSeconds(61)), HORIZON);
+
+        fire.getValue().run();
+
+        verify(eventPublisher).publishEvent(new SlaDeadlinesDueEvent(Set.of(SlaDeadlineType.RESOLUTION), NOW.plusSeconds(61)));
+        assertThat(deadlineTimer.size()).isZero();
+    }
+}
@@ -1,13 +1,19 @@
 package com.rolliedev.ticketflow.unit.service;
 
+import com.rolliedev.ticketflow.config.SlaProperties;
+import com.rolliedev.ticketflow.dto.DueSlaDeadline;
+import com.rolliedev.ticketflow.dto.SlaBreach;
 import com.rolliedev.ticketflow.dto.SlaPolicy;
 import com.rolliedev.ticketflow.entity.TicketEntity;
 import com.rolliedev.ticketflow.entity.UserEntity;
 import com.rolliedev.ticketflow.entity.enums.SlaStatus;
 import com.rolliedev.ticketflow.entity.enums.TicketPriority;
-import com.rolliedev.ticketflow.repository.TicketRepository;
+import com.rolliedev.ticketflow.repository.SlaBreachRepository;
+import com.rolliedev.ticketflow.repository.SlaDeadlineQueueRepository;
 import com.rolliedev.ticketflow.service.sla.SlaService;
 import com.rolliedev.ticketflow.service.TicketEventService;
+import com.rolliedev.ticketflow.service.sla.SlaDeadlineTimer;
+import com.rolliedev.ticketflow.entity.enums.SlaDeadlineType;
 import com.rolliedev.ticketflow.service.sla.SlaPolicyProvider;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,7 +21,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -29,7 +38,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -40,13 +49,23 @@ public class SlaServiceTest {
     private static final Instant CREATED_AT = Instant.parse("2026-05-10T10:00:00Z");
     private static final Instant RESPONSE_DEADLINE = Instant.parse("2026-05-11T10:00:00Z");
     private static final Instant RESOLUTION_DEADLINE = Instant.parse("2026-05-13T10:00:00Z");
+    private static final int BREACH_BATCH_SIZE = 2;
+    private static final Duration DEADLINE_TIMER_LOOKAHEAD = Duration.ofMinutes(10);
 
     @Mock
     private SlaPolicyProvider policyProvider;
     @Mock
-    private TicketRepository ticketRepository;
+    private SlaBreachRepository slaBreachRepository;
     @Mock
     private TicketEventService eventService;
+    @Mock
+    private SlaDeadlineQueueRepository deadlineQueueRepository;
+    @Mock
+    private SlaDeadlineTimer deadlineTimer;
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    @Spy
+    private SlaProperties slaProperties = new SlaProperties(BREACH_BATCH_SIZE, DEADLINE_TIMER_LOOKAHEAD, 1);
 
     @InjectMocks
     private SlaService slaService;
@@ -71,6 +90,10 @@ public class SlaServiceTest {
         assertThat(ticket.getResolvedAt()).isNull();
 
         verify(policyProvider).getSlaPolicy(TicketPriority.MEDIUM);
+        verify(deadlineQueueRepository).enqueueForNewTicket(ticket, SlaDeadlineType.FIRST_RESPONSE, ticket.getFirstResponseDeadline());
+        verify(deadlineTimer).schedule(SlaDeadlineType.FIRST_RESPONSE, ticket.getFirstResponseDeadline());
+        verify(deadlineQueueRepository).enqueueForNewTicket(ticket, SlaDeadlineType.RESOLUTION, ticket.getResolutionDeadline());
+        verify(deadlineTimer).schedule(SlaDeadlineType.RESOLUTION, ticket.getResolutionDeadline());
     }
 
     @Test
@@ -268,6 +291,9 @@ public class SlaServiceTest {
         assertThat(ticket.getResolutionDeadline()).isEqualTo(RESOLUTION_DEADLINE.plus(Duration.between(pausedAt, resumedAt)));
         assertThat(ticket.getResolutionSlaPausedAt()).isNull();
         assertThat(ticket.getResolutionSlaStatus()).isSameAs(SlaStatus.ON_TRACK);
+
+        verify(deadlineQueueRepository).enqueue(ticket.getId(), SlaDeadlineType.RESOLUTION, ticket.getResolutionDeadline());
+        verify(deadlineTimer).schedule(SlaDeadlineType.RESOLUTION, ticket.getResolutionDeadline());
     }
 
     @Test
@@ -597,31 +623,16 @@ public class SlaServiceTest {
     @Test
     void shouldMarkOverdueFirstResponseSlasAsBreached() {
         Instant now = Instant.parse("2026-05-10T10:00:00Z");
+        List<SlaBreach> breaches = List.of(new SlaBreach(1L, RESPONSE_DEADLINE));
 
-        TicketEntity ticket1 = TicketEntity.builder()
-                .id(1L)
-                .responseSlaStatus(SlaStatus.ON_TRACK)
-                .build();
-        TicketEntity ticket2 = TicketEntity.builder()
-                .id(2L)
-                .responseSlaStatus(SlaStatus.ON_TRACK)
-                .build();
-
-        doReturn(List.of(ticket1, ticket2))
-                .when(ticketRepository).findTicketsWithOverdueFirstResponseSla(
-                        eq(SlaStatus.ON_TRACK),
-                        eq(now),
-                        any()
-                );
+        doReturn(breaches)
+                .when(slaBreachRepository).markOverdueFirstResponsesAsBreached(eq(now), any(), eq(BREACH_BATCH_SIZE));
 
         int actualResult = slaService.markOverdueFirstResponseSlasAsBreached(now);
 
-        assertThat(actualResult).isEqualTo(2);
-        assertThat(ticket1.getResponseSlaStatus()).isEqualTo(SlaStatus.BREACHED);
-        assertThat(ticket2.getResponseSlaStatus()).isEqualTo(SlaStatus.BREACHED);
+        assertThat(actualResult).isEqualTo(1);
 
-        verify(eventService).recordFirstResponseSlaBreachedEvent(ticket1);
-        verify(eventService).recordFirstResponseSlaBreachedEvent(ticket2);
+        verify(eventService).recordFirstResponseSlaBreachedEvents(breaches, now);
         verifyNoMoreInteractions(eventService);
     }
 
@@ -630,47 +641,48 @@ public class SlaServiceTest {
         Instant now = Instant.parse("2026-05-10T10:00:00Z");
 
         doReturn(Collections.emptyList())
-                .when(ticketRepository).findTicketsWithOverdueFirstResponseSla(
-                        eq(SlaStatus.ON_TRACK),
-                        eq(now),
-                        any()
-                );
+                .when(slaBreachRepository).markOverdueFirstResponsesAsBreached(eq(now), any(), eq(BREACH_BATCH_SIZE));
 
         int actualResult = slaService.markOverdueFirstResponseSlasAsBreached(now);
 
         assertThat(actualResult).isZero();
 
-        verify(eventService, never()).recordFirstResponseSlaBreachedEvent(any(TicketEntity.class));
+        verify(slaBreachRepository).markOverdueFirstResponsesAsBreached(eq(now), any(), eq(BREACH_BATCH_SIZE));
+        verify(eventService).recordFirstResponseSlaBreachedEvents(Collections.emptyList(), now);
     }
 
     @Test
-    void shouldMarkOverdueResolutionSlasAsBreached() {
+    void shouldKeepBreachingFirstResponseSlasWhileChunksAreFull() {
         Instant now = Instant.parse("2026-05-10T10:00:00Z");
+        List<SlaBreach> fullChunk = List.of(new SlaBreach(1L, RESPONSE_DEADLINE), new SlaBreach(2L, RESPONSE_DEADLINE));
+        List<SlaBreach> lastChunk = List.of(new SlaBreach(3L, RESPONSE_DEADLINE));
 
-        TicketEntity ticket1 = TicketEntity.builder()
-                .id(1L)
-                .resolutionSlaStatus(SlaStatus.ON_TRACK)
-                .build();
-        TicketEntity ticket2 = TicketEntity.builder()
-                .id(2L)
-                .resolutionSlaStatus(SlaStatus.ON_TRACK)
-                .build();
+        doReturn(fullChunk, lastChunk)
+                .when(slaBreachRepository).markOverdueFirstResponsesAsBreached(eq(now), any(), eq(BREACH_BATCH_SIZE));
 
-        doReturn(List.of(ticket1, ticket2))
-                .when(ticketRepository).findTicketsWithOverdueResolutionSla(
-                        eq(SlaStatus.ON_TRACK),
-                        eq(now),
-                        any()
-                );
+        int actualResult = slaService.markOverdueFirstResponseSlasAsBreached(now);
+
+        assertThat(actualResult).isEqualTo(3);
+
+        verify(slaBreachRepository, times(2)).markOverdueFirstResponsesAsBreached(eq(now), any(), eq(BREACH_BATCH_SIZE));
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(eventService).recordFirstResponseSlaBreachedEvents(fullChunk, now);
+        verify(eventService).recordFirstResponseSlaBreachedEvents(lastChunk, now);
+    }
+
+    @Test
+    void shouldMarkOverdueResolutionSlasAsBreached() {
+        Instant now = Instant.parse("2026-05-10T10:00:00Z");
+        List<SlaBreach> breaches = List.of(new SlaBreach(1L, RESOLUTION_DEADLINE));
+
+        doReturn(breaches)
+                .when(slaBreachRepository).markOverdueResolutionsAsBreached(eq(now), any(), eq(BREACH_BATCH_SIZE));
 
         int actualResult = slaService.markOverdueResolutionSlasAsBreached(now);
 
-        assertThat(actualResult).isEqualTo(2);
-        assertThat(ticket1.getResolutionSlaStatus()).isEqualTo(SlaStatus.BREACHED);
-        assertThat(ticket2.getResolutionSlaStatus()).isEqualTo(SlaStatus.BREACHED);
+        assertThat(actualResult).isEqualTo(1);
 
-        verify(eventService).recordResolutionSlaBreachedEvent(ticket1);
-        verify(eventService).recordResolutionSlaBreachedEvent(ticket2);
+        verify(eventService).recordResolutionSlaBreachedEvents(breaches, now);
         verifyNoMoreInteractions(eventService);
     }
 
@@ -679,17 +691,53 @@ public class SlaServiceTest {
         Instant now = Instant.parse("2026-05-10T10:00:00Z");
 
         doReturn(Collections.emptyList())
-                .when(ticketRepository).findTicketsWithOverdueResolutionSla(
-                        eq(SlaStatus.ON_TRACK),
-                        eq(now),
-                        any()
-                );
+                .when(slaBreachRepository).markOverdueResolutionsAsBreached(eq(now), any(), eq(BREACH_BATCH_SIZE));
 
         int actualResult = slaService.markOverdueResolutionSlasAsBreached(now);
 
         assertThat(actualResult).isZero();
 
-        verify(eventService, never()).recordResolutionSlaBreachedEvent(any(TicketEntity.class));
+        verify(slaBreachRepository).markOverdueResolutionsAsBreached(eq(now), any(), eq(BREACH_BATCH_SIZE));
+        verify(eventService).recordResolutionSlaBreachedEvents(Collections.emptyList(), now);
+    }
+
+    @Test
+    void shouldBreachClaimedDueDeadlinesUntilQueueChunkIsNotFull() {
+        Instant now = Instant.parse("2026-05-10T10:00:00Z");
+        List<SlaBreach> responseBreaches = List.of(new SlaBreach(1L, RESPONSE_DEADLINE));
+
+        doReturn(List.of(
+                new DueSlaDeadline(1L, SlaDeadlineType.FIRST_RESPONSE),
+                new DueSlaDeadline(2L, SlaDeadlineType.RESOLUTION)
+        ), List.of()).when(deadlineQueueRepository).claimDue(now, BREACH_BATCH_SIZE);
+        doReturn(responseBreaches)
+                .when(slaBreachRepository).markFirstResponsesAsBreached(eq(List.of(1L)), eq(now), any());
+        doReturn(List.of())
+                .when(slaBreachRepository).markResolutionsAsBreached(eq(List.of(2L)), eq(now), any());
+
+        int actualResult = slaService.processDueDeadlines(now);
+
+        assertThat(actualResult).isEqualTo(1);
+
+        verify(deadlineQueueRepository, times(2)).claimDue(now, BREACH_BATCH_SIZE);
+        verify(eventService).recordFirstResponseSlaBreachedEvents(responseBreaches, now);
+        verify(eventService, times(2)).recordResolutionSlaBreachedEvents(List.of(), now);
+    }
+
+    @Test
+    void shouldLoadPendingDeadlinesWithinLookaheadIntoTimer() {
+        Instant now = Instant.parse("2026-05-10T10:00:00Z");
+        Instant until = now.plus(DEADLINE_TIMER_LOOKAHEAD);
+        List<Instant> responseDeadlines = List.of(now.plusSeconds(30));
+        List<Instant> resolutionDeadlines = List.of(now.plusSeconds(60), now.plusSeconds(90));
+
+        doReturn(responseDeadlines).when(slaBreachRepository).findPendingFirstResponseDeadlines(now, until);
+        doReturn(resolutionDeadlines).when(slaBreachRepository).findPendingResolutionDeadlines(now, until);
+
+        slaService.scheduleUpcomingDeadlines(now);
+
+        verify(deadlineTimer).load(SlaDeadlineType.FIRST_RESPONSE, responseDeadlines, until);
+        verify(deadlineTimer).load(SlaDeadlineType.RESOLUTION, resolutionDeadlines, until);
     }
 
     private TicketEntity ticketWithResponseSla(SlaStatus status, Instant deadline, Instant firstRespondedAt) {
@@ -1,8 +1,13 @@
 package com.rolliedev.ticketflow.unit.service;
 
 import com.rolliedev.ticketflow.config.TicketProperties;
+import com.rolliedev.ticketflow.dto.AutoCloseChunk;
+import com.rolliedev.ticketflow.querydsl.KeywordSearchMode;
 import com.rolliedev.ticketflow.service.sla.TicketAutoCloseScheduler;
 import com.rolliedev.ticketflow.service.TicketService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -13,39 +18,69 @@ import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class TicketAutoCloseSchedulerTest {
 
+    private static final int CHUNK_SIZE = 2;
+
     @Mock
     private TicketService ticketService;
 
+    private Clock fixedClock;
+    private TicketProperties ticketProperties;
+    private MeterRegistry meterRegistry;
     private TicketAutoCloseScheduler scheduler;
 
-    @Test
-    void shouldAutoCloseResolvedTicketsOlderThanConfiguredThreshold() {
-        Clock fixedClock = Clock.fixed(
+    @BeforeEach
+    void setUp() {
+        fixedClock = Clock.fixed(
                 Instant.parse("2026-05-20T10:00:00Z"),
                 ZoneOffset.UTC
         );
-
-        TicketProperties ticketProperties = new TicketProperties(4);
+        ticketProperties = new TicketProperties(4, CHUNK_SIZE, KeywordSearchMode.FULL_TEXT, 3, null);
+        meterRegistry = new SimpleMeterRegistry();
 
         scheduler = new TicketAutoCloseScheduler(
                 ticketService,
                 ticketProperties,
+                meterRegistry,
                 fixedClock
         );
+    }
+
+    @Test
+    void shouldAutoCloseResolvedTicketsOlderThanConfiguredThreshold() {
+        Instant expectedThreshold = fixedClock.instant()
+                .minus(ticketProperties.autoCloseAfterDays(), ChronoUnit.DAYS);
+        AutoCloseChunk lastChunk = new AutoCloseChunk(1, Instant.parse("2026-05-01T10:00:00Z"), 3L);
+
+        doReturn(lastChunk).when(ticketService).closeResolvedTicketsOlderThan(expectedThreshold, AutoCloseChunk.start(), CHUNK_SIZE);
+
+        scheduler.autoCloseTickets();
+
+        verify(ticketService).closeResolvedTicketsOlderThan(expectedThreshold, AutoCloseChunk.start(), CHUNK_SIZE);
+        verifyNoMoreInteractions(ticketService);
+    }
 
+    @Test
+    void shouldWalkChunksFromLastKeysetPositionUntilChunkIsNotFull() {
         Instant expectedThreshold = fixedClock.instant()
                 .minus(ticketProperties.autoCloseAfterDays(), ChronoUnit.DAYS);
+        AutoCloseChunk firstChunk = new AutoCloseChunk(CHUNK_SIZE, Instant.parse("2026-05-01T10:00:00Z"), 2L);
+        AutoCloseChunk secondChunk = new AutoCloseChunk(1, Instant.parse("2026-05-02T10:00:00Z"), 7L);
 
-        doReturn(3).when(ticketService).closeResolvedTicketsOlderThan(expectedThreshold);
+        doReturn(firstChunk).when(ticketService).closeResolvedTicketsOlderThan(expectedThreshold, AutoCloseChunk.start(), CHUNK_SIZE);
+        doReturn(secondChunk).when(ticketService).closeResolvedTicketsOlderThan(expectedThreshold, firstChunk, CHUNK_SIZE);
 
         scheduler.autoCloseTickets();
 
-        verify(ticketService).closeResolvedTicketsOlderThan(expectedThreshold);
+        verify(ticketService).closeResolvedTicketsOlderThan(expectedThreshold, firstChunk, CHUNK_SIZE);
+        assertThat(meterRegistry.counter("tickets.auto_close.closed").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("tickets.auto_close.chunks").count()).isEqualTo(2);
     }
-}
\ No newline at end of file
+}
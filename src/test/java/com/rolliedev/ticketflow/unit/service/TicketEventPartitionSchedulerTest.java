@@ -0,0 +1,82 @@
+package com.rolliedev.ticketflow.unit.service;
+
+import com.rolliedev.ticketflow.config.TicketProperties;
+import com.rolliedev.ticketflow.querydsl.KeywordSearchMode;
+import com.rolliedev.ticketflow.repository.TicketEventPartitionRepository;
+import com.rolliedev.ticketflow.service.TicketEventPartitionScheduler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TicketEventPartitionSchedulerTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2026-05-20T10:00:00Z"), ZoneOffset.UTC);
+    private static final YearMonth CURRENT_MONTH = YearMonth.of(2026, 5);
+
+    @Mock
+    private TicketEventPartitionRepository partitionRepository;
+
+    @Test
+    void shouldCreateCurrentAndUpcomingMonthsWithoutDroppingWhenRetentionIsNotSet() {
+        TicketEventPartitionScheduler scheduler = schedulerWith(null);
+
+        scheduler.maintainPartitions();
+
+        verify(partitionRepository).createPartition(CURRENT_MONTH);
+        verify(partitionRepository).createPartition(CURRENT_MONTH.plusMonths(1));
+        verify(partitionRepository).createPartition(CURRENT_MONTH.plusMonths(2));
+        verifyNoMoreInteractions(partitionRepository);
+    }
+
+    @Test
+    void shouldDropOnlyPartitionsOlderThanRetention() {
+        TicketEventPartitionScheduler scheduler = schedulerWith(12);
+        YearMonth expired = CURRENT_MONTH.minusMonths(13);
+        YearMonth oldestKept = CURRENT_MONTH.minusMonths(12);
+        doReturn(List.of(expired, oldestKept, CURRENT_MONTH)).when(partitionRepository).findPartitionMonths();
+
+        scheduler.maintainPartitions();
+
+        verify(partitionRepository).dropPartition(expired);
+        verify(partitionRepository, never()).dropPartition(oldestKept);
+        verify(partitionRepository, never()).dropPartition(CURRENT_MONTH);
+    }
+
+    @Test
+    void shouldCreateMonthsAcrossYearBoundary() {
+        TicketEventPartitionScheduler scheduler = new TicketEventPartitionScheduler(
+                partitionRepository,
+                new TicketProperties(4, 500, KeywordSearchMode.FULL_TEXT, 1, null),
+                Clock.fixed(Instant.parse("2026-12-31T23:30:00Z"), ZoneOffset.UTC)
+        );
+
+        scheduler.maintainPartitions();
+
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 12));
+        verify(partitionRepository).createPartition(YearMonth.of(2027, 1));
+        verify(partitionRepository, never()).findPartitionMonths();
+        verify(partitionRepository, never()).dropPartition(any());
+    }
+
+    private TicketEventPartitionScheduler schedulerWith(Integer retentionMonths) {
+        return new TicketEventPartitionScheduler(
+                partitionRepository,
+                new TicketProperties(4, 500, KeywordSearchMode.FULL_TEXT, 2, retentionMonths),
+                FIXED_CLOCK
+        );
+    }
+}
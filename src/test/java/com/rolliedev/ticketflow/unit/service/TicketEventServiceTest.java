@@ -1,31 +1,46 @@
 package com.rolliedev.ticketflow.unit.service;
 
+import com.rolliedev.ticketflow.dto.CursorPageResponse;
+import com.rolliedev.ticketflow.dto.SlaBreach;
 import com.rolliedev.ticketflow.dto.TicketEventResponse;
+import com.rolliedev.ticketflow.dto.TimelineCursor;
 import com.rolliedev.ticketflow.entity.TicketEntity;
 import com.rolliedev.ticketflow.entity.TicketEventEntity;
 import com.rolliedev.ticketflow.entity.UserEntity;
 import com.rolliedev.ticketflow.entity.enums.TicketEventType;
 import com.rolliedev.ticketflow.entity.enums.TicketPriority;
 import com.rolliedev.ticketflow.entity.enums.TicketStatus;
+import com.rolliedev.ticketflow.entity.payload.FirstResponseSlaBreachedPayload;
+import com.rolliedev.ticketflow.entity.payload.PriorityChangedPayload;
+import com.rolliedev.ticketflow.entity.payload.StatusChangedPayload;
+import com.rolliedev.ticketflow.mapper.TicketEventPayloadCodec;
 import com.rolliedev.ticketflow.mapper.TicketEventResponseMapper;
+import com.rolliedev.ticketflow.repository.TicketEventBatchRepository;
 import com.rolliedev.ticketflow.repository.TicketEventRepository;
+import com.rolliedev.ticketflow.service.TicketEventSequence;
 import com.rolliedev.ticketflow.service.TicketEventService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -36,13 +51,20 @@ import static org.mockito.Mockito.verify;
 class TicketEventServiceTest {
 
     private static final Long TICKET_ID = 1L;
+    private static final Instant TICKET_CREATED_AT = Instant.parse("2026-05-10T10:00:00Z");
     private static final Integer USER_ID = 1;
     private static final Long COMMENT_ID = 10L;
 
     @Mock
     private TicketEventRepository eventRepository;
     @Mock
+    private TicketEventBatchRepository eventBatchRepository;
+    @Mock
+    private TicketEventSequence eventSequence;
+    @Mock
     private TicketEventResponseMapper eventMapper;
+    @Spy
+    private TicketEventPayloadCodec payloadCodec = new TicketEventPayloadCodec(JsonMapper.builder().build());
     @InjectMocks
     private TicketEventService eventService;
 
@@ -55,14 +77,14 @@ class TicketEventServiceTest {
         TicketEventResponse eventResponse2 = mock(TicketEventResponse.class);
 
         doReturn(new PageImpl<>(List.of(event1, event2), pageable, 2))
-                .when(eventRepository).findAllByTicketId(TICKET_ID, pageable);
+                .when(eventRepository).findAllByTicketIdAndCreatedAtGreaterThanEqual(TICKET_ID, TICKET_CREATED_AT.minus(1, ChronoUnit.DAYS), pageable);
         doReturn(eventResponse1).when(eventMapper).map(event1);
         doReturn(eventResponse2).when(eventMapper).map(event2);
 
-        Page<TicketEventResponse> actualResult = eventService.getTimeline(TICKET_ID, pageable);
+        Page<TicketEventResponse> actualResult = eventService.getTimeline(TICKET_ID, TICKET_CREATED_AT, pageable);
 
         assertThat(actualResult.getContent()).containsExactly(eventResponse1, eventResponse2);
-        verify(eventRepository).findAllByTicketId(TICKET_ID, pageable);
+        verify(eventRepository).findAllByTicketIdAndCreatedAtGreaterThanEqual(TICKET_ID, TICKET_CREATED_AT.minus(1, ChronoUnit.DAYS), pageable);
         verify(eventMapper, times(2)).map(any(TicketEventEntity.class));
     }
 
@@ -71,16 +93,83 @@ class TicketEventServiceTest {
         PageRequest pageable = PageRequest.of(0, 10);
         Page<TicketEventEntity> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-        doReturn(emptyPage).when(eventRepository).findAllByTicketId(TICKET_ID, pageable);
+        doReturn(emptyPage).when(eventRepository).findAllByTicketIdAndCreatedAtGreaterThanEqual(eq(TICKET_ID), any(), eq(pageable));
 
-        Page<TicketEventResponse> actualResult = eventService.getTimeline(TICKET_ID, pageable);
+        Page<TicketEventResponse> actualResult = eventService.getTimeline(TICKET_ID, TICKET_CREATED_AT, pageable);
 
         assertThat(actualResult.getContent()).isEmpty();
         assertThat(actualResult.getTotalElements()).isZero();
-        verify(eventRepository).findAllByTicketId(TICKET_ID, pageable);
         verify(eventMapper, never()).map(any(TicketEventEntity.class));
     }
 
+    @Test
+    void shouldReturnFirstTimelinePageWithCursorOfLastEvent() {
+        TicketEventEntity newest = timelineEvent(3L, Instant.parse("2026-05-12T10:00:00Z"));
+        TicketEventEntity middle = timelineEvent(2L, Instant.parse("2026-05-11T10:00:00Z"));
+        TicketEventEntity oldest = timelineEvent(1L, Instant.parse("2026-05-10T10:00:00Z"));
+        TicketEventResponse newestResponse = mock(TicketEventResponse.class);
+        TicketEventResponse middleResponse = mock(TicketEventResponse.class);
+
+        doReturn(List.of(newest, middle, oldest))
+                .when(eventRepository).findTimeline(TICKET_ID, TICKET_CREATED_AT.minus(1, ChronoUnit.DAYS), Limit.of(3));
+        doReturn(newestResponse).when(eventMapper).map(newest);
+        doReturn(middleResponse).when(eventMapper).map(middle);
+
+        CursorPageResponse<TicketEventResponse> actualResult = eventService.getTimeline(TICKET_ID, TICKET_CREATED_AT, TimelineCursor.first(), 2);
+
+        assertThat(actualResult.getContent()).containsExactly(newestResponse, middleResponse);
+        assertThat(actualResult.getMetadata().isHasNext()).isTrue();
+        assertThat(TimelineCursor.decode(actualResult.getMetadata().getNextCursor()))
+                .isEqualTo(new TimelineCursor(middle.getCreatedAt(), middle.getId()));
+        verify(eventMapper, never()).map(oldest);
+    }
+
+    @Test
+    void shouldContinueTimelineBeforeCursorWithoutNextCursorOnLastPage() {
+        TimelineCursor cursor = new TimelineCursor(Instant.parse("2026-05-11T10:00:00Z"), 2L);
+        TicketEventEntity oldest = timelineEvent(1L, Instant.parse("2026-05-10T10:00:00Z"));
+        TicketEventResponse oldestResponse = mock(TicketEventResponse.class);
+
+        doReturn(List.of(oldest)).when(eventRepository).findTimelineBefore(
+                TICKET_ID, TICKET_CREATED_AT.minus(1, ChronoUnit.DAYS), cursor.lastCreatedAt(), cursor.lastId(), Limit.of(3));
+        doReturn(oldestResponse).when(eventMapper).map(oldest);
+
+        CursorPageResponse<TicketEventResponse> actualResult = eventService.getTimeline(TICKET_ID, TICKET_CREATED_AT, cursor, 2);
+
+        assertThat(actualResult.getContent()).containsExactly(oldestResponse);
+        assertThat(actualResult.getMetadata().isHasNext()).isFalse();
+        assertThat(actualResult.getMetadata().getNextCursor()).isNull();
+        verify(eventRepository, never()).findTimeline(any(), any(), any());
+    }
+
+    @Test
+    void shouldRecordFirstResponseSlaBreachedEventsInOneBatch() {
+        Instant breachedAt = Instant.parse("2026-05-11T10:05:00Z");
+        Instant deadline = Instant.parse("2026-05-11T10:00:00Z");
+        List<SlaBreach> breaches = List.of(new SlaBreach(1L, deadline), new SlaBreach(2L, deadline));
+
+        eventService.recordFirstResponseSlaBreachedEvents(breaches, breachedAt);
+
+        verify(eventBatchRepository).insertSystemEvents(
+                TicketEventType.FIRST_RESPONSE_SLA_BREACHED,
+                Map.of(
+                        1L, new FirstResponseSlaBreachedPayload(deadline),
+                        2L, new FirstResponseSlaBreachedPayload(deadline)
+                ),
+                breachedAt
+        );
+        verify(eventRepository, never()).save(any(TicketEventEntity.class));
+    }
+
+    @Test
+    void shouldSkipInsertWhenNoResolutionSlasWereBreached() {
+        Instant breachedAt = Instant.parse("2026-05-11T10:05:00Z");
+
+        eventService.recordResolutionSlaBreachedEvents(List.of(), breachedAt);
+
+        verify(eventBatchRepository).insertSystemEvents(eq(TicketEventType.RESOLUTION_SLA_BREACHED), eq(Map.of()), eq(breachedAt));
+    }
+
     @Test
     void shouldRecordCreatedEventSuccessfully() {
         TicketEntity ticket = TicketEntity.builder().id(TICKET_ID).build();
@@ -91,12 +180,11 @@ class TicketEventServiceTest {
                 .when(eventRepository).save(argumentCaptor.capture());
 
         eventService.recordCreatedEvent(ticket, actor);
-        Map<String, Object> actualPayload = argumentCaptor.getValue().getPayload();
 
         assertThat(argumentCaptor.getValue().getEventType()).isEqualTo(TicketEventType.CREATED);
-        assertThat(actualPayload.get("ticketId")).isEqualTo(TICKET_ID.toString());
-        assertThat(actualPayload.get("createdById")).isEqualTo(USER_ID.toString());
+        assertThat(argumentCaptor.getValue().getPayload()).isEqualTo("{\"ticketId\":1,\"createdById\":1}");
         verify(eventRepository).save(any(TicketEventEntity.class));
+        verify(eventSequence).increment(TICKET_ID);
     }
 
     @Test
@@ -110,11 +198,9 @@ class TicketEventServiceTest {
         doReturn(mock(TicketEventEntity.class)).when(eventRepository).save(captor.capture());
 
         eventService.recordAssignedEvent(ticket, actor, previousAssignee, newAssignee);
-        Map<String, Object> actualPayload = captor.getValue().getPayload();
 
         assertThat(captor.getValue().getEventType()).isEqualTo(TicketEventType.ASSIGNED);
-        assertThat(actualPayload.get("previousAssigneeId")).isEqualTo("2");
-        assertThat(actualPayload.get("assigneeId")).isEqualTo("3");
+        assertThat(captor.getValue().getPayload()).isEqualTo("{\"previousAssigneeId\":2,\"assigneeId\":3}");
         verify(eventRepository).save(any(TicketEventEntity.class));
     }
 
@@ -128,11 +214,9 @@ class TicketEventServiceTest {
         doReturn(mock(TicketEventEntity.class)).when(eventRepository).save(captor.capture());
 
         eventService.recordAssignedEvent(ticket, actor, null, newAssignee);
-        Map<String, Object> actualPayload = captor.getValue().getPayload();
 
         assertThat(captor.getValue().getEventType()).isEqualTo(TicketEventType.ASSIGNED);
-        assertThat(actualPayload.get("previousAssigneeId")).isNull();
-        assertThat(actualPayload.get("assigneeId")).isEqualTo("3");
+        assertThat(captor.getValue().getPayload()).isEqualTo("{\"previousAssigneeId\":null,\"assigneeId\":3}");
         verify(eventRepository).save(any(TicketEventEntity.class));
     }
 
@@ -145,11 +229,10 @@ class TicketEventServiceTest {
         doReturn(mock(TicketEventEntity.class)).when(eventRepository).save(captor.capture());
 
         eventService.recordPriorityChangedEvent(ticket, actor, TicketPriority.LOW, TicketPriority.HIGH);
-        Map<String, Object> actualPayload = captor.getValue().getPayload();
 
         assertThat(captor.getValue().getEventType()).isEqualTo(TicketEventType.PRIORITY_CHANGED);
-        assertThat(actualPayload.get("oldPriority")).isEqualTo(TicketPriority.LOW.name());
-        assertThat(actualPayload.get("newPriority")).isEqualTo(TicketPriority.HIGH.name());
+        assertThat(payloadCodec.decode(TicketEventType.PRIORITY_CHANGED, captor.getValue().getPayload()))
+                .isEqualTo(new PriorityChangedPayload(TicketPriority.LOW, TicketPriority.HIGH));
         verify(eventRepository).save(any(TicketEventEntity.class));
     }
 
@@ -162,11 +245,10 @@ class TicketEventServiceTest {
         doReturn(mock(TicketEventEntity.class)).when(eventRepository).save(captor.capture());
 
         eventService.recordStatusChangedEvent(ticket, actor, TicketStatus.NEW, TicketStatus.IN_PROGRESS);
-        Map<String, Object> actualPayload = captor.getValue().getPayload();
 
         assertThat(captor.getValue().getEventType()).isEqualTo(TicketEventType.STATUS_CHANGED);
-        assertThat(actualPayload.get("oldStatus")).isEqualTo(TicketStatus.NEW.name());
-        assertThat(actualPayload.get("newStatus")).isEqualTo(TicketStatus.IN_PROGRESS.name());
+        assertThat(payloadCodec.decode(TicketEventType.STATUS_CHANGED, captor.getValue().getPayload()))
+                .isEqualTo(new StatusChangedPayload(TicketStatus.NEW, TicketStatus.IN_PROGRESS));
         verify(eventRepository).save(any(TicketEventEntity.class));
     }
 
@@ -179,10 +261,9 @@ class TicketEventServiceTest {
         doReturn(mock(TicketEventEntity.class)).when(eventRepository).save(captor.capture());
 
         eventService.recordCommentedEvent(ticket, actor, COMMENT_ID);
-        Map<String, Object> actualPayload = captor.getValue().getPayload();
 
         assertThat(captor.getValue().getEventType()).isEqualTo(TicketEventType.COMMENTED);
-        assertThat(actualPayload.get("commentId")).isEqualTo(COMMENT_ID.toString());
+        assertThat(captor.getValue().getPayload()).isEqualTo("{\"commentId\":10}");
         verify(eventRepository).save(any(TicketEventEntity.class));
     }
 
@@ -195,10 +276,15 @@ class TicketEventServiceTest {
         doReturn(mock(TicketEventEntity.class)).when(eventRepository).save(captor.capture());
 
         eventService.recordCommentDeletedEvent(ticket, actor, COMMENT_ID);
-        Map<String, Object> actualPayload = captor.getValue().getPayload();
 
         assertThat(captor.getValue().getEventType()).isEqualTo(TicketEventType.COMMENT_DELETED);
-        assertThat(actualPayload.get("commentId")).isEqualTo(COMMENT_ID.toString());
+        assertThat(captor.getValue().getPayload()).isEqualTo("{\"commentId\":10}");
         verify(eventRepository).save(any(TicketEventEntity.class));
     }
-}
\ No newline at end of file
+
+    private TicketEventEntity timelineEvent(Long id, Instant createdAt) {
+        TicketEventEntity event = TicketEventEntity.builder().id(id).build();
+        event.setCreatedAt(createdAt);
+        return event;
+    }
+}
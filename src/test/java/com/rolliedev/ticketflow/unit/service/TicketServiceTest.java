@@ -1,9 +1,22 @@
 package com.rolliedev.ticketflow.unit.service;
 
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.rolliedev.ticketflow.config.TicketProperties;
+import com.rolliedev.ticketflow.dto.AutoCloseChunk;
+import com.rolliedev.ticketflow.dto.CountMode;
 import com.rolliedev.ticketflow.dto.CreateTicketRequest;
+import com.rolliedev.ticketflow.dto.CursorPageResponse;
+import com.rolliedev.ticketflow.dto.EstimatedPage;
+import com.rolliedev.ticketflow.dto.TicketCursor;
+import com.rolliedev.ticketflow.dto.TicketListItem;
 import com.rolliedev.ticketflow.dto.TicketResponse;
+import com.rolliedev.ticketflow.dto.TicketAccess;
+import com.rolliedev.ticketflow.dto.TicketRevision;
 import com.rolliedev.ticketflow.dto.TicketSearchFilter;
+import com.rolliedev.ticketflow.dto.UserSnapshot;
+import com.rolliedev.ticketflow.dto.UserSummary;
 import com.rolliedev.ticketflow.entity.TicketEntity;
 import com.rolliedev.ticketflow.entity.UserEntity;
 import com.rolliedev.ticketflow.entity.enums.Role;
@@ -16,13 +29,15 @@ import com.rolliedev.ticketflow.exception.ResourceNotFoundException;
 import com.rolliedev.ticketflow.exception.TicketFlowAccessDeniedException;
 import com.rolliedev.ticketflow.mapper.TicketResponseMapper;
 import com.rolliedev.ticketflow.policy.AccessPolicy;
+import com.rolliedev.ticketflow.querydsl.KeywordSearchMode;
 import com.rolliedev.ticketflow.querydsl.TicketPredicateBuilder;
 import com.rolliedev.ticketflow.repository.TicketRepository;
-import com.rolliedev.ticketflow.repository.UserRepository;
 import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
 import com.rolliedev.ticketflow.service.sla.SlaService;
+import com.rolliedev.ticketflow.service.TicketEventSequence;
 import com.rolliedev.ticketflow.service.TicketEventService;
 import com.rolliedev.ticketflow.service.TicketService;
+import com.rolliedev.ticketflow.service.UserReferences;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -36,7 +51,12 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.time.Instant;
 import java.util.Collections;
@@ -46,6 +66,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
@@ -64,12 +85,14 @@ class TicketServiceTest {
     private static final Long TICKET_ID = 1L;
 
     @Mock
-    private UserRepository userRepository;
+    private UserReferences userReferences;
     @Mock
     private TicketRepository ticketRepository;
     @Mock
     private TicketEventService eventService;
     @Mock
+    private TicketEventSequence eventSequence;
+    @Mock
     private TicketResponseMapper ticketResponseMapper;
     @Spy
     private TicketPredicateBuilder ticketPredicateBuilder;
@@ -77,6 +100,8 @@ class TicketServiceTest {
     private AccessPolicy accessPolicy;
     @Mock
     private SlaService slaService;
+    @Spy
+    private TicketProperties ticketProperties = new TicketProperties(4, 500, KeywordSearchMode.FULL_TEXT, 3, null);
 
     @InjectMocks
     private TicketService ticketService;
@@ -90,7 +115,7 @@ class TicketServiceTest {
                 .build();
         TicketResponse ticketResponse = mock(TicketResponse.class);
 
-        doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
+        doReturn(Optional.of(ticket)).when(ticketRepository).findWithUsersById(TICKET_ID);
         doReturn(ticketResponse).when(ticketResponseMapper).map(ticket);
 
         Optional<TicketResponse> actualResult = ticketService.findById(TICKET_ID, currentUser);
@@ -98,7 +123,7 @@ class TicketServiceTest {
         assertThat(actualResult).isPresent();
         assertThat(actualResult.get()).isEqualTo(ticketResponse);
 
-        verify(ticketRepository).findById(TICKET_ID);
+        verify(ticketRepository).findWithUsersById(TICKET_ID);
         verify(ticketResponseMapper).map(ticket);
     }
 
@@ -106,33 +131,73 @@ class TicketServiceTest {
     void shouldReturnEmptyOptionalWhenTicketNotFound() {
         TicketFlowUserDetails currentUser = new TicketFlowUserDetails(UserEntity.builder().role(Role.ADMIN).build());
 
-        doReturn(Optional.empty()).when(ticketRepository).findById(TICKET_ID);
+        doReturn(Optional.empty()).when(ticketRepository).findWithUsersById(TICKET_ID);
 
         Optional<TicketResponse> actualResult = ticketService.findById(TICKET_ID, currentUser);
 
         assertThat(actualResult).isEmpty();
 
-        verify(ticketRepository).findById(TICKET_ID);
+        verify(ticketRepository).findWithUsersById(TICKET_ID);
         verify(ticketResponseMapper, never()).map(any(TicketEntity.class));
     }
 
+    @Test
+    void shouldRestrictTicketLookupToOwnTicketsWhenActorIsCustomer() {
+        TicketFlowUserDetails currentUser = new TicketFlowUserDetails(UserEntity.builder().id(CUSTOMER_ID).role(Role.CUSTOMER).build());
+
+        doReturn(Optional.empty()).when(ticketRepository).findWithUsersByIdAndCreatedById(TICKET_ID, CUSTOMER_ID);
+
+        Optional<TicketResponse> actualResult = ticketService.findById(TICKET_ID, currentUser);
+
+        assertThat(actualResult).isEmpty();
+
+        verify(ticketRepository).findWithUsersByIdAndCreatedById(TICKET_ID, CUSTOMER_ID);
+        verify(ticketRepository, never()).findWithUsersById(any());
+    }
+
+    @Test
+    void shouldRestrictRevisionLookupToOwnTicketsWhenActorIsCustomer() {
+        TicketFlowUserDetails currentUser = new TicketFlowUserDetails(UserEntity.builder().id(CUSTOMER_ID).role(Role.CUSTOMER).build());
+        TicketRevision revision = new TicketRevision(TICKET_ID, CUSTOMER_ID, Instant.now(), 0, 1L);
+
+        doReturn(Optional.of(revision)).when(ticketRepository).findRevisionByIdAndCreatedById(TICKET_ID, CUSTOMER_ID);
+
+        Optional<TicketRevision> actualResult = ticketService.findRevision(TICKET_ID, currentUser);
+
+        assertThat(actualResult).contains(revision);
+        verify(eventSequence).apply();
+        verify(ticketRepository, never()).findRevisionById(any());
+    }
+
+    @Test
+    void shouldRestrictAccessLookupToOwnTicketsWhenActorIsCustomer() {
+        TicketFlowUserDetails currentUser = new TicketFlowUserDetails(UserEntity.builder().id(CUSTOMER_ID).role(Role.CUSTOMER).build());
+        TicketAccess access = new TicketAccess(TICKET_ID, CUSTOMER_ID, Instant.now());
+
+        doReturn(Optional.of(access)).when(ticketRepository).findAccessByIdAndCreatedById(TICKET_ID, CUSTOMER_ID);
+
+        Optional<TicketAccess> actualResult = ticketService.findAccess(TICKET_ID, currentUser);
+
+        assertThat(actualResult).contains(access);
+        verify(ticketRepository, never()).findAccessById(any());
+    }
+
     @Test
     void shouldFindAllSuccessfullyWhenSearchFilterIsEmpty() {
         TicketFlowUserDetails currentUser = new TicketFlowUserDetails(UserEntity.builder().role(Role.ADMIN).build());
 
         TicketSearchFilter searchFilter = TicketSearchFilter.builder().build();
         Pageable pageable = PageRequest.of(0, 10);
-        TicketEntity ticket = TicketEntity.builder()
-                .id(TICKET_ID)
-                .build();
+        TicketListItem ticket = listItem(TICKET_ID, Instant.now());
 
         doReturn(new PageImpl<>(List.of(ticket), pageable, 1))
-                .when(ticketRepository).findAll(any(Predicate.class), eq(pageable));
+                .when(ticketRepository).findListItems(any(Predicate.class), eq(null), eq(pageable));
 
-        ticketService.findAll(searchFilter, pageable, currentUser);
+        Page<TicketListItem> actualResult = ticketService.findAll(searchFilter, pageable, currentUser);
 
-        verify(ticketRepository).findAll(any(Predicate.class), eq(pageable));
-        verify(ticketResponseMapper).map(any(TicketEntity.class));
+        assertThat(actualResult.getContent()).containsExactly(ticket);
+        verify(ticketRepository).findListItems(any(Predicate.class), eq(null), eq(pageable));
+        verifyNoInteractions(ticketResponseMapper);
     }
 
     @Test
@@ -144,13 +209,128 @@ class TicketServiceTest {
                 .build();
         Pageable pageable = PageRequest.of(0, 10);
 
-        doReturn(new PageImpl<TicketEntity>(Collections.emptyList(), pageable, 0))
-                .when(ticketRepository).findAll(any(Predicate.class), eq(pageable));
+        doReturn(new PageImpl<TicketListItem>(Collections.emptyList(), pageable, 0))
+                .when(ticketRepository).findListItems(any(Predicate.class), any(), eq(pageable));
+
+        Page<TicketListItem> actualResult = ticketService.findAll(searchFilter, pageable, currentUser);
+
+        assertThat(actualResult.getContent()).isEmpty();
+        verify(ticketRepository).findListItems(any(Predicate.class), any(), eq(pageable));
+    }
+
+    @Test
+    void shouldFindAllOrderedByRankWhenKeywordIsProvidedInFullTextMode() {
+        TicketFlowUserDetails currentUser = new TicketFlowUserDetails(UserEntity.builder().role(Role.ADMIN).build());
+
+        TicketSearchFilter searchFilter = TicketSearchFilter.builder()
+                .keyword("login")
+                .build();
+        Pageable pageable = PageRequest.of(0, 10);
+
+        doReturn(new PageImpl<>(List.of(listItem(TICKET_ID, Instant.now())), pageable, 1))
+                .when(ticketRepository).findListItems(any(Predicate.class), any(NumberExpression.class), eq(pageable));
 
         ticketService.findAll(searchFilter, pageable, currentUser);
 
-        verify(ticketRepository).findAll(any(Predicate.class), eq(pageable));
-        verify(ticketResponseMapper, never()).map(any(TicketEntity.class));
+        verify(ticketPredicateBuilder).buildPredicate(searchFilter, currentUser, KeywordSearchMode.FULL_TEXT);
+        verify(ticketPredicateBuilder).fullTextRank("login");
+        verify(ticketRepository).findListItems(any(Predicate.class), any(NumberExpression.class), eq(pageable));
+    }
+
+    @Test
+    void shouldFindAllBySubstringWhenKeywordIsProvidedInSubstringMode() {
+        TicketFlowUserDetails currentUser = new TicketFlowUserDetails(UserEntity.builder().role(Role.ADMIN).build());
+
+        TicketSearchFilter searchFilter = TicketSearchFilter.builder()
+                .keyword("login")
+                .build();
+        Pageable pageable = PageRequest.of(0, 10);
+
+        doReturn(KeywordSearchMode.SUBSTRING).when(ticketProperties).keywordSearchMode();
+        doReturn(new PageImpl<TicketListItem>(Collections.emptyList(), pageable, 0))
+                .when(ticketRepository).findListItems(any(Predicate.class), eq(null), eq(pageable));
+
+        ticketService.findAll(searchFilter, pageable, currentUser);
+
+        verify(ticketPredicateBuilder).buildPredicate(searchFilter, currentUser, KeywordSearchMode.SUBSTRING);
+        verify(ticketRepository).findListItems(any(Predicate.class), eq(null), eq(pageable));
+        verify(ticketPredicateBuilder, never()).fullTextRank(any());
+    }
+
+    @Test
+    void shouldFindSliceWithoutCountingWhenCountModeIsNone() {
+        TicketFlowUserDetails currentUser = new TicketFlowUserDetails(UserEntity.builder().role(Role.ADMIN).build());
+        TicketSearchFilter searchFilter = TicketSearchFilter.builder().build();
+        Pageable pageable = PageRequest.of(0, 1);
+
+        doReturn(new SliceImpl<>(List.of(listItem(TICKET_ID, Instant.now())), pageable, true))
+                .when(ticketRepository).findListItemSlice(any(Predicate.class), eq(null), eq(pageable));
+
+        Slice<TicketListItem> actualResult = ticketService.findAll(searchFilter, pageable, CountMode.NONE, currentUser);
+
+        assertThat(actualResult).isNotInstanceOf(Page.class);
+        assertThat(actualResult.hasNext()).isTrue();
+        verify(ticketRepository, never()).estimateCount(any());
+        verify(ticketRepository, never()).findListItems(any(), any(), any());
+    }
+
+    @Test
+    void shouldAttachEstimatedTotalWhenCountModeIsEstimated() {
+        TicketFlowUserDetails currentUser = new TicketFlowUserDetails(UserEntity.builder().role(Role.ADMIN).build());
+        TicketSearchFilter searchFilter = TicketSearchFilter.builder()
+                .keyword("login")
+                .build();
+        Pageable pageable = PageRequest.of(0, 1);
+
+        doReturn(new SliceImpl<>(List.of(listItem(TICKET_ID, Instant.now())), pageable, true))
+                .when(ticketRepository).findListItemSlice(any(Predicate.class), any(), eq(pageable));
+        doReturn(40L).when(ticketRepository).estimateCount(any(Predicate.class));
+
+        Slice<TicketListItem> actualResult = ticketService.findAll(searchFilter, pageable, CountMode.ESTIMATED, currentUser);
+
+        assertThat(actualResult).isInstanceOf(EstimatedPage.class);
+        assertThat(((Page<TicketListItem>) actualResult).getTotalElements()).isEqualTo(40L);
+        assertThat(actualResult.hasNext()).isTrue();
+        verify(ticketPredicateBuilder).fullTextRank("login");
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenMoreTicketsThanPageSizeExist() {
+        TicketFlowUserDetails currentUser = new TicketFlowUserDetails(UserEntity.builder().role(Role.ADMIN).build());
+        TicketSearchFilter searchFilter = TicketSearchFilter.builder().build();
+        TicketCursor cursor = TicketCursor.first(Sort.unsorted());
+
+        TicketListItem first = listItem(3L, Instant.parse("2026-01-03T10:00:00Z"));
+        TicketListItem second = listItem(2L, Instant.parse("2026-01-02T10:00:00Z"));
+        TicketListItem extra = listItem(1L, Instant.parse("2026-01-01T10:00:00Z"));
+
+        doReturn(List.of(first, second, extra))
+                .when(ticketRepository).findFirstListItems(any(), eq(3), any(OrderSpecifier[].class));
+
+        CursorPageResponse<TicketListItem> actualResult = ticketService.findAll(searchFilter, cursor, 2, currentUser);
+
+        assertThat(actualResult.getContent()).containsExactly(first, second);
+        assertThat(actualResult.getMetadata().isHasNext()).isTrue();
+        TicketCursor nextCursor = TicketCursor.decode(actualResult.getMetadata().getNextCursor());
+        assertThat(nextCursor.lastId()).isEqualTo(2L);
+        assertThat(nextCursor.lastCreatedAt()).isEqualTo(second.createdAt());
+        assertThat(nextCursor.direction()).isEqualTo(Sort.Direction.DESC);
+    }
+
+    @Test
+    void shouldNotReturnNextCursorOnLastPage() {
+        TicketFlowUserDetails currentUser = new TicketFlowUserDetails(UserEntity.builder().role(Role.ADMIN).build());
+        TicketSearchFilter searchFilter = TicketSearchFilter.builder().build();
+        TicketCursor cursor = TicketCursor.first(Sort.unsorted()).next(Instant.parse("2026-01-02T10:00:00Z"), 2L);
+
+        doReturn(List.of(listItem(1L, Instant.parse("2026-01-01T10:00:00Z"))))
+                .when(ticketRepository).findFirstListItems(any(Predicate.class), anyInt(), any(OrderSpecifier[].class));
+
+        CursorPageResponse<TicketListItem> actualResult = ticketService.findAll(searchFilter, cursor, 2, currentUser);
+
+        verify(ticketPredicateBuilder).buildSeekPredicate(cursor);
+        assertThat(actualResult.getMetadata().isHasNext()).isFalse();
+        assertThat(actualResult.getMetadata().getNextCursor()).isNull();
     }
 
     @Test
@@ -167,10 +347,10 @@ class TicketServiceTest {
                 .createdBy(creator)
                 .build();
 
-        doReturn(Optional.of(creator)).when(userRepository).findById(CUSTOMER_ID);
+        stubUser(creator);
         ArgumentCaptor<TicketEntity> argumentCaptor = ArgumentCaptor.forClass(TicketEntity.class);
         doReturn(ticket).when(ticketRepository).save(argumentCaptor.capture());
-        doReturn(mock(TicketResponse.class)).when(ticketResponseMapper).map(ticket);
+        doReturn(mock(TicketResponse.class)).when(ticketResponseMapper).map(ticket, snapshotOf(creator));
 
         ticketService.create(createRequest, creator.getId());
 
@@ -180,11 +360,11 @@ class TicketServiceTest {
         assertThat(argumentCaptor.getValue().getPriority()).isEqualTo(TicketPriority.MEDIUM);
         assertThat(argumentCaptor.getValue().getCreatedBy()).isEqualTo(creator);
 
-        verify(userRepository).findById(CUSTOMER_ID);
+        verify(userReferences).findById(CUSTOMER_ID);
         verify(ticketRepository).save(any(TicketEntity.class));
         verify(slaService).initializeSlaForNewTicket(ticket);
         verify(eventService).recordCreatedEvent(ticket, creator);
-        verify(ticketResponseMapper).map(ticket);
+        verify(ticketResponseMapper).map(ticket, snapshotOf(creator));
     }
 
     @Test
@@ -194,7 +374,7 @@ class TicketServiceTest {
                 "Getting error when logging in with Google"
         );
 
-        doReturn(Optional.empty()).when(userRepository).findById(CUSTOMER_ID);
+        doReturn(Optional.empty()).when(userReferences).findById(CUSTOMER_ID);
 
         assertThatThrownBy(() -> ticketService.create(createRequest, CUSTOMER_ID))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -219,8 +399,8 @@ class TicketServiceTest {
                 .status(TicketStatus.NEW)
                 .build();
 
-        doReturn(Optional.of(admin)).when(userRepository).findById(ADMIN_ID);
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(admin);
+        stubUser(agent);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         // when
@@ -243,15 +423,15 @@ class TicketServiceTest {
                 .role(Role.CUSTOMER)
                 .build();
 
-        doReturn(Optional.of(admin)).when(userRepository).findById(ADMIN_ID);
-        doReturn(Optional.of(customer)).when(userRepository).findById(CUSTOMER_ID);
+        stubUser(admin);
+        stubUser(customer);
 
         assertThatThrownBy(() -> ticketService.assign(TICKET_ID, ADMIN_ID, CUSTOMER_ID))
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage("Only agents or admins can be assigned to tickets");
 
-        verify(userRepository).findById(ADMIN_ID);
-        verify(userRepository).findById(CUSTOMER_ID);
+        verify(userReferences).findById(ADMIN_ID);
+        verify(userReferences).findById(CUSTOMER_ID);
         verifyNoInteractions(ticketRepository, eventService);
     }
 
@@ -270,8 +450,8 @@ class TicketServiceTest {
                 .status(TicketStatus.CLOSED)
                 .build();
 
-        doReturn(Optional.of(admin)).when(userRepository).findById(ADMIN_ID);
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(admin);
+        stubUser(agent);
         doReturn(Optional.of(closedTicket)).when(ticketRepository).findById(TICKET_ID);
 
         assertThatThrownBy(() -> ticketService.assign(TICKET_ID, ADMIN_ID, AGENT_ID))
@@ -280,7 +460,7 @@ class TicketServiceTest {
 
         assertThat(closedTicket.getAssignedTo()).isNull();
 
-        verify(userRepository, times(2)).findById(Mockito.anyInt());
+        verify(userReferences, times(2)).findById(Mockito.anyInt());
         verify(ticketRepository).findById(TICKET_ID);
         verifyNoInteractions(eventService);
     }
@@ -301,13 +481,13 @@ class TicketServiceTest {
                 .assignedTo(agent)
                 .build();
 
-        doReturn(Optional.of(admin)).when(userRepository).findById(ADMIN_ID);
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(admin);
+        stubUser(agent);
         doReturn(Optional.of(newAssignedTicket)).when(ticketRepository).findById(TICKET_ID);
 
         ticketService.assign(newAssignedTicket.getId(), admin.getId(), agent.getId());
 
-        verify(userRepository, times(2)).findById(Mockito.anyInt());
+        verify(userReferences, times(2)).findById(Mockito.anyInt());
         verify(ticketRepository).findById(TICKET_ID);
         verifyNoInteractions(eventService);
     }
@@ -324,7 +504,7 @@ class TicketServiceTest {
                 .status(TicketStatus.NEW)
                 .build();
 
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         ticketService.startProgress(TICKET_ID, AGENT_ID);
@@ -351,7 +531,7 @@ class TicketServiceTest {
                 .assignedTo(agent)
                 .build();
 
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         ticketService.startProgress(TICKET_ID, AGENT_ID);
@@ -383,7 +563,7 @@ class TicketServiceTest {
                 .resolvedAt(Instant.parse("2026-05-20T10:00:00Z"))
                 .build();
 
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         ticketService.startProgress(TICKET_ID, AGENT_ID);
@@ -422,7 +602,7 @@ class TicketServiceTest {
                         .build())
                 .build();
 
-        doReturn(Optional.of(anotherAgent)).when(userRepository).findById(99);
+        stubUser(anotherAgent);
         doReturn(Optional.of(assignedTicket)).when(ticketRepository).findById(TICKET_ID);
 
         assertThatThrownBy(() -> ticketService.startProgress(assignedTicket.getId(), anotherAgent.getId()))
@@ -430,7 +610,7 @@ class TicketServiceTest {
                 .hasMessage("Only the ticket assignee or admin can start progress on the ticket");
         assertThat(assignedTicket.getStatus()).isEqualTo(TicketStatus.NEW);
 
-        verify(userRepository).findById(99);
+        verify(userReferences).findById(99);
         verify(ticketRepository).findById(TICKET_ID);
         verifyNoInteractions(slaService, eventService);
     }
@@ -447,7 +627,7 @@ class TicketServiceTest {
                 .assignedTo(agent)
                 .build();
 
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         assertThatThrownBy(() -> ticketService.startProgress(ticket.getId(), agent.getId()))
@@ -455,7 +635,7 @@ class TicketServiceTest {
                 .hasMessage(new InvalidStatusTransitionException(TicketStatus.CLOSED, TicketStatus.IN_PROGRESS).getMessage());
         assertThat(ticket.getStatus()).isEqualTo(TicketStatus.CLOSED);
 
-        verify(userRepository).findById(AGENT_ID);
+        verify(userReferences).findById(AGENT_ID);
         verify(ticketRepository).findById(TICKET_ID);
         verifyNoInteractions(slaService, eventService);
     }
@@ -472,12 +652,12 @@ class TicketServiceTest {
                 .assignedTo(agent)
                 .build();
 
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         ticketService.startProgress(ticket.getId(), agent.getId());
 
-        verify(userRepository).findById(AGENT_ID);
+        verify(userReferences).findById(AGENT_ID);
         verify(ticketRepository).findById(TICKET_ID);
         verifyNoInteractions(slaService, eventService);
     }
@@ -496,7 +676,7 @@ class TicketServiceTest {
                 .firstRespondedAt(null)
                 .build();
 
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         ticketService.requestCustomerInfo(ticket.getId(), agent.getId());
@@ -539,7 +719,7 @@ class TicketServiceTest {
                 .firstRespondedAt(firstRespondedAt)
                 .build();
 
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         ticketService.requestCustomerInfo(ticket.getId(), agent.getId());
@@ -566,14 +746,14 @@ class TicketServiceTest {
                         .build())
                 .build();
 
-        doReturn(Optional.of(anotherAgent)).when(userRepository).findById(99);
+        stubUser(anotherAgent);
         doReturn(Optional.of(assignedTicket)).when(ticketRepository).findById(TICKET_ID);
 
         assertThatThrownBy(() -> ticketService.requestCustomerInfo(assignedTicket.getId(), anotherAgent.getId()))
                 .isInstanceOf(TicketFlowAccessDeniedException.class)
                 .hasMessage("Only the ticket assignee or admin can request customer info");
 
-        verify(userRepository).findById(anotherAgent.getId());
+        verify(userReferences).findById(anotherAgent.getId());
         verify(ticketRepository).findById(TICKET_ID);
         verifyNoInteractions(slaService, eventService, ticketResponseMapper);
     }
@@ -590,7 +770,7 @@ class TicketServiceTest {
                 .status(currentStatus)
                 .build();
 
-        doReturn(Optional.of(admin)).when(userRepository).findById(ADMIN_ID);
+        stubUser(admin);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         assertThatThrownBy(() -> ticketService.requestCustomerInfo(ticket.getId(), admin.getId()))
@@ -598,7 +778,7 @@ class TicketServiceTest {
                 .hasMessage(new InvalidStatusTransitionException(currentStatus, TicketStatus.WAITING_CUSTOMER).getMessage());
         assertThat(ticket.getStatus()).isEqualTo(currentStatus);
 
-        verify(userRepository).findById(ADMIN_ID);
+        verify(userReferences).findById(ADMIN_ID);
         verify(ticketRepository).findById(TICKET_ID);
         verifyNoInteractions(slaService, eventService);
     }
@@ -614,12 +794,12 @@ class TicketServiceTest {
                 .status(TicketStatus.WAITING_CUSTOMER)
                 .build();
 
-        doReturn(Optional.of(admin)).when(userRepository).findById(ADMIN_ID);
+        stubUser(admin);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         ticketService.requestCustomerInfo(ticket.getId(), admin.getId());
 
-        verify(userRepository).findById(ADMIN_ID);
+        verify(userReferences).findById(ADMIN_ID);
         verify(ticketRepository).findById(TICKET_ID);
         verifyNoInteractions(slaService, eventService);
     }
@@ -638,7 +818,7 @@ class TicketServiceTest {
                 .firstRespondedAt(null)
                 .build();
 
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         ticketService.resolve(ticket.getId(), agent.getId());
@@ -675,7 +855,7 @@ class TicketServiceTest {
                 .firstRespondedAt(firstRespondedAt)
                 .build();
 
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         ticketService.resolve(ticket.getId(), agent.getId());
@@ -711,7 +891,7 @@ class TicketServiceTest {
                 .status(currentStatus)
                 .build();
 
-        doReturn(Optional.of(admin)).when(userRepository).findById(ADMIN_ID);
+        stubUser(admin);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         assertThatThrownBy(() -> ticketService.resolve(ticket.getId(), admin.getId()))
@@ -720,7 +900,7 @@ class TicketServiceTest {
         assertThat(ticket.getStatus()).isEqualTo(currentStatus);
         assertThat(ticket.getResolvedAt()).isNull();
 
-        verify(userRepository).findById(ADMIN_ID);
+        verify(userReferences).findById(ADMIN_ID);
         verify(ticketRepository).findById(TICKET_ID);
         verifyNoInteractions(slaService, eventService);
     }
@@ -737,12 +917,12 @@ class TicketServiceTest {
                 .assignedTo(agent)
                 .build();
 
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         ticketService.resolve(ticket.getId(), agent.getId());
 
-        verify(userRepository).findById(AGENT_ID);
+        verify(userReferences).findById(AGENT_ID);
         verify(ticketRepository).findById(TICKET_ID);
         verifyNoInteractions(slaService, eventService);
     }
@@ -759,14 +939,14 @@ class TicketServiceTest {
                 .createdBy(customer)
                 .build();
 
-        doReturn(Optional.of(customer)).when(userRepository).findById(CUSTOMER_ID);
+        stubUser(customer);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         ticketService.closeByCustomer(ticket.getId(), customer.getId());
 
         assertThat(ticket.getStatus()).isEqualTo(TicketStatus.CLOSED);
 
-        verify(userRepository).findById(CUSTOMER_ID);
+        verify(userReferences).findById(CUSTOMER_ID);
         verify(ticketRepository).findById(TICKET_ID);
         verify(eventService).recordStatusChangedEvent(
                 ticket,
@@ -791,14 +971,14 @@ class TicketServiceTest {
                         .build())
                 .build();
 
-        doReturn(Optional.of(customer)).when(userRepository).findById(CUSTOMER_ID);
+        stubUser(customer);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         assertThatThrownBy(() -> ticketService.closeByCustomer(ticket.getId(), customer.getId()))
                 .isInstanceOf(TicketFlowAccessDeniedException.class)
                 .hasMessage("Only the ticket creator can close tickets");
 
-        verify(userRepository).findById(CUSTOMER_ID);
+        verify(userReferences).findById(CUSTOMER_ID);
         verify(ticketRepository).findById(TICKET_ID);
         verifyNoInteractions(slaService, eventService);
     }
@@ -816,7 +996,7 @@ class TicketServiceTest {
                 .createdBy(customer)
                 .build();
 
-        doReturn(Optional.of(customer)).when(userRepository).findById(CUSTOMER_ID);
+        stubUser(customer);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         assertThatThrownBy(() -> ticketService.closeByCustomer(ticket.getId(), customer.getId()))
@@ -824,7 +1004,7 @@ class TicketServiceTest {
                 .hasMessage(new InvalidStatusTransitionException(currentStatus, TicketStatus.CLOSED).getMessage());
         assertThat(ticket.getStatus()).isEqualTo(currentStatus);
 
-        verify(userRepository).findById(CUSTOMER_ID);
+        verify(userReferences).findById(CUSTOMER_ID);
         verify(ticketRepository).findById(TICKET_ID);
         verifyNoInteractions(slaService, eventService);
     }
@@ -841,64 +1021,67 @@ class TicketServiceTest {
                 .createdBy(customer)
                 .build();
 
-        doReturn(Optional.of(customer)).when(userRepository).findById(CUSTOMER_ID);
+        stubUser(customer);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         ticketService.closeByCustomer(ticket.getId(), customer.getId());
 
-        verify(userRepository).findById(CUSTOMER_ID);
+        verify(userReferences).findById(CUSTOMER_ID);
         verify(ticketRepository).findById(TICKET_ID);
         verifyNoInteractions(slaService, eventService);
     }
 
     @Test
-    void shouldCloseResolvedTicketsOlderThanThreshold() {
+    void shouldCloseChunkOfResolvedTicketsOlderThanThresholdAndReturnKeysetPosition() {
         Instant threshold = Instant.parse("2026-05-20T10:00:00Z");
+        Instant resolvedAt = Instant.parse("2026-05-10T10:00:00Z");
 
         TicketEntity ticket1 = TicketEntity.builder()
                 .id(1L)
                 .status(TicketStatus.RESOLVED)
+                .resolvedAt(resolvedAt)
                 .build();
 
         TicketEntity ticket2 = TicketEntity.builder()
                 .id(2L)
                 .status(TicketStatus.RESOLVED)
+                .resolvedAt(resolvedAt)
                 .build();
 
         doReturn(List.of(ticket1, ticket2))
-                .when(ticketRepository).findResolvedTicketsOlderThan(threshold);
+                .when(ticketRepository).findResolvedTicketsOlderThan(threshold, Instant.EPOCH, 0L, Limit.of(2));
 
-        int closedCount = ticketService.closeResolvedTicketsOlderThan(threshold);
+        AutoCloseChunk actualResult = ticketService.closeResolvedTicketsOlderThan(threshold, AutoCloseChunk.start(), 2);
 
-        assertThat(closedCount).isEqualTo(2);
+        assertThat(actualResult).isEqualTo(new AutoCloseChunk(2, resolvedAt, 2L));
         assertThat(ticket1.getStatus()).isEqualTo(TicketStatus.CLOSED);
         assertThat(ticket2.getStatus()).isEqualTo(TicketStatus.CLOSED);
 
-        verify(eventService).recordStatusChangedEvent(ticket1, TicketStatus.RESOLVED, TicketStatus.CLOSED);
-        verify(eventService).recordStatusChangedEvent(ticket2, TicketStatus.RESOLVED, TicketStatus.CLOSED);
+        verify(eventService).recordStatusChangedEvents(eq(List.of(1L, 2L)), eq(TicketStatus.RESOLVED), eq(TicketStatus.CLOSED), any(Instant.class));
 
         verify(slaService).finalizeResolutionSlaOnClose(ticket1);
         verify(slaService).finalizeResolutionSlaOnClose(ticket2);
     }
 
     @Test
-    void shouldReturnZeroWhenNoResolvedTicketsEligibleForAutoClose() {
+    void shouldReturnEmptyChunkAtSamePositionWhenNoResolvedTicketsEligibleForAutoClose() {
         Instant threshold = Instant.parse("2026-05-20T10:00:00Z");
+        AutoCloseChunk previous = new AutoCloseChunk(2, Instant.parse("2026-05-10T10:00:00Z"), 2L);
 
         doReturn(Collections.emptyList())
-                .when(ticketRepository).findResolvedTicketsOlderThan(threshold);
+                .when(ticketRepository).findResolvedTicketsOlderThan(threshold, previous.lastResolvedAt(), previous.lastId(), Limit.of(2));
 
-        int closedCount = ticketService.closeResolvedTicketsOlderThan(threshold);
+        AutoCloseChunk actualResult = ticketService.closeResolvedTicketsOlderThan(threshold, previous, 2);
 
-        assertThat(closedCount).isZero();
+        assertThat(actualResult).isEqualTo(new AutoCloseChunk(0, previous.lastResolvedAt(), previous.lastId()));
 
-        verify(ticketRepository).findResolvedTicketsOlderThan(threshold);
+        verify(ticketRepository).findResolvedTicketsOlderThan(threshold, previous.lastResolvedAt(), previous.lastId(), Limit.of(2));
         verifyNoInteractions(eventService, slaService);
     }
 
     @Test
     void shouldThrowExceptionWhenAutoCloseThresholdIsNull() {
-        assertThatThrownBy(() -> ticketService.closeResolvedTicketsOlderThan(null))
+        assertThatThrownBy(() -> ticketService.closeResolvedTicketsOlderThan(null, AutoCloseChunk.start(), 2))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Auto-close threshold cannot be null");
 
@@ -920,14 +1103,14 @@ class TicketServiceTest {
                 .assignedTo(agent)
                 .build();
 
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         ticketService.changePriority(ticket.getId(), agent.getId(), TicketPriority.HIGH);
 
         assertThat(ticket.getPriority()).isEqualTo(TicketPriority.HIGH);
 
-        verify(userRepository).findById(AGENT_ID);
+        verify(userReferences).findById(AGENT_ID);
         verify(ticketRepository).findById(TICKET_ID);
         verify(eventService).recordPriorityChangedEvent(ticket, agent, ticketPriority, TicketPriority.HIGH);
         verify(slaService).updateDeadlinesAfterPriorityChange(eq(ticket), any(Instant.class));
@@ -946,12 +1129,12 @@ class TicketServiceTest {
                 .assignedTo(agent)
                 .build();
 
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         ticketService.changePriority(ticket.getId(), agent.getId(), ticket.getPriority());
 
-        verify(userRepository).findById(AGENT_ID);
+        verify(userReferences).findById(AGENT_ID);
         verify(ticketRepository).findById(TICKET_ID);
         verifyNoInteractions(eventService, slaService);
     }
@@ -970,7 +1153,7 @@ class TicketServiceTest {
                 .assignedTo(agent)
                 .build();
 
-        doReturn(Optional.of(agent)).when(userRepository).findById(AGENT_ID);
+        stubUser(agent);
         doReturn(Optional.of(ticket)).when(ticketRepository).findById(TICKET_ID);
 
         assertThatThrownBy(() -> ticketService.changePriority(ticket.getId(), agent.getId(), TicketPriority.HIGH))
@@ -981,4 +1164,19 @@ class TicketServiceTest {
 
         verifyNoInteractions(accessPolicy, eventService, slaService);
     }
-}
\ No newline at end of file
+
+    private void stubUser(UserEntity user) {
+        doReturn(Optional.of(snapshotOf(user))).when(userReferences).findById(user.getId());
+        doReturn(user).when(userReferences).getReference(user.getId());
+    }
+
+    private static UserSnapshot snapshotOf(UserEntity user) {
+        return new UserSnapshot(user.getId(), user.getFullName(), user.getEmail(), user.getRole());
+    }
+
+    private static TicketListItem listItem(Long id, Instant createdAt) {
+        return new TicketListItem(id, "Title", TicketStatus.NEW, TicketPriority.MEDIUM,
+                new UserSummary(CUSTOMER_ID, "Clark Kent", "clark.kent@gmail.com"), null,
+                createdAt, null, null, null, null, null, null, null);
+    }
+}
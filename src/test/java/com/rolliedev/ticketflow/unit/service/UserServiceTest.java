@@ -12,12 +12,15 @@ import com.rolliedev.ticketflow.mapper.PublicRegistrationRequestMapper;
 import com.rolliedev.ticketflow.mapper.UserResponseMapper;
 import com.rolliedev.ticketflow.repository.UserRepository;
 import com.rolliedev.ticketflow.security.TicketFlowUserDetails;
+import com.rolliedev.ticketflow.service.InternalUserDirectory;
+import com.rolliedev.ticketflow.service.UserChangedEvent;
 import com.rolliedev.ticketflow.service.UserService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -49,6 +52,10 @@ class UserServiceTest {
     private PublicRegistrationRequestMapper publicRegistrationRequestMapper;
     @Mock
     private InternalUserCreateRequestMapper internalUserCreateRequestMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private InternalUserDirectory internalUserDirectory;
     @InjectMocks
     private UserService userService;
 
@@ -87,32 +94,6 @@ class UserServiceTest {
         verify(userResponseMapper, never()).map(any(UserEntity.class));
     }
 
-    @Test
-    void shouldFindAllUsersByRole() {
-        UserEntity userEntity = mockUserEntity(1, "lana.lang@gmail.com", Role.AGENT);
-        UserResponse userResponse = mockUserResponse(1, "lana.lang@gmail.com");
-
-        doReturn(List.of(userEntity)).when(userRepository).findAllByRoleIn(List.of(Role.AGENT));
-        doReturn(userResponse).when(userResponseMapper).map(userEntity);
-
-        List<UserResponse> actualResult = userService.findAllByRoleIn(Role.AGENT);
-
-        assertThat(actualResult).containsExactly(userResponse);
-        verify(userRepository).findAllByRoleIn(List.of(Role.AGENT));
-        verify(userResponseMapper).map(userEntity);
-    }
-
-    @Test
-    void shouldReturnEmptyListWhenNoUsersFoundByRole() {
-        doReturn(Collections.emptyList()).when(userRepository).findAllByRoleIn(List.of(Role.ADMIN, Role.AGENT));
-
-        List<UserResponse> actualResult = userService.findAllByRoleIn(Role.ADMIN, Role.AGENT);
-
-        assertThat(actualResult).isEmpty();
-        verify(userRepository).findAllByRoleIn(List.of(Role.ADMIN, Role.AGENT));
-        verify(userResponseMapper, never()).map(any(UserEntity.class));
-    }
-
     @Test
     void shouldFindUserSuccessfullyWhenCurrentUserIsAdmin() {
         UserEntity userEntity = mockUserEntity(1, "clark.kent@gmail.com", Role.CUSTOMER);
@@ -165,6 +146,17 @@ class UserServiceTest {
         assertThat(actualResult).isEmpty();
     }
 
+    @Test
+    void shouldReturnInternalUsersFromDirectoryWithoutQuerying() {
+        List<UserResponse> internalUsers = List.of(mockUserResponse(1, "lex.luthor@gmail.com"));
+        doReturn(internalUsers).when(internalUserDirectory).users();
+
+        List<UserResponse> actualResult = userService.findInternalUsers();
+
+        assertThat(actualResult).isSameAs(internalUsers);
+        verifyNoInteractions(userRepository);
+    }
+
     @Test
     void shouldCreateCustomerSuccessfully() {
         PublicRegistrationRequest registrationRequest = new PublicRegistrationRequest("Clark", "Kent", "clark.kent@gmail.com", "123");
@@ -180,6 +172,7 @@ class UserServiceTest {
 
         assertThat(actualResult).isEqualTo(userResponse);
         verify(userRepository).save(userEntity);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(1, "clark.kent@gmail.com", Role.CUSTOMER));
     }
 
     @Test
@@ -1 +1,2 @@
-TRUNCATE ticket_events, ticket_comments, tickets, users RESTART IDENTITY CASCADE;
\ No newline at end of file
+-- sequences are not restarted, Hibernate hands out pooled ids from blocks it already fetched
+TRUNCATE ticket_events, ticket_comments, tickets, users CASCADE;
\ No newline at end of file
@@ -1,3 +1,5 @@
+-- sequences only move forward, Hibernate hands out pooled ids from blocks it already fetched
+
 -- Users
 INSERT INTO users (id, full_name, email, role, created_at, password)
 VALUES (1, 'Lex Luthor', 'lex.luthor@gmail.com', 'ADMIN', '2025-11-15 08:30:00+00', '{noop}123'),
@@ -5,7 +7,7 @@ VALUES (1, 'Lex Luthor', 'lex.luthor@gmail.com', 'ADMIN', '2025-11-15 08:30:00+0
        (3, 'Clark Kent', 'clark.kent@gmail.com', 'CUSTOMER', '2026-01-20 14:15:00+00', '{noop}123'),
        (4, 'Oliver Queen', 'oliver.queen@gmail.com', 'CUSTOMER', '2026-02-10 11:20:00+00', '{noop}123');
 
-SELECT setval('users_id_seq', (SELECT max(id) FROM users));
+SELECT setval('users_id_seq', GREATEST((SELECT max(id) FROM users), (SELECT last_value FROM users_id_seq)));
 
 
 -- Tickets
@@ -116,7 +118,7 @@ VALUES (1,
         '2026-02-25 10:20:00+00',
         0);
 
-SELECT setval('tickets_id_seq', (SELECT max(id) FROM tickets));
+SELECT setval('tickets_id_seq', GREATEST((SELECT max(id) FROM tickets), (SELECT last_value FROM tickets_id_seq)));
 
 
 -- Comments
@@ -145,7 +147,7 @@ VALUES (1, 1, 2,
         'I checked my spam folder as well, but there is no confirmation email.',
         '2026-02-24 16:10:00+00');
 
-SELECT setval('ticket_comments_id_seq', (SELECT max(id) FROM ticket_comments));
+SELECT setval('ticket_comments_id_seq', GREATEST((SELECT max(id) FROM ticket_comments), (SELECT last_value FROM ticket_comments_id_seq)));
 
 
 -- Events
@@ -244,4 +246,9 @@ VALUES (1, 1, 3, 'CREATED', '{
          "newStatus": "RESOLVED"
        }', '2026-02-25 10:20:00+00');
 
-SELECT setval('ticket_events_id_seq', (SELECT max(id) FROM ticket_events));
\ No newline at end of file
+SELECT setval('ticket_events_id_seq', GREATEST((SELECT max(id) FROM ticket_events), (SELECT last_value FROM ticket_events_id_seq)));
+
+UPDATE tickets t
+SET event_seq = e.cnt
+FROM (SELECT ticket_id, count(*) AS cnt FROM ticket_events GROUP BY ticket_id) e
+WHERE t.id = e.ticket_id;